@@ -0,0 +1,91 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.cache.HistoricoAlunoCache;
+import com.example.demo.carga.AplicacaoH2;
+import com.example.demo.carga.GeradorDados;
+import com.example.demo.dto.HistoricoAlunoDTO;
+import com.example.demo.service.HistoricoAlunoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Histórico completo do aluno contra um H2 em memória populado pelo GeradorDados (dois anos)
+ *
+ * A aplicação sobe uma vez por fork, sem servidor web. As chamadas alternam entre os alunos
+ * para não medir sempre as mesmas páginas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HistoricoAlunoBenchmark {
+
+    private static final int QUANTIDADE_ALUNOS = 200;
+    private static final int ANOS = 2;
+
+    private ConfigurableApplicationContext contexto;
+
+    private HistoricoAlunoService historicoAlunoService;
+
+    private HistoricoAlunoCache historicoAlunoCache;
+
+    private ObjectMapper objectMapper;
+
+    private long[] idsAlunos;
+
+    private HistoricoAlunoDTO historico;
+
+    private int proximo;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        contexto = AplicacaoH2.iniciarComDados(WebApplicationType.NONE,
+            new GeradorDados.Parametros(42, QUANTIDADE_ALUNOS, ANOS), dados -> idsAlunos = dados.idsAlunos());
+        historicoAlunoService = contexto.getBean(HistoricoAlunoService.class);
+        historicoAlunoCache = contexto.getBean(HistoricoAlunoCache.class);
+        objectMapper = contexto.getBean(ObjectMapper.class);
+        historico = historicoAlunoService.buscarHistoricoCompleto(idsAlunos[0]);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    /** Consulta ao banco: o cache do aluno é descartado antes de cada chamada */
+    @Benchmark
+    public HistoricoAlunoDTO buscarHistoricoCompleto() {
+        long idAluno = proximoAluno();
+        historicoAlunoCache.invalidar(idAluno);
+        return historicoAlunoService.buscarHistoricoCompleto(idAluno);
+    }
+
+    /** Sempre o mesmo aluno, já carregado no setup: mede só o acerto no HistoricoAlunoCache */
+    @Benchmark
+    public HistoricoAlunoDTO buscarHistoricoCompletoEmCache() {
+        return historicoAlunoService.buscarHistoricoCompleto(idsAlunos[0]);
+    }
+
+    /** Serialização com o ObjectMapper configurado pelo Spring, o mesmo usado na resposta HTTP */
+    @Benchmark
+    public byte[] serializarHistorico() throws Exception {
+        return objectMapper.writeValueAsBytes(historico);
+    }
+
+    private long proximoAluno() {
+        proximo = (proximo + 1) % idsAlunos.length;
+        return idsAlunos[proximo];
+    }
+}
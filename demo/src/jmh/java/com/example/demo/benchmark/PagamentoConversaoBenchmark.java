@@ -0,0 +1,78 @@
+package com.example.demo.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.demo.controller.PagamentoController;
+import com.example.demo.dto.PagamentoResponseDTO;
+import com.example.demo.entity.Aluno;
+import com.example.demo.entity.Matricula;
+import com.example.demo.entity.Pagamento;
+import com.example.demo.entity.Plano;
+import com.example.demo.enums.MatriculaStatus;
+
+/**
+ * Conversão de listas de Pagamento em PagamentoResponseDTO, como em GET /api/pagamentos
+ *
+ * As entidades ficam em memória (sem banco), então o resultado isola o custo da conversão:
+ * navegação matrícula -> aluno/plano e criação dos DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PagamentoConversaoBenchmark {
+
+    private static final String[] FORMAS_PAGAMENTO = {"PIX", "Dinheiro", "Cartão de Crédito", "Cartão de Débito"};
+
+    @Param({"100", "10000"})
+    private int quantidade;
+
+    private final PagamentoController controller = new PagamentoController();
+
+    private List<Pagamento> pagamentos;
+
+    @Setup
+    public void preparar() {
+        List<Plano> planos = List.of(
+            new Plano("Mensal", null, new BigDecimal("99.90"), 1),
+            new Plano("Trimestral", null, new BigDecimal("269.90"), 3),
+            new Plano("Anual", null, new BigDecimal("899.90"), 12));
+
+        // Em média 12 pagamentos por matrícula, como um ano de mensalidades
+        pagamentos = new ArrayList<>(quantidade);
+        Matricula matricula = null;
+        LocalDate inicio = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < quantidade; i++) {
+            if (i % 12 == 0) {
+                Aluno aluno = new Aluno("Aluno " + i, String.format("%011d", i));
+                aluno.setIdAluno((long) i);
+                Plano plano = planos.get(i % planos.size());
+                matricula = new Matricula(aluno, plano, inicio, inicio.plusYears(1), MatriculaStatus.ATIVA);
+                matricula.setIdMatricula((long) i / 12);
+            }
+            Pagamento pagamento = new Pagamento(matricula, inicio.plusMonths(i % 12),
+                matricula.getPlano().getValor(), FORMAS_PAGAMENTO[i % FORMAS_PAGAMENTO.length]);
+            pagamento.setIdPagamento((long) i);
+            pagamentos.add(pagamento);
+        }
+    }
+
+    @Benchmark
+    public List<PagamentoResponseDTO> converterLista() {
+        return pagamentos.stream()
+            .map(controller::convertToResponseDTO)
+            .toList();
+    }
+}
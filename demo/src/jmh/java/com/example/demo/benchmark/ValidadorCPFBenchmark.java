@@ -0,0 +1,146 @@
+package com.example.demo.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.demo.util.ValidadorCPF;
+
+/**
+ * Compara o ValidadorCPF atual (uma passada sobre os caracteres, sem regex) com a implementação
+ * anterior, baseada em replaceAll e matches, mantida aqui só como referência
+ *
+ * Rodar com -prof gc mostra também a alocação por operação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidadorCPFBenchmark {
+
+    private static final int QUANTIDADE = 1024;
+
+    /** formatado: 000.000.000-00; digitos: só os 11 dígitos */
+    @Param({"formatado", "digitos"})
+    private String entrada;
+
+    private String[] cpfs;
+
+    @Setup
+    public void preparar() {
+        Random random = new Random(42);
+        cpfs = new String[QUANTIDADE];
+        for (int i = 0; i < QUANTIDADE; i++) {
+            String cpf = gerarCpfValido(random);
+            cpfs[i] = entrada.equals("formatado") ? ValidadorCPF.format(cpf) : cpf;
+        }
+    }
+
+    @Benchmark
+    public void validarAtual(Blackhole blackhole) {
+        for (String cpf : cpfs) {
+            blackhole.consume(ValidadorCPF.isValid(cpf));
+        }
+    }
+
+    @Benchmark
+    public void validarAnterior(Blackhole blackhole) {
+        for (String cpf : cpfs) {
+            blackhole.consume(ValidadorAnterior.isValid(cpf));
+        }
+    }
+
+    @Benchmark
+    public void formatarAtual(Blackhole blackhole) {
+        for (String cpf : cpfs) {
+            blackhole.consume(ValidadorCPF.format(cpf));
+        }
+    }
+
+    @Benchmark
+    public void formatarAnterior(Blackhole blackhole) {
+        for (String cpf : cpfs) {
+            blackhole.consume(ValidadorAnterior.format(cpf));
+        }
+    }
+
+    @Benchmark
+    public void chaveAtual(Blackhole blackhole) {
+        for (String cpf : cpfs) {
+            blackhole.consume(ValidadorCPF.chave(cpf));
+        }
+    }
+
+    /** Como a chave seria obtida sem o ValidadorCPF.chave: limpar com regex e converter */
+    @Benchmark
+    public void chaveAnterior(Blackhole blackhole) {
+        for (String cpf : cpfs) {
+            blackhole.consume(Long.parseLong(cpf.replaceAll("[^0-9]", "")));
+        }
+    }
+
+    private static String gerarCpfValido(Random random) {
+        while (true) {
+            StringBuilder cpf = new StringBuilder(11);
+            for (int i = 0; i < 9; i++) {
+                cpf.append(random.nextInt(10));
+            }
+            for (int digito = 0; digito <= 99; digito++) {
+                String candidato = cpf + String.format("%02d", digito);
+                if (ValidadorCPF.isValid(candidato)) {
+                    return candidato;
+                }
+            }
+        }
+    }
+
+    /**
+     * Implementação anterior do ValidadorCPF
+     */
+    static final class ValidadorAnterior {
+
+        static boolean isValid(String cpf) {
+            if (cpf == null) {
+                return false;
+            }
+            cpf = cpf.replaceAll("[^0-9]", "");
+            if (cpf.length() != 11) {
+                return false;
+            }
+            if (cpf.matches("(\\d)\\1{10}")) {
+                return false;
+            }
+            int sum = 0;
+            for (int i = 0; i < 9; i++) {
+                sum += (cpf.charAt(i) - '0') * (10 - i);
+            }
+            int firstDigit = 11 - (sum % 11);
+            if (firstDigit > 9) firstDigit = 0;
+            if (firstDigit != (cpf.charAt(9) - '0')) {
+                return false;
+            }
+            sum = 0;
+            for (int i = 0; i < 10; i++) {
+                sum += (cpf.charAt(i) - '0') * (11 - i);
+            }
+            int secondDigit = 11 - (sum % 11);
+            if (secondDigit > 9) secondDigit = 0;
+            return secondDigit == (cpf.charAt(10) - '0');
+        }
+
+        static String format(String cpf) {
+            if (cpf == null) return null;
+            cpf = cpf.replaceAll("[^0-9]", "");
+            if (cpf.length() != 11) return cpf;
+            return cpf.substring(0, 3) + "." + cpf.substring(3, 6) + "." + cpf.substring(6, 9) + "-" + cpf.substring(9);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.carga;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.service.ResumoDiarioService;
+
+/**
+ * Sobe a aplicação em processo contra um H2 em memória, para benchmarks e testes de carga
+ */
+public final class AplicacaoH2 {
+
+    private static final String[] PROPRIEDADES = {
+        "--spring.datasource.url=jdbc:h2:mem:carga;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "--spring.datasource.driver-class-name=org.h2.Driver",
+        "--spring.datasource.username=sa",
+        "--spring.datasource.password=",
+        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "--spring.jpa.hibernate.ddl-auto=create-drop",
+        "--spring.jpa.show-sql=false",
+        "--spring.jpa.properties.hibernate.format_sql=false",
+        "--matricula.transicao.cron=-",
+        "--server.port=0",
+        "--logging.level.root=WARN"
+    };
+
+    private AplicacaoH2() {
+    }
+
+    /**
+     * Inicia a aplicação
+     * @param tipo NONE para benchmarks, SERVLET para chamadas HTTP
+     * @param aoIniciar Executado depois de criar o schema e antes do ApplicationReadyEvent,
+     *                  quando os índices em memória ainda não foram carregados (ex.: GeradorDados)
+     * @param propriedades Propriedades adicionais no formato --chave=valor
+     * @return Contexto da aplicação, a ser fechado pelo chamador
+     */
+    public static ConfigurableApplicationContext iniciar(WebApplicationType tipo,
+            Consumer<ConfigurableApplicationContext> aoIniciar, String... propriedades) {
+        // O devtools, quando está no classpath, reinicia a aplicação chamando de novo o main de quem a iniciou
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        List<String> argumentos = new ArrayList<>(Arrays.asList(PROPRIEDADES));
+        argumentos.addAll(Arrays.asList(propriedades));
+        return new SpringApplicationBuilder(DemoApplication.class)
+            .web(tipo)
+            .listeners((ApplicationListener<ApplicationEvent>) evento -> {
+                if (evento instanceof ApplicationStartedEvent iniciado) {
+                    aoIniciar.accept(iniciado.getApplicationContext());
+                }
+            })
+            .run(argumentos.toArray(String[]::new));
+    }
+
+    /**
+     * Inicia a aplicação e popula o banco com o {@link GeradorDados}
+     * @param tipo NONE para benchmarks, SERVLET para chamadas HTTP
+     * @param parametros Parâmetros do gerador
+     * @param destino Recebe os IDs gerados
+     * @return Contexto da aplicação, a ser fechado pelo chamador
+     */
+    public static ConfigurableApplicationContext iniciarComDados(WebApplicationType tipo,
+            GeradorDados.Parametros parametros, Consumer<GeradorDados.Resultado> destino) {
+        return iniciar(tipo, contexto -> destino.accept(new GeradorDados(
+                contexto.getBean(JdbcTemplate.class),
+                contexto.getBean(ResumoDiarioService.class))
+            .gerar(parametros)));
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.demo.carga;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Carga mista e repetível contra a aplicação em processo (H2 em memória, HTTP real)
+ *
+ * Popula o banco com o {@link GeradorDados} e dispara check-ins, pagamentos, consultas de histórico
+ * e carregamentos do dashboard na proporção de {@link Operacao}. Cada thread usa uma semente própria
+ * e executa um número fixo de operações, então duas execuções com os mesmos argumentos fazem as
+ * mesmas chamadas. No final imprime vazão e percentis de latência por endpoint.
+ *
+ * Uso: ./gradlew cargaMista -PcargaArgs="--alunos=2000 --anos=2 --threads=8 --operacoes=20000"
+ */
+public class CargaMista {
+
+    /** Operações da carga e seus pesos no sorteio */
+    enum Operacao {
+        CHECK_IN("POST /api/frequencias", 45),
+        PAGAMENTO("POST /api/pagamentos", 10),
+        HISTORICO("GET /api/historico/aluno/{id}", 35),
+        DASHBOARD("GET /api/dashboard/resumo", 10);
+
+        private final String endpoint;
+        private final int peso;
+
+        Operacao(String endpoint, int peso) {
+            this.endpoint = endpoint;
+            this.peso = peso;
+        }
+    }
+
+    private static final int PESO_TOTAL = Arrays.stream(Operacao.values()).mapToInt(o -> o.peso).sum();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    private final String baseUrl;
+
+    private final GeradorDados.Resultado dados;
+
+    /** Próxima combinação aluno ativo x dia livre para check-in; nunca repete até esgotar as combinações */
+    private final AtomicInteger proximoCheckIn = new AtomicInteger();
+
+    CargaMista(String baseUrl, GeradorDados.Resultado dados) {
+        this.baseUrl = baseUrl;
+        this.dados = dados;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opcoes = lerOpcoes(args);
+        long semente = Long.parseLong(opcoes.getOrDefault("semente", "42"));
+        int alunos = Integer.parseInt(opcoes.getOrDefault("alunos", "2000"));
+        int anos = Integer.parseInt(opcoes.getOrDefault("anos", "2"));
+        int threads = Integer.parseInt(opcoes.getOrDefault("threads", "8"));
+        int operacoes = Integer.parseInt(opcoes.getOrDefault("operacoes", "20000"));
+        int aquecimento = Integer.parseInt(opcoes.getOrDefault("aquecimento", "2000"));
+
+        GeradorDados.Resultado[] dados = new GeradorDados.Resultado[1];
+        long inicioGeracao = System.nanoTime();
+        try (ConfigurableApplicationContext contexto = AplicacaoH2.iniciarComDados(WebApplicationType.SERVLET,
+                new GeradorDados.Parametros(semente, alunos, anos), resultado -> dados[0] = resultado)) {
+            System.out.printf("Base gerada e aplicação iniciada em %.1f s: %d alunos (%d ativos), %d linhas%n",
+                (System.nanoTime() - inicioGeracao) / 1e9, dados[0].idsAlunos().length,
+                dados[0].idsAlunosAtivos().length, dados[0].linhas());
+
+            String porta = contexto.getEnvironment().getProperty("local.server.port");
+            CargaMista carga = new CargaMista("http://localhost:" + porta, dados[0]);
+
+            carga.executar(threads, aquecimento, semente - 1);
+            long inicio = System.nanoTime();
+            Map<Operacao, Medicoes> medicoes = carga.executar(threads, operacoes, semente);
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+
+            imprimirRelatorio(medicoes, segundos, threads);
+        }
+    }
+
+    /**
+     * Executa as operações divididas igualmente entre as threads
+     * @return Latências por operação
+     */
+    Map<Operacao, Medicoes> executar(int threads, int operacoes, long semente) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Map<Operacao, Medicoes>>> tarefas = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Random random = new Random(semente * 31 + t);
+                int quantidade = operacoes / threads + (t < operacoes % threads ? 1 : 0);
+                tarefas.add(executor.submit(() -> executarThread(random, quantidade)));
+            }
+            Map<Operacao, Medicoes> total = new EnumMap<>(Operacao.class);
+            for (Future<Map<Operacao, Medicoes>> tarefa : tarefas) {
+                tarefa.get().forEach((operacao, medicoes) ->
+                    total.computeIfAbsent(operacao, o -> new Medicoes()).juntar(medicoes));
+            }
+            return total;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Map<Operacao, Medicoes> executarThread(Random random, int quantidade) {
+        Map<Operacao, Medicoes> medicoes = new EnumMap<>(Operacao.class);
+        for (int i = 0; i < quantidade; i++) {
+            Operacao operacao = sortear(random);
+            HttpRequest requisicao = montarRequisicao(operacao, random);
+            long inicio = System.nanoTime();
+            boolean sucesso;
+            try {
+                int status = httpClient.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode();
+                sucesso = status < 400;
+            } catch (Exception e) {
+                sucesso = false;
+            }
+            medicoes.computeIfAbsent(operacao, o -> new Medicoes()).registrar(System.nanoTime() - inicio, sucesso);
+        }
+        return medicoes;
+    }
+
+    private static Operacao sortear(Random random) {
+        int sorteio = random.nextInt(PESO_TOTAL);
+        for (Operacao operacao : Operacao.values()) {
+            sorteio -= operacao.peso;
+            if (sorteio < 0) {
+                return operacao;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private HttpRequest montarRequisicao(Operacao operacao, Random random) {
+        return switch (operacao) {
+            case CHECK_IN -> {
+                long[] ativos = dados.idsAlunosAtivos();
+                int combinacao = proximoCheckIn.getAndIncrement() % (ativos.length * GeradorDados.DIAS_LIVRES);
+                LocalDate data = LocalDate.now().minusDays(combinacao / ativos.length);
+                yield post("/api/frequencias", String.format(
+                    "{\"idAluno\":%d,\"data\":\"%s\",\"presenca\":true}", ativos[combinacao % ativos.length], data));
+            }
+            case PAGAMENTO -> {
+                long[] matriculas = dados.idsMatriculasAtivas();
+                yield post("/api/pagamentos", String.format(
+                    "{\"idMatricula\":%d,\"dataPagamento\":\"%s\",\"valorPago\":119.90,\"formaPagamento\":\"PIX\"}",
+                    matriculas[random.nextInt(matriculas.length)], LocalDate.now()));
+            }
+            case HISTORICO -> {
+                long[] alunos = dados.idsAlunos();
+                yield get("/api/historico/aluno/" + alunos[random.nextInt(alunos.length)]);
+            }
+            case DASHBOARD -> get("/api/dashboard/resumo");
+        };
+    }
+
+    private HttpRequest get(String caminho) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + caminho)).GET().build();
+    }
+
+    private HttpRequest post(String caminho, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + caminho))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+
+    private static void imprimirRelatorio(Map<Operacao, Medicoes> medicoes, double segundos, int threads) {
+        System.out.printf("%nCarga mista: %d threads, %.1f s%n", threads, segundos);
+        System.out.printf("%-32s %8s %7s %9s %9s %9s %9s %9s%n",
+            "Endpoint", "Req", "Erros", "Req/s", "p50 ms", "p90 ms", "p99 ms", "máx ms");
+        Medicoes total = new Medicoes();
+        for (Operacao operacao : Operacao.values()) {
+            Medicoes m = medicoes.get(operacao);
+            if (m != null) {
+                imprimirLinha(operacao.endpoint, m, segundos);
+                total.juntar(m);
+            }
+        }
+        imprimirLinha("Total", total, segundos);
+    }
+
+    private static void imprimirLinha(String rotulo, Medicoes m, double segundos) {
+        long[] ordenadas = m.ordenadas();
+        System.out.printf("%-32s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+            rotulo, ordenadas.length, m.erros, ordenadas.length / segundos,
+            percentil(ordenadas, 50), percentil(ordenadas, 90), percentil(ordenadas, 99),
+            ordenadas.length == 0 ? 0 : ordenadas[ordenadas.length - 1] / 1e6);
+    }
+
+    /** Percentil pelo método do posto mais próximo, em milissegundos */
+    static double percentil(long[] ordenadas, int percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int posicao = (int) Math.ceil(percentil / 100.0 * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, posicao)] / 1e6;
+    }
+
+    private static Map<String, String> lerOpcoes(String[] args) {
+        Map<String, String> opcoes = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                opcoes.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return opcoes;
+    }
+
+    /**
+     * Latências (ns) de uma operação; cada thread tem as suas e elas são juntadas no final
+     */
+    static final class Medicoes {
+
+        private long[] latencias = new long[1024];
+        private int quantidade;
+        private int erros;
+
+        void registrar(long latencia, boolean sucesso) {
+            if (quantidade == latencias.length) {
+                latencias = Arrays.copyOf(latencias, quantidade * 2);
+            }
+            latencias[quantidade++] = latencia;
+            if (!sucesso) {
+                erros++;
+            }
+        }
+
+        void juntar(Medicoes outras) {
+            for (int i = 0; i < outras.quantidade; i++) {
+                registrar(outras.latencias[i], true);
+            }
+            erros += outras.erros;
+        }
+
+        long[] ordenadas() {
+            long[] copia = Arrays.copyOf(latencias, quantidade);
+            Arrays.sort(copia);
+            return copia;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.example.demo.carga;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.service.ResumoDiarioService;
+import com.example.demo.util.ValidadorCPF;
+
+/**
+ * Gera uma base sintética e determinística: a mesma semente e os mesmos parâmetros produzem
+ * exatamente as mesmas linhas
+ *
+ * As linhas são gravadas com JDBC em lotes (o IDENTITY impede o Hibernate de agrupar os inserts),
+ * então o gerador deve rodar antes de os índices em memória serem carregados, ou seja, antes do
+ * ApplicationReadyEvent (ver {@link AplicacaoH2}). Os totais diários são reconstruídos no final.
+ *
+ * Cada aluno entra em algum momento do período e a partir daí tem matrículas consecutivas,
+ * mensalidades, frequência diária conforme a sua assiduidade, um plano de treino a cada 3 a 6 meses
+ * e uma avaliação física por trimestre. Parte dos alunos desiste no meio do caminho; os demais
+ * terminam com uma matrícula ativa. Os últimos {@link #DIAS_LIVRES} dias ficam sem frequência para
+ * que a carga possa registrar check-ins sem conflito.
+ */
+public class GeradorDados {
+
+    public static final int DIAS_LIVRES = 30;
+
+    private static final int TAMANHO_LOTE = 1000;
+
+    private static final String[] NOMES = {"Ana", "Bruno", "Camila", "Diego", "Eduarda", "Felipe", "Gabriela",
+        "Henrique", "Isabela", "João", "Larissa", "Lucas", "Mariana", "Matheus", "Natália", "Pedro", "Rafaela",
+        "Rodrigo", "Sofia", "Thiago", "Vitória", "Gustavo", "Juliana", "Leonardo"};
+    private static final String[] SOBRENOMES = {"Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira",
+        "Alves", "Pereira", "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Araújo", "Melo"};
+    private static final String[] GRUPOS_MUSCULARES = {"Peito", "Costas", "Pernas", "Ombros", "Bíceps", "Tríceps",
+        "Abdômen", "Glúteos"};
+    private static final String[] FORMAS_PAGAMENTO = {"PIX", "Cartão de Crédito", "Cartão de Débito", "Dinheiro"};
+    private static final String[][] PLANOS = {
+        {"Mensal", "1", "119.90"}, {"Trimestral", "3", "329.90"},
+        {"Semestral", "6", "599.90"}, {"Anual", "12", "1079.90"}};
+    private static final int EXERCICIOS_POR_GRUPO = 5;
+    private static final int QUANTIDADE_INSTRUTORES = 8;
+
+    /** Fração de alunos que termina o período com matrícula ativa */
+    private static final double FRACAO_ATIVOS = 0.85;
+
+    /**
+     * @param semente Semente do gerador pseudoaleatório
+     * @param alunos Quantidade de alunos
+     * @param anos Anos de histórico
+     */
+    public record Parametros(long semente, int alunos, int anos) {
+    }
+
+    /**
+     * IDs gerados que a carga e os benchmarks usam como alvo
+     * @param idsAlunos Todos os alunos
+     * @param idsAlunosAtivos Alunos com matrícula ativa hoje
+     * @param idsMatriculasAtivas Matrículas ativas hoje
+     * @param linhas Total de linhas gravadas
+     */
+    public record Resultado(long[] idsAlunos, long[] idsAlunosAtivos, long[] idsMatriculasAtivas, long linhas) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ResumoDiarioService resumoDiarioService;
+
+    private long linhas;
+
+    public GeradorDados(JdbcTemplate jdbcTemplate, ResumoDiarioService resumoDiarioService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.resumoDiarioService = resumoDiarioService;
+    }
+
+    /**
+     * Grava a base sintética; espera tabelas vazias (os CPFs gerados são sempre os mesmos)
+     * @param parametros Semente, quantidade de alunos e anos de histórico
+     * @return IDs gerados
+     */
+    public Resultado gerar(Parametros parametros) {
+        Random random = new Random(parametros.semente());
+        LocalDate hoje = LocalDate.now();
+        LocalDate inicio = hoje.minusYears(parametros.anos()).withDayOfMonth(1);
+        linhas = 0;
+
+        long[] idsPlanos = gerarPlanos();
+        long[] idsInstrutores = gerarInstrutores();
+        long[] idsExercicios = gerarExercicios();
+
+        // Alunos primeiro, para conhecer os IDs antes de gerar as linhas dependentes
+        int quantidade = parametros.alunos();
+        LocalDate[] ingressos = new LocalDate[quantidade];
+        List<Object[]> alunos = new ArrayList<>(quantidade);
+        long diasPeriodo = inicio.until(hoje.minusDays(DIAS_LIVRES), ChronoUnit.DAYS);
+        for (int i = 0; i < quantidade; i++) {
+            // Metade já estava na academia no início do período; os demais entram ao longo dele
+            ingressos[i] = random.nextBoolean() ? inicio : inicio.plusDays(random.nextLong(diasPeriodo));
+            long cpf = cpfValido(i);
+            alunos.add(new Object[] {nomeAleatorio(random), ValidadorCPF.formatar(cpf), cpf, Date.valueOf(ingressos[i])});
+        }
+        long[] idsAlunos = inserir("alunos", "INSERT INTO alunos (nome, cpf, cpf_chave, data_ingresso) VALUES (?, ?, ?, ?)",
+            "id_aluno", alunos);
+
+        List<Long> idsAlunosAtivos = new ArrayList<>();
+        List<Long> idsMatriculasAtivas = new ArrayList<>();
+        Lote frequencias = new Lote("INSERT INTO frequencia (id_aluno, data, presenca) VALUES (?, ?, ?)");
+        Lote avaliacoes = new Lote("INSERT INTO avaliacoes_fisicas (id_aluno, id_instrutor, data_avaliacao, peso, altura, "
+            + "percentual_gordura, medidas_corporais) VALUES (?, ?, ?, ?, ?, ?, ?)");
+
+        for (int i = 0; i < quantidade; i++) {
+            long idAluno = idsAlunos[i];
+            boolean ativo = random.nextDouble() < FRACAO_ATIVOS;
+            LocalDate saida = ativo ? hoje : ingressos[i].plusDays(30 + random.nextLong(
+                Math.max(1, ingressos[i].until(hoje, ChronoUnit.DAYS) - 30)));
+
+            Long idMatriculaAtiva = gerarMatriculas(random, idAluno, ingressos[i], saida, ativo, idsPlanos);
+            if (idMatriculaAtiva != null) {
+                idsAlunosAtivos.add(idAluno);
+                idsMatriculasAtivas.add(idMatriculaAtiva);
+            }
+
+            double assiduidade = 0.2 + random.nextDouble() * 0.5;
+            LocalDate ultimaFrequencia = saida.isBefore(hoje.minusDays(DIAS_LIVRES)) ? saida : hoje.minusDays(DIAS_LIVRES);
+            for (LocalDate data = ingressos[i]; data.isBefore(ultimaFrequencia); data = data.plusDays(1)) {
+                double sorteio = random.nextDouble();
+                if (sorteio < assiduidade) {
+                    frequencias.adicionar(idAluno, Date.valueOf(data), true);
+                } else if (sorteio < assiduidade + 0.03) {
+                    frequencias.adicionar(idAluno, Date.valueOf(data), false);
+                }
+            }
+
+            gerarPlanosTreino(random, idAluno, ingressos[i], saida, idsInstrutores, idsExercicios);
+
+            double peso = 55 + random.nextDouble() * 45;
+            double gordura = 12 + random.nextDouble() * 20;
+            BigDecimal altura = BigDecimal.valueOf(1.55 + random.nextDouble() * 0.4).setScale(2, RoundingMode.HALF_UP);
+            for (LocalDate data = ingressos[i]; data.isBefore(saida); data = data.plusMonths(3)) {
+                avaliacoes.adicionar(idAluno, idsInstrutores[random.nextInt(idsInstrutores.length)], Date.valueOf(data),
+                    decimal(peso), altura, decimal(gordura),
+                    "Cintura: " + (int) (60 + gordura * 1.5) + "cm; Braço: " + (int) (25 + peso / 10) + "cm");
+                peso += random.nextGaussian() * 1.5;
+                gordura = Math.max(6, gordura - 0.5 + random.nextGaussian());
+            }
+        }
+        frequencias.gravar();
+        avaliacoes.gravar();
+
+        resumoDiarioService.reconstruirTudo();
+
+        return new Resultado(idsAlunos,
+            idsAlunosAtivos.stream().mapToLong(Long::longValue).toArray(),
+            idsMatriculasAtivas.stream().mapToLong(Long::longValue).toArray(),
+            linhas);
+    }
+
+    /**
+     * Matrículas consecutivas de ingresso até saída, com as mensalidades de cada uma
+     * @return ID da matrícula ativa hoje, ou null se o aluno desistiu
+     */
+    private Long gerarMatriculas(Random random, long idAluno, LocalDate ingresso, LocalDate saida, boolean ativo,
+            long[] idsPlanos) {
+        List<Object[]> matriculas = new ArrayList<>();
+        List<Integer> planos = new ArrayList<>();
+        LocalDate data = ingresso;
+        while (!data.isAfter(saida)) {
+            int plano = random.nextInt(PLANOS.length);
+            int meses = Integer.parseInt(PLANOS[plano][1]);
+            LocalDate fim = data.plusMonths(meses);
+            boolean atual = ativo && !fim.isBefore(saida);
+            matriculas.add(new Object[] {idAluno, idsPlanos[plano], Date.valueOf(data), Date.valueOf(fim),
+                atual ? "ATIVA" : "INATIVA"});
+            planos.add(plano);
+            data = fim;
+        }
+        long[] ids = inserir("matriculas", "INSERT INTO matriculas (id_aluno, id_plano_assinatura, data_inicio, "
+            + "data_fim, status) VALUES (?, ?, ?, ?, ?)", "id_matricula", matriculas);
+
+        List<Object[]> pagamentos = new ArrayList<>();
+        String forma = FORMAS_PAGAMENTO[random.nextInt(FORMAS_PAGAMENTO.length)];
+        for (int m = 0; m < ids.length; m++) {
+            String[] plano = PLANOS[planos.get(m)];
+            int meses = Integer.parseInt(plano[1]);
+            BigDecimal parcela = new BigDecimal(plano[2]).divide(BigDecimal.valueOf(meses), 2, RoundingMode.HALF_UP);
+            LocalDate inicioMatricula = ((Date) matriculas.get(m)[2]).toLocalDate();
+            for (int mes = 0; mes < meses; mes++) {
+                LocalDate vencimento = inicioMatricula.plusMonths(mes).plusDays(random.nextInt(5));
+                if (vencimento.isAfter(saida) || vencimento.isAfter(LocalDate.now().minusDays(1))) {
+                    break;
+                }
+                pagamentos.add(new Object[] {ids[m], Date.valueOf(vencimento), parcela, forma});
+            }
+        }
+        executarEmLotes("INSERT INTO pagamentos (id_matricula, data_pagamento, valor_pago, forma_pagamento) "
+            + "VALUES (?, ?, ?, ?)", pagamentos);
+
+        return ativo && ids.length > 0 ? ids[ids.length - 1] : null;
+    }
+
+    private void gerarPlanosTreino(Random random, long idAluno, LocalDate ingresso, LocalDate saida,
+            long[] idsInstrutores, long[] idsExercicios) {
+        List<Object[]> planos = new ArrayList<>();
+        for (LocalDate data = ingresso; data.isBefore(saida); data = data.plusMonths(3 + random.nextInt(4))) {
+            planos.add(new Object[] {idAluno, idsInstrutores[random.nextInt(idsInstrutores.length)], Date.valueOf(data),
+                "Treino " + (char) ('A' + random.nextInt(3)) + " - " + GRUPOS_MUSCULARES[random.nextInt(GRUPOS_MUSCULARES.length)],
+                8 + random.nextInt(9)});
+        }
+        long[] ids = inserir("planos_treino", "INSERT INTO planos_treino (id_aluno, id_instrutor, data_criacao, "
+            + "descricao, duracao_semanas) VALUES (?, ?, ?, ?, ?)", "id_plano", planos);
+
+        List<Object[]> itens = new ArrayList<>();
+        for (long idPlano : ids) {
+            int quantidadeItens = 6 + random.nextInt(5);
+            int primeiro = random.nextInt(idsExercicios.length);
+            for (int e = 0; e < quantidadeItens; e++) {
+                // Exercícios consecutivos e distintos, por causa de uk_plano_exercicio
+                itens.add(new Object[] {idPlano, idsExercicios[(primeiro + e) % idsExercicios.length],
+                    3 + random.nextInt(2), 8 + random.nextInt(5) * 2, BigDecimal.valueOf(5 + random.nextInt(80)),
+                    e == 0 ? "Aquecimento com carga leve" : null});
+            }
+        }
+        executarEmLotes("INSERT INTO itens_treino (id_plano, id_exercicio, series, repeticoes, carga, observacoes) "
+            + "VALUES (?, ?, ?, ?, ?, ?)", itens);
+    }
+
+    private long[] gerarPlanos() {
+        List<Object[]> planos = new ArrayList<>();
+        for (String[] plano : PLANOS) {
+            planos.add(new Object[] {plano[0], "Plano " + plano[0].toLowerCase() + " com acesso livre à musculação",
+                new BigDecimal(plano[2]), Integer.parseInt(plano[1]), "ATIVO"});
+        }
+        return inserir("planos", "INSERT INTO planos (nome, descricao, valor, duracao_meses, status) VALUES (?, ?, ?, ?, ?)",
+            "id_plano_assinatura", planos);
+    }
+
+    private long[] gerarInstrutores() {
+        String[] especialidades = {"Musculação", "Funcional", "Hipertrofia", "Reabilitação"};
+        List<Object[]> instrutores = new ArrayList<>();
+        for (int i = 0; i < QUANTIDADE_INSTRUTORES; i++) {
+            instrutores.add(new Object[] {"Instrutor " + NOMES[i] + " " + SOBRENOMES[i], especialidades[i % especialidades.length]});
+        }
+        return inserir("instrutores", "INSERT INTO instrutores (nome, especialidade) VALUES (?, ?)", "id_instrutor", instrutores);
+    }
+
+    private long[] gerarExercicios() {
+        List<Object[]> exercicios = new ArrayList<>();
+        for (String grupo : GRUPOS_MUSCULARES) {
+            for (int i = 1; i <= EXERCICIOS_POR_GRUPO; i++) {
+                exercicios.add(new Object[] {grupo + " " + i, grupo, "Exercício " + i + " para " + grupo.toLowerCase()});
+            }
+        }
+        return inserir("exercicios", "INSERT INTO exercicios (nome, grupo_muscular, descricao) VALUES (?, ?, ?)",
+            "id_exercicio", exercicios);
+    }
+
+    /**
+     * Insere as linhas em lotes e devolve os IDs gerados, na ordem das linhas
+     * Os IDs são lidos depois pelo maior ID anterior, o que vale porque só o gerador escreve durante a carga
+     */
+    private long[] inserir(String tabela, String sql, String colunaId, List<Object[]> valores) {
+        Long maiorAnterior = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(MAX(" + colunaId + "), 0) FROM " + tabela, Long.class);
+        executarEmLotes(sql, valores);
+        return jdbcTemplate.queryForList(
+                "SELECT " + colunaId + " FROM " + tabela + " WHERE " + colunaId + " > ? ORDER BY " + colunaId,
+                Long.class, maiorAnterior)
+            .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void executarEmLotes(String sql, List<Object[]> valores) {
+        for (int i = 0; i < valores.size(); i += TAMANHO_LOTE) {
+            jdbcTemplate.batchUpdate(sql, valores.subList(i, Math.min(i + TAMANHO_LOTE, valores.size())));
+        }
+        linhas += valores.size();
+    }
+
+    private static String nomeAleatorio(Random random) {
+        return NOMES[random.nextInt(NOMES.length)] + " " + SOBRENOMES[random.nextInt(SOBRENOMES.length)]
+            + " " + SOBRENOMES[random.nextInt(SOBRENOMES.length)];
+    }
+
+    private static BigDecimal decimal(double valor) {
+        return BigDecimal.valueOf(valor).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /** CPF válido e distinto para cada índice: 9 dígitos a partir de 100000000 mais os verificadores */
+    private static long cpfValido(int indice) {
+        long base = (100_000_000L + indice) * 100;
+        for (int verificadores = 0; verificadores < 100; verificadores++) {
+            if (ValidadorCPF.isValid(base + verificadores)) {
+                return base + verificadores;
+            }
+        }
+        throw new IllegalStateException("Sem CPF válido para o índice " + indice);
+    }
+
+    /**
+     * Linhas sem dependentes (frequência, avaliações): acumuladas e gravadas a cada lote
+     * para não manter anos de frequência em memória
+     */
+    private final class Lote {
+
+        private final String sql;
+
+        private final List<Object[]> pendentes = new ArrayList<>(TAMANHO_LOTE);
+
+        private Lote(String sql) {
+            this.sql = sql;
+        }
+
+        private void adicionar(Object... valores) {
+            pendentes.add(valores);
+            if (pendentes.size() == TAMANHO_LOTE) {
+                gravar();
+            }
+        }
+
+        private void gravar() {
+            executarEmLotes(sql, pendentes);
+            pendentes.clear();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.dto.EstatisticasCacheDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Estatísticas do cache de segundo nível do Hibernate
+ * 
+ * Aluno, Plano, Instrutor e Exercicio ficam em regiões próprias (READ_WRITE), e as listas dessas
+ * entidades marcadas como cacheáveis nos repositories ficam no cache de consultas. O Hibernate
+ * atualiza as regiões a cada escrita feita pelo JPA e descarta as consultas de uma tabela quando
+ * ela muda, então os services não precisam invalidar nada manualmente.
+ */
+@Component
+public class CacheEntidades {
+    
+    /** Regiões declaradas em application.conf, na ordem em que são exibidas */
+    public static final List<String> REGIOES = List.of(
+        "aluno", "plano", "instrutor", "exercicio", "default-query-results-region");
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    /**
+     * Retorna as estatísticas de cada região (vazio se o cache de segundo nível estiver desabilitado)
+     * @return Estatísticas por região
+     */
+    public List<EstatisticasCacheDTO> estatisticas() {
+        RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getCache().getRegionFactory();
+        if (!(regionFactory instanceof JCacheRegionFactory jcache)) {
+            return List.of();
+        }
+        
+        CacheManager cacheManager = jcache.getCacheManager();
+        List<EstatisticasCacheDTO> estatisticas = new ArrayList<>();
+        for (String regiao : REGIOES) {
+            javax.cache.Cache<Object, Object> cache = cacheManager.getCache(regiao);
+            if (cache == null) {
+                continue;
+            }
+            Cache<?, ?> caffeine = cache.unwrap(Cache.class);
+            CacheStats stats = caffeine.stats();
+            long capacidade = caffeine.policy().eviction().map(eviction -> eviction.getMaximum()).orElse(0L);
+            estatisticas.add(new EstatisticasCacheDTO(
+                regiao,
+                caffeine.estimatedSize(),
+                capacidade,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                0
+            ));
+        }
+        return estatisticas;
+    }
+}
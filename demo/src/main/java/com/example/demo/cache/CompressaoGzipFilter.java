@@ -0,0 +1,234 @@
+package com.example.demo.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Compacta com gzip as respostas dos endpoints com {@link EtagPorTabelas}
+ *
+ * O Tomcat não compacta respostas com ETag forte, porque o mesmo ETag passaria a valer para dois conteúdos
+ * diferentes (compactado e não compactado). Por isso o {@link EtagInterceptor} acrescenta {@link #SUFIXO_ETAG}
+ * ao ETag quando o cliente aceita gzip, e este filtro compacta as respostas 200 que saem com esse ETag.
+ * Corpos menores que {@link #TAMANHO_MINIMO} bytes vão sem compactação. As demais respostas seguem
+ * para a compressão do próprio Tomcat (server.compression).
+ *
+ * Respostas assíncronas (ex: StreamingResponseBody) e escritas não bloqueantes (setWriteListener) passam
+ * sem compactação: o corpo é escrito depois que o filtro retorna, quando não há mais como concluir o gzip.
+ */
+public class CompressaoGzipFilter extends OncePerRequestFilter {
+
+    static final String SUFIXO_ETAG = "-gzip";
+
+    static final int TAMANHO_MINIMO = 2048;
+
+    /**
+     * Indica se o cliente aceita respostas compactadas com gzip
+     */
+    static boolean aceitaGzip(HttpServletRequest request) {
+        String aceitas = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return aceitas != null && aceitas.toLowerCase().contains("gzip");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !aceitaGzip(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RespostaGzip resposta = new RespostaGzip(request, response);
+        filterChain.doFilter(request, resposta);
+        if (!request.isAsyncStarted()) {
+            resposta.concluir();
+        }
+    }
+
+    /**
+     * Decide no primeiro byte escrito se o corpo será compactado e, se for, acumula até
+     * {@link #TAMANHO_MINIMO} bytes antes de começar o gzip
+     */
+    private static final class RespostaGzip extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private SaidaGzip saida;
+        private PrintWriter writer;
+        private long tamanhoInformado = -1;
+
+        private RespostaGzip(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (saida == null) {
+                saida = new SaidaGzip(this);
+            }
+            return saida;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            setContentLengthLong(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            // Só é repassado se o corpo sair sem compactação
+            tamanhoInformado = len;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (saida == null || saida.decidida()) {
+                super.flushBuffer();
+            }
+        }
+
+        private boolean deveCompactar() {
+            String etag = getHeader(HttpHeaders.ETAG);
+            return getStatus() == HttpServletResponse.SC_OK && etag != null && etag.endsWith(SUFIXO_ETAG + "\"")
+                && !request.isAsyncStarted();
+        }
+
+        private void concluir() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (saida != null) {
+                saida.concluir();
+            } else if (tamanhoInformado >= 0) {
+                super.setContentLengthLong(tamanhoInformado);
+            }
+        }
+    }
+
+    private static final class SaidaGzip extends ServletOutputStream {
+
+        private final RespostaGzip resposta;
+        private ByteArrayOutputStream pendente;
+        private OutputStream destino;
+
+        private SaidaGzip(RespostaGzip resposta) {
+            this.resposta = resposta;
+        }
+
+        private boolean decidida() {
+            return destino != null;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (destino == null && pendente == null) {
+                if (resposta.deveCompactar()) {
+                    pendente = new ByteArrayOutputStream(TAMANHO_MINIMO);
+                } else {
+                    destino = semCompactacao();
+                }
+            }
+            if (destino != null) {
+                destino.write(b, off, len);
+                return;
+            }
+            pendente.write(b, off, len);
+            if (pendente.size() >= TAMANHO_MINIMO) {
+                resposta.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                destino = new GZIPOutputStream(resposta.getResponse().getOutputStream(), 8192);
+                pendente.writeTo(destino);
+                pendente = null;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (destino != null) {
+                destino.flush();
+            }
+        }
+
+        private OutputStream semCompactacao() throws IOException {
+            if (resposta.tamanhoInformado >= 0) {
+                resposta.getResponse().setContentLengthLong(resposta.tamanhoInformado);
+            }
+            return resposta.getResponse().getOutputStream();
+        }
+
+        private void concluir() throws IOException {
+            if (pendente != null) {
+                // Corpo inteiro abaixo do tamanho mínimo: vai sem compactação e com o tamanho conhecido
+                resposta.tamanhoInformado = pendente.size();
+                destino = semCompactacao();
+                pendente.writeTo(destino);
+                pendente = null;
+            }
+            if (destino instanceof GZIPOutputStream gzip) {
+                gzip.finish();
+            }
+            if (destino != null) {
+                destino.flush();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            if (destino == null || destino instanceof GZIPOutputStream) {
+                // Escrita bloqueante: os bytes ficam no buffer ou no gzip
+                return true;
+            }
+            try {
+                return resposta.getResponse().getOutputStream().isReady();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            if (destino instanceof GZIPOutputStream) {
+                throw new IllegalStateException("Escrita não bloqueante iniciada depois da compactação");
+            }
+            try {
+                // A partir daqui o corpo sai sem compactação, com o que já estava acumulado na frente
+                if (destino == null) {
+                    destino = semCompactacao();
+                }
+                if (pendente != null) {
+                    pendente.writeTo(destino);
+                    pendente = null;
+                }
+                resposta.getResponse().getOutputStream().setWriteListener(writeListener);
+            } catch (IOException e) {
+                throw new IllegalStateException("Saída da resposta indisponível", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.dto.ContaReceberDTO;
+import com.example.demo.dto.EstatisticasCacheDTO;
+import com.example.demo.util.Transacoes;
+
+/**
+ * Cache da situação financeira de todas as matrículas (contas a receber)
+ * 
+ * Guarda um único instantâneo com o resultado da consulta agrupada. Pagamentos, matrículas, planos
+ * e alunos alterados incrementam a versão do cache depois do commit, e um instantâneo só é servido
+ * se foi montado na versão atual. Como o instantâneo é recalculado inteiro, a invalidação não
+ * precisa saber quais matrículas mudaram.
+ * 
+ * Montagens simultâneas são serializadas: quem chega durante uma montagem espera por ela e reaproveita
+ * o resultado, em vez de repetir a consulta agrupada. Consultas de uma única matrícula não devem
+ * provocar a montagem; usam obterAtual e, sem instantâneo válido, consultam só a matrícula.
+ */
+@Component
+public class ContasReceberCache {
+    
+    private final AtomicLong versao = new AtomicLong();
+    
+    private volatile Instantaneo instantaneo;
+    
+    private final Object montagem = new Object();
+    
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder invalidacoes = new LongAdder();
+    
+    /**
+     * Retorna o instantâneo do cache ou o monta com o carregador informado
+     * @param carregador Calcula a situação de todas as matrículas, ordenada por ID
+     * @return Instantâneo das contas a receber
+     */
+    public Instantaneo obter(Supplier<List<ContaReceberDTO>> carregador) {
+        Instantaneo atual = obterAtual();
+        if (atual != null) {
+            return atual;
+        }
+        
+        synchronized (montagem) {
+            // Outra thread pode ter montado o instantâneo enquanto esta esperava
+            atual = obterAtual();
+            if (atual != null) {
+                return atual;
+            }
+            
+            long versaoAtual = versao.get();
+            falhas.increment();
+            Instantaneo montado = new Instantaneo(List.copyOf(carregador.get()), versaoAtual);
+            
+            // Só armazena se nada foi alterado durante a montagem
+            if (versao.get() == versaoAtual) {
+                instantaneo = montado;
+            }
+            return montado;
+        }
+    }
+    
+    /**
+     * Retorna o instantâneo somente se já estiver montado na versão atual, sem montá-lo
+     * @return Instantâneo válido, ou null
+     */
+    public Instantaneo obterAtual() {
+        Instantaneo atual = instantaneo;
+        if (atual != null && atual.versao() == versao.get()) {
+            acertos.increment();
+            return atual;
+        }
+        return null;
+    }
+    
+    /**
+     * Invalida o instantâneo após o commit da transação corrente
+     */
+    public void invalidar() {
+        Transacoes.aposCommit(() -> {
+            versao.incrementAndGet();
+            invalidacoes.increment();
+            instantaneo = null;
+        });
+    }
+    
+    /**
+     * Retorna as estatísticas de uso do cache
+     * @return Estatísticas do cache (tamanho é o número de matrículas no instantâneo)
+     */
+    public EstatisticasCacheDTO estatisticas() {
+        Instantaneo atual = instantaneo;
+        return new EstatisticasCacheDTO(
+            "contasReceber",
+            atual != null ? atual.contas().size() : 0,
+            1,
+            acertos.sum(),
+            falhas.sum(),
+            0,
+            invalidacoes.sum()
+        );
+    }
+        
+    /**
+     * Situação de todas as matrículas em uma versão do cache
+     * @param contas Contas ordenadas por ID da matrícula
+     * @param porMatricula Contas indexadas pelo ID da matrícula
+     * @param versao Versão do cache em que foi montado
+     */
+    public record Instantaneo(List<ContaReceberDTO> contas, Map<Long, ContaReceberDTO> porMatricula, long versao) {
+        
+        Instantaneo(List<ContaReceberDTO> contas, long versao) {
+            this(contas, contas.stream().collect(Collectors.toMap(ContaReceberDTO::getIdMatricula, Function.identity())), versao);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * GET condicional para os endpoints anotados com {@link EtagPorTabelas}
+ *
+ * O ETag vem das versões das tabelas, não do corpo da resposta, então um 304 sai sem consultar o banco
+ * nem serializar nada. Cache-Control no-cache faz o cliente guardar a resposta, mas revalidar sempre.
+ * Vary: Accept-Encoding, porque o ETag depende de o cliente aceitar gzip.
+ */
+public class EtagInterceptor implements HandlerInterceptor {
+
+    private final VersoesTabelas versoesTabelas;
+
+    public EtagInterceptor(VersoesTabelas versoesTabelas) {
+        this.versoesTabelas = versoesTabelas;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod metodo) || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        EtagPorTabelas anotacao = metodo.getMethodAnnotation(EtagPorTabelas.class);
+        if (anotacao == null) {
+            return true;
+        }
+        String etag = versoesTabelas.etag(anotacao.value());
+        if (CompressaoGzipFilter.aceitaGzip(request)) {
+            // Cada codificação tem o seu ETag; o CompressaoGzipFilter compacta as respostas com este sufixo
+            etag = etag.substring(0, etag.length() - 1) + CompressaoGzipFilter.SUFIXO_ETAG + "\"";
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca um endpoint GET cuja resposta depende só do conteúdo das tabelas indicadas
+ *
+ * O {@link EtagInterceptor} responde com um ETag calculado pelas {@link VersoesTabelas} e devolve
+ * 304 Not Modified, antes de chamar o controller, quando o cliente envia esse mesmo ETag em If-None-Match.
+ * Não usar em endpoints que dependem da data de hoje ou de índices em memória.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EtagPorTabelas {
+
+    /**
+     * Tabelas lidas pelo endpoint, incluindo as das entidades relacionadas que aparecem no DTO
+     */
+    String[] value();
+}
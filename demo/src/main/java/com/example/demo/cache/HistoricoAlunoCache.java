@@ -0,0 +1,176 @@
+package com.example.demo.cache;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.config.HistoricoProperties;
+import com.example.demo.dto.EstatisticasCacheDTO;
+import com.example.demo.dto.HistoricoAlunoDTO;
+import com.example.demo.entity.Aluno;
+import com.example.demo.util.Transacoes;
+
+/**
+ * Cache do histórico montado de cada aluno (completo e por período)
+ * 
+ * Cada aluno tem um número de versão que é incrementado quando os services alteram dados dele,
+ * sempre depois do commit. Uma entrada só é servida se foi montada na versão atual do aluno e no
+ * dia corrente (o histórico depende da data de hoje), e um histórico montado enquanto a versão
+ * mudava é descartado em vez de armazenado. O tamanho é limitado e a remoção segue a ordem LRU.
+ */
+@Component
+public class HistoricoAlunoCache {
+    
+    private final HistoricoProperties historicoProperties;
+    
+    private final Map<Chave, Entrada> entradas;
+    
+    private final ConcurrentHashMap<Long, Long> versoesPorAluno = new ConcurrentHashMap<>();
+    
+    private final AtomicLong versaoGlobal = new AtomicLong();
+    
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder remocoes = new LongAdder();
+    private final LongAdder invalidacoes = new LongAdder();
+    
+    @Autowired
+    public HistoricoAlunoCache(HistoricoProperties historicoProperties) {
+        this.historicoProperties = historicoProperties;
+        int capacidade = Math.max(1, historicoProperties.getCache().getCapacidade());
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Chave, Entrada> maisAntiga) {
+                if (size() > capacidade) {
+                    remocoes.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    /**
+     * Retorna o histórico do cache ou o monta com o carregador informado
+     * @param idAluno ID do aluno
+     * @param dataInicio Início do período (null para o histórico completo)
+     * @param dataFim Fim do período (null para o histórico completo)
+     * @param carregador Monta o histórico quando não há entrada válida
+     * @return Histórico do aluno
+     */
+    public HistoricoAlunoDTO obter(Long idAluno, LocalDate dataInicio, LocalDate dataFim,
+                                   Supplier<HistoricoAlunoDTO> carregador) {
+        if (!historicoProperties.getCache().isHabilitado()) {
+            return carregador.get();
+        }
+        
+        Chave chave = new Chave(idAluno, dataInicio, dataFim);
+        LocalDate hoje = LocalDate.now();
+        long versaoAluno = versaoDoAluno(idAluno);
+        long versao = versaoGlobal.get();
+        
+        synchronized (entradas) {
+            Entrada entrada = entradas.get(chave);
+            if (entrada != null && entrada.valida(versaoAluno, versao, hoje)) {
+                acertos.increment();
+                return entrada.historico();
+            }
+        }
+        
+        falhas.increment();
+        HistoricoAlunoDTO historico = carregador.get();
+        
+        // Só armazena se nenhum dado do aluno foi alterado durante a montagem
+        synchronized (entradas) {
+            if (versaoDoAluno(idAluno) == versaoAluno && versaoGlobal.get() == versao) {
+                entradas.put(chave, new Entrada(historico, versaoAluno, versao, hoje));
+            }
+        }
+        return historico;
+    }
+    
+    /**
+     * Invalida o histórico de um aluno após o commit da transação corrente
+     * @param aluno Aluno cujos dados foram alterados
+     */
+    public void invalidar(Aluno aluno) {
+        if (aluno != null) {
+            invalidar(aluno.getIdAluno());
+        }
+    }
+    
+    /**
+     * Invalida o histórico de um aluno após o commit da transação corrente
+     * @param idAluno ID do aluno cujos dados foram alterados
+     */
+    public void invalidar(Long idAluno) {
+        if (idAluno == null) {
+            return;
+        }
+        Transacoes.aposCommit(() -> {
+            versoesPorAluno.merge(idAluno, 1L, Long::sum);
+            invalidacoes.increment();
+            synchronized (entradas) {
+                entradas.keySet().removeIf(chave -> chave.idAluno().equals(idAluno));
+            }
+        });
+    }
+    
+    /**
+     * Invalida o histórico de todos os alunos após o commit da transação corrente
+     * (usado quando dados compartilhados, como nome de plano ou instrutor, mudam)
+     */
+    public void invalidarTodos() {
+        Transacoes.aposCommit(() -> {
+            versaoGlobal.incrementAndGet();
+            invalidacoes.increment();
+            synchronized (entradas) {
+                entradas.clear();
+            }
+        });
+    }
+    
+    /**
+     * Retorna as estatísticas de uso do cache
+     * @return Estatísticas do cache
+     */
+    public EstatisticasCacheDTO estatisticas() {
+        int tamanho;
+        synchronized (entradas) {
+            tamanho = entradas.size();
+        }
+        return new EstatisticasCacheDTO(
+            "historicoAluno",
+            tamanho,
+            historicoProperties.getCache().getCapacidade(),
+            acertos.sum(),
+            falhas.sum(),
+            remocoes.sum(),
+            invalidacoes.sum()
+        );
+    }
+    
+    private long versaoDoAluno(Long idAluno) {
+        return versoesPorAluno.getOrDefault(idAluno, 0L);
+    }
+        
+    private record Chave(Long idAluno, LocalDate dataInicio, LocalDate dataFim) {
+    }
+    
+    private record Entrada(HistoricoAlunoDTO historico, long versaoAluno, long versaoGlobal, LocalDate dia) {
+        
+        boolean valida(long versaoAlunoAtual, long versaoGlobalAtual, LocalDate hoje) {
+            return versaoAluno == versaoAlunoAtual
+                && versaoGlobal == versaoGlobalAtual
+                && Objects.equals(dia, hoje);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.cache;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.util.Transacoes;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Número de versão de cada tabela, incrementado a cada escrita confirmada nela
+ *
+ * Recebe os comandos do proxy do DataSource (ver DataSourceConfig) e reconhece INSERT, UPDATE, DELETE,
+ * MERGE e TRUNCATE pelo nome da tabela, então vale para o Hibernate, para os UPDATEs em lote e para o
+ * JdbcTemplate. Dentro de uma transação as tabelas alteradas são acumuladas e as versões só mudam depois
+ * do commit; um rollback não muda nada. Como as versões ficam em memória, o ETag inclui o instante em que
+ * a aplicação subiu, para que um reinício nunca reaproveite um ETag antigo.
+ */
+public class VersoesTabelas implements QueryExecutionListener {
+
+    private static final Pattern ESCRITA = Pattern.compile(
+        "^\\s*(?:insert\\s+into|update|delete\\s+from|merge\\s+into|replace\\s+into|truncate\\s+table)\\s+([`\"\\w.]+)",
+        Pattern.CASE_INSENSITIVE);
+
+    private final String instancia = Long.toString(System.currentTimeMillis(), 36);
+
+    private final ConcurrentHashMap<String, AtomicLong> versoes = new ConcurrentHashMap<>();
+
+    /**
+     * Versão atual de uma tabela (0 até a primeira escrita desde que a aplicação subiu)
+     * @param tabela Nome da tabela; maiúsculas, aspas e "_" são ignorados ("planos_treino" = "PlanosTreino")
+     * @return Versão da tabela
+     */
+    public long versao(String tabela) {
+        AtomicLong versao = versoes.get(normalizar(tabela));
+        return versao != null ? versao.get() : 0;
+    }
+
+    /**
+     * ETag forte que muda sempre que alguma das tabelas muda
+     * Deve ser calculado antes de consultar os dados: assim uma escrita concorrente no máximo faz o
+     * cliente baixar de novo um conteúdo que não mudou, nunca guardar um conteúdo antigo com ETag novo
+     * @param tabelas Tabelas de que a resposta depende
+     * @return ETag entre aspas
+     */
+    public String etag(String... tabelas) {
+        StringBuilder etag = new StringBuilder("\"").append(instancia);
+        for (String tabela : tabelas) {
+            etag.append('-').append(versao(tabela));
+        }
+        return etag.append('"').toString();
+    }
+
+    /**
+     * Registra uma escrita na tabela: incrementa a versão após o commit, ou na hora se não houver transação
+     * @param tabela Nome da tabela
+     */
+    public void registrarEscrita(String tabela) {
+        String normalizada = normalizar(tabela);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            incrementar(normalizada);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<String> pendentes = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pendentes == null) {
+            Set<String> novas = ConcurrentHashMap.newKeySet();
+            Transacoes.vincular(this, novas);
+            Transacoes.aposCommit(() -> novas.forEach(this::incrementar));
+            pendentes = novas;
+        }
+        pendentes.add(normalizada);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!execInfo.isSuccess()) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            String tabela = tabelaAlterada(queryInfo.getQuery());
+            if (tabela != null) {
+                registrarEscrita(tabela);
+            }
+        }
+    }
+
+    /**
+     * Tabela alterada por um comando SQL
+     * @return Nome da tabela como aparece no comando, ou null se o comando não for uma escrita
+     */
+    static String tabelaAlterada(String sql) {
+        Matcher matcher = ESCRITA.matcher(sql);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private void incrementar(String tabela) {
+        versoes.computeIfAbsent(tabela, t -> new AtomicLong()).incrementAndGet();
+    }
+
+    private static String normalizar(String tabela) {
+        String nome = tabela.substring(tabela.lastIndexOf('.') + 1);
+        return nome.replace("`", "").replace("\"", "").replace("_", "").toLowerCase(Locale.ROOT);
+    }
+}
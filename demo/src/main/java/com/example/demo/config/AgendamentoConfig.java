@@ -0,0 +1,14 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas da aplicação (ex.: expiração diária de matrículas)
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(TransicaoMatriculaProperties.class)
+public class AgendamentoConfig {
+}
@@ -0,0 +1,38 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limites de comandos SQL por requisição da API (prefixo "consultas")
+ * Ao passar de um limite a requisição é registrada no log como aviso; ela não é interrompida
+ */
+@ConfigurationProperties(prefix = "consultas")
+public class ConsultasProperties {
+
+    /**
+     * Número máximo de comandos SQL esperado em uma requisição
+     */
+    private int orcamento = 30;
+
+    /**
+     * Quantas vezes o mesmo comando (ignorando os valores dos parâmetros) pode se repetir na
+     * requisição antes de ser apontado como possível N+1
+     */
+    private int limiteRepeticoes = 10;
+
+    public int getOrcamento() {
+        return orcamento;
+    }
+
+    public void setOrcamento(int orcamento) {
+        this.orcamento = orcamento;
+    }
+
+    public int getLimiteRepeticoes() {
+        return limiteRepeticoes;
+    }
+
+    public void setLimiteRepeticoes(int limiteRepeticoes) {
+        this.limiteRepeticoes = limiteRepeticoes;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.demo.cache.VersoesTabelas;
+import com.example.demo.metricas.ContadorConsultas;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Proxy do DataSource que repassa cada comando executado ao ContadorConsultas (SQL por requisição)
+ * e às VersoesTabelas (ETags dos endpoints de leitura)
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Estático para não antecipar a criação desta configuração; os listeners só são obtidos
+     * quando o DataSource é criado. O pool continua acessível por unwrap (métricas do HikariCP)
+     */
+    @Bean
+    public static BeanPostProcessor proxyDataSource(ObjectProvider<ContadorConsultas> contadorConsultas,
+            ObjectProvider<VersoesTabelas> versoesTabelas) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(contadorConsultas.getObject())
+                        .listener(versoesTabelas.getObject())
+                        .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.demo.cache.CompressaoGzipFilter;
+import com.example.demo.cache.EtagInterceptor;
+import com.example.demo.cache.VersoesTabelas;
+
+/**
+ * ETags e compressão gzip dos endpoints de leitura (ver EtagPorTabelas)
+ * As VersoesTabelas são declaradas aqui, e não como @Component, para que também existam nos
+ * testes @WebMvcTest, que carregam os WebMvcConfigurer mas não os demais componentes
+ */
+@Configuration
+public class EtagConfig implements WebMvcConfigurer {
+
+    @Bean
+    public VersoesTabelas versoesTabelas() {
+        return new VersoesTabelas();
+    }
+
+    @Bean
+    public FilterRegistrationBean<CompressaoGzipFilter> compressaoGzipFilter() {
+        FilterRegistrationBean<CompressaoGzipFilter> registro = new FilterRegistrationBean<>(new CompressaoGzipFilter());
+        registro.addUrlPatterns("/api/*");
+        return registro;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EtagInterceptor(versoesTabelas())).addPathPatterns("/api/**");
+    }
+}
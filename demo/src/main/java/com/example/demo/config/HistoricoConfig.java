@@ -0,0 +1,25 @@
+package com.example.demo.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração da execução paralela do histórico do aluno
+ */
+@Configuration
+@EnableConfigurationProperties(HistoricoProperties.class)
+public class HistoricoConfig {
+    
+    /**
+     * Executor de threads virtuais usado para carregar as seções do histórico.
+     * O limite de concorrência é aplicado pelo HistoricoAlunoService, não pelo executor
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService historicoExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("historico-", 0).factory());
+    }
+}
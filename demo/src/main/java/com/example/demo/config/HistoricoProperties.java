@@ -0,0 +1,79 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configurações de execução do histórico do aluno (prefixo "historico")
+ */
+@ConfigurationProperties(prefix = "historico")
+public class HistoricoProperties {
+    
+    /**
+     * Quando verdadeiro, as seções do histórico são carregadas em paralelo,
+     * cada uma em uma thread virtual com sua própria transação somente leitura
+     */
+    private boolean paralelo = false;
+    
+    /**
+     * Número máximo de seções carregadas ao mesmo tempo em toda a aplicação.
+     * Deve ficar abaixo do tamanho do pool de conexões para que o histórico não o esgote
+     */
+    private int maxConcorrencia = 4;
+    
+    /**
+     * Cache do histórico montado de cada aluno
+     */
+    private final Cache cache = new Cache();
+    
+    public boolean isParalelo() {
+        return paralelo;
+    }
+    
+    public void setParalelo(boolean paralelo) {
+        this.paralelo = paralelo;
+    }
+    
+    public int getMaxConcorrencia() {
+        return maxConcorrencia;
+    }
+    
+    public void setMaxConcorrencia(int maxConcorrencia) {
+        this.maxConcorrencia = maxConcorrencia;
+    }
+    
+    public Cache getCache() {
+        return cache;
+    }
+    
+    /**
+     * Configurações do cache do histórico (prefixo "historico.cache")
+     */
+    public static class Cache {
+        
+        /**
+         * Habilita o cache do histórico montado
+         */
+        private boolean habilitado = true;
+        
+        /**
+         * Número máximo de históricos em cache (completos e por período)
+         */
+        private int capacidade = 1000;
+        
+        public boolean isHabilitado() {
+            return habilitado;
+        }
+        
+        public void setHabilitado(boolean habilitado) {
+            this.habilitado = habilitado;
+        }
+        
+        public int getCapacidade() {
+            return capacidade;
+        }
+        
+        public void setCapacidade(int capacidade) {
+            this.capacidade = capacidade;
+        }
+    }
+}
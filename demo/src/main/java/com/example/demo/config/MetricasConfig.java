@@ -0,0 +1,29 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.demo.metricas.ConsultasPorRequisicaoFilter;
+import com.example.demo.metricas.ContadorConsultas;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Métricas além das que o Actuator já publica (HTTP, HikariCP, Hibernate, repositórios)
+ * Os timers dos services vêm do @Timed("gym.servico") em cada classe
+ */
+@Configuration
+@EnableConfigurationProperties(ConsultasProperties.class)
+public class MetricasConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConsultasPorRequisicaoFilter> consultasPorRequisicaoFilter(
+            ContadorConsultas contadorConsultas, MeterRegistry meterRegistry, ConsultasProperties consultasProperties) {
+        FilterRegistrationBean<ConsultasPorRequisicaoFilter> registro = new FilterRegistrationBean<>(
+            new ConsultasPorRequisicaoFilter(contadorConsultas, meterRegistry, consultasProperties));
+        registro.addUrlPatterns("/api/*");
+        return registro;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configurações das transições de status de matrículas em lote (prefixo "matricula.transicao")
+ */
+@ConfigurationProperties(prefix = "matricula.transicao")
+public class TransicaoMatriculaProperties {
+    
+    /**
+     * Expressão cron da expiração automática das matrículas vencidas ("-" desabilita o agendamento)
+     */
+    private String cron = "0 10 0 * * *";
+    
+    /**
+     * Número máximo de matrículas alteradas por transação. Lotes menores seguram os locks por menos tempo
+     */
+    private int tamanhoLote = 500;
+    
+    public String getCron() {
+        return cron;
+    }
+    
+    public void setCron(String cron) {
+        this.cron = cron;
+    }
+    
+    public int getTamanhoLote() {
+        return tamanhoLote;
+    }
+    
+    public void setTamanhoLote(int tamanhoLote) {
+        this.tamanhoLote = tamanhoLote;
+    }
+}
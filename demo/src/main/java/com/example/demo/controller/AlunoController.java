@@ -13,9 +13,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.example.demo.cache.EtagPorTabelas;
 import com.example.demo.dto.AlunoDTO;
 import com.example.demo.entity.Aluno;
 import com.example.demo.service.AlunoService;
@@ -41,12 +43,14 @@ public class AlunoController {
         return ResponseEntity.created(location).body(convertToDTO(aluno));
     }
 
+    @EtagPorTabelas("alunos")
     @GetMapping("/{id}")
     public ResponseEntity<AlunoDTO> buscarAluno(@PathVariable Long id) {
         Aluno aluno = alunoService.buscarPorId(id);
         return ResponseEntity.ok(convertToDTO(aluno));
     }
 
+    @EtagPorTabelas("alunos")
     @GetMapping
     public ResponseEntity<List<AlunoDTO>> listarAlunos() {
         List<AlunoDTO> alunos = alunoService.listarTodos()
@@ -56,6 +60,13 @@ public class AlunoController {
         return ResponseEntity.ok(alunos);
     }
 
+    @GetMapping("/sugestoes")
+    public ResponseEntity<List<AlunoDTO>> sugerirAlunos(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(alunoService.sugerir(q, limite));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<AlunoDTO> atualizarAluno(@PathVariable Long id, @RequestBody AlunoDTO alunoDTO) {
         Aluno aluno = new Aluno(alunoDTO.getNome(), alunoDTO.getCpf(), alunoDTO.getDataIngresso());
@@ -70,11 +81,6 @@ public class AlunoController {
     }
 
     private AlunoDTO convertToDTO(Aluno aluno) {
-        return new AlunoDTO(
-            aluno.getIdAluno(),
-            aluno.getNome(),
-            aluno.getCpf(),
-            aluno.getDataIngresso()
-        );
+        return new AlunoDTO(aluno);
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.example.demo.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.dto.ResultadoBuscaDTO;
+import com.example.demo.index.IndiceTextual;
+import com.example.demo.service.BuscaService;
+
+/**
+ * Controller da busca textual global
+ */
+@RestController
+@RequestMapping("/api/busca")
+public class BuscaController {
+
+    @Autowired
+    private BuscaService buscaService;
+
+    /**
+     * Busca o texto em exercícios, planos, planos de treino, itens de treino e avaliações físicas
+     * @param q Texto da busca
+     * @param tipo EXERCICIO, PLANO, PLANO_TREINO, ITEM_TREINO ou AVALIACAO_FISICA (omitir para todos)
+     * @param limite Quantidade máxima de resultados (máximo {@value IndiceTextual#LIMITE_MAXIMO})
+     * @return Resultados em ordem de relevância
+     */
+    @GetMapping
+    public ResponseEntity<List<ResultadoBuscaDTO>> buscar(
+            @RequestParam String q,
+            @RequestParam(required = false) String tipo,
+            @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(buscaService.buscar(q, tipo, limite));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.cache.CacheEntidades;
+import com.example.demo.cache.ContasReceberCache;
+import com.example.demo.cache.HistoricoAlunoCache;
+import com.example.demo.dto.EstatisticasCacheDTO;
+
+/**
+ * Controller para consulta das estatísticas dos caches da aplicação
+ */
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    @Autowired
+    private HistoricoAlunoCache historicoAlunoCache;
+
+    @Autowired
+    private ContasReceberCache contasReceberCache;
+
+    @Autowired
+    private CacheEntidades cacheEntidades;
+
+    /**
+     * Lista acertos, falhas, remoções e ocupação de cada cache
+     * 
+     * @return Estatísticas dos caches
+     */
+    @GetMapping("/estatisticas")
+    public ResponseEntity<List<EstatisticasCacheDTO>> listarEstatisticas() {
+        List<EstatisticasCacheDTO> estatisticas = new ArrayList<>();
+        estatisticas.add(historicoAlunoCache.estatisticas());
+        estatisticas.add(contasReceberCache.estatisticas());
+        estatisticas.addAll(cacheEntidades.estatisticas());
+        return ResponseEntity.ok(estatisticas);
+    }
+}
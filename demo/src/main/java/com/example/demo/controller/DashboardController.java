@@ -0,0 +1,30 @@
+package com.example.demo.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.dto.DashboardResumoDTO;
+import com.example.demo.service.DashboardService;
+
+/**
+ * Controller REST com os dados do dashboard
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    /**
+     * Retorna os indicadores gerais e as atividades recentes do sistema
+     * @return Resumo do dashboard
+     */
+    @GetMapping("/resumo")
+    public ResponseEntity<DashboardResumoDTO> buscarResumo() {
+        return ResponseEntity.ok(dashboardService.gerarResumo());
+    }
+}
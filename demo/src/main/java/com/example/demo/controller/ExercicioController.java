@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.example.demo.cache.EtagPorTabelas;
 import com.example.demo.dto.ExercicioRequestDTO;
 import com.example.demo.dto.ExercicioResponseDTO;
 import com.example.demo.entity.Exercicio;
@@ -73,6 +74,7 @@ public class ExercicioController {
      * @param id ID do exercício
      * @return Exercício encontrado
      */
+    @EtagPorTabelas("exercicios")
     @GetMapping("/{id}")
     public ResponseEntity<ExercicioResponseDTO> buscarExercicio(@PathVariable Long id) {
         Exercicio exercicio = exercicioService.buscarPorId(id);
@@ -83,6 +85,7 @@ public class ExercicioController {
      * Lista todos os exercícios cadastrados (ordenados por nome)
      * @return Lista de exercícios
      */
+    @EtagPorTabelas("exercicios")
     @GetMapping
     public ResponseEntity<List<ExercicioResponseDTO>> listarTodosExercicios() {
         List<ExercicioResponseDTO> exercicios = exercicioService.listarTodos()
@@ -131,6 +134,7 @@ public class ExercicioController {
      * @param grupoMuscular Nome do grupo muscular
      * @return Lista de exercícios do grupo muscular
      */
+    @EtagPorTabelas("exercicios")
     @GetMapping("/grupo-muscular/{grupoMuscular}")
     public ResponseEntity<List<ExercicioResponseDTO>> buscarPorGrupoMuscular(
             @PathVariable String grupoMuscular) {
@@ -148,6 +152,7 @@ public class ExercicioController {
      * @param nome Nome ou parte do nome do exercício
      * @return Lista de exercícios encontrados
      */
+    @EtagPorTabelas("exercicios")
     @GetMapping("/buscar")
     public ResponseEntity<List<ExercicioResponseDTO>> buscarPorNome(
             @RequestParam String nome) {
@@ -166,6 +171,7 @@ public class ExercicioController {
      * @param idPlanoTreino ID do plano de treino
      * @return Lista de exercícios disponíveis
      */
+    @EtagPorTabelas({"exercicios", "itens_treino", "planos_treino"})
     @GetMapping("/disponiveis/{idPlanoTreino}")
     public ResponseEntity<List<ExercicioResponseDTO>> buscarExerciciosDisponiveis(
             @PathVariable Long idPlanoTreino) {
@@ -185,11 +191,6 @@ public class ExercicioController {
      * @return DTO de resposta
      */
     private ExercicioResponseDTO convertToDTO(Exercicio exercicio) {
-        return new ExercicioResponseDTO(
-            exercicio.getIdExercicio(),
-            exercicio.getNome(),
-            exercicio.getGrupoMuscular(),
-            exercicio.getDescricao()
-        );
+        return new ExercicioResponseDTO(exercicio);
     }
 }
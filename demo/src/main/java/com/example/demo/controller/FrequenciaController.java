@@ -7,7 +7,9 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Window;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,13 +21,22 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.demo.cache.EtagPorTabelas;
 import com.example.demo.dto.FrequenciaRequestDTO;
 import com.example.demo.dto.FrequenciaResponseDTO;
+import com.example.demo.dto.PaginaDTO;
+import com.example.demo.dto.ResultadoFrequenciaLoteDTO;
 import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Frequencia;
+import com.example.demo.exportacao.ColunaCsv;
+import com.example.demo.exportacao.EscritorExportacao;
+import com.example.demo.exportacao.FormatoExportacao;
+import com.example.demo.paginacao.OrdenacaoKeyset;
 import com.example.demo.service.AlunoService;
 import com.example.demo.service.FrequenciaService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.validation.Valid;
 
@@ -36,12 +47,26 @@ import jakarta.validation.Valid;
 @RequestMapping("/api/frequencias")
 public class FrequenciaController {
     
+    private static final OrdenacaoKeyset ORDENACAO = new OrdenacaoKeyset("data", "idFrequencia");
+    
+    private static final List<ColunaCsv<FrequenciaResponseDTO>> COLUNAS_CSV = List.of(
+        new ColunaCsv<>("idFrequencia", FrequenciaResponseDTO::getIdFrequencia),
+        new ColunaCsv<>("idAluno", FrequenciaResponseDTO::getIdAluno),
+        new ColunaCsv<>("nomeAluno", FrequenciaResponseDTO::getNomeAluno),
+        new ColunaCsv<>("cpfAluno", FrequenciaResponseDTO::getCpfAluno),
+        new ColunaCsv<>("data", FrequenciaResponseDTO::getData),
+        new ColunaCsv<>("presenca", FrequenciaResponseDTO::getPresenca)
+    );
+    
     @Autowired
     private FrequenciaService frequenciaService;
     
     @Autowired
     private AlunoService alunoService;
     
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     /**
      * Registra uma nova presença
      * @param dto Dados da frequência
@@ -61,10 +86,23 @@ public class FrequenciaController {
         return new ResponseEntity<>(convertToResponseDTO(saved), HttpStatus.CREATED);
     }
     
+    /**
+     * Registra as frequências de vários alunos em uma única requisição
+     * Entradas inválidas não impedem o registro das demais; o motivo de cada rejeição vem no resultado
+     * @param entradas Lista de (idAluno, data, presenca), com no máximo {@value FrequenciaService#LIMITE_LOTE} itens
+     * @return Resultado de cada entrada
+     */
+    @PostMapping("/lote")
+    public ResponseEntity<List<ResultadoFrequenciaLoteDTO>> registrarPresencasEmLote(
+            @RequestBody List<FrequenciaRequestDTO> entradas) {
+        return ResponseEntity.ok(frequenciaService.registrarPresencasEmLote(entradas));
+    }
+    
     /**
      * Lista todas as frequências
      * @return Lista de frequências
      */
+    @EtagPorTabelas({"frequencia", "alunos"})
     @GetMapping
     public ResponseEntity<List<FrequenciaResponseDTO>> listarFrequencias() {
         List<Frequencia> frequencias = frequenciaService.listarTodos();
@@ -74,11 +112,30 @@ public class FrequenciaController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Lista frequências paginados por cursor, do mais recente para o mais antigo por padrão
+     * @param limite Quantidade de registros por página (máximo {@value OrdenacaoKeyset#LIMITE_MAXIMO})
+     * @param apos Cursor retornado em proximoCursor pela página anterior (omitir na primeira página)
+     * @param ordem asc ou desc
+     * @return Página de frequências e cursor da próxima página
+     */
+    @EtagPorTabelas({"frequencia", "alunos"})
+    @GetMapping(params = "limite")
+    public ResponseEntity<PaginaDTO<FrequenciaResponseDTO>> listarFrequenciasPaginadas(
+            @RequestParam Integer limite,
+            @RequestParam(required = false) String apos,
+            @RequestParam(defaultValue = "desc") String ordem) {
+        Window<Frequencia> pagina = frequenciaService.listarPagina(
+            ORDENACAO.posicao(apos), ORDENACAO.ordenacao(ordem), OrdenacaoKeyset.limite(limite));
+        return ResponseEntity.ok(PaginaDTO.de(pagina, this::convertToResponseDTO, ORDENACAO.proximoCursor(pagina)));
+    }
+    
     /**
      * Busca uma frequência por ID
      * @param id ID da frequência
      * @return Frequência encontrada
      */
+    @EtagPorTabelas({"frequencia", "alunos"})
     @GetMapping("/{id}")
     public ResponseEntity<FrequenciaResponseDTO> buscarPorId(@PathVariable Long id) {
         Frequencia frequencia = frequenciaService.buscarPorId(id);
@@ -90,6 +147,7 @@ public class FrequenciaController {
      * @param idAluno ID do aluno
      * @return Lista de frequências
      */
+    @EtagPorTabelas({"frequencia", "alunos"})
     @GetMapping("/aluno/{idAluno}")
     public ResponseEntity<List<FrequenciaResponseDTO>> listarPorAluno(@PathVariable Long idAluno) {
         Aluno aluno = alunoService.buscarPorId(idAluno);
@@ -100,12 +158,27 @@ public class FrequenciaController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Lista frequências de vários alunos em uma única consulta
+     * @param ids IDs dos alunos (ex: ?ids=1,2,3), no máximo {@value FrequenciaService#LIMITE_ALUNOS}
+     * @return Lista de frequências, das mais recentes para as mais antigas
+     */
+    @EtagPorTabelas({"frequencia", "alunos"})
+    @GetMapping("/alunos")
+    public ResponseEntity<List<FrequenciaResponseDTO>> listarPorAlunos(@RequestParam List<Long> ids) {
+        List<FrequenciaResponseDTO> response = frequenciaService.listarPorAlunos(ids).stream()
+            .map(this::convertToResponseDTO)
+            .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Busca frequência de um aluno em uma data específica
      * @param idAluno ID do aluno
      * @param data Data
      * @return Frequência encontrada
      */
+    @EtagPorTabelas({"frequencia", "alunos"})
     @GetMapping("/aluno/{idAluno}/data/{data}")
     public ResponseEntity<FrequenciaResponseDTO> buscarPorAlunoEData(
             @PathVariable Long idAluno,
@@ -120,6 +193,7 @@ public class FrequenciaController {
      * @param data Data
      * @return Lista de frequências
      */
+    @EtagPorTabelas({"frequencia", "alunos"})
     @GetMapping("/data/{data}")
     public ResponseEntity<List<FrequenciaResponseDTO>> listarPorData(
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate data) {
@@ -135,6 +209,7 @@ public class FrequenciaController {
      * @param data Data
      * @return Lista de alunos presentes
      */
+    @EtagPorTabelas({"frequencia", "alunos"})
     @GetMapping("/presencas/data/{data}")
     public ResponseEntity<List<FrequenciaResponseDTO>> listarPresencasPorData(
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate data) {
@@ -151,6 +226,7 @@ public class FrequenciaController {
      * @param dataFim Data final
      * @return Lista de frequências
      */
+    @EtagPorTabelas({"frequencia", "alunos"})
     @GetMapping("/periodo")
     public ResponseEntity<List<FrequenciaResponseDTO>> buscarPorPeriodo(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
@@ -162,6 +238,35 @@ public class FrequenciaController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Exporta os registros de frequência de um período em NDJSON (um JSON por linha) ou CSV
+     * Os registros são escritos na resposta conforme são lidos do banco
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @param formato ndjson (padrão) ou csv
+     * @return Arquivo com os registros de frequência do período
+     */
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportarPorPeriodo(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @RequestParam(defaultValue = "ndjson") String formato) {
+        FormatoExportacao formatoExportacao = FormatoExportacao.de(formato);
+        frequenciaService.validarPeriodo(dataInicio, dataFim);
+        
+        StreamingResponseBody corpo = saida -> {
+            try (EscritorExportacao<FrequenciaResponseDTO> escritor =
+                    new EscritorExportacao<>(formatoExportacao, saida, objectMapper, COLUNAS_CSV)) {
+                frequenciaService.exportarPorPeriodo(dataInicio, dataFim, escritor);
+            }
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(formatoExportacao.getTipoConteudo())
+            .header(HttpHeaders.CONTENT_DISPOSITION, formatoExportacao.anexo("frequencias", dataInicio, dataFim))
+            .body(corpo);
+    }
+    
     /**
      * Busca frequências de um aluno em um período
      * @param idAluno ID do aluno
@@ -169,6 +274,7 @@ public class FrequenciaController {
      * @param dataFim Data final
      * @return Lista de frequências
      */
+    @EtagPorTabelas({"frequencia", "alunos"})
     @GetMapping("/aluno/{idAluno}/periodo")
     public ResponseEntity<List<FrequenciaResponseDTO>> buscarPorAlunoEPeriodo(
             @PathVariable Long idAluno,
@@ -220,6 +326,24 @@ public class FrequenciaController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Retorna as sequências de dias consecutivos com presença de um aluno
+     * @param idAluno ID do aluno
+     * @return Sequência atual e maior sequência
+     */
+    @GetMapping("/aluno/{idAluno}/sequencia")
+    public ResponseEntity<Map<String, Object>> calcularSequencias(@PathVariable Long idAluno) {
+        Aluno aluno = alunoService.buscarPorId(idAluno);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("idAluno", idAluno);
+        response.put("nomeAluno", aluno.getNome());
+        response.put("sequenciaAtual", frequenciaService.calcularSequenciaAtual(aluno));
+        response.put("maiorSequencia", frequenciaService.calcularMaiorSequencia(aluno));
+        
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Atualiza um registro de frequência
      * @param id ID da frequência
@@ -259,13 +383,6 @@ public class FrequenciaController {
      * @return DTO de resposta
      */
     private FrequenciaResponseDTO convertToResponseDTO(Frequencia frequencia) {
-        return new FrequenciaResponseDTO(
-            frequencia.getIdFrequencia(),
-            frequencia.getAluno().getIdAluno(),
-            frequencia.getAluno().getNome(),
-            frequencia.getAluno().getCpf(),
-            frequencia.getData(),
-            frequencia.getPresenca()
-        );
+        return new FrequenciaResponseDTO(frequencia);
     }
 }
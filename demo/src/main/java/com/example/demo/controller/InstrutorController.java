@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.example.demo.cache.EtagPorTabelas;
 import com.example.demo.dto.InstrutorDTO;
 import com.example.demo.entity.Instrutor;
 import com.example.demo.service.InstrutorService;
@@ -41,12 +42,14 @@ public class InstrutorController {
         return ResponseEntity.created(location).body(convertToDTO(instrutor));
     }
 
+    @EtagPorTabelas("instrutores")
     @GetMapping("/{id}")
     public ResponseEntity<InstrutorDTO> buscarInstrutor(@PathVariable Long id) {
         Instrutor instrutor = instrutorService.buscarPorId(id);
         return ResponseEntity.ok(convertToDTO(instrutor));
     }
 
+    @EtagPorTabelas("instrutores")
     @GetMapping
     public ResponseEntity<List<InstrutorDTO>> listarInstrutores() {
         List<InstrutorDTO> instrutores = instrutorService.listarTodos()
@@ -70,10 +73,6 @@ public class InstrutorController {
     }
 
     private InstrutorDTO convertToDTO(Instrutor instrutor) {
-        return new InstrutorDTO(
-            instrutor.getIdInstrutor(),
-            instrutor.getNome(),
-            instrutor.getEspecialidade()
-        );
+        return new InstrutorDTO(instrutor);
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Window;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,14 +15,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.example.demo.cache.EtagPorTabelas;
 import com.example.demo.dto.ItemTreinoRequestDTO;
 import com.example.demo.dto.ItemTreinoResponseDTO;
+import com.example.demo.dto.PaginaDTO;
 import com.example.demo.entity.Exercicio;
 import com.example.demo.entity.ItemTreino;
 import com.example.demo.entity.PlanoTreino;
+import com.example.demo.paginacao.OrdenacaoKeyset;
 import com.example.demo.service.ExercicioService;
 import com.example.demo.service.ItemTreinoService;
 import com.example.demo.service.PlanoTreinoService;
@@ -38,6 +43,8 @@ import jakarta.validation.Valid;
 @Validated
 public class ItemTreinoController {
     
+    private static final OrdenacaoKeyset ORDENACAO = new OrdenacaoKeyset("idItemTreino");
+    
     @Autowired
     private ItemTreinoService itemTreinoService;
     
@@ -84,6 +91,7 @@ public class ItemTreinoController {
      * Lista todos os itens de treino
      * @return Lista de todos os itens de treino
      */
+    @EtagPorTabelas({"itens_treino", "planos_treino", "alunos", "exercicios"})
     @GetMapping
     public ResponseEntity<List<ItemTreinoResponseDTO>> listarTodosItens() {
         List<ItemTreinoResponseDTO> itens = itemTreinoService.listarTodos()
@@ -94,11 +102,30 @@ public class ItemTreinoController {
         return ResponseEntity.ok(itens);
     }
     
+    /**
+     * Lista itens de treino paginados por cursor, do mais recente para o mais antigo (por ID) por padrão
+     * @param limite Quantidade de registros por página (máximo {@value OrdenacaoKeyset#LIMITE_MAXIMO})
+     * @param apos Cursor retornado em proximoCursor pela página anterior (omitir na primeira página)
+     * @param ordem asc ou desc
+     * @return Página de itens de treino e cursor da próxima página
+     */
+    @EtagPorTabelas({"itens_treino", "planos_treino", "alunos", "exercicios"})
+    @GetMapping(params = "limite")
+    public ResponseEntity<PaginaDTO<ItemTreinoResponseDTO>> listarItensPaginados(
+            @RequestParam Integer limite,
+            @RequestParam(required = false) String apos,
+            @RequestParam(defaultValue = "desc") String ordem) {
+        Window<ItemTreino> pagina = itemTreinoService.listarPagina(
+            ORDENACAO.posicao(apos), ORDENACAO.ordenacao(ordem), OrdenacaoKeyset.limite(limite));
+        return ResponseEntity.ok(PaginaDTO.de(pagina, this::convertToDTO, ORDENACAO.proximoCursor(pagina)));
+    }
+    
     /**
      * Busca um item de treino por ID
      * @param id ID do item de treino
      * @return Item de treino encontrado
      */
+    @EtagPorTabelas({"itens_treino", "planos_treino", "alunos", "exercicios"})
     @GetMapping("/{id}")
     public ResponseEntity<ItemTreinoResponseDTO> buscarItemTreino(@PathVariable Long id) {
         ItemTreino itemTreino = itemTreinoService.buscarPorId(id);
@@ -151,6 +178,7 @@ public class ItemTreinoController {
      * @param idPlanoTreino ID do plano de treino
      * @return Lista de exercícios do plano com suas configurações
      */
+    @EtagPorTabelas({"itens_treino", "planos_treino", "alunos", "exercicios"})
     @GetMapping("/plano/{idPlanoTreino}")
     public ResponseEntity<List<ItemTreinoResponseDTO>> listarExerciciosDoPlano(
             @PathVariable Long idPlanoTreino) {
@@ -170,21 +198,6 @@ public class ItemTreinoController {
      * @return DTO de resposta
      */
     private ItemTreinoResponseDTO convertToDTO(ItemTreino itemTreino) {
-        String planoDescricao = itemTreino.getPlanoTreino().getDescricao() != null 
-            ? itemTreino.getPlanoTreino().getDescricao() 
-            : "Plano " + itemTreino.getPlanoTreino().getAluno().getNome();
-            
-        return new ItemTreinoResponseDTO(
-            itemTreino.getIdItemTreino(),
-            itemTreino.getPlanoTreino().getIdPlanoTreino(),
-            planoDescricao,
-            itemTreino.getExercicio().getIdExercicio(),
-            itemTreino.getExercicio().getNome(),
-            itemTreino.getExercicio().getGrupoMuscular(),
-            itemTreino.getSeries(),
-            itemTreino.getRepeticoes(),
-            itemTreino.getCarga(),
-            itemTreino.getObservacoes()
-        );
+        return new ItemTreinoResponseDTO(itemTreino);
     }
 }
@@ -1,9 +1,12 @@
 package com.example.demo.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Window;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,18 +17,27 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.cache.EtagPorTabelas;
+import com.example.demo.dto.ContaReceberDTO;
 import com.example.demo.dto.MatriculaRequestDTO;
 import com.example.demo.dto.MatriculaResponseDTO;
+import com.example.demo.dto.PaginaDTO;
+import com.example.demo.dto.ResultadoTransicaoDTO;
+import com.example.demo.dto.TransicaoMatriculasRequestDTO;
 import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Matricula;
 import com.example.demo.entity.Plano;
 import com.example.demo.enums.MatriculaStatus;
 import com.example.demo.exception.MatriculaException;
+import com.example.demo.paginacao.OrdenacaoKeyset;
 import com.example.demo.service.AlunoService;
+import com.example.demo.service.ContasReceberService;
 import com.example.demo.service.MatriculaService;
 import com.example.demo.service.PlanoService;
+import com.example.demo.service.TransicaoMatriculaService;
 
 import jakarta.validation.Valid;
 
@@ -33,6 +45,8 @@ import jakarta.validation.Valid;
 @RequestMapping("/api/matriculas")
 public class MatriculaController {
     
+    private static final OrdenacaoKeyset ORDENACAO = new OrdenacaoKeyset("dataInicio", "idMatricula");
+    
     @Autowired
     private MatriculaService matriculaService;
     
@@ -42,6 +56,12 @@ public class MatriculaController {
     @Autowired
     private PlanoService planoService;
     
+    @Autowired
+    private ContasReceberService contasReceberService;
+    
+    @Autowired
+    private TransicaoMatriculaService transicaoMatriculaService;
+    
     @PostMapping
     public ResponseEntity<MatriculaResponseDTO> criarMatricula(@Valid @RequestBody MatriculaRequestDTO dto) {
         Aluno aluno = alunoService.buscarPorId(dto.getIdAluno());
@@ -59,6 +79,7 @@ public class MatriculaController {
         return new ResponseEntity<>(new MatriculaResponseDTO(saved), HttpStatus.CREATED);
     }
     
+    @EtagPorTabelas({"matriculas", "alunos", "planos"})
     @GetMapping
     public ResponseEntity<List<MatriculaResponseDTO>> listarMatriculas() {
         List<Matricula> matriculas = matriculaService.listarTodasMatriculas();
@@ -68,12 +89,39 @@ public class MatriculaController {
         return ResponseEntity.ok(response);
     }
     
+    @EtagPorTabelas({"matriculas", "alunos", "planos"})
+    @GetMapping(params = "limite")
+    public ResponseEntity<PaginaDTO<MatriculaResponseDTO>> listarMatriculasPaginadas(
+            @RequestParam Integer limite,
+            @RequestParam(required = false) String apos,
+            @RequestParam(defaultValue = "desc") String ordem) {
+        Window<Matricula> pagina = matriculaService.listarPaginaMatriculas(
+            ORDENACAO.posicao(apos), ORDENACAO.ordenacao(ordem), OrdenacaoKeyset.limite(limite));
+        return ResponseEntity.ok(PaginaDTO.de(pagina, MatriculaResponseDTO::new, ORDENACAO.proximoCursor(pagina)));
+    }
+    
+    @GetMapping("/inadimplentes")
+    public ResponseEntity<List<ContaReceberDTO>> listarInadimplentes() {
+        return ResponseEntity.ok(contasReceberService.listarInadimplentes());
+    }
+    
+    @GetMapping("/contas-receber")
+    public ResponseEntity<PaginaDTO<ContaReceberDTO>> listarContasReceber(
+            @RequestParam(required = false) Integer limite,
+            @RequestParam(required = false) String apos,
+            @RequestParam(required = false) MatriculaStatus status,
+            @RequestParam(required = false) Boolean emDia) {
+        return ResponseEntity.ok(contasReceberService.listarPagina(status, emDia, apos, limite));
+    }
+    
+    @EtagPorTabelas({"matriculas", "alunos", "planos"})
     @GetMapping("/{id}")
     public ResponseEntity<MatriculaResponseDTO> buscarPorId(@PathVariable Long id) {
         Matricula matricula = matriculaService.buscarMatriculaPorId(id);
         return ResponseEntity.ok(new MatriculaResponseDTO(matricula));
     }
     
+    @EtagPorTabelas({"matriculas", "alunos", "planos"})
     @GetMapping("/aluno/{idAluno}")
     public ResponseEntity<List<MatriculaResponseDTO>> buscarPorAluno(@PathVariable Long idAluno) {
         Aluno aluno = alunoService.buscarPorId(idAluno);
@@ -84,6 +132,21 @@ public class MatriculaController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Lista as matrículas de vários alunos em uma única consulta
+     * @param ids IDs dos alunos (ex: ?ids=1,2,3), no máximo {@value MatriculaService#LIMITE_ALUNOS}
+     * @return Matrículas ordenadas pelo nome do aluno
+     */
+    @EtagPorTabelas({"matriculas", "alunos", "planos"})
+    @GetMapping("/alunos")
+    public ResponseEntity<List<MatriculaResponseDTO>> buscarPorAlunos(@RequestParam List<Long> ids) {
+        List<MatriculaResponseDTO> response = matriculaService.listarMatriculasPorAlunos(ids).stream()
+            .map(MatriculaResponseDTO::new)
+            .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+    
+    @EtagPorTabelas({"matriculas", "alunos", "planos"})
     @GetMapping("/plano/{idPlano}")
     public ResponseEntity<List<MatriculaResponseDTO>> buscarPorPlano(@PathVariable Long idPlano) {
         Plano plano = planoService.buscarPlanoPorId(idPlano);
@@ -94,6 +157,7 @@ public class MatriculaController {
         return ResponseEntity.ok(response);
     }
     
+    @EtagPorTabelas({"matriculas", "alunos", "planos"})
     @GetMapping("/status/{status}")
     public ResponseEntity<List<MatriculaResponseDTO>> buscarPorStatus(@PathVariable MatriculaStatus status) {
         List<Matricula> matriculas = matriculaService.listarMatriculasPorStatus(status);
@@ -143,6 +207,17 @@ public class MatriculaController {
         return ResponseEntity.ok(new MatriculaResponseDTO(matricula));
     }
     
+    @PostMapping("/expirar")
+    public ResponseEntity<ResultadoTransicaoDTO> expirarMatriculas(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataReferencia) {
+        return ResponseEntity.ok(transicaoMatriculaService.expirarVencidas(dataReferencia));
+    }
+    
+    @PostMapping("/transicao")
+    public ResponseEntity<ResultadoTransicaoDTO> alterarStatusEmLote(@Valid @RequestBody TransicaoMatriculasRequestDTO dto) {
+        return ResponseEntity.ok(transicaoMatriculaService.alterarStatus(dto.getIds(), dto.getStatus()));
+    }
+    
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletarMatricula(@PathVariable Long id) {
         matriculaService.deletarMatricula(id);
@@ -5,7 +5,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Window;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,13 +19,21 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.demo.cache.EtagPorTabelas;
 import com.example.demo.dto.PagamentoRequestDTO;
 import com.example.demo.dto.PagamentoResponseDTO;
+import com.example.demo.dto.PaginaDTO;
 import com.example.demo.entity.Matricula;
 import com.example.demo.entity.Pagamento;
+import com.example.demo.exportacao.ColunaCsv;
+import com.example.demo.exportacao.EscritorExportacao;
+import com.example.demo.exportacao.FormatoExportacao;
+import com.example.demo.paginacao.OrdenacaoKeyset;
 import com.example.demo.service.MatriculaService;
 import com.example.demo.service.PagamentoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.validation.Valid;
 
@@ -34,12 +44,27 @@ import jakarta.validation.Valid;
 @RequestMapping("/api/pagamentos")
 public class PagamentoController {
     
+    private static final OrdenacaoKeyset ORDENACAO = new OrdenacaoKeyset("dataPagamento", "idPagamento");
+    
+    private static final List<ColunaCsv<PagamentoResponseDTO>> COLUNAS_CSV = List.of(
+        new ColunaCsv<>("idPagamento", PagamentoResponseDTO::getIdPagamento),
+        new ColunaCsv<>("idMatricula", PagamentoResponseDTO::getIdMatricula),
+        new ColunaCsv<>("nomeAluno", PagamentoResponseDTO::getNomeAluno),
+        new ColunaCsv<>("nomePlano", PagamentoResponseDTO::getNomePlano),
+        new ColunaCsv<>("dataPagamento", PagamentoResponseDTO::getDataPagamento),
+        new ColunaCsv<>("valorPago", PagamentoResponseDTO::getValorPago),
+        new ColunaCsv<>("formaPagamento", PagamentoResponseDTO::getFormaPagamento)
+    );
+    
     @Autowired
     private PagamentoService pagamentoService;
     
     @Autowired
     private MatriculaService matriculaService;
     
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     /**
      * Registra um novo pagamento
      * @param dto Dados do pagamento
@@ -64,6 +89,7 @@ public class PagamentoController {
      * Lista todos os pagamentos
      * @return Lista de pagamentos
      */
+    @EtagPorTabelas({"pagamentos", "matriculas", "alunos", "planos"})
     @GetMapping
     public ResponseEntity<List<PagamentoResponseDTO>> listarPagamentos() {
         List<Pagamento> pagamentos = pagamentoService.listarTodos();
@@ -73,11 +99,30 @@ public class PagamentoController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Lista pagamentos paginados por cursor, do mais recente para o mais antigo por padrão
+     * @param limite Quantidade de registros por página (máximo {@value OrdenacaoKeyset#LIMITE_MAXIMO})
+     * @param apos Cursor retornado em proximoCursor pela página anterior (omitir na primeira página)
+     * @param ordem asc ou desc
+     * @return Página de pagamentos e cursor da próxima página
+     */
+    @EtagPorTabelas({"pagamentos", "matriculas", "alunos", "planos"})
+    @GetMapping(params = "limite")
+    public ResponseEntity<PaginaDTO<PagamentoResponseDTO>> listarPagamentosPaginados(
+            @RequestParam Integer limite,
+            @RequestParam(required = false) String apos,
+            @RequestParam(defaultValue = "desc") String ordem) {
+        Window<Pagamento> pagina = pagamentoService.listarPagina(
+            ORDENACAO.posicao(apos), ORDENACAO.ordenacao(ordem), OrdenacaoKeyset.limite(limite));
+        return ResponseEntity.ok(PaginaDTO.de(pagina, this::convertToResponseDTO, ORDENACAO.proximoCursor(pagina)));
+    }
+    
     /**
      * Busca um pagamento por ID
      * @param id ID do pagamento
      * @return Pagamento encontrado
      */
+    @EtagPorTabelas({"pagamentos", "matriculas", "alunos", "planos"})
     @GetMapping("/{id}")
     public ResponseEntity<PagamentoResponseDTO> buscarPorId(@PathVariable Long id) {
         Pagamento pagamento = pagamentoService.buscarPorId(id);
@@ -89,6 +134,7 @@ public class PagamentoController {
      * @param idMatricula ID da matrícula
      * @return Lista de pagamentos
      */
+    @EtagPorTabelas({"pagamentos", "matriculas", "alunos", "planos"})
     @GetMapping("/matricula/{idMatricula}")
     public ResponseEntity<List<PagamentoResponseDTO>> listarPorMatricula(@PathVariable Long idMatricula) {
         Matricula matricula = matriculaService.buscarMatriculaPorId(idMatricula);
@@ -105,6 +151,7 @@ public class PagamentoController {
      * @param dataFim Data final
      * @return Lista de pagamentos
      */
+    @EtagPorTabelas({"pagamentos", "matriculas", "alunos", "planos"})
     @GetMapping("/periodo")
     public ResponseEntity<List<PagamentoResponseDTO>> buscarPorPeriodo(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
@@ -116,11 +163,42 @@ public class PagamentoController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Exporta os pagamentos de um período em NDJSON (um JSON por linha) ou CSV
+     * Os registros são escritos na resposta conforme são lidos do banco
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @param formato ndjson (padrão) ou csv
+     * @return Arquivo com os pagamentos do período
+     */
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportarPorPeriodo(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @RequestParam(defaultValue = "ndjson") String formato) {
+        FormatoExportacao formatoExportacao = FormatoExportacao.de(formato);
+        // Valida antes de iniciar a resposta, para que erros ainda possam ser retornados como 400
+        pagamentoService.validarPeriodo(dataInicio, dataFim);
+        
+        StreamingResponseBody corpo = saida -> {
+            try (EscritorExportacao<PagamentoResponseDTO> escritor =
+                    new EscritorExportacao<>(formatoExportacao, saida, objectMapper, COLUNAS_CSV)) {
+                pagamentoService.exportarPorPeriodo(dataInicio, dataFim, escritor);
+            }
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(formatoExportacao.getTipoConteudo())
+            .header(HttpHeaders.CONTENT_DISPOSITION, formatoExportacao.anexo("pagamentos", dataInicio, dataFim))
+            .body(corpo);
+    }
+    
     /**
      * Busca pagamentos por forma de pagamento
      * @param formaPagamento Forma de pagamento (ex: DINHEIRO, CARTAO, PIX)
      * @return Lista de pagamentos
      */
+    @EtagPorTabelas({"pagamentos", "matriculas", "alunos", "planos"})
     @GetMapping("/forma-pagamento/{formaPagamento}")
     public ResponseEntity<List<PagamentoResponseDTO>> buscarPorFormaPagamento(@PathVariable String formaPagamento) {
         List<Pagamento> pagamentos = pagamentoService.buscarPorFormaPagamento(formaPagamento);
@@ -135,6 +213,7 @@ public class PagamentoController {
      * @param idMatricula ID da matrícula
      * @return Total pago
      */
+    @EtagPorTabelas({"pagamentos", "matriculas", "alunos", "planos"})
     @GetMapping("/matricula/{idMatricula}/total")
     public ResponseEntity<String> calcularTotalPago(@PathVariable Long idMatricula) {
         Matricula matricula = matriculaService.buscarMatriculaPorId(idMatricula);
@@ -189,18 +268,11 @@ public class PagamentoController {
     
     /**
      * Converte Pagamento para PagamentoResponseDTO
+     * Público para ser medido pelos benchmarks (src/jmh); não é um endpoint
      * @param pagamento Pagamento
      * @return DTO de resposta
      */
-    private PagamentoResponseDTO convertToResponseDTO(Pagamento pagamento) {
-        return new PagamentoResponseDTO(
-            pagamento.getIdPagamento(),
-            pagamento.getMatricula().getIdMatricula(),
-            pagamento.getMatricula().getAluno().getNome(),
-            pagamento.getMatricula().getPlano().getNome(),
-            pagamento.getDataPagamento(),
-            pagamento.getValorPago(),
-            pagamento.getFormaPagamento()
-        );
+    public PagamentoResponseDTO convertToResponseDTO(Pagamento pagamento) {
+        return new PagamentoResponseDTO(pagamento);
     }
 }
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.cache.EtagPorTabelas;
 import com.example.demo.dto.PlanoRequestDTO;
 import com.example.demo.dto.PlanoResponseDTO;
 import com.example.demo.entity.Plano;
@@ -36,6 +37,7 @@ public class PlanoController {
         return new ResponseEntity<>(new PlanoResponseDTO(salvo), HttpStatus.CREATED);
     }
     
+    @EtagPorTabelas("planos")
     @GetMapping
     public ResponseEntity<List<PlanoResponseDTO>> listarPlanos() {
         List<Plano> planos = planoService.listarTodosPlanos();
@@ -43,6 +45,7 @@ public class PlanoController {
         return ResponseEntity.ok(response);
     }
     
+    @EtagPorTabelas("planos")
     @GetMapping("/{id}")
     public ResponseEntity<PlanoResponseDTO> buscarPorId(@PathVariable Long id) {
         Plano plano = planoService.buscarPlanoPorId(id);
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Window;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,11 +19,14 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.example.demo.cache.EtagPorTabelas;
 import com.example.demo.dto.PlanoTreinoRequestDTO;
 import com.example.demo.dto.PlanoTreinoResponseDTO;
+import com.example.demo.dto.PaginaDTO;
 import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Instrutor;
 import com.example.demo.entity.PlanoTreino;
+import com.example.demo.paginacao.OrdenacaoKeyset;
 import com.example.demo.service.AlunoService;
 import com.example.demo.service.InstrutorService;
 import com.example.demo.service.PlanoTreinoService;
@@ -38,6 +42,8 @@ import jakarta.validation.Valid;
 @Validated
 public class PlanoTreinoController {
     
+    private static final OrdenacaoKeyset ORDENACAO = new OrdenacaoKeyset("dataCriacao", "idPlanoTreino");
+    
     @Autowired
     private PlanoTreinoService planoTreinoService;
     
@@ -83,6 +89,7 @@ public class PlanoTreinoController {
      * Lista todos os planos de treino
      * @return Lista de todos os planos de treino
      */
+    @EtagPorTabelas({"planos_treino", "alunos", "instrutores"})
     @GetMapping
     public ResponseEntity<List<PlanoTreinoResponseDTO>> listarTodosPlanos() {
         List<PlanoTreinoResponseDTO> planos = planoTreinoService.listarTodos()
@@ -93,11 +100,30 @@ public class PlanoTreinoController {
         return ResponseEntity.ok(planos);
     }
     
+    /**
+     * Lista planos de treino paginados por cursor, do mais recente para o mais antigo por padrão
+     * @param limite Quantidade de registros por página (máximo {@value OrdenacaoKeyset#LIMITE_MAXIMO})
+     * @param apos Cursor retornado em proximoCursor pela página anterior (omitir na primeira página)
+     * @param ordem asc ou desc
+     * @return Página de planos de treino e cursor da próxima página
+     */
+    @EtagPorTabelas({"planos_treino", "alunos", "instrutores"})
+    @GetMapping(params = "limite")
+    public ResponseEntity<PaginaDTO<PlanoTreinoResponseDTO>> listarPlanosPaginados(
+            @RequestParam Integer limite,
+            @RequestParam(required = false) String apos,
+            @RequestParam(defaultValue = "desc") String ordem) {
+        Window<PlanoTreino> pagina = planoTreinoService.listarPagina(
+            ORDENACAO.posicao(apos), ORDENACAO.ordenacao(ordem), OrdenacaoKeyset.limite(limite));
+        return ResponseEntity.ok(PaginaDTO.de(pagina, this::convertToDTO, ORDENACAO.proximoCursor(pagina)));
+    }
+    
     /**
      * Busca um plano de treino por ID
      * @param id ID do plano de treino
      * @return Plano de treino encontrado
      */
+    @EtagPorTabelas({"planos_treino", "alunos", "instrutores"})
     @GetMapping("/{id}")
     public ResponseEntity<PlanoTreinoResponseDTO> buscarPlanoTreino(@PathVariable Long id) {
         PlanoTreino planoTreino = planoTreinoService.buscarPorId(id);
@@ -147,6 +173,7 @@ public class PlanoTreinoController {
      * @param idAluno ID do aluno
      * @return Lista de planos de treino
      */
+    @EtagPorTabelas({"planos_treino", "alunos", "instrutores"})
     @GetMapping("/aluno/{idAluno}")
     public ResponseEntity<List<PlanoTreinoResponseDTO>> listarPlanosPorAluno(
             @PathVariable Long idAluno) {
@@ -165,6 +192,7 @@ public class PlanoTreinoController {
      * @param idInstrutor ID do instrutor
      * @return Lista de planos de treino
      */
+    @EtagPorTabelas({"planos_treino", "alunos", "instrutores"})
     @GetMapping("/instrutor/{idInstrutor}")
     public ResponseEntity<List<PlanoTreinoResponseDTO>> listarPlanosPorInstrutor(
             @PathVariable Long idInstrutor) {
@@ -184,6 +212,7 @@ public class PlanoTreinoController {
      * @param limit Número máximo de resultados
      * @return Lista de planos de treino mais recentes
      */
+    @EtagPorTabelas({"planos_treino", "alunos", "instrutores"})
     @GetMapping("/aluno/{idAluno}/recentes")
     public ResponseEntity<List<PlanoTreinoResponseDTO>> buscarPlanosRecentes(
             @PathVariable Long idAluno,
@@ -204,38 +233,6 @@ public class PlanoTreinoController {
      * @return DTO de resposta
      */
     private PlanoTreinoResponseDTO convertToDTO(PlanoTreino planoTreino) {
-        Long alunoId = null;
-        String alunoNome = "[Aluno Removido]";
-        Long instrutorId = null;
-        String instrutorNome = "[Instrutor Removido]";
-        
-        try {
-            if (planoTreino.getAluno() != null) {
-                alunoId = planoTreino.getAluno().getIdAluno();
-                alunoNome = planoTreino.getAluno().getNome();
-            }
-        } catch (Exception e) {
-            // Aluno foi removido, usar valores padrão
-        }
-        
-        try {
-            if (planoTreino.getInstrutor() != null) {
-                instrutorId = planoTreino.getInstrutor().getIdInstrutor();
-                instrutorNome = planoTreino.getInstrutor().getNome();
-            }
-        } catch (Exception e) {
-            // Instrutor foi removido, usar valores padrão
-        }
-        
-        return new PlanoTreinoResponseDTO(
-            planoTreino.getIdPlanoTreino(),
-            alunoId,
-            alunoNome,
-            instrutorId,
-            instrutorNome,
-            planoTreino.getDataCriacao(),
-            planoTreino.getDescricao(),
-            planoTreino.getDuracaoSemanas()
-        );
+        return new PlanoTreinoResponseDTO(planoTreino);
     }
 }
@@ -0,0 +1,58 @@
+package com.example.demo.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.dto.ResumoDiarioDTO;
+import com.example.demo.service.ResumoDiarioService;
+
+/**
+ * Controller REST para os totais diários de frequência, matrículas e receita
+ */
+@RestController
+@RequestMapping("/api/resumos")
+public class ResumoDiarioController {
+
+    @Autowired
+    private ResumoDiarioService resumoDiarioService;
+
+    /**
+     * Lista os totais de cada dia de um período
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Totais diários
+     */
+    @GetMapping
+    public ResponseEntity<List<ResumoDiarioDTO>> listarPorPeriodo(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim) {
+        return ResponseEntity.ok(resumoDiarioService.listarPorPeriodo(dataInicio, dataFim));
+    }
+
+    /**
+     * Recalcula os totais a partir das tabelas de origem
+     * Sem datas, recalcula todo o histórico (carga inicial após a implantação)
+     * @param dataInicio Data inicial (opcional)
+     * @param dataFim Data final (opcional)
+     * @return Número de dias recalculados
+     */
+    @PostMapping("/reconstruir")
+    public ResponseEntity<Map<String, Integer>> reconstruir(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim) {
+        int dias = (dataInicio == null && dataFim == null)
+            ? resumoDiarioService.reconstruirTudo()
+            : resumoDiarioService.reconstruir(dataInicio, dataFim);
+        return ResponseEntity.ok(Map.of("diasReconstruidos", dias));
+    }
+}
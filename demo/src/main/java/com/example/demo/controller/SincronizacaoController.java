@@ -0,0 +1,32 @@
+package com.example.demo.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.dto.SincronizacaoDTO;
+import com.example.demo.service.SincronizacaoService;
+
+/**
+ * Controller REST da sincronização incremental, para clientes que mantêm uma réplica local dos cadastros
+ */
+@RestController
+@RequestMapping("/api/sync")
+public class SincronizacaoController {
+
+    @Autowired
+    private SincronizacaoService sincronizacaoService;
+
+    /**
+     * Lista o que foi inserido, alterado ou excluído desde o token
+     * @param token Token recebido na chamada anterior (omitir na carga inicial)
+     * @return Alterações por tipo e o próximo token
+     */
+    @GetMapping
+    public ResponseEntity<SincronizacaoDTO> sincronizar(@RequestParam(name = "since", required = false) String token) {
+        return ResponseEntity.ok(sincronizacaoService.buscarAlteracoes(token));
+    }
+}
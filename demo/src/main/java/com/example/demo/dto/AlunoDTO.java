@@ -2,6 +2,8 @@ package com.example.demo.dto;
 
 import java.time.LocalDate;
 
+import com.example.demo.entity.Aluno;
+
 public class AlunoDTO {
     private Long idAluno;
     private String nome;
@@ -18,6 +20,10 @@ public class AlunoDTO {
         this.dataIngresso = dataIngresso;
     }
 
+    public AlunoDTO(Aluno aluno) {
+        this(aluno.getIdAluno(), aluno.getNome(), aluno.getCpf(), aluno.getDataIngresso());
+    }
+
     // Getters e Setters
     public Long getIdAluno() {
         return idAluno;
@@ -0,0 +1,59 @@
+package com.example.demo.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO de uma atividade recente exibida no dashboard (matrícula, pagamento ou plano de treino)
+ */
+public class AtividadeRecenteDTO {
+    
+    private LocalDate data;
+    private String nomeAluno;
+    private String detalhe; // Status da matrícula ou nome do instrutor
+    private BigDecimal valor; // Preenchido apenas para pagamentos
+    
+    // Construtores
+    public AtividadeRecenteDTO() {
+    }
+    
+    public AtividadeRecenteDTO(LocalDate data, String nomeAluno, String detalhe, BigDecimal valor) {
+        this.data = data;
+        this.nomeAluno = nomeAluno;
+        this.detalhe = detalhe;
+        this.valor = valor;
+    }
+    
+    // Getters e Setters
+    public LocalDate getData() {
+        return data;
+    }
+    
+    public void setData(LocalDate data) {
+        this.data = data;
+    }
+    
+    public String getNomeAluno() {
+        return nomeAluno;
+    }
+    
+    public void setNomeAluno(String nomeAluno) {
+        this.nomeAluno = nomeAluno;
+    }
+    
+    public String getDetalhe() {
+        return detalhe;
+    }
+    
+    public void setDetalhe(String detalhe) {
+        this.detalhe = detalhe;
+    }
+    
+    public BigDecimal getValor() {
+        return valor;
+    }
+    
+    public void setValor(BigDecimal valor) {
+        this.valor = valor;
+    }
+}
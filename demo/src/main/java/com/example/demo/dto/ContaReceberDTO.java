@@ -0,0 +1,144 @@
+package com.example.demo.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.example.demo.enums.MatriculaStatus;
+
+/**
+ * DTO com a situação financeira de uma matrícula (contas a receber)
+ * O saldo devedor é o valor do plano menos o total pago, nunca negativo
+ */
+public class ContaReceberDTO {
+    
+    private Long idMatricula;
+    private Long idAluno;
+    private String nomeAluno;
+    private String nomePlano;
+    private LocalDate dataInicio;
+    private LocalDate dataFim;
+    private MatriculaStatus status;
+    private BigDecimal valorPlano;
+    private BigDecimal totalPago;
+    private BigDecimal saldoDevedor;
+    private Boolean emDia; // Se o total pago cobre o valor do plano
+    
+    // Construtores
+    public ContaReceberDTO() {
+    }
+    
+    /**
+     * Construtor usado na projeção da consulta agrupada (totalPago é nulo quando não há pagamentos)
+     */
+    public ContaReceberDTO(Long idMatricula, Long idAluno, String nomeAluno, String nomePlano,
+                           LocalDate dataInicio, LocalDate dataFim, MatriculaStatus status,
+                           BigDecimal valorPlano, BigDecimal totalPago) {
+        this.idMatricula = idMatricula;
+        this.idAluno = idAluno;
+        this.nomeAluno = nomeAluno;
+        this.nomePlano = nomePlano;
+        this.dataInicio = dataInicio;
+        this.dataFim = dataFim;
+        this.status = status;
+        this.valorPlano = valorPlano;
+        this.totalPago = totalPago != null ? totalPago : BigDecimal.ZERO;
+        this.saldoDevedor = valorPlano.subtract(this.totalPago).max(BigDecimal.ZERO);
+        this.emDia = this.totalPago.compareTo(valorPlano) >= 0;
+    }
+    
+    /**
+     * @return true se a matrícula está ativa e o total pago não cobre o valor do plano
+     */
+    public boolean inadimplente() {
+        return status == MatriculaStatus.ATIVA && !Boolean.TRUE.equals(emDia);
+    }
+    
+    // Getters e Setters
+    public Long getIdMatricula() {
+        return idMatricula;
+    }
+    
+    public void setIdMatricula(Long idMatricula) {
+        this.idMatricula = idMatricula;
+    }
+    
+    public Long getIdAluno() {
+        return idAluno;
+    }
+    
+    public void setIdAluno(Long idAluno) {
+        this.idAluno = idAluno;
+    }
+    
+    public String getNomeAluno() {
+        return nomeAluno;
+    }
+    
+    public void setNomeAluno(String nomeAluno) {
+        this.nomeAluno = nomeAluno;
+    }
+    
+    public String getNomePlano() {
+        return nomePlano;
+    }
+    
+    public void setNomePlano(String nomePlano) {
+        this.nomePlano = nomePlano;
+    }
+    
+    public LocalDate getDataInicio() {
+        return dataInicio;
+    }
+    
+    public void setDataInicio(LocalDate dataInicio) {
+        this.dataInicio = dataInicio;
+    }
+    
+    public LocalDate getDataFim() {
+        return dataFim;
+    }
+    
+    public void setDataFim(LocalDate dataFim) {
+        this.dataFim = dataFim;
+    }
+    
+    public MatriculaStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(MatriculaStatus status) {
+        this.status = status;
+    }
+    
+    public BigDecimal getValorPlano() {
+        return valorPlano;
+    }
+    
+    public void setValorPlano(BigDecimal valorPlano) {
+        this.valorPlano = valorPlano;
+    }
+    
+    public BigDecimal getTotalPago() {
+        return totalPago;
+    }
+    
+    public void setTotalPago(BigDecimal totalPago) {
+        this.totalPago = totalPago;
+    }
+    
+    public BigDecimal getSaldoDevedor() {
+        return saldoDevedor;
+    }
+    
+    public void setSaldoDevedor(BigDecimal saldoDevedor) {
+        this.saldoDevedor = saldoDevedor;
+    }
+    
+    public Boolean getEmDia() {
+        return emDia;
+    }
+    
+    public void setEmDia(Boolean emDia) {
+        this.emDia = emDia;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.demo.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO com os indicadores e atividades recentes exibidos no dashboard
+ */
+public class DashboardResumoDTO {
+    
+    private long totalAlunos;
+    private long matriculasAtivas;
+    private BigDecimal receitaMes; // Soma dos pagamentos do mês corrente
+    private Double taxaPresenca; // Percentual de presença sobre todos os registros de frequência
+    private long totalExercicios;
+    private long totalPlanosTreino;
+    private List<AtividadeRecenteDTO> ultimasMatriculas;
+    private List<AtividadeRecenteDTO> ultimosPagamentos;
+    private List<AtividadeRecenteDTO> ultimosPlanosTreino;
+    
+    // Construtores
+    public DashboardResumoDTO() {
+    }
+    
+    // Getters e Setters
+    public long getTotalAlunos() {
+        return totalAlunos;
+    }
+    
+    public void setTotalAlunos(long totalAlunos) {
+        this.totalAlunos = totalAlunos;
+    }
+    
+    public long getMatriculasAtivas() {
+        return matriculasAtivas;
+    }
+    
+    public void setMatriculasAtivas(long matriculasAtivas) {
+        this.matriculasAtivas = matriculasAtivas;
+    }
+    
+    public BigDecimal getReceitaMes() {
+        return receitaMes;
+    }
+    
+    public void setReceitaMes(BigDecimal receitaMes) {
+        this.receitaMes = receitaMes;
+    }
+    
+    public Double getTaxaPresenca() {
+        return taxaPresenca;
+    }
+    
+    public void setTaxaPresenca(Double taxaPresenca) {
+        this.taxaPresenca = taxaPresenca;
+    }
+    
+    public long getTotalExercicios() {
+        return totalExercicios;
+    }
+    
+    public void setTotalExercicios(long totalExercicios) {
+        this.totalExercicios = totalExercicios;
+    }
+    
+    public long getTotalPlanosTreino() {
+        return totalPlanosTreino;
+    }
+    
+    public void setTotalPlanosTreino(long totalPlanosTreino) {
+        this.totalPlanosTreino = totalPlanosTreino;
+    }
+    
+    public List<AtividadeRecenteDTO> getUltimasMatriculas() {
+        return ultimasMatriculas;
+    }
+    
+    public void setUltimasMatriculas(List<AtividadeRecenteDTO> ultimasMatriculas) {
+        this.ultimasMatriculas = ultimasMatriculas;
+    }
+    
+    public List<AtividadeRecenteDTO> getUltimosPagamentos() {
+        return ultimosPagamentos;
+    }
+    
+    public void setUltimosPagamentos(List<AtividadeRecenteDTO> ultimosPagamentos) {
+        this.ultimosPagamentos = ultimosPagamentos;
+    }
+    
+    public List<AtividadeRecenteDTO> getUltimosPlanosTreino() {
+        return ultimosPlanosTreino;
+    }
+    
+    public void setUltimosPlanosTreino(List<AtividadeRecenteDTO> ultimosPlanosTreino) {
+        this.ultimosPlanosTreino = ultimosPlanosTreino;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.dto;
+
+/**
+ * DTO com as estatísticas de uso de um cache
+ */
+public class EstatisticasCacheDTO {
+    
+    private String nome;
+    private long tamanho;
+    private long capacidade;
+    private long acertos;
+    private long falhas;
+    private long remocoes; // Entradas descartadas por limite de tamanho
+    private long invalidacoes;
+    private Double taxaAcerto; // Percentual de acertos
+    
+    // Construtores
+    public EstatisticasCacheDTO() {
+    }
+    
+    public EstatisticasCacheDTO(String nome, long tamanho, long capacidade, long acertos, long falhas,
+                                long remocoes, long invalidacoes) {
+        this.nome = nome;
+        this.tamanho = tamanho;
+        this.capacidade = capacidade;
+        this.acertos = acertos;
+        this.falhas = falhas;
+        this.remocoes = remocoes;
+        this.invalidacoes = invalidacoes;
+        this.taxaAcerto = calcularTaxaAcerto(acertos, falhas);
+    }
+    
+    // Método auxiliar para calcular a taxa de acerto
+    private Double calcularTaxaAcerto(long acertos, long falhas) {
+        long total = acertos + falhas;
+        if (total == 0) {
+            return 0.0;
+        }
+        return (acertos * 100.0) / total;
+    }
+    
+    // Getters e Setters
+    public String getNome() {
+        return nome;
+    }
+    
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+    
+    public long getTamanho() {
+        return tamanho;
+    }
+    
+    public void setTamanho(long tamanho) {
+        this.tamanho = tamanho;
+    }
+    
+    public long getCapacidade() {
+        return capacidade;
+    }
+    
+    public void setCapacidade(long capacidade) {
+        this.capacidade = capacidade;
+    }
+    
+    public long getAcertos() {
+        return acertos;
+    }
+    
+    public void setAcertos(long acertos) {
+        this.acertos = acertos;
+    }
+    
+    public long getFalhas() {
+        return falhas;
+    }
+    
+    public void setFalhas(long falhas) {
+        this.falhas = falhas;
+    }
+    
+    public long getRemocoes() {
+        return remocoes;
+    }
+    
+    public void setRemocoes(long remocoes) {
+        this.remocoes = remocoes;
+    }
+    
+    public long getInvalidacoes() {
+        return invalidacoes;
+    }
+    
+    public void setInvalidacoes(long invalidacoes) {
+        this.invalidacoes = invalidacoes;
+    }
+    
+    public Double getTaxaAcerto() {
+        return taxaAcerto;
+    }
+    
+    public void setTaxaAcerto(Double taxaAcerto) {
+        this.taxaAcerto = taxaAcerto;
+    }
+}
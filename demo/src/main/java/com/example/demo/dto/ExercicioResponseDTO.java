@@ -1,5 +1,7 @@
 package com.example.demo.dto;
 
+import com.example.demo.entity.Exercicio;
+
 public class ExercicioResponseDTO {
     
     private Long id;
@@ -24,6 +26,10 @@ public class ExercicioResponseDTO {
         this.descricao = descricao;
     }
     
+    public ExercicioResponseDTO(Exercicio exercicio) {
+        this(exercicio.getIdExercicio(), exercicio.getNome(), exercicio.getGrupoMuscular(), exercicio.getDescricao());
+    }
+    
     // Getters e Setters
     public Long getId() {
         return id;
@@ -2,6 +2,8 @@ package com.example.demo.dto;
 
 import java.time.LocalDate;
 
+import com.example.demo.entity.Frequencia;
+
 /**
  * DTO para resposta de Frequência
  */
@@ -30,6 +32,17 @@ public class FrequenciaResponseDTO {
         this.statusPresenca = presenca ? "Presente" : "Ausente";
     }
     
+    public FrequenciaResponseDTO(Frequencia frequencia) {
+        this(
+            frequencia.getIdFrequencia(),
+            frequencia.getAluno().getIdAluno(),
+            frequencia.getAluno().getNome(),
+            frequencia.getAluno().getCpf(),
+            frequencia.getData(),
+            frequencia.getPresenca()
+        );
+    }
+    
     // Getters e Setters
     public Long getIdFrequencia() {
         return idFrequencia;
@@ -1,5 +1,7 @@
 package com.example.demo.dto;
 
+import com.example.demo.entity.Instrutor;
+
 public class InstrutorDTO {
     private Long idInstrutor;
     private String nome;
@@ -14,6 +16,10 @@ public class InstrutorDTO {
         this.especialidade = especialidade;
     }
 
+    public InstrutorDTO(Instrutor instrutor) {
+        this(instrutor.getIdInstrutor(), instrutor.getNome(), instrutor.getEspecialidade());
+    }
+
     // Getters e Setters
     public Long getIdInstrutor() {
         return idInstrutor;
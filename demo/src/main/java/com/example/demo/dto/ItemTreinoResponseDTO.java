@@ -2,6 +2,8 @@ package com.example.demo.dto;
 
 import java.math.BigDecimal;
 
+import com.example.demo.entity.ItemTreino;
+
 public class ItemTreinoResponseDTO {
     
     private Long id;
@@ -34,6 +36,21 @@ public class ItemTreinoResponseDTO {
         this.observacoes = observacoes;
     }
     
+    public ItemTreinoResponseDTO(ItemTreino itemTreino) {
+        this.id = itemTreino.getIdItemTreino();
+        this.planoTreinoId = itemTreino.getPlanoTreino().getIdPlanoTreino();
+        this.planoTreinoNome = itemTreino.getPlanoTreino().getDescricao() != null 
+            ? itemTreino.getPlanoTreino().getDescricao() 
+            : "Plano " + itemTreino.getPlanoTreino().getAluno().getNome();
+        this.exercicioId = itemTreino.getExercicio().getIdExercicio();
+        this.exercicioNome = itemTreino.getExercicio().getNome();
+        this.grupoMuscular = itemTreino.getExercicio().getGrupoMuscular();
+        this.series = itemTreino.getSeries();
+        this.repeticoes = itemTreino.getRepeticoes();
+        this.carga = itemTreino.getCarga();
+        this.observacoes = itemTreino.getObservacoes();
+    }
+    
     // Getters e Setters
     public Long getId() {
         return id;
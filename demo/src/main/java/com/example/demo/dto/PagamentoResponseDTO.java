@@ -3,6 +3,8 @@ package com.example.demo.dto;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import com.example.demo.entity.Pagamento;
+
 /**
  * DTO para resposta de Pagamento
  */
@@ -31,6 +33,18 @@ public class PagamentoResponseDTO {
         this.formaPagamento = formaPagamento;
     }
     
+    public PagamentoResponseDTO(Pagamento pagamento) {
+        this(
+            pagamento.getIdPagamento(),
+            pagamento.getMatricula().getIdMatricula(),
+            pagamento.getMatricula().getAluno().getNome(),
+            pagamento.getMatricula().getPlano().getNome(),
+            pagamento.getDataPagamento(),
+            pagamento.getValorPago(),
+            pagamento.getFormaPagamento()
+        );
+    }
+    
     // Getters e Setters
     public Long getIdPagamento() {
         return idPagamento;
@@ -0,0 +1,62 @@
+package com.example.demo.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Window;
+
+/**
+ * DTO de uma página de resultados paginados por cursor
+ * Para buscar a página seguinte, envie proximoCursor no parâmetro "apos"
+ */
+public class PaginaDTO<T> {
+
+    private List<T> itens;
+    private String proximoCursor;
+    private boolean temMais;
+
+    public PaginaDTO() {
+    }
+
+    public PaginaDTO(List<T> itens, String proximoCursor) {
+        this.itens = itens;
+        this.proximoCursor = proximoCursor;
+        this.temMais = proximoCursor != null;
+    }
+
+    /**
+     * Cria a página convertendo cada registro da consulta
+     * @param janela Registros retornados pela consulta
+     * @param conversor Conversão de entidade para DTO
+     * @param proximoCursor Cursor da próxima página (null se for a última)
+     * @return Página de DTOs
+     */
+    public static <E, T> PaginaDTO<T> de(Window<E> janela, Function<E, T> conversor, String proximoCursor) {
+        return new PaginaDTO<>(janela.map(conversor).getContent(), proximoCursor);
+    }
+
+    // Getters e Setters
+    public List<T> getItens() {
+        return itens;
+    }
+
+    public void setItens(List<T> itens) {
+        this.itens = itens;
+    }
+
+    public String getProximoCursor() {
+        return proximoCursor;
+    }
+
+    public void setProximoCursor(String proximoCursor) {
+        this.proximoCursor = proximoCursor;
+    }
+
+    public boolean isTemMais() {
+        return temMais;
+    }
+
+    public void setTemMais(boolean temMais) {
+        this.temMais = temMais;
+    }
+}
@@ -2,6 +2,8 @@ package com.example.demo.dto;
 
 import java.time.LocalDate;
 
+import com.example.demo.entity.PlanoTreino;
+
 /**
  * DTO para resposta com dados de PlanoTreino
  */
@@ -33,6 +35,34 @@ public class PlanoTreinoResponseDTO {
         this.duracaoSemanas = duracaoSemanas;
     }
     
+    public PlanoTreinoResponseDTO(PlanoTreino planoTreino) {
+        this.id = planoTreino.getIdPlanoTreino();
+        this.nomeAluno = "[Aluno Removido]";
+        this.nomeInstrutor = "[Instrutor Removido]";
+        
+        try {
+            if (planoTreino.getAluno() != null) {
+                this.idAluno = planoTreino.getAluno().getIdAluno();
+                this.nomeAluno = planoTreino.getAluno().getNome();
+            }
+        } catch (Exception e) {
+            // Aluno foi removido, usar valores padrão
+        }
+        
+        try {
+            if (planoTreino.getInstrutor() != null) {
+                this.idInstrutor = planoTreino.getInstrutor().getIdInstrutor();
+                this.nomeInstrutor = planoTreino.getInstrutor().getNome();
+            }
+        } catch (Exception e) {
+            // Instrutor foi removido, usar valores padrão
+        }
+        
+        this.dataCriacao = planoTreino.getDataCriacao();
+        this.descricao = planoTreino.getDescricao();
+        this.duracaoSemanas = planoTreino.getDuracaoSemanas();
+    }
+    
     // Getters e Setters
     public Long getId() {
         return id;
@@ -0,0 +1,79 @@
+package com.example.demo.dto;
+
+import com.example.demo.enums.TipoDocumentoBusca;
+
+/**
+ * DTO de um resultado da busca textual global
+ */
+public class ResultadoBuscaDTO {
+    
+    private TipoDocumentoBusca tipo;
+    private Long id;
+    private Long idRelacionado; // Aluno do plano de treino ou da avaliação; plano de treino do item
+    private String titulo;
+    private String trecho; // Parte do texto em volta do primeiro termo encontrado
+    private double pontuacao;
+    
+    // Construtores
+    public ResultadoBuscaDTO() {
+    }
+    
+    public ResultadoBuscaDTO(TipoDocumentoBusca tipo, Long id, Long idRelacionado, String titulo,
+                             String trecho, double pontuacao) {
+        this.tipo = tipo;
+        this.id = id;
+        this.idRelacionado = idRelacionado;
+        this.titulo = titulo;
+        this.trecho = trecho;
+        this.pontuacao = pontuacao;
+    }
+    
+    // Getters e Setters
+    public TipoDocumentoBusca getTipo() {
+        return tipo;
+    }
+    
+    public void setTipo(TipoDocumentoBusca tipo) {
+        this.tipo = tipo;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getIdRelacionado() {
+        return idRelacionado;
+    }
+    
+    public void setIdRelacionado(Long idRelacionado) {
+        this.idRelacionado = idRelacionado;
+    }
+    
+    public String getTitulo() {
+        return titulo;
+    }
+    
+    public void setTitulo(String titulo) {
+        this.titulo = titulo;
+    }
+    
+    public String getTrecho() {
+        return trecho;
+    }
+    
+    public void setTrecho(String trecho) {
+        this.trecho = trecho;
+    }
+    
+    public double getPontuacao() {
+        return pontuacao;
+    }
+    
+    public void setPontuacao(double pontuacao) {
+        this.pontuacao = pontuacao;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+/**
+ * DTO com o resultado de uma entrada do registro de frequências em lote
+ */
+public class ResultadoFrequenciaLoteDTO {
+    
+    private int indice; // Posição da entrada na lista enviada
+    private Long idAluno;
+    private LocalDate data;
+    private boolean registrada;
+    private String mensagem; // Motivo da rejeição (nulo quando registrada)
+    
+    // Construtores
+    public ResultadoFrequenciaLoteDTO() {
+    }
+    
+    public ResultadoFrequenciaLoteDTO(int indice, Long idAluno, LocalDate data, boolean registrada, String mensagem) {
+        this.indice = indice;
+        this.idAluno = idAluno;
+        this.data = data;
+        this.registrada = registrada;
+        this.mensagem = mensagem;
+    }
+    
+    // Getters e Setters
+    public int getIndice() {
+        return indice;
+    }
+    
+    public void setIndice(int indice) {
+        this.indice = indice;
+    }
+    
+    public Long getIdAluno() {
+        return idAluno;
+    }
+    
+    public void setIdAluno(Long idAluno) {
+        this.idAluno = idAluno;
+    }
+    
+    public LocalDate getData() {
+        return data;
+    }
+    
+    public void setData(LocalDate data) {
+        this.data = data;
+    }
+    
+    public boolean isRegistrada() {
+        return registrada;
+    }
+    
+    public void setRegistrada(boolean registrada) {
+        this.registrada = registrada;
+    }
+    
+    public String getMensagem() {
+        return mensagem;
+    }
+    
+    public void setMensagem(String mensagem) {
+        this.mensagem = mensagem;
+    }
+}
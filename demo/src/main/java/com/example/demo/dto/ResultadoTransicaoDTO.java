@@ -0,0 +1,58 @@
+package com.example.demo.dto;
+
+import com.example.demo.enums.MatriculaStatus;
+
+/**
+ * DTO com o resultado de uma transição de status de matrículas em lote
+ */
+public class ResultadoTransicaoDTO {
+    
+    private MatriculaStatus novoStatus;
+    private int encontradas; // Matrículas que atendiam ao critério
+    private int atualizadas; // Matrículas efetivamente alteradas (as demais mudaram de status no meio do caminho)
+    private int lotes;
+    
+    // Construtores
+    public ResultadoTransicaoDTO() {
+    }
+    
+    public ResultadoTransicaoDTO(MatriculaStatus novoStatus, int encontradas, int atualizadas, int lotes) {
+        this.novoStatus = novoStatus;
+        this.encontradas = encontradas;
+        this.atualizadas = atualizadas;
+        this.lotes = lotes;
+    }
+    
+    // Getters e Setters
+    public MatriculaStatus getNovoStatus() {
+        return novoStatus;
+    }
+    
+    public void setNovoStatus(MatriculaStatus novoStatus) {
+        this.novoStatus = novoStatus;
+    }
+    
+    public int getEncontradas() {
+        return encontradas;
+    }
+    
+    public void setEncontradas(int encontradas) {
+        this.encontradas = encontradas;
+    }
+    
+    public int getAtualizadas() {
+        return atualizadas;
+    }
+    
+    public void setAtualizadas(int atualizadas) {
+        this.atualizadas = atualizadas;
+    }
+    
+    public int getLotes() {
+        return lotes;
+    }
+    
+    public void setLotes(int lotes) {
+        this.lotes = lotes;
+    }
+}
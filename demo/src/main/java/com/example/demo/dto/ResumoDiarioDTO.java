@@ -0,0 +1,76 @@
+package com.example.demo.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DTO com os totais de um dia: frequência, novas matrículas e receita por forma de pagamento
+ */
+public class ResumoDiarioDTO {
+    
+    private LocalDate data;
+    private long presencas;
+    private long ausencias;
+    private long novasMatriculas;
+    private BigDecimal receitaTotal = BigDecimal.ZERO;
+    private Map<String, BigDecimal> receitaPorFormaPagamento = new LinkedHashMap<>();
+    
+    // Construtores
+    public ResumoDiarioDTO() {
+    }
+    
+    public ResumoDiarioDTO(LocalDate data) {
+        this.data = data;
+    }
+    
+    // Getters e Setters
+    public LocalDate getData() {
+        return data;
+    }
+    
+    public void setData(LocalDate data) {
+        this.data = data;
+    }
+    
+    public long getPresencas() {
+        return presencas;
+    }
+    
+    public void setPresencas(long presencas) {
+        this.presencas = presencas;
+    }
+    
+    public long getAusencias() {
+        return ausencias;
+    }
+    
+    public void setAusencias(long ausencias) {
+        this.ausencias = ausencias;
+    }
+    
+    public long getNovasMatriculas() {
+        return novasMatriculas;
+    }
+    
+    public void setNovasMatriculas(long novasMatriculas) {
+        this.novasMatriculas = novasMatriculas;
+    }
+    
+    public BigDecimal getReceitaTotal() {
+        return receitaTotal;
+    }
+    
+    public void setReceitaTotal(BigDecimal receitaTotal) {
+        this.receitaTotal = receitaTotal;
+    }
+    
+    public Map<String, BigDecimal> getReceitaPorFormaPagamento() {
+        return receitaPorFormaPagamento;
+    }
+    
+    public void setReceitaPorFormaPagamento(Map<String, BigDecimal> receitaPorFormaPagamento) {
+        this.receitaPorFormaPagamento = receitaPorFormaPagamento;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.dto;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO da resposta de GET /api/sync: registros inseridos ou alterados e IDs excluídos desde o token enviado
+ *
+ * As chaves dos mapas são os tipos de registro ("alunos", "matriculas", ...); tipos sem alterações não aparecem.
+ * O cliente aplica as alterações na réplica local (substituindo pelo ID), remove os excluídos e guarda o token
+ * para a próxima chamada. Se completo for false, ainda há alterações: chame de novo com o token recebido.
+ * Um registro pode ser entregue mais de uma vez, então aplicar a mesma alteração de novo não deve ter efeito.
+ */
+public class SincronizacaoDTO {
+
+    private String token;
+    private boolean completo = true;
+    private Map<String, List<?>> alterados = new LinkedHashMap<>();
+    private Map<String, List<Long>> excluidos = new LinkedHashMap<>();
+
+    public SincronizacaoDTO() {
+    }
+
+    // Getters e Setters
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public boolean isCompleto() {
+        return completo;
+    }
+
+    public void setCompleto(boolean completo) {
+        this.completo = completo;
+    }
+
+    public Map<String, List<?>> getAlterados() {
+        return alterados;
+    }
+
+    public void setAlterados(Map<String, List<?>> alterados) {
+        this.alterados = alterados;
+    }
+
+    public Map<String, List<Long>> getExcluidos() {
+        return excluidos;
+    }
+
+    public void setExcluidos(Map<String, List<Long>> excluidos) {
+        this.excluidos = excluidos;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+import com.example.demo.enums.MatriculaStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO para requisição de alteração de status de várias matrículas
+ */
+public class TransicaoMatriculasRequestDTO {
+    
+    @NotEmpty(message = "Informe ao menos uma matrícula")
+    private List<Long> ids;
+    
+    @NotNull(message = "Status é obrigatório")
+    private MatriculaStatus status;
+    
+    // Construtores
+    public TransicaoMatriculasRequestDTO() {
+    }
+    
+    public TransicaoMatriculasRequestDTO(List<Long> ids, MatriculaStatus status) {
+        this.ids = ids;
+        this.status = status;
+    }
+    
+    // Getters e Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+    
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+    
+    public MatriculaStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(MatriculaStatus status) {
+        this.status = status;
+    }
+}
@@ -2,19 +2,37 @@ package com.example.demo.entity;
 
 import java.time.LocalDate;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
+import com.example.demo.sincronizacao.SincronizacaoListener;
+import com.example.demo.util.ValidadorCPF;
+
 /**
  * Entidade que representa um Aluno no sistema de gestão da academia
  */
 @Entity
-@Table(name = "Alunos")
-public class Aluno {
+@EntityListeners(SincronizacaoListener.class)
+@Table(name = "Alunos", indexes = {
+    @Index(name = "idx_aluno_cpf_chave", columnList = "cpf_chave"),
+    @Index(name = "idx_aluno_versao_sync", columnList = "versao_sync")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "aluno")
+public class Aluno implements Sincronizavel {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -27,9 +45,18 @@ public class Aluno {
     @Column(name = "cpf", nullable = false, unique = true, length = 14)
     private String cpf;
     
+    // Dígitos do CPF como número, mantido a partir do cpf; usado nas buscas por igualdade
+    @Column(name = "cpf_chave")
+    private Long cpfChave;
+    
     @Column(name = "data_ingresso")
     private LocalDate dataIngresso;
     
+    // Versão da última alteração, usada pela sincronização incremental (ver SincronizacaoListener)
+    @ColumnDefault("0")
+    @Column(name = "versao_sync", nullable = false)
+    private Long versaoSync = 0L;
+    
     // Construtores
     public Aluno() {
     }
@@ -70,6 +97,20 @@ public class Aluno {
         this.cpf = cpf;
     }
     
+    public Long getCpfChave() {
+        return cpfChave;
+    }
+    
+    /**
+     * Recalcula a chave numérica a partir do cpf (nula se o cpf não tiver 11 dígitos)
+     */
+    @PrePersist
+    @PreUpdate
+    public void atualizarCpfChave() {
+        long chave = ValidadorCPF.chave(cpf);
+        this.cpfChave = chave != ValidadorCPF.CHAVE_INVALIDA ? chave : null;
+    }
+    
     public LocalDate getDataIngresso() {
         return dataIngresso;
     }
@@ -78,6 +119,16 @@ public class Aluno {
         this.dataIngresso = dataIngresso;
     }
     
+    @Override
+    public Long getVersaoSync() {
+        return versaoSync;
+    }
+    
+    @Override
+    public void setVersaoSync(Long versaoSync) {
+        this.versaoSync = versaoSync;
+    }
+    
     @Override
     public String toString() {
         return "Aluno{" +
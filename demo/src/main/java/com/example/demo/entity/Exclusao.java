@@ -0,0 +1,78 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Registro de exclusão de uma entidade sincronizável, para que os clientes removam a linha da réplica local
+ * Gravado pelo SincronizacaoListener na mesma transação da exclusão
+ */
+@Entity
+@Table(name = "exclusoes", indexes = {
+    @Index(name = "idx_exclusao_versao_sync", columnList = "versao_sync")
+})
+public class Exclusao {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_exclusao")
+    private Long idExclusao;
+
+    // Chave do tipo na resposta da sincronização (ex.: "alunos")
+    @Column(name = "tipo", nullable = false, length = 30)
+    private String tipo;
+
+    @Column(name = "id_registro", nullable = false)
+    private Long idRegistro;
+
+    @Column(name = "versao_sync", nullable = false)
+    private Long versaoSync;
+
+    // Construtores
+    public Exclusao() {
+    }
+
+    public Exclusao(String tipo, Long idRegistro, Long versaoSync) {
+        this.tipo = tipo;
+        this.idRegistro = idRegistro;
+        this.versaoSync = versaoSync;
+    }
+
+    // Getters e Setters
+    public Long getIdExclusao() {
+        return idExclusao;
+    }
+
+    public void setIdExclusao(Long idExclusao) {
+        this.idExclusao = idExclusao;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public Long getIdRegistro() {
+        return idRegistro;
+    }
+
+    public void setIdRegistro(Long idRegistro) {
+        this.idRegistro = idRegistro;
+    }
+
+    public Long getVersaoSync() {
+        return versaoSync;
+    }
+
+    public void setVersaoSync(Long versaoSync) {
+        this.versaoSync = versaoSync;
+    }
+}
@@ -3,23 +3,37 @@ package com.example.demo.entity;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import com.example.demo.sincronizacao.SincronizacaoListener;
+
 /**
  * Entidade que representa um Exercício no catálogo da academia
  */
 @Entity
-@Table(name = "Exercicios")
-public class Exercicio {
+@EntityListeners(SincronizacaoListener.class)
+@Table(name = "Exercicios", indexes = {
+    @Index(name = "idx_exercicio_versao_sync", columnList = "versao_sync")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "exercicio")
+public class Exercicio implements Sincronizavel {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -42,6 +56,11 @@ public class Exercicio {
     @OneToMany(mappedBy = "exercicio", cascade = CascadeType.ALL)
     private Set<ItemTreino> itensTreino = new HashSet<>();
     
+    // Versão da última alteração, usada pela sincronização incremental (ver SincronizacaoListener)
+    @ColumnDefault("0")
+    @Column(name = "versao_sync", nullable = false)
+    private Long versaoSync = 0L;
+    
     // Construtores
     public Exercicio() {
     }
@@ -88,6 +107,16 @@ public class Exercicio {
         this.descricao = descricao;
     }
     
+    @Override
+    public Long getVersaoSync() {
+        return versaoSync;
+    }
+    
+    @Override
+    public void setVersaoSync(Long versaoSync) {
+        this.versaoSync = versaoSync;
+    }
+    
     @Override
     public String toString() {
         return "Exercicio{" +
@@ -2,22 +2,35 @@ package com.example.demo.entity;
 
 import java.time.LocalDate;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import com.example.demo.sincronizacao.SincronizacaoListener;
 
 /**
  * Entidade que representa o registro de Frequência de um aluno na academia
  */
 @Entity
-@Table(name = "Frequencia")
-public class Frequencia {
+@EntityListeners(SincronizacaoListener.class)
+@Table(name = "Frequencia", indexes = {
+    @Index(name = "idx_frequencia_data", columnList = "data, id_frequencia"),
+    @Index(name = "idx_frequencia_versao_sync", columnList = "versao_sync")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_frequencia_aluno_data", columnNames = {"id_aluno", "data"})
+})
+public class Frequencia implements Sincronizavel {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -34,6 +47,11 @@ public class Frequencia {
     @Column(name = "presenca", nullable = false)
     private Boolean presenca = false;
     
+    // Versão da última alteração, usada pela sincronização incremental (ver SincronizacaoListener)
+    @ColumnDefault("0")
+    @Column(name = "versao_sync", nullable = false)
+    private Long versaoSync = 0L;
+    
     // Construtores
     public Frequencia() {
     }
@@ -77,6 +95,16 @@ public class Frequencia {
         this.presenca = presenca;
     }
     
+    @Override
+    public Long getVersaoSync() {
+        return versaoSync;
+    }
+    
+    @Override
+    public void setVersaoSync(Long versaoSync) {
+        this.versaoSync = versaoSync;
+    }
+    
     @Override
     public String toString() {
         return "Frequencia{" +
@@ -1,18 +1,32 @@
 package com.example.demo.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
+import com.example.demo.sincronizacao.SincronizacaoListener;
+
 /**
  * Entidade que representa um Instrutor na academia
  */
 @Entity
-@Table(name = "Instrutores")
-public class Instrutor {
+@EntityListeners(SincronizacaoListener.class)
+@Table(name = "Instrutores", indexes = {
+    @Index(name = "idx_instrutor_versao_sync", columnList = "versao_sync")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "instrutor")
+public class Instrutor implements Sincronizavel {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,6 +39,11 @@ public class Instrutor {
     @Column(name = "especialidade", length = 50)
     private String especialidade;
     
+    // Versão da última alteração, usada pela sincronização incremental (ver SincronizacaoListener)
+    @ColumnDefault("0")
+    @Column(name = "versao_sync", nullable = false)
+    private Long versaoSync = 0L;
+    
     // Construtores
     public Instrutor() {
     }
@@ -59,6 +78,16 @@ public class Instrutor {
         this.especialidade = especialidade;
     }
     
+    @Override
+    public Long getVersaoSync() {
+        return versaoSync;
+    }
+    
+    @Override
+    public void setVersaoSync(Long versaoSync) {
+        this.versaoSync = versaoSync;
+    }
+    
     @Override
     public String toString() {
         return "Instrutor{" +
@@ -2,12 +2,16 @@ package com.example.demo.entity;
 
 import java.math.BigDecimal;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -16,16 +20,21 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+import com.example.demo.sincronizacao.SincronizacaoListener;
+
 /**
  * Entidade que representa um Item de Treino (relacionamento N:N entre PlanoTreino e Exercicio)
  * Tabela associativa que contém informações específicas sobre cada exercício no plano
  */
 @Entity
-@Table(name = "ItensTreino", uniqueConstraints = {
+@EntityListeners(SincronizacaoListener.class)
+@Table(name = "ItensTreino", indexes = {
+    @Index(name = "idx_item_treino_versao_sync", columnList = "versao_sync")
+}, uniqueConstraints = {
     @UniqueConstraint(columnNames = {"id_plano", "id_exercicio"},
         name = "uk_plano_exercicio")
 })
-public class ItemTreino {
+public class ItemTreino implements Sincronizavel {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -60,6 +69,11 @@ public class ItemTreino {
     @Column(name = "observacoes", columnDefinition = "TEXT")
     private String observacoes;
     
+    // Versão da última alteração, usada pela sincronização incremental (ver SincronizacaoListener)
+    @ColumnDefault("0")
+    @Column(name = "versao_sync", nullable = false)
+    private Long versaoSync = 0L;
+    
     // Construtores
     public ItemTreino() {
     }
@@ -143,6 +157,16 @@ public class ItemTreino {
         this.observacoes = observacoes;
     }
     
+    @Override
+    public Long getVersaoSync() {
+        return versaoSync;
+    }
+    
+    @Override
+    public void setVersaoSync(Long versaoSync) {
+        this.versaoSync = versaoSync;
+    }
+    
     @Override
     public String toString() {
         return "ItemTreino{" +
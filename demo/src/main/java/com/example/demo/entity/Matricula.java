@@ -3,15 +3,20 @@ package com.example.demo.entity;
 import java.time.LocalDate;
 
 import com.example.demo.enums.MatriculaStatus;
+import com.example.demo.sincronizacao.SincronizacaoListener;
+
+import org.hibernate.annotations.ColumnDefault;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,8 +26,13 @@ import jakarta.validation.constraints.NotNull;
  * Entidade que representa uma Matrícula de aluno em um plano na academia
  */
 @Entity
-@Table(name = "Matriculas")
-public class Matricula {
+@EntityListeners(SincronizacaoListener.class)
+@Table(name = "Matriculas", indexes = {
+    @Index(name = "idx_matricula_data_inicio", columnList = "data_inicio, id_matricula"),
+    @Index(name = "idx_matricula_status_data_fim", columnList = "status, data_fim"),
+    @Index(name = "idx_matricula_versao_sync", columnList = "versao_sync")
+})
+public class Matricula implements Sincronizavel {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -52,6 +62,11 @@ public class Matricula {
     @NotNull(message = "Status da matrícula é obrigatório")
     private MatriculaStatus status;
     
+    // Versão da última alteração, usada pela sincronização incremental (ver SincronizacaoListener)
+    @ColumnDefault("0")
+    @Column(name = "versao_sync", nullable = false)
+    private Long versaoSync = 0L;
+    
     // Construtores
     public Matricula() {
     }
@@ -113,6 +128,16 @@ public class Matricula {
         this.status = status;
     }
     
+    @Override
+    public Long getVersaoSync() {
+        return versaoSync;
+    }
+    
+    @Override
+    public void setVersaoSync(Long versaoSync) {
+        this.versaoSync = versaoSync;
+    }
+    
     @Override
     public String toString() {
         return "Matricula{" +
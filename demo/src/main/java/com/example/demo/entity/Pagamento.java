@@ -3,22 +3,32 @@ package com.example.demo.entity;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
+import com.example.demo.sincronizacao.SincronizacaoListener;
+
 /**
  * Entidade que representa um Pagamento de uma matrícula
  */
 @Entity
-@Table(name = "Pagamentos")
-public class Pagamento {
+@EntityListeners(SincronizacaoListener.class)
+@Table(name = "Pagamentos", indexes = {
+    @Index(name = "idx_pagamento_data", columnList = "data_pagamento, id_pagamento"),
+    @Index(name = "idx_pagamento_versao_sync", columnList = "versao_sync")
+})
+public class Pagamento implements Sincronizavel {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -38,6 +48,11 @@ public class Pagamento {
     @Column(name = "forma_pagamento", length = 20)
     private String formaPagamento;
     
+    // Versão da última alteração, usada pela sincronização incremental (ver SincronizacaoListener)
+    @ColumnDefault("0")
+    @Column(name = "versao_sync", nullable = false)
+    private Long versaoSync = 0L;
+    
     // Construtores
     public Pagamento() {
     }
@@ -90,6 +105,16 @@ public class Pagamento {
         this.formaPagamento = formaPagamento;
     }
     
+    @Override
+    public Long getVersaoSync() {
+        return versaoSync;
+    }
+    
+    @Override
+    public void setVersaoSync(Long versaoSync) {
+        this.versaoSync = versaoSync;
+    }
+    
     @Override
     public String toString() {
         return "Pagamento{" +
@@ -2,19 +2,33 @@ package com.example.demo.entity;
 
 import java.math.BigDecimal;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
+import com.example.demo.sincronizacao.SincronizacaoListener;
+
 /**
  * Entidade que representa um Plano de Assinatura na academia
  */
 @Entity
-@Table(name = "Planos")
-public class Plano {
+@EntityListeners(SincronizacaoListener.class)
+@Table(name = "Planos", indexes = {
+    @Index(name = "idx_plano_versao_sync", columnList = "versao_sync")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "plano")
+public class Plano implements Sincronizavel {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -36,6 +50,11 @@ public class Plano {
     @Column(name = "status", nullable = false, length = 20)
     private String status = "ATIVO";
     
+    // Versão da última alteração, usada pela sincronização incremental (ver SincronizacaoListener)
+    @ColumnDefault("0")
+    @Column(name = "versao_sync", nullable = false)
+    private Long versaoSync = 0L;
+    
     // Construtores
     public Plano() {
     }
@@ -97,6 +116,16 @@ public class Plano {
         this.status = status;
     }
     
+    @Override
+    public Long getVersaoSync() {
+        return versaoSync;
+    }
+    
+    @Override
+    public void setVersaoSync(Long versaoSync) {
+        this.versaoSync = versaoSync;
+    }
+    
     @Override
     public String toString() {
         return "Plano{" +
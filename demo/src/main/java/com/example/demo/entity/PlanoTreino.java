@@ -4,13 +4,17 @@ import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -19,12 +23,18 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+import com.example.demo.sincronizacao.SincronizacaoListener;
+
 /**
  * Entidade que representa um Plano de Treino criado por um instrutor para um aluno
  */
 @Entity
-@Table(name = "PlanosTreino")
-public class PlanoTreino {
+@EntityListeners(SincronizacaoListener.class)
+@Table(name = "PlanosTreino", indexes = {
+    @Index(name = "idx_plano_treino_data_criacao", columnList = "data_criacao, id_plano"),
+    @Index(name = "idx_plano_treino_versao_sync", columnList = "versao_sync")
+})
+public class PlanoTreino implements Sincronizavel {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -56,6 +66,11 @@ public class PlanoTreino {
     @OneToMany(mappedBy = "planoTreino", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ItemTreino> itensTreino = new HashSet<>();
     
+    // Versão da última alteração, usada pela sincronização incremental (ver SincronizacaoListener)
+    @ColumnDefault("0")
+    @Column(name = "versao_sync", nullable = false)
+    private Long versaoSync = 0L;
+    
     // Construtores
     public PlanoTreino() {
     }
@@ -123,6 +138,16 @@ public class PlanoTreino {
         this.duracaoSemanas = duracaoSemanas;
     }
     
+    @Override
+    public Long getVersaoSync() {
+        return versaoSync;
+    }
+    
+    @Override
+    public void setVersaoSync(Long versaoSync) {
+        this.versaoSync = versaoSync;
+    }
+    
     @Override
     public String toString() {
         return "PlanoTreino{" +
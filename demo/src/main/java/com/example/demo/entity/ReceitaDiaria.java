@@ -0,0 +1,95 @@
+package com.example.demo.entity;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+/**
+ * Receita de um dia por forma de pagamento, mantida pelo ResumoDiarioService
+ */
+@Entity
+@Immutable
+@IdClass(ReceitaDiaria.Chave.class)
+@Table(name = "receita_diaria")
+public class ReceitaDiaria {
+    
+    /** Forma gravada quando o pagamento não informa uma (a coluna faz parte da chave) */
+    public static final String FORMA_NAO_INFORMADA = "NAO_INFORMADA";
+    
+    @Id
+    @Column(name = "data")
+    private LocalDate data;
+    
+    @Id
+    @Column(name = "forma_pagamento", length = 20)
+    private String formaPagamento;
+    
+    @Column(name = "valor_total", nullable = false, precision = 14, scale = 2)
+    private BigDecimal valorTotal = BigDecimal.ZERO;
+    
+    @Column(name = "quantidade", nullable = false)
+    private Long quantidade = 0L;
+    
+    // Construtores
+    public ReceitaDiaria() {
+    }
+    
+    // Getters
+    public LocalDate getData() {
+        return data;
+    }
+    
+    public String getFormaPagamento() {
+        return formaPagamento;
+    }
+    
+    public BigDecimal getValorTotal() {
+        return valorTotal;
+    }
+    
+    public Long getQuantidade() {
+        return quantidade;
+    }
+    
+    /**
+     * Chave composta (data, forma de pagamento)
+     */
+    public static class Chave implements Serializable {
+        
+        private LocalDate data;
+        private String formaPagamento;
+        
+        public Chave() {
+        }
+        
+        public Chave(LocalDate data, String formaPagamento) {
+            this.data = data;
+            this.formaPagamento = formaPagamento;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Chave outra)) {
+                return false;
+            }
+            return Objects.equals(data, outra.data) && Objects.equals(formaPagamento, outra.formaPagamento);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(data, formaPagamento);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.entity;
+
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Totais de frequência e de novas matrículas de um dia
+ * As linhas são mantidas pelo ResumoDiarioService a cada escrita nos services de origem,
+ * por isso a entidade é somente leitura para o Hibernate
+ */
+@Entity
+@Immutable
+@Table(name = "resumo_diario")
+public class ResumoDiario {
+    
+    @Id
+    @Column(name = "data")
+    private LocalDate data;
+    
+    @Column(name = "presencas", nullable = false)
+    private Long presencas = 0L;
+    
+    @Column(name = "ausencias", nullable = false)
+    private Long ausencias = 0L;
+    
+    @Column(name = "novas_matriculas", nullable = false)
+    private Long novasMatriculas = 0L;
+    
+    // Construtores
+    public ResumoDiario() {
+    }
+    
+    // Getters
+    public LocalDate getData() {
+        return data;
+    }
+    
+    public Long getPresencas() {
+        return presencas;
+    }
+    
+    public Long getAusencias() {
+        return ausencias;
+    }
+    
+    public Long getNovasMatriculas() {
+        return novasMatriculas;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demo.entity;
+
+/**
+ * Entidade acompanhada pela sincronização incremental (GET /api/sync)
+ * A versão é atribuída pelo SincronizacaoListener a cada inserção ou alteração
+ */
+public interface Sincronizavel {
+
+    Long getVersaoSync();
+
+    void setVersaoSync(Long versaoSync);
+}
@@ -0,0 +1,12 @@
+package com.example.demo.enums;
+
+/**
+ * Tipos de registro cobertos pela busca textual global
+ */
+public enum TipoDocumentoBusca {
+    EXERCICIO,
+    PLANO,
+    PLANO_TREINO,
+    ITEM_TREINO,
+    AVALIACAO_FISICA
+}
@@ -0,0 +1,11 @@
+package com.example.demo.exportacao;
+
+import java.util.function.Function;
+
+/**
+ * Coluna de uma exportação CSV
+ * @param cabecalho Nome da coluna na primeira linha do arquivo
+ * @param valor Extrai o valor da coluna de um registro
+ */
+public record ColunaCsv<T>(String cabecalho, Function<T, ?> valor) {
+}
@@ -0,0 +1,116 @@
+package com.example.demo.exportacao;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Escreve registros diretamente na resposta HTTP, um por linha, à medida que são lidos do banco
+ * Nada é acumulado além do buffer de escrita, então o consumo de memória não depende do tamanho da exportação
+ */
+public class EscritorExportacao<T> implements Consumer<T>, Closeable {
+
+    private static final int TAMANHO_BUFFER = 16 * 1024;
+    private static final char SEPARADOR_CSV = ',';
+    private static final String FIM_LINHA_CSV = "\r\n";
+
+    private final FormatoExportacao formato;
+    private final Writer saida;
+    private final ObjectWriter escritorJson;
+    private final List<ColunaCsv<T>> colunas;
+
+    /**
+     * Cria o escritor e, no formato CSV, já escreve a linha de cabeçalho
+     * @param formato Formato de saída
+     * @param saida Stream da resposta
+     * @param objectMapper ObjectMapper da aplicação (usado no formato NDJSON)
+     * @param colunas Colunas do formato CSV
+     */
+    public EscritorExportacao(FormatoExportacao formato, OutputStream saida, ObjectMapper objectMapper,
+                              List<ColunaCsv<T>> colunas) throws IOException {
+        this.formato = formato;
+        this.saida = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        this.escritorJson = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.colunas = colunas;
+
+        if (formato == FormatoExportacao.CSV) {
+            escreverCabecalhoCsv();
+        }
+    }
+
+    /**
+     * Escreve um registro
+     * @param item Registro a ser exportado
+     */
+    @Override
+    public void accept(T item) {
+        try {
+            if (formato == FormatoExportacao.NDJSON) {
+                escritorJson.writeValue(saida, item);
+                saida.write('\n');
+            } else {
+                escreverLinhaCsv(item);
+            }
+        } catch (IOException e) {
+            // Normalmente o cliente encerrou o download; interrompe a leitura do banco
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Envia o conteúdo restante do buffer (o stream da resposta é fechado pelo container)
+     */
+    @Override
+    public void close() throws IOException {
+        saida.flush();
+    }
+
+    private void escreverCabecalhoCsv() throws IOException {
+        for (int i = 0; i < colunas.size(); i++) {
+            if (i > 0) {
+                saida.write(SEPARADOR_CSV);
+            }
+            escreverCampoCsv(colunas.get(i).cabecalho());
+        }
+        saida.write(FIM_LINHA_CSV);
+    }
+
+    private void escreverLinhaCsv(T item) throws IOException {
+        for (int i = 0; i < colunas.size(); i++) {
+            if (i > 0) {
+                saida.write(SEPARADOR_CSV);
+            }
+            Object valor = colunas.get(i).valor().apply(item);
+            if (valor != null) {
+                escreverCampoCsv(valor.toString());
+            }
+        }
+        saida.write(FIM_LINHA_CSV);
+    }
+
+    /**
+     * Escreve um campo CSV, entre aspas quando contém separador, aspas ou quebra de linha (RFC 4180)
+     */
+    private void escreverCampoCsv(String campo) throws IOException {
+        boolean precisaAspas = campo.indexOf(SEPARADOR_CSV) >= 0 || campo.indexOf('"') >= 0
+            || campo.indexOf('\n') >= 0 || campo.indexOf('\r') >= 0;
+        if (!precisaAspas) {
+            saida.write(campo);
+            return;
+        }
+        saida.write('"');
+        saida.write(campo.replace("\"", "\"\""));
+        saida.write('"');
+    }
+}
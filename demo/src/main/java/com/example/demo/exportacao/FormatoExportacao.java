@@ -0,0 +1,62 @@
+package com.example.demo.exportacao;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+
+import com.example.demo.exception.ValidacaoException;
+
+/**
+ * Formatos suportados pelos endpoints de exportação
+ */
+public enum FormatoExportacao {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType tipoConteudo;
+    private final String extensao;
+
+    FormatoExportacao(MediaType tipoConteudo, String extensao) {
+        this.tipoConteudo = tipoConteudo;
+        this.extensao = extensao;
+    }
+
+    /**
+     * Converte o parâmetro da requisição no formato de exportação
+     * @param formato "ndjson" ou "csv"
+     * @return Formato correspondente
+     */
+    public static FormatoExportacao de(String formato) {
+        for (FormatoExportacao valor : values()) {
+            if (valor.extensao.equalsIgnoreCase(formato)) {
+                return valor;
+            }
+        }
+        throw new ValidacaoException("Formato de exportação inválido: " + formato + " (use ndjson ou csv)");
+    }
+
+    /**
+     * Monta o cabeçalho Content-Disposition do arquivo exportado
+     * @param prefixo Prefixo do nome do arquivo (ex.: pagamentos)
+     * @param dataInicio Data inicial do período exportado
+     * @param dataFim Data final do período exportado
+     * @return Valor do cabeçalho
+     */
+    public String anexo(String prefixo, LocalDate dataInicio, LocalDate dataFim) {
+        return ContentDisposition.attachment()
+            .filename(prefixo + "_" + dataInicio + "_" + dataFim + "." + extensao)
+            .build()
+            .toString();
+    }
+
+    public MediaType getTipoConteudo() {
+        return tipoConteudo;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.demo.index;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Frequência de um aluno em bits: um bit por dia do ano, em dois mapas de bits por ano
+ * (dias com registro e dias com presença). Contagens de período são popcounts sobre as palavras,
+ * e as ausências são os dias registrados sem o bit de presença.
+ *
+ * Os métodos são sincronizados porque as escritas chegam de várias requisições ao mesmo tempo.
+ */
+public class BitmapFrequencia {
+
+    /** 366 dias cabem em 6 palavras de 64 bits */
+    private static final int PALAVRAS_POR_ANO = 6;
+
+    private final TreeMap<Integer, long[]> registrosPorAno = new TreeMap<>();
+    private final TreeMap<Integer, long[]> presencasPorAno = new TreeMap<>();
+
+    /**
+     * Marca o dia como registrado, presente ou ausente
+     * @param data Dia
+     * @param presenca true para presença
+     */
+    public synchronized void marcar(LocalDate data, boolean presenca) {
+        int bit = data.getDayOfYear() - 1;
+        long mascara = 1L << bit;
+        int palavra = bit >>> 6;
+        registrosPorAno.computeIfAbsent(data.getYear(), a -> new long[PALAVRAS_POR_ANO])[palavra] |= mascara;
+        long[] presencas = presencasPorAno.computeIfAbsent(data.getYear(), a -> new long[PALAVRAS_POR_ANO]);
+        if (presenca) {
+            presencas[palavra] |= mascara;
+        } else {
+            presencas[palavra] &= ~mascara;
+        }
+    }
+
+    /**
+     * Remove o registro do dia
+     * @param data Dia
+     */
+    public synchronized void desmarcar(LocalDate data) {
+        long[] registros = registrosPorAno.get(data.getYear());
+        if (registros == null) {
+            return;
+        }
+        int bit = data.getDayOfYear() - 1;
+        long mascara = ~(1L << bit);
+        registros[bit >>> 6] &= mascara;
+        presencasPorAno.get(data.getYear())[bit >>> 6] &= mascara;
+    }
+
+    /**
+     * Conta registros e presenças em um período (inclusivo)
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Contagem do período
+     */
+    public synchronized ContagemFrequencia contar(LocalDate dataInicio, LocalDate dataFim) {
+        long registros = 0;
+        long presencas = 0;
+        for (Map.Entry<Integer, long[]> ano : registrosPorAno.subMap(dataInicio.getYear(), true, dataFim.getYear(), true).entrySet()) {
+            int primeiroBit = ano.getKey() == dataInicio.getYear() ? dataInicio.getDayOfYear() - 1 : 0;
+            int ultimoBit = ano.getKey() == dataFim.getYear() ? dataFim.getDayOfYear() - 1 : Year.of(ano.getKey()).length() - 1;
+            registros += contarBits(ano.getValue(), primeiroBit, ultimoBit);
+            presencas += contarBits(presencasPorAno.get(ano.getKey()), primeiroBit, ultimoBit);
+        }
+        return new ContagemFrequencia(registros, presencas);
+    }
+
+    /**
+     * Conta registros e presenças de todos os dias
+     * @return Contagem total
+     */
+    public synchronized ContagemFrequencia contarTudo() {
+        long registros = 0;
+        long presencas = 0;
+        for (Map.Entry<Integer, long[]> ano : registrosPorAno.entrySet()) {
+            long[] presencasAno = presencasPorAno.get(ano.getKey());
+            for (int i = 0; i < PALAVRAS_POR_ANO; i++) {
+                registros += Long.bitCount(ano.getValue()[i]);
+                presencas += Long.bitCount(presencasAno[i]);
+            }
+        }
+        return new ContagemFrequencia(registros, presencas);
+    }
+
+    /**
+     * Agrupa as contagens por mês, omitindo meses sem registro
+     * @param dataInicio Data inicial (null para desde o primeiro registro)
+     * @param dataFim Data final (null para até o último registro)
+     * @return Contagens por mês em ordem cronológica
+     */
+    public synchronized Map<YearMonth, ContagemFrequencia> contarPorMes(LocalDate dataInicio, LocalDate dataFim) {
+        Map<YearMonth, ContagemFrequencia> porMes = new TreeMap<>();
+        for (int ano : registrosPorAno.keySet()) {
+            for (int mes = 1; mes <= 12; mes++) {
+                YearMonth anoMes = YearMonth.of(ano, mes);
+                LocalDate inicio = maior(anoMes.atDay(1), dataInicio);
+                LocalDate fim = menor(anoMes.atEndOfMonth(), dataFim);
+                if (inicio.isAfter(fim)) {
+                    continue;
+                }
+                ContagemFrequencia contagem = contar(inicio, fim);
+                if (contagem.registros() > 0) {
+                    porMes.put(anoMes, contagem);
+                }
+            }
+        }
+        return porMes;
+    }
+
+    /**
+     * Conta os dias seguidos com presença que terminam na data de referência
+     * Se ainda não há presença na data, a sequência que terminou no dia anterior continua valendo
+     * @param referencia Normalmente hoje
+     * @return Número de dias consecutivos com presença
+     */
+    public synchronized int sequenciaAtual(LocalDate referencia) {
+        LocalDate dia = presente(referencia) ? referencia : referencia.minusDays(1);
+        int sequencia = 0;
+        while (presente(dia)) {
+            long[] presencas = presencasPorAno.get(dia.getYear());
+            int bit = dia.getDayOfYear() - 1;
+            // Palavra inteira com presença até o dia: soma de uma vez os bits abaixo dele
+            if ((bit & 63) == 63 && presencas[bit >>> 6] == -1L) {
+                sequencia += 64;
+                dia = dia.minusDays(64);
+                continue;
+            }
+            sequencia++;
+            dia = dia.minusDays(1);
+        }
+        return sequencia;
+    }
+
+    /**
+     * Calcula a maior sequência de dias consecutivos com presença
+     * @return Número de dias da maior sequência
+     */
+    public synchronized int maiorSequencia() {
+        int maior = 0;
+        int corrente = 0;
+        Integer anoAnterior = null;
+        for (Map.Entry<Integer, long[]> ano : presencasPorAno.entrySet()) {
+            if (anoAnterior != null && ano.getKey() != anoAnterior + 1) {
+                corrente = 0;
+            }
+            anoAnterior = ano.getKey();
+            int diasNoAno = Year.of(ano.getKey()).length();
+            long[] palavras = ano.getValue();
+            for (int i = 0; i < PALAVRAS_POR_ANO && i * 64 < diasNoAno; i++) {
+                int bitsValidos = Math.min(64, diasNoAno - i * 64);
+                long mascaraValida = bitsValidos == 64 ? -1L : (1L << bitsValidos) - 1;
+                long palavra = palavras[i] & mascaraValida;
+                if (palavra == mascaraValida) {
+                    corrente += bitsValidos;
+                    continue;
+                }
+                // Bits 1 do início da palavra continuam a sequência que veio da palavra anterior
+                corrente += Long.numberOfTrailingZeros(~palavra);
+                maior = Math.max(maior, corrente);
+                maior = Math.max(maior, maiorSequenciaNaPalavra(palavra));
+                // Bits 1 do fim da palavra começam a próxima sequência
+                corrente = Long.numberOfLeadingZeros(~(palavra << (64 - bitsValidos)));
+            }
+            maior = Math.max(maior, corrente);
+        }
+        return maior;
+    }
+
+    private boolean presente(LocalDate dia) {
+        long[] presencas = presencasPorAno.get(dia.getYear());
+        if (presencas == null) {
+            return false;
+        }
+        int bit = dia.getDayOfYear() - 1;
+        return (presencas[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Popcount dos bits entre primeiroBit e ultimoBit (inclusivos)
+     */
+    private static long contarBits(long[] palavras, int primeiroBit, int ultimoBit) {
+        int primeiraPalavra = primeiroBit >>> 6;
+        int ultimaPalavra = ultimoBit >>> 6;
+        long total = 0;
+        for (int i = primeiraPalavra; i <= ultimaPalavra; i++) {
+            long palavra = palavras[i];
+            if (i == primeiraPalavra) {
+                palavra &= -1L << primeiroBit;
+            }
+            if (i == ultimaPalavra) {
+                palavra &= -1L >>> (63 - (ultimoBit & 63));
+            }
+            total += Long.bitCount(palavra);
+        }
+        return total;
+    }
+
+    /**
+     * Maior sequência de bits 1 dentro de uma palavra: cada AND com o próprio deslocamento
+     * encurta todas as sequências em um bit, então o número de passos é o tamanho da maior
+     */
+    private static int maiorSequenciaNaPalavra(long palavra) {
+        int passos = 0;
+        while (palavra != 0) {
+            palavra &= palavra >>> 1;
+            passos++;
+        }
+        return passos;
+    }
+
+    private static LocalDate maior(LocalDate data, LocalDate limite) {
+        return limite != null && limite.isAfter(data) ? limite : data;
+    }
+
+    private static LocalDate menor(LocalDate data, LocalDate limite) {
+        return limite != null && limite.isBefore(data) ? limite : data;
+    }
+}
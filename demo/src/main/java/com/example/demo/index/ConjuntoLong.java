@@ -0,0 +1,136 @@
+package com.example.demo.index;
+
+import java.util.Arrays;
+
+/**
+ * Conjunto de valores long sem boxing (endereçamento aberto com sondagem linear)
+ *
+ * Usado para os IDs de alunos com presença no dia: cabe em um array de long em vez de
+ * um objeto Long e uma entrada de HashMap por aluno. Não é thread-safe; quem usa sincroniza.
+ */
+public final class ConjuntoLong {
+
+    private static final long VAZIO = 0L;
+    private static final int CAPACIDADE_INICIAL = 64;
+
+    private long[] chaves;
+    private int tamanho;
+    private boolean contemZero; // 0 marca posição vazia, então é guardado à parte
+
+    public ConjuntoLong() {
+        this.chaves = new long[CAPACIDADE_INICIAL];
+    }
+
+    /**
+     * Adiciona um valor
+     * @param valor Valor
+     * @return true se o valor não estava no conjunto
+     */
+    public boolean adicionar(long valor) {
+        if (valor == VAZIO) {
+            boolean novo = !contemZero;
+            contemZero = true;
+            return novo;
+        }
+        int posicao = posicaoDe(valor);
+        if (chaves[posicao] == valor) {
+            return false;
+        }
+        chaves[posicao] = valor;
+        tamanho++;
+        if (tamanho * 2 > chaves.length) {
+            redimensionar(chaves.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Verifica se um valor está no conjunto
+     * @param valor Valor
+     * @return true se está no conjunto
+     */
+    public boolean contem(long valor) {
+        if (valor == VAZIO) {
+            return contemZero;
+        }
+        return chaves[posicaoDe(valor)] == valor;
+    }
+
+    /**
+     * Remove um valor, deslocando para trás os que vieram depois dele na mesma sequência de sondagem
+     * @param valor Valor
+     * @return true se o valor estava no conjunto
+     */
+    public boolean remover(long valor) {
+        if (valor == VAZIO) {
+            boolean estava = contemZero;
+            contemZero = false;
+            return estava;
+        }
+        int posicao = posicaoDe(valor);
+        if (chaves[posicao] != valor) {
+            return false;
+        }
+        int mascara = chaves.length - 1;
+        int livre = posicao;
+        int atual = (posicao + 1) & mascara;
+        while (chaves[atual] != VAZIO) {
+            int ideal = espalhar(chaves[atual]) & mascara;
+            // Move a chave para a posição livre se a posição ideal dela não estiver entre livre e atual
+            if (((atual - ideal) & mascara) >= ((atual - livre) & mascara)) {
+                chaves[livre] = chaves[atual];
+                livre = atual;
+            }
+            atual = (atual + 1) & mascara;
+        }
+        chaves[livre] = VAZIO;
+        tamanho--;
+        return true;
+    }
+
+    /**
+     * Remove todos os valores, mantendo a capacidade atual
+     */
+    public void limpar() {
+        Arrays.fill(chaves, VAZIO);
+        tamanho = 0;
+        contemZero = false;
+    }
+
+    /**
+     * @return Quantidade de valores no conjunto
+     */
+    public int tamanho() {
+        return tamanho + (contemZero ? 1 : 0);
+    }
+
+    /**
+     * Posição do valor, ou a posição vazia onde ele seria inserido
+     */
+    private int posicaoDe(long valor) {
+        int mascara = chaves.length - 1;
+        int posicao = espalhar(valor) & mascara;
+        while (chaves[posicao] != VAZIO && chaves[posicao] != valor) {
+            posicao = (posicao + 1) & mascara;
+        }
+        return posicao;
+    }
+
+    private void redimensionar(int novaCapacidade) {
+        long[] antigas = chaves;
+        chaves = new long[novaCapacidade];
+        for (long chave : antigas) {
+            if (chave != VAZIO) {
+                chaves[posicaoDe(chave)] = chave;
+            }
+        }
+    }
+
+    /**
+     * Mistura os bits do valor; IDs sequenciais ocupariam posições vizinhas e formariam longas sequências de sondagem
+     */
+    private static int espalhar(long valor) {
+        long h = valor * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.demo.index;
+
+/**
+ * Contagem de registros de frequência de um período
+ * @param registros Dias com registro (presença ou ausência)
+ * @param presencas Dias com presença
+ */
+public record ContagemFrequencia(long registros, long presencas) {
+
+    public long ausencias() {
+        return registros - presencas;
+    }
+
+    /**
+     * @return Percentual de presenças sobre os registros (0 se não houver registros)
+     */
+    public double taxaPresenca() {
+        return registros == 0 ? 0.0 : (presencas * 100.0) / registros;
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.demo.index;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.enums.MatriculaStatus;
+import com.example.demo.repository.FrequenciaRepository;
+import com.example.demo.repository.MatriculaRepository;
+import com.example.demo.util.Transacoes;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Índice em memória usado na validação do check-in
+ *
+ * Guarda, para cada aluno com matrícula ativa, a maior data de término entre elas, e o conjunto
+ * dos alunos com frequência registrada hoje. É carregado na inicialização e atualizado pelos
+ * services depois do commit, então o caso comum do check-in (aluno ativo, primeiro registro do dia)
+ * é validado sem consultar o banco. Respostas negativas ainda são confirmadas no banco pelo
+ * FrequenciaService, e a restrição única (id_aluno, data) impede duplicidades entre check-ins simultâneos.
+ *
+ * As entradas dos alunos são consultadas depois do commit, e cada consulta recebe um número de sequência
+ * tirado antes dela: uma consulta só substitui a entrada se for mais recente que a que a gravou. Assim
+ * uma atualização (ou a reconstrução) que termina por último, mas consultou antes, não restaura um estado antigo.
+ */
+@Component
+public class IndiceMatriculasAtivas {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndiceMatriculasAtivas.class);
+
+    private final ConcurrentHashMap<Long, Situacao> situacaoPorAluno = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequenciaConsultas = new AtomicLong();
+
+    private final ConjuntoLong presencasDoDia = new ConjuntoLong();
+
+    private LocalDate diaDasPresencas = LocalDate.now();
+
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+
+    @Autowired
+    private FrequenciaRepository frequenciaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transacaoNova;
+
+    @PostConstruct
+    public void inicializar() {
+        // Após o commit a transação original não aceita mais consultas: elas rodam em uma transação própria
+        transacaoNova = new TransactionTemplate(transactionManager);
+        transacaoNova.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transacaoNova.setReadOnly(true);
+    }
+
+    /**
+     * Carrega o índice a partir do banco
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        LocalDate hoje = LocalDate.now();
+        long sequencia = sequenciaConsultas.incrementAndGet();
+        List<Object[]> matriculas = matriculaRepository.buscarMaiorDataFimDeTodos(MatriculaStatus.ATIVA);
+        List<Long> presentes = frequenciaRepository.buscarIdsAlunosPorData(hoje);
+
+        Map<Long, LocalDate> fimPorAluno = new HashMap<>();
+        for (Object[] linha : matriculas) {
+            fimPorAluno.put((Long) linha[0], (LocalDate) linha[1]);
+        }
+        for (Long idAluno : situacaoPorAluno.keySet()) {
+            fimPorAluno.putIfAbsent(idAluno, null);
+        }
+        fimPorAluno.forEach((idAluno, fimMatricula) -> aplicar(idAluno, fimMatricula, sequencia));
+        synchronized (presencasDoDia) {
+            presencasDoDia.limpar();
+            diaDasPresencas = hoje;
+            presentes.forEach(presencasDoDia::adicionar);
+        }
+        logger.info("Índice de matrículas ativas carregado: {} alunos ativos, {} presenças hoje",
+            matriculas.size(), presentes.size());
+    }
+
+    /**
+     * Retorna a maior data de término entre as matrículas ativas do aluno
+     * @param idAluno ID do aluno
+     * @return Data de término, ou null se o aluno não tem matrícula ativa no índice
+     */
+    public LocalDate buscarFimMatriculaAtiva(Long idAluno) {
+        Situacao situacao = situacaoPorAluno.get(idAluno);
+        return situacao == null ? null : situacao.fimMatricula();
+    }
+
+    /**
+     * Verifica se o aluno já tem frequência registrada hoje
+     * @param idAluno ID do aluno
+     * @return true se há registro de hoje no índice
+     */
+    public boolean possuiFrequenciaHoje(Long idAluno) {
+        synchronized (presencasDoDia) {
+            virarDiaSeNecessario();
+            return presencasDoDia.contem(idAluno);
+        }
+    }
+
+    /**
+     * Recalcula a entrada do aluno depois de uma mudança nas matrículas dele
+     * A consulta roda depois do commit, então enxerga o que foi confirmado até ali
+     * @param idAluno ID do aluno
+     */
+    public void atualizarAluno(Long idAluno) {
+        if (idAluno == null) {
+            return;
+        }
+        atualizarAlunos(List.of(idAluno));
+    }
+
+    /**
+     * Recalcula as entradas de vários alunos com uma única consulta (usado nas transições em lote)
+     * @param idsAlunos IDs dos alunos
+     */
+    public void atualizarAlunos(Collection<Long> idsAlunos) {
+        if (idsAlunos.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(idsAlunos);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Transacoes.aposCommit(() -> transacaoNova.executeWithoutResult(status -> recarregar(ids)));
+        } else {
+            recarregar(ids);
+        }
+    }
+
+    /**
+     * Consulta as matrículas ativas dos alunos e aplica o resultado, se nenhuma consulta posterior já o fez
+     * @param ids IDs dos alunos
+     */
+    private void recarregar(List<Long> ids) {
+        long sequencia = sequenciaConsultas.incrementAndGet();
+        Map<Long, LocalDate> fimPorAluno = new HashMap<>();
+        for (Object[] linha : matriculaRepository.buscarMaiorDataFimPorAluno(ids, MatriculaStatus.ATIVA)) {
+            fimPorAluno.put((Long) linha[0], (LocalDate) linha[1]);
+        }
+        for (Long idAluno : ids) {
+            aplicar(idAluno, fimPorAluno.get(idAluno), sequencia);
+        }
+    }
+
+    /**
+     * Grava a situação do aluno vinda da consulta de número sequencia, a menos que a entrada atual
+     * tenha vindo de uma consulta posterior
+     * @param idAluno ID do aluno
+     * @param fimMatricula Maior data de término entre as matrículas ativas, ou null se não há nenhuma
+     * @param sequencia Número da consulta
+     */
+    private void aplicar(Long idAluno, LocalDate fimMatricula, long sequencia) {
+        situacaoPorAluno.compute(idAluno, (id, atual) ->
+            atual != null && atual.sequencia() > sequencia ? atual : new Situacao(fimMatricula, sequencia));
+    }
+
+    /**
+     * Marca a frequência do aluno na data, após o commit (só registros de hoje ficam no índice)
+     * @param idAluno ID do aluno
+     * @param data Data do registro
+     */
+    public void registrarFrequencia(Long idAluno, LocalDate data) {
+        Transacoes.aposCommit(() -> {
+            synchronized (presencasDoDia) {
+                virarDiaSeNecessario();
+                if (diaDasPresencas.equals(data)) {
+                    presencasDoDia.adicionar(idAluno);
+                }
+            }
+        });
+    }
+
+    /**
+     * Desmarca a frequência do aluno na data, após o commit
+     * @param idAluno ID do aluno
+     * @param data Data do registro removido
+     */
+    public void removerFrequencia(Long idAluno, LocalDate data) {
+        Transacoes.aposCommit(() -> {
+            synchronized (presencasDoDia) {
+                virarDiaSeNecessario();
+                if (diaDasPresencas.equals(data)) {
+                    presencasDoDia.remover(idAluno);
+                }
+            }
+        });
+    }
+
+    /**
+     * Troca o conjunto de presenças quando a data muda (chamado com o lock do conjunto)
+     */
+    private void virarDiaSeNecessario() {
+        LocalDate hoje = LocalDate.now();
+        if (!hoje.equals(diaDasPresencas)) {
+            presencasDoDia.limpar();
+            diaDasPresencas = hoje;
+        }
+    }
+
+    /**
+     * Entrada do índice: fimMatricula null indica aluno sem matrícula ativa (a entrada é mantida para
+     * que uma consulta mais antiga não a sobrescreva)
+     */
+    private record Situacao(LocalDate fimMatricula, long sequencia) {
+    }
+}
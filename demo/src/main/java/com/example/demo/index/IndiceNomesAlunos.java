@@ -0,0 +1,207 @@
+package com.example.demo.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.dto.AlunoDTO;
+import com.example.demo.entity.Aluno;
+import com.example.demo.repository.AlunoRepository;
+import com.example.demo.util.NormalizadorTexto;
+import com.example.demo.util.Transacoes;
+
+/**
+ * Índice de prefixos dos nomes e CPFs dos alunos, usado nas sugestões das caixas de busca
+ *
+ * Cada palavra do nome (sem acentos, em minúsculas) e os dígitos do CPF viram termos de uma
+ * {@link TriePrefixos}. Na busca, o termo digitado mais longo percorre a árvore e os demais só
+ * filtram os candidatos, então "jo sil" encontra "João da Silva". É carregado na inicialização
+ * e atualizado pelo AlunoService depois do commit.
+ */
+@Component
+public class IndiceNomesAlunos {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndiceNomesAlunos.class);
+
+    public static final int LIMITE_PADRAO = 10;
+    public static final int LIMITE_MAXIMO = 50;
+
+    private static final Pattern NAO_DIGITOS = Pattern.compile("\\D+");
+    private static final Pattern POSSUI_LETRA = Pattern.compile("\\p{L}");
+
+    private final TriePrefixos trie = new TriePrefixos();
+
+    private final Map<Long, Entrada> entradas = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    /**
+     * Carrega o índice a partir do banco
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        List<AlunoDTO> alunos = alunoRepository.listarResumos();
+        lock.writeLock().lock();
+        try {
+            trie.limpar();
+            entradas.clear();
+            for (AlunoDTO aluno : alunos) {
+                indexar(new Entrada(aluno.getIdAluno(), aluno.getNome(), aluno.getCpf(), aluno.getDataIngresso()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Índice de nomes de alunos carregado: {} alunos", alunos.size());
+    }
+
+    /**
+     * Busca os alunos cujo nome ou CPF começa com os termos informados
+     * Todos os termos precisam ser prefixo de alguma palavra do nome ou do CPF;
+     * se a busca não tem letras, os dígitos são comparados ao CPF sem pontuação
+     * @param busca Texto digitado
+     * @param limite Quantidade máxima de alunos
+     * @return Alunos encontrados, em ordem alfabética do termo mais longo da busca
+     */
+    public List<AlunoDTO> buscar(String busca, int limite) {
+        String[] termosBusca = termosDaBusca(busca);
+        if (termosBusca.length == 0) {
+            return List.of();
+        }
+        // O termo mais longo tem a menor subárvore; os outros são conferidos em cada candidato
+        String principal = termosBusca[0];
+        String[] outros = Arrays.copyOfRange(termosBusca, 1, termosBusca.length);
+
+        lock.readLock().lock();
+        try {
+            Set<Long> ids = trie.coletar(principal, id -> entradas.get(id).atende(outros), limite);
+            List<AlunoDTO> alunos = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                alunos.add(entradas.get(id).paraDTO());
+            }
+            return alunos;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexa ou reindexa o aluno, após o commit
+     * @param aluno Aluno salvo
+     */
+    public void atualizar(Aluno aluno) {
+        Entrada entrada = new Entrada(aluno.getIdAluno(), aluno.getNome(), aluno.getCpf(), aluno.getDataIngresso());
+        Transacoes.aposCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                desindexar(entrada.id());
+                indexar(entrada);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Remove o aluno do índice, após o commit
+     * @param idAluno ID do aluno excluído
+     */
+    public void remover(Long idAluno) {
+        Transacoes.aposCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                desindexar(idAluno);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Separa a busca em termos normalizados, do mais longo para o mais curto
+     */
+    static String[] termosDaBusca(String busca) {
+        if (busca == null || busca.isBlank()) {
+            return new String[0];
+        }
+        if (!POSSUI_LETRA.matcher(busca).find()) {
+            String digitos = NAO_DIGITOS.matcher(busca).replaceAll("");
+            return digitos.isEmpty() ? new String[0] : new String[] {digitos};
+        }
+        return NormalizadorTexto.palavras(busca).stream()
+            .distinct()
+            .sorted(Comparator.comparingInt(String::length).reversed())
+            .toArray(String[]::new);
+    }
+
+    private void indexar(Entrada entrada) {
+        entradas.put(entrada.id(), entrada);
+        for (String termo : entrada.termos()) {
+            trie.adicionar(termo, entrada.id());
+        }
+    }
+
+    private void desindexar(Long idAluno) {
+        Entrada anterior = entradas.remove(idAluno);
+        if (anterior != null) {
+            for (String termo : anterior.termos()) {
+                trie.remover(termo, idAluno);
+            }
+        }
+    }
+
+    private record Entrada(Long id, String nome, String cpf, LocalDate dataIngresso, String[] termos) {
+
+        Entrada(Long id, String nome, String cpf, LocalDate dataIngresso) {
+            this(id, nome, cpf, dataIngresso, termosDoAluno(nome, cpf));
+        }
+
+        private static String[] termosDoAluno(String nome, String cpf) {
+            Set<String> termos = new LinkedHashSet<>(NormalizadorTexto.palavras(nome));
+            if (cpf != null) {
+                String digitos = NAO_DIGITOS.matcher(cpf).replaceAll("");
+                if (!digitos.isEmpty()) {
+                    termos.add(digitos);
+                }
+            }
+            return termos.toArray(String[]::new);
+        }
+
+        private boolean atende(String[] outrosTermos) {
+            for (String termoBusca : outrosTermos) {
+                boolean encontrado = false;
+                for (String termo : termos) {
+                    if (termo.startsWith(termoBusca)) {
+                        encontrado = true;
+                        break;
+                    }
+                }
+                if (!encontrado) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private AlunoDTO paraDTO() {
+            return new AlunoDTO(id, nome, cpf, dataIngresso);
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package com.example.demo.index;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.dto.ResultadoBuscaDTO;
+import com.example.demo.entity.Exercicio;
+import com.example.demo.entity.ItemTreino;
+import com.example.demo.entity.Plano;
+import com.example.demo.entity.PlanoTreino;
+import com.example.demo.enums.TipoDocumentoBusca;
+import com.example.demo.repository.AvaliacaoFisicaRepository;
+import com.example.demo.repository.ExercicioRepository;
+import com.example.demo.repository.ItemTreinoRepository;
+import com.example.demo.repository.PlanoRepository;
+import com.example.demo.repository.PlanoTreinoRepository;
+import com.example.demo.util.NormalizadorTexto;
+import com.example.demo.util.Transacoes;
+
+/**
+ * Índice invertido dos campos de texto livre, usado pela busca global
+ *
+ * Cobre nome e descrição de exercícios e planos, descrição dos planos de treino, observações dos
+ * itens de treino e medidas corporais das avaliações físicas. Cada palavra normalizada aponta para
+ * os documentos que a contêm, com a frequência no documento; a relevância é calculada com BM25.
+ * A última palavra da busca também casa como prefixo, para a busca funcionar enquanto se digita.
+ *
+ * O texto original fica em memória só para montar o trecho exibido no resultado, então a busca não
+ * lê as colunas TEXT do banco. O índice é carregado na inicialização e atualizado pelos services
+ * depois do commit.
+ */
+@Component
+public class IndiceTextual {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndiceTextual.class);
+
+    public static final int LIMITE_PADRAO = 20;
+    public static final int LIMITE_MAXIMO = 100;
+
+    // Parâmetros usuais do BM25: saturação da frequência do termo e peso do tamanho do documento
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /** Quantos termos do índice o prefixo da última palavra pode expandir */
+    private static final int MAXIMO_EXPANSOES_PREFIXO = 50;
+
+    /** A contagem de palavras encontradas por documento usa um bit por palavra da busca */
+    private static final int MAXIMO_PALAVRAS_BUSCA = 64;
+
+    private static final int CONTEXTO_TRECHO = 40;
+    private static final int TAMANHO_TRECHO = 160;
+
+    private static final Set<String> PALAVRAS_VAZIAS = Set.of(
+        "a", "o", "as", "os", "ao", "aos", "de", "da", "do", "das", "dos", "e", "em", "no", "na",
+        "nos", "nas", "um", "uma", "com", "por", "para", "que", "se", "ou");
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final TreeMap<String, Map<Chave, Integer>> listasPorTermo = new TreeMap<>();
+
+    private final Map<Chave, Indexado> documentos = new HashMap<>();
+
+    private long totalPalavras;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Autowired
+    private ExercicioRepository exercicioRepository;
+
+    @Autowired
+    private PlanoRepository planoRepository;
+
+    @Autowired
+    private PlanoTreinoRepository planoTreinoRepository;
+
+    @Autowired
+    private ItemTreinoRepository itemTreinoRepository;
+
+    @Autowired
+    private AvaliacaoFisicaRepository avaliacaoFisicaRepository;
+
+    /**
+     * Carrega o índice a partir do banco
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        List<Documento> carregados = new ArrayList<>();
+        for (Object[] linha : exercicioRepository.listarTextosParaBusca()) {
+            carregados.add(exercicio((Long) linha[0], (String) linha[1], (String) linha[2], (String) linha[3]));
+        }
+        for (Object[] linha : planoRepository.listarTextosParaBusca()) {
+            carregados.add(plano((Long) linha[0], (String) linha[1], (String) linha[2]));
+        }
+        for (Object[] linha : planoTreinoRepository.listarTextosParaBusca()) {
+            carregados.add(planoTreino((Long) linha[0], (Long) linha[1], (LocalDate) linha[2], (String) linha[3]));
+        }
+        for (Object[] linha : itemTreinoRepository.listarTextosParaBusca()) {
+            carregados.add(itemTreino((Long) linha[0], (Long) linha[1], (String) linha[2]));
+        }
+        for (Object[] linha : avaliacaoFisicaRepository.listarTextosParaBusca()) {
+            carregados.add(avaliacaoFisica((Long) linha[0], (Long) linha[1], (LocalDate) linha[2], (String) linha[3]));
+        }
+
+        lock.writeLock().lock();
+        try {
+            listasPorTermo.clear();
+            documentos.clear();
+            totalPalavras = 0;
+            carregados.forEach(this::adicionar);
+            logger.info("Índice textual carregado: {} documentos, {} termos", documentos.size(), listasPorTermo.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca os documentos que contêm as palavras informadas
+     * Documentos com mais palavras da busca vêm primeiro; entre eles, ordena pela pontuação BM25
+     * @param busca Texto digitado (acentos e maiúsculas são ignorados)
+     * @param tipo Restringe a um tipo de documento (nulo para todos)
+     * @param limite Quantidade máxima de resultados
+     * @return Resultados em ordem de relevância
+     */
+    public List<ResultadoBuscaDTO> buscar(String busca, TipoDocumentoBusca tipo, int limite) {
+        List<String> palavras = palavrasDaBusca(busca);
+        if (palavras.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (documentos.isEmpty()) {
+                return List.of();
+            }
+            int totalDocumentos = documentos.size();
+            double mediaPalavras = (double) totalPalavras / totalDocumentos;
+            Map<Chave, Pontuacao> pontuacoes = new HashMap<>();
+
+            for (int i = 0; i < palavras.size(); i++) {
+                boolean ultima = i == palavras.size() - 1;
+                for (String termo : termosDaPalavra(palavras.get(i), ultima)) {
+                    Map<Chave, Integer> lista = listasPorTermo.get(termo);
+                    double idf = Math.log(1 + (totalDocumentos - lista.size() + 0.5) / (lista.size() + 0.5));
+                    for (Map.Entry<Chave, Integer> entrada : lista.entrySet()) {
+                        if (tipo != null && entrada.getKey().tipo() != tipo) {
+                            continue;
+                        }
+                        double frequencia = entrada.getValue();
+                        double normalizacao = 1 - B + B * documentos.get(entrada.getKey()).palavras() / mediaPalavras;
+                        double peso = idf * frequencia * (K1 + 1) / (frequencia + K1 * normalizacao);
+                        pontuacoes.computeIfAbsent(entrada.getKey(), chave -> new Pontuacao()).somar(i, peso);
+                    }
+                }
+            }
+
+            return pontuacoes.entrySet().stream()
+                .sorted(Map.Entry.<Chave, Pontuacao>comparingByValue(
+                        Comparator.comparingInt(Pontuacao::palavrasEncontradas)
+                            .thenComparingDouble(Pontuacao::valor)
+                            .reversed())
+                    .thenComparing(entrada -> entrada.getKey().tipo())
+                    .thenComparing(entrada -> entrada.getKey().id()))
+                .limit(limite)
+                .map(entrada -> resultado(documentos.get(entrada.getKey()).documento(), entrada.getValue(), palavras))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexa ou reindexa o exercício, após o commit
+     * @param exercicio Exercício salvo
+     */
+    public void indexarExercicio(Exercicio exercicio) {
+        atualizar(exercicio(exercicio.getIdExercicio(), exercicio.getNome(),
+            exercicio.getGrupoMuscular(), exercicio.getDescricao()));
+    }
+
+    /**
+     * Indexa ou reindexa o plano, após o commit
+     * @param plano Plano salvo
+     */
+    public void indexarPlano(Plano plano) {
+        atualizar(plano(plano.getIdPlanoAssinatura(), plano.getNome(), plano.getDescricao()));
+    }
+
+    /**
+     * Indexa ou reindexa o plano de treino, após o commit
+     * @param planoTreino Plano de treino salvo
+     */
+    public void indexarPlanoTreino(PlanoTreino planoTreino) {
+        atualizar(planoTreino(planoTreino.getIdPlanoTreino(), planoTreino.getAluno().getIdAluno(),
+            planoTreino.getDataCriacao(), planoTreino.getDescricao()));
+    }
+
+    /**
+     * Indexa ou reindexa o item de treino, após o commit
+     * @param itemTreino Item de treino salvo
+     */
+    public void indexarItemTreino(ItemTreino itemTreino) {
+        atualizar(itemTreino(itemTreino.getIdItemTreino(), itemTreino.getPlanoTreino().getIdPlanoTreino(),
+            itemTreino.getObservacoes()));
+    }
+
+    /**
+     * Remove o documento do índice, após o commit
+     * @param tipo Tipo do documento
+     * @param id ID do registro excluído
+     */
+    public void remover(TipoDocumentoBusca tipo, Long id) {
+        Chave chave = new Chave(tipo, id);
+        Transacoes.aposCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                retirar(chave);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Remove o plano de treino e os itens dele (excluídos em cascata), após o commit
+     * @param idPlanoTreino ID do plano de treino excluído
+     */
+    public void removerPlanoTreino(Long idPlanoTreino) {
+        Transacoes.aposCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                retirar(new Chave(TipoDocumentoBusca.PLANO_TREINO, idPlanoTreino));
+                List<Chave> itens = documentos.values().stream()
+                    .map(Indexado::documento)
+                    .filter(documento -> documento.chave().tipo() == TipoDocumentoBusca.ITEM_TREINO
+                        && idPlanoTreino.equals(documento.idRelacionado()))
+                    .map(Documento::chave)
+                    .toList();
+                itens.forEach(this::retirar);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Separa a busca em palavras normalizadas e sem repetição, descartando artigos e preposições
+     * (a menos que a busca só tenha esse tipo de palavra)
+     */
+    static List<String> palavrasDaBusca(String busca) {
+        List<String> palavras = NormalizadorTexto.palavras(busca).stream().distinct().toList();
+        List<String> relevantes = palavras.stream().filter(palavra -> !PALAVRAS_VAZIAS.contains(palavra)).toList();
+        List<String> resultado = relevantes.isEmpty() ? palavras : relevantes;
+        return resultado.size() > MAXIMO_PALAVRAS_BUSCA ? resultado.subList(0, MAXIMO_PALAVRAS_BUSCA) : resultado;
+    }
+
+    /**
+     * Termos do índice que casam com a palavra: ela própria e, se for a última da busca,
+     * os termos que começam com ela
+     */
+    private Collection<String> termosDaPalavra(String palavra, boolean prefixo) {
+        if (!prefixo) {
+            return listasPorTermo.containsKey(palavra) ? List.of(palavra) : List.of();
+        }
+        return listasPorTermo.subMap(palavra, true, palavra + Character.MAX_VALUE, true).keySet().stream()
+            .limit(MAXIMO_EXPANSOES_PREFIXO)
+            .toList();
+    }
+
+    private void atualizar(Documento documento) {
+        Transacoes.aposCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                retirar(documento.chave());
+                adicionar(documento);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private void adicionar(Documento documento) {
+        List<String> palavras = NormalizadorTexto.palavras(documento.conteudo());
+        if (palavras.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> frequencias = new HashMap<>();
+        for (String palavra : palavras) {
+            frequencias.merge(palavra, 1, Integer::sum);
+        }
+        frequencias.forEach((termo, frequencia) ->
+            listasPorTermo.computeIfAbsent(termo, t -> new HashMap<>()).put(documento.chave(), frequencia));
+        documentos.put(documento.chave(), new Indexado(documento, palavras.size()));
+        totalPalavras += palavras.size();
+    }
+
+    private void retirar(Chave chave) {
+        Indexado anterior = documentos.remove(chave);
+        if (anterior == null) {
+            return;
+        }
+        for (String termo : NormalizadorTexto.palavras(anterior.documento().conteudo())) {
+            Map<Chave, Integer> lista = listasPorTermo.get(termo);
+            if (lista != null) {
+                lista.remove(chave);
+                if (lista.isEmpty()) {
+                    listasPorTermo.remove(termo);
+                }
+            }
+        }
+        totalPalavras -= anterior.palavras();
+    }
+
+    // ========== DOCUMENTOS ==========
+
+    private static Documento exercicio(Long id, String nome, String grupoMuscular, String descricao) {
+        return new Documento(new Chave(TipoDocumentoBusca.EXERCICIO, id), null, nome, descricao,
+            juntar(nome, grupoMuscular, descricao));
+    }
+
+    private static Documento plano(Long id, String nome, String descricao) {
+        return new Documento(new Chave(TipoDocumentoBusca.PLANO, id), null, nome, descricao,
+            juntar(nome, descricao));
+    }
+
+    private static Documento planoTreino(Long id, Long idAluno, LocalDate dataCriacao, String descricao) {
+        String titulo = dataCriacao != null
+            ? "Plano de treino de " + dataCriacao.format(FORMATO_DATA)
+            : "Plano de treino #" + id;
+        return new Documento(new Chave(TipoDocumentoBusca.PLANO_TREINO, id), idAluno, titulo, descricao, descricao);
+    }
+
+    private static Documento itemTreino(Long id, Long idPlanoTreino, String observacoes) {
+        return new Documento(new Chave(TipoDocumentoBusca.ITEM_TREINO, id), idPlanoTreino,
+            "Item #" + id + " do plano de treino #" + idPlanoTreino, observacoes, observacoes);
+    }
+
+    private static Documento avaliacaoFisica(Long id, Long idAluno, LocalDate dataAvaliacao, String medidasCorporais) {
+        return new Documento(new Chave(TipoDocumentoBusca.AVALIACAO_FISICA, id), idAluno,
+            "Avaliação física de " + dataAvaliacao.format(FORMATO_DATA), medidasCorporais, medidasCorporais);
+    }
+
+    private static String juntar(String... partes) {
+        StringBuilder texto = new StringBuilder();
+        for (String parte : partes) {
+            if (parte != null) {
+                texto.append(parte).append(' ');
+            }
+        }
+        return texto.toString();
+    }
+
+    private static ResultadoBuscaDTO resultado(Documento documento, Pontuacao pontuacao, List<String> palavras) {
+        String texto = documento.texto() != null && !documento.texto().isBlank() ? documento.texto() : documento.titulo();
+        return new ResultadoBuscaDTO(documento.chave().tipo(), documento.chave().id(), documento.idRelacionado(),
+            documento.titulo(), trecho(texto, palavras), pontuacao.valor());
+    }
+
+    /**
+     * Parte do texto em volta da primeira palavra da busca que aparece nele
+     * Remover acentos mantém o tamanho do texto (cada letra perde só a marca combinante), então a
+     * posição encontrada no texto normalizado vale para o original
+     */
+    static String trecho(String texto, List<String> palavras) {
+        String normalizado = NormalizadorTexto.normalizar(texto);
+        int posicao = -1;
+        if (normalizado.length() == texto.length()) {
+            for (String palavra : palavras) {
+                int encontrada = inicioDePalavra(normalizado, palavra);
+                if (encontrada >= 0 && (posicao < 0 || encontrada < posicao)) {
+                    posicao = encontrada;
+                }
+            }
+        }
+        int inicio = Math.max(0, posicao - CONTEXTO_TRECHO);
+        int fim = Math.min(texto.length(), inicio + TAMANHO_TRECHO);
+        String trecho = texto.substring(inicio, fim).replaceAll("\\s+", " ").trim();
+        return (inicio > 0 ? "…" : "") + trecho + (fim < texto.length() ? "…" : "");
+    }
+
+    private static int inicioDePalavra(String texto, String palavra) {
+        int posicao = texto.indexOf(palavra);
+        while (posicao > 0 && Character.isLetterOrDigit(texto.charAt(posicao - 1))) {
+            posicao = texto.indexOf(palavra, posicao + 1);
+        }
+        return posicao;
+    }
+
+    private record Chave(TipoDocumentoBusca tipo, Long id) {
+    }
+
+    /**
+     * Registro indexado: conteudo é o que vira termos; texto é o que aparece no trecho do resultado
+     */
+    private record Documento(Chave chave, Long idRelacionado, String titulo, String texto, String conteudo) {
+    }
+
+    private record Indexado(Documento documento, int palavras) {
+    }
+
+    private static final class Pontuacao {
+
+        private double valor;
+        private long palavrasEncontradas; // um bit por palavra da busca
+
+        private void somar(int palavra, double peso) {
+            valor += peso;
+            palavrasEncontradas |= 1L << palavra;
+        }
+
+        private double valor() {
+            return valor;
+        }
+
+        private int palavrasEncontradas() {
+            return Long.bitCount(palavrasEncontradas);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.demo.index;
+
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.repository.FrequenciaRepository;
+import com.example.demo.util.Transacoes;
+
+/**
+ * Mapas de bits de frequência por aluno
+ *
+ * O mapa de um aluno é montado na primeira consulta (datas e presenças projetadas, sem carregar
+ * entidades) e depois mantido pelas escritas do FrequenciaService, aplicadas após o commit.
+ * Marcar e desmarcar um dia são operações idempotentes, então aplicar a mesma escrita duas vezes
+ * não altera o resultado. Cada aluno tem um contador de escritas confirmadas: um mapa montado dentro de
+ * uma transação só é publicado depois do commit dela e se o contador não mudou desde antes da transação
+ * tirar seu snapshot; caso contrário é usado só pela consulta que o montou. Quem consulta o banco
+ * antes do mapa na mesma transação deve ler o contador antes dela (contarEscritas) e usar obter(id, escritas).
+ */
+@Component
+public class MapaFrequencias {
+
+    private final ConcurrentHashMap<Long, BitmapFrequencia> mapasPorAluno = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<Long, Long> escritasPorAluno = new ConcurrentHashMap<>();
+
+    @Autowired
+    private FrequenciaRepository frequenciaRepository;
+
+    /**
+     * Retorna o mapa de bits do aluno, montando-o a partir do banco se ainda não estiver em memória
+     * Só para uso fora de transação ou quando a consulta do mapa é a primeira da transação
+     * @param idAluno ID do aluno
+     * @return Mapa de bits com a frequência do aluno
+     */
+    public BitmapFrequencia obter(Long idAluno) {
+        return obter(idAluno, contarEscritas(idAluno));
+    }
+
+    /**
+     * Retorna o mapa de bits do aluno, montando-o a partir do banco se ainda não estiver em memória
+     * @param idAluno ID do aluno
+     * @param escritas Contador de escritas do aluno lido antes do início da transação corrente
+     * @return Mapa de bits com a frequência do aluno
+     */
+    public BitmapFrequencia obter(Long idAluno, long escritas) {
+        BitmapFrequencia mapa = mapasPorAluno.get(idAluno);
+        if (mapa != null) {
+            return mapa;
+        }
+
+        BitmapFrequencia montado = new BitmapFrequencia();
+        for (Object[] linha : frequenciaRepository.buscarDatasEPresencas(idAluno)) {
+            montado.marcar((LocalDate) linha[0], (Boolean) linha[1]);
+        }
+
+        // compute bloqueia a chave, então a publicação não se intercala com uma escrita do mesmo aluno
+        Transacoes.aposCommit(() -> mapasPorAluno.compute(idAluno, (id, atual) -> {
+            if (atual != null) {
+                return atual;
+            }
+            return escritasPorAluno.getOrDefault(id, 0L) == escritas ? montado : null;
+        }));
+        return montado;
+    }
+
+    /**
+     * Retorna o número de escritas confirmadas do aluno, para ser lido antes de uma transação que chama obter
+     * @param idAluno ID do aluno
+     * @return Contador de escritas
+     */
+    public long contarEscritas(Long idAluno) {
+        return escritasPorAluno.getOrDefault(idAluno, 0L);
+    }
+
+    /**
+     * Marca a frequência do aluno no dia, após o commit
+     * @param idAluno ID do aluno
+     * @param data Dia do registro
+     * @param presenca true para presença
+     */
+    public void registrar(Long idAluno, LocalDate data, boolean presenca) {
+        Transacoes.aposCommit(() -> aplicar(idAluno, mapa -> mapa.marcar(data, presenca)));
+    }
+
+    /**
+     * Remove a frequência do aluno no dia, após o commit
+     * @param idAluno ID do aluno
+     * @param data Dia do registro removido
+     */
+    public void remover(Long idAluno, LocalDate data) {
+        Transacoes.aposCommit(() -> aplicar(idAluno, mapa -> mapa.desmarcar(data)));
+    }
+
+    private void aplicar(Long idAluno, Consumer<BitmapFrequencia> escrita) {
+        mapasPorAluno.compute(idAluno, (id, mapa) -> {
+            escritasPorAluno.merge(id, 1L, Long::sum);
+            if (mapa != null) {
+                escrita.accept(mapa);
+            }
+            return mapa;
+        });
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.demo.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+/**
+ * Árvore de prefixos (trie) de termos para IDs
+ *
+ * Cada nó guarda os filhos em arrays ordenados pelo caractere (busca binária, sem um mapa por nó)
+ * e, quando um termo termina nele, os IDs associados em um array ordenado. A coleta percorre a
+ * subárvore do prefixo em ordem alfabética e para assim que junta o limite pedido, então o custo
+ * depende do tamanho do prefixo e do limite, não do número de termos.
+ *
+ * Não é thread-safe; quem usa sincroniza.
+ */
+public final class TriePrefixos {
+
+    private static final char[] SEM_CHAVES = new char[0];
+    private static final No[] SEM_FILHOS = new No[0];
+    private static final long[] SEM_IDS = new long[0];
+
+    private final No raiz = new No();
+
+    /**
+     * Associa o ID ao termo
+     * @param termo Termo já normalizado
+     * @param id ID
+     */
+    public void adicionar(String termo, long id) {
+        No no = raiz;
+        for (int i = 0; i < termo.length(); i++) {
+            no = no.filhoOuCria(termo.charAt(i));
+        }
+        no.adicionarId(id);
+    }
+
+    /**
+     * Remove a associação do ID com o termo, descartando os nós que ficarem vazios
+     * @param termo Termo já normalizado
+     * @param id ID
+     */
+    public void remover(String termo, long id) {
+        remover(raiz, termo, 0, id);
+    }
+
+    /**
+     * Coleta, em ordem alfabética dos termos, os IDs dos termos que começam com o prefixo
+     * @param prefixo Prefixo já normalizado
+     * @param filtro Condição extra que cada ID precisa atender
+     * @param limite Quantidade máxima de IDs distintos
+     * @return IDs encontrados, sem repetição
+     */
+    public Set<Long> coletar(String prefixo, LongPredicate filtro, int limite) {
+        Set<Long> ids = new LinkedHashSet<>();
+        No no = raiz;
+        for (int i = 0; i < prefixo.length() && no != null; i++) {
+            no = no.filho(prefixo.charAt(i));
+        }
+        if (no != null) {
+            coletar(no, filtro, limite, ids);
+        }
+        return ids;
+    }
+
+    /**
+     * Remove todos os termos
+     */
+    public void limpar() {
+        raiz.chaves = SEM_CHAVES;
+        raiz.filhos = SEM_FILHOS;
+        raiz.ids = SEM_IDS;
+    }
+
+    private static boolean remover(No no, String termo, int posicao, long id) {
+        if (posicao == termo.length()) {
+            no.removerId(id);
+        } else {
+            int indice = Arrays.binarySearch(no.chaves, termo.charAt(posicao));
+            if (indice < 0) {
+                return false;
+            }
+            if (remover(no.filhos[indice], termo, posicao + 1, id)) {
+                no.removerFilho(indice);
+            }
+        }
+        return no.chaves.length == 0 && no.ids.length == 0;
+    }
+
+    private static void coletar(No no, LongPredicate filtro, int limite, Set<Long> ids) {
+        for (long id : no.ids) {
+            if (ids.size() >= limite) {
+                return;
+            }
+            if (filtro.test(id)) {
+                ids.add(id);
+            }
+        }
+        for (No filho : no.filhos) {
+            if (ids.size() >= limite) {
+                return;
+            }
+            coletar(filho, filtro, limite, ids);
+        }
+    }
+
+    /**
+     * Lista os termos guardados (usado nos testes)
+     * @return Termos em ordem alfabética
+     */
+    List<String> termos() {
+        List<String> termos = new ArrayList<>();
+        listar(raiz, new StringBuilder(), termos);
+        return termos;
+    }
+
+    private static void listar(No no, StringBuilder prefixo, List<String> termos) {
+        if (no.ids.length > 0) {
+            termos.add(prefixo.toString());
+        }
+        for (int i = 0; i < no.chaves.length; i++) {
+            prefixo.append(no.chaves[i]);
+            listar(no.filhos[i], prefixo, termos);
+            prefixo.setLength(prefixo.length() - 1);
+        }
+    }
+
+    private static final class No {
+
+        private char[] chaves = SEM_CHAVES;
+        private No[] filhos = SEM_FILHOS;
+        private long[] ids = SEM_IDS;
+
+        private No filho(char chave) {
+            int indice = Arrays.binarySearch(chaves, chave);
+            return indice >= 0 ? filhos[indice] : null;
+        }
+
+        private No filhoOuCria(char chave) {
+            int indice = Arrays.binarySearch(chaves, chave);
+            if (indice >= 0) {
+                return filhos[indice];
+            }
+            int insercao = -indice - 1;
+            No novo = new No();
+            chaves = inserir(chaves, insercao, chave);
+            No[] novosFilhos = new No[filhos.length + 1];
+            System.arraycopy(filhos, 0, novosFilhos, 0, insercao);
+            novosFilhos[insercao] = novo;
+            System.arraycopy(filhos, insercao, novosFilhos, insercao + 1, filhos.length - insercao);
+            filhos = novosFilhos;
+            return novo;
+        }
+
+        private void removerFilho(int indice) {
+            char[] novasChaves = new char[chaves.length - 1];
+            System.arraycopy(chaves, 0, novasChaves, 0, indice);
+            System.arraycopy(chaves, indice + 1, novasChaves, indice, novasChaves.length - indice);
+            No[] novosFilhos = new No[filhos.length - 1];
+            System.arraycopy(filhos, 0, novosFilhos, 0, indice);
+            System.arraycopy(filhos, indice + 1, novosFilhos, indice, novosFilhos.length - indice);
+            chaves = novasChaves;
+            filhos = novosFilhos;
+        }
+
+        private void adicionarId(long id) {
+            int indice = Arrays.binarySearch(ids, id);
+            if (indice < 0) {
+                int insercao = -indice - 1;
+                long[] novos = new long[ids.length + 1];
+                System.arraycopy(ids, 0, novos, 0, insercao);
+                novos[insercao] = id;
+                System.arraycopy(ids, insercao, novos, insercao + 1, ids.length - insercao);
+                ids = novos;
+            }
+        }
+
+        private void removerId(long id) {
+            int indice = Arrays.binarySearch(ids, id);
+            if (indice >= 0) {
+                long[] novos = new long[ids.length - 1];
+                System.arraycopy(ids, 0, novos, 0, indice);
+                System.arraycopy(ids, indice + 1, novos, indice, novos.length - indice);
+                ids = novos;
+            }
+        }
+
+        private static char[] inserir(char[] array, int posicao, char valor) {
+            char[] novo = new char[array.length + 1];
+            System.arraycopy(array, 0, novo, 0, posicao);
+            novo[posicao] = valor;
+            System.arraycopy(array, posicao, novo, posicao + 1, array.length - posicao);
+            return novo;
+        }
+    }
+}
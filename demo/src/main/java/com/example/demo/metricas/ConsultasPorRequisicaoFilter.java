@@ -0,0 +1,80 @@
+package com.example.demo.metricas;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.example.demo.config.ConsultasProperties;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Registra quantos comandos SQL cada requisição da API executou (gym.http.consultas)
+ * As tags method e uri seguem as do http.server.requests, para cruzar as duas métricas.
+ * Avisa no log quando a requisição passa do orçamento de comandos ou repete o mesmo comando
+ * além do limite configurado em {@link ConsultasProperties} (sintoma típico de N+1).
+ */
+public class ConsultasPorRequisicaoFilter extends OncePerRequestFilter {
+
+    static final String METRICA = "gym.http.consultas";
+
+    private static final Logger logger = LoggerFactory.getLogger(ConsultasPorRequisicaoFilter.class);
+
+    private final ContadorConsultas contadorConsultas;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConsultasProperties consultasProperties;
+
+    public ConsultasPorRequisicaoFilter(ContadorConsultas contadorConsultas, MeterRegistry meterRegistry,
+            ConsultasProperties consultasProperties) {
+        this.contadorConsultas = contadorConsultas;
+        this.meterRegistry = meterRegistry;
+        this.consultasProperties = consultasProperties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        contadorConsultas.iniciar();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ContadorConsultas.Contagem contagem = contadorConsultas.encerrar();
+            Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = padrao != null ? padrao.toString() : "UNKNOWN";
+            DistributionSummary.builder(METRICA)
+                .description("Comandos SQL executados por requisição")
+                .baseUnit("consultas")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(contagem.total());
+            avisarExcessos(request.getMethod() + " " + uri, contagem);
+        }
+    }
+
+    private void avisarExcessos(String endpoint, ContadorConsultas.Contagem contagem) {
+        if (contagem.total() > consultasProperties.getOrcamento()) {
+            logger.warn("{} executou {} comandos SQL (orçamento: {})",
+                endpoint, contagem.total(), consultasProperties.getOrcamento());
+        }
+        if (contagem.repeticoes() > consultasProperties.getLimiteRepeticoes()) {
+            logger.warn("{} executou {} vezes o mesmo comando SQL, possível N+1: {}",
+                endpoint, contagem.repeticoes(), contagem.comandoMaisRepetido());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.demo.metricas;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Conta os comandos SQL executados durante uma requisição, agrupados pelo formato do comando
+ *
+ * Recebe os comandos do proxy do DataSource (ver DataSourceConfig), então entram na conta tanto os
+ * gerados pelo Hibernate quanto os do JdbcTemplate. A contagem é da thread atual; tarefas enviadas a
+ * executores durante a requisição (ex: seções do histórico carregadas em paralelo) só entram na conta se
+ * forem embrulhadas com {@link #propagar(Callable)}, o que evita que threads de pool criadas durante uma
+ * requisição continuem presas à contagem dela.
+ * Contagens podem ser aninhadas: ao encerrar, a interna é somada à que estava ativa antes dela.
+ */
+@Component
+public class ContadorConsultas implements QueryExecutionListener {
+
+    private static final Pattern LITERAL_TEXTO = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern LITERAL_NUMERO = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern LISTA_PARAMETROS = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+    private final ThreadLocal<Acumulador> contador = new ThreadLocal<>();
+
+    /**
+     * Comandos contados entre {@link #iniciar()} e {@link #encerrar()}
+     * @param total Comandos executados
+     * @param comandoMaisRepetido Formato do comando que mais se repetiu (null se nenhum foi executado)
+     * @param repeticoes Quantas vezes esse formato foi executado
+     */
+    public record Contagem(int total, String comandoMaisRepetido, int repeticoes) {
+    }
+
+    /**
+     * Começa a contar na thread atual
+     */
+    public void iniciar() {
+        contador.set(new Acumulador(contador.get()));
+    }
+
+    /**
+     * Para de contar na thread atual e volta para a contagem anterior, se houver
+     * @return Comandos contados desde {@link #iniciar()}, ou uma contagem vazia se ela não foi iniciada
+     */
+    public Contagem encerrar() {
+        Acumulador atual = contador.get();
+        if (atual == null) {
+            return new Contagem(0, null, 0);
+        }
+        if (atual.anterior != null) {
+            atual.anterior.somar(atual);
+            contador.set(atual.anterior);
+        } else {
+            contador.remove();
+        }
+        return atual.contagem();
+    }
+
+    /**
+     * Embrulha uma tarefa para que os comandos dela, executada em outra thread, entrem na contagem
+     * ativa da thread atual
+     * @param tarefa Tarefa a ser enviada a um executor
+     * @return Tarefa que usa a contagem atual enquanto roda (a própria tarefa, se não há contagem ativa)
+     */
+    public <T> Callable<T> propagar(Callable<T> tarefa) {
+        Acumulador atual = contador.get();
+        if (atual == null) {
+            return tarefa;
+        }
+        return () -> {
+            Acumulador anterior = contador.get();
+            contador.set(atual);
+            try {
+                return tarefa.call();
+            } finally {
+                if (anterior != null) {
+                    contador.set(anterior);
+                } else {
+                    contador.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * Conta um comando na contagem ativa da thread atual
+     * @param sql Comando executado
+     */
+    public void registrar(String sql) {
+        Acumulador atual = contador.get();
+        if (atual != null) {
+            atual.registrar(formato(sql), 1);
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            registrar(queryInfo.getQuery());
+        }
+    }
+
+    /**
+     * Formato do comando: literais viram "?", listas de parâmetros do IN viram um único "?"
+     * e os espaços são normalizados, para que a mesma consulta com valores diferentes seja agrupada
+     */
+    static String formato(String sql) {
+        String formato = LITERAL_TEXTO.matcher(sql).replaceAll("?");
+        formato = LITERAL_NUMERO.matcher(formato).replaceAll("?");
+        formato = LISTA_PARAMETROS.matcher(formato).replaceAll("(?)");
+        return ESPACOS.matcher(formato).replaceAll(" ").trim();
+    }
+
+    private static final class Acumulador {
+
+        private final Acumulador anterior;
+        private final AtomicInteger total = new AtomicInteger();
+        private final Map<String, AtomicInteger> porFormato = new ConcurrentHashMap<>();
+
+        private Acumulador(Acumulador anterior) {
+            this.anterior = anterior;
+        }
+
+        private void registrar(String formato, int quantidade) {
+            total.addAndGet(quantidade);
+            porFormato.computeIfAbsent(formato, f -> new AtomicInteger()).addAndGet(quantidade);
+        }
+
+        private void somar(Acumulador outro) {
+            outro.porFormato.forEach((formato, quantidade) -> registrar(formato, quantidade.get()));
+        }
+
+        private Contagem contagem() {
+            String maisRepetido = null;
+            int repeticoes = 0;
+            for (Map.Entry<String, AtomicInteger> entrada : porFormato.entrySet()) {
+                if (entrada.getValue().get() > repeticoes) {
+                    maisRepetido = entrada.getKey();
+                    repeticoes = entrada.getValue().get();
+                }
+            }
+            return new Contagem(total.get(), maisRepetido, repeticoes);
+        }
+    }
+}
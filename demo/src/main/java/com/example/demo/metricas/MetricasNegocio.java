@@ -0,0 +1,70 @@
+package com.example.demo.metricas;
+
+import java.math.BigDecimal;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.util.Transacoes;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Contadores de negócio: frequências e pagamentos registrados
+ *
+ * São contadores acumulados; a taxa por minuto sai da consulta no Prometheus, por exemplo
+ * rate(gym_frequencias_total{presenca="true"}[5m]) * 60 para check-ins por minuto.
+ * Os valores só são somados depois do commit, então escritas desfeitas não entram na conta.
+ */
+@Component
+public class MetricasNegocio {
+
+    private final Counter presencas;
+
+    private final Counter ausencias;
+
+    private final Counter pagamentos;
+
+    private final Counter valorPagamentos;
+
+    public MetricasNegocio(MeterRegistry meterRegistry) {
+        presencas = Counter.builder("gym.frequencias")
+            .description("Frequências registradas")
+            .tag("presenca", "true")
+            .register(meterRegistry);
+        ausencias = Counter.builder("gym.frequencias")
+            .description("Frequências registradas")
+            .tag("presenca", "false")
+            .register(meterRegistry);
+        pagamentos = Counter.builder("gym.pagamentos")
+            .description("Pagamentos registrados")
+            .register(meterRegistry);
+        valorPagamentos = Counter.builder("gym.pagamentos.valor")
+            .description("Soma dos valores pagos")
+            .baseUnit("reais")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Conta frequências registradas, após o commit
+     * @param quantidadePresencas Presenças (check-ins)
+     * @param quantidadeAusencias Ausências
+     */
+    public void registrarFrequencias(long quantidadePresencas, long quantidadeAusencias) {
+        Transacoes.aposCommit(() -> {
+            presencas.increment(quantidadePresencas);
+            ausencias.increment(quantidadeAusencias);
+        });
+    }
+
+    /**
+     * Conta um pagamento registrado, após o commit
+     * @param valor Valor pago
+     */
+    public void registrarPagamento(BigDecimal valor) {
+        Transacoes.aposCommit(() -> {
+            pagamentos.increment();
+            valorPagamentos.increment(valor.doubleValue());
+        });
+    }
+}
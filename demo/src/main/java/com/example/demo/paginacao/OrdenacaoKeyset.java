@@ -0,0 +1,130 @@
+package com.example.demo.paginacao;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import com.example.demo.exception.ValidacaoException;
+
+/**
+ * Descreve a ordenação estável usada na paginação por cursor (keyset) de uma entidade
+ * A ordenação é feita por uma data opcional seguida do ID, que desempata registros da mesma data,
+ * e o cursor tem o formato "data,id" (ex.: 2025-10-15,123) ou apenas "id" quando não há data
+ */
+public final class OrdenacaoKeyset {
+
+    public static final int LIMITE_PADRAO = 50;
+    public static final int LIMITE_MAXIMO = 500;
+
+    private final String propriedadeData;
+    private final String propriedadeId;
+
+    /**
+     * Ordenação por data e ID
+     * @param propriedadeData Nome da propriedade de data na entidade
+     * @param propriedadeId Nome da propriedade de ID na entidade
+     */
+    public OrdenacaoKeyset(String propriedadeData, String propriedadeId) {
+        this.propriedadeData = propriedadeData;
+        this.propriedadeId = propriedadeId;
+    }
+
+    /**
+     * Ordenação apenas pelo ID
+     * @param propriedadeId Nome da propriedade de ID na entidade
+     */
+    public OrdenacaoKeyset(String propriedadeId) {
+        this(null, propriedadeId);
+    }
+
+    /**
+     * Monta a ordenação da consulta
+     * @param ordem "asc" ou "desc" (padrão desc, mais recentes primeiro)
+     * @return Ordenação por data e ID na direção informada
+     */
+    public Sort ordenacao(String ordem) {
+        Sort.Direction direcao = direcao(ordem);
+        if (propriedadeData == null) {
+            return Sort.by(direcao, propriedadeId);
+        }
+        return Sort.by(direcao, propriedadeData, propriedadeId);
+    }
+
+    /**
+     * Converte o cursor recebido na posição de continuação da consulta
+     * @param cursor Cursor da página anterior (nulo ou vazio para a primeira página)
+     * @return Posição de início da página
+     */
+    public ScrollPosition posicao(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        String[] partes = cursor.trim().split(",");
+        int partesEsperadas = propriedadeData == null ? 1 : 2;
+        if (partes.length != partesEsperadas) {
+            throw new ValidacaoException("Cursor inválido: " + cursor);
+        }
+
+        Map<String, Object> chaves = new HashMap<>();
+        try {
+            if (propriedadeData != null) {
+                chaves.put(propriedadeData, LocalDate.parse(partes[0].trim()));
+            }
+            chaves.put(propriedadeId, Long.valueOf(partes[partesEsperadas - 1].trim()));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new ValidacaoException("Cursor inválido: " + cursor);
+        }
+        return ScrollPosition.forward(chaves);
+    }
+
+    /**
+     * Gera o cursor da próxima página a partir do último registro da página atual
+     * @param janela Página retornada pela consulta
+     * @return Cursor da próxima página ou null se esta for a última
+     */
+    public String proximoCursor(Window<?> janela) {
+        if (!janela.hasNext() || janela.isEmpty()) {
+            return null;
+        }
+
+        KeysetScrollPosition posicao = (KeysetScrollPosition) janela.positionAt(janela.size() - 1);
+        Map<String, ?> chaves = posicao.getKeys();
+        if (propriedadeData == null) {
+            return String.valueOf(chaves.get(propriedadeId));
+        }
+        return chaves.get(propriedadeData) + "," + chaves.get(propriedadeId);
+    }
+
+    /**
+     * Valida o tamanho de página solicitado
+     * @param limite Quantidade de registros por página (nulo para o padrão)
+     * @return Limite da consulta
+     */
+    public static Limit limite(Integer limite) {
+        if (limite == null) {
+            return Limit.of(LIMITE_PADRAO);
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new ValidacaoException("O limite deve estar entre 1 e " + LIMITE_MAXIMO);
+        }
+        return Limit.of(limite);
+    }
+
+    private static Sort.Direction direcao(String ordem) {
+        if (ordem == null || ordem.isBlank() || ordem.equalsIgnoreCase("desc")) {
+            return Sort.Direction.DESC;
+        }
+        if (ordem.equalsIgnoreCase("asc")) {
+            return Sort.Direction.ASC;
+        }
+        throw new ValidacaoException("Ordem inválida: " + ordem + " (use asc ou desc)");
+    }
+}
@@ -1,9 +1,16 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.AlunoDTO;
 import com.example.demo.entity.Aluno;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +34,21 @@ public interface AlunoRepository extends JpaRepository<Aluno, Long> {
      */
     boolean existsByCpf(String cpf);
     
+    /**
+     * Verifica se existe outro aluno com a chave de CPF informada (ver ValidadorCPF.chave)
+     * @param cpfChave Dígitos do CPF como número
+     * @param idAluno ID do aluno a desconsiderar (nulo em um cadastro novo)
+     * @return true se existir
+     */
+    @Query("SELECT COUNT(a) > 0 FROM Aluno a WHERE a.cpfChave = :cpfChave AND (:idAluno IS NULL OR a.idAluno <> :idAluno)")
+    boolean existeCpfChave(Long cpfChave, Long idAluno);
+    
+    /**
+     * Lista os alunos cadastrados antes da coluna cpf_chave existir
+     * @return Alunos sem chave de CPF
+     */
+    List<Aluno> findByCpfChaveIsNull();
+    
     /**
      * Busca alunos cujo nome contém a string fornecida (case insensitive)
      * @param nome Parte do nome do aluno
@@ -42,8 +64,28 @@ public interface AlunoRepository extends JpaRepository<Aluno, Long> {
     Optional<Aluno> findByNome(String nome);
     
     /**
-     * Lista todos os alunos ordenados por nome
+     * Lista todos os alunos ordenados por nome (resultado no cache de consultas)
      * @return Lista de alunos ordenados
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Aluno> findAllByOrderByNomeAsc();
+    
+    /**
+     * Lista id, nome, CPF e data de ingresso de todos os alunos, sem carregar entidades
+     * (carga do índice de sugestões)
+     * @return Resumo de todos os alunos
+     */
+    @Query("SELECT new com.example.demo.dto.AlunoDTO(a.idAluno, a.nome, a.cpf, a.dataIngresso) FROM Aluno a")
+    List<AlunoDTO> listarResumos();
+    
+    /**
+     * Busca os alunos alterados em um intervalo de versões de sincronização, em ordem de versão
+     * @param desde Versão inicial (exclusiva)
+     * @param ate Versão final (inclusiva)
+     * @param limite Quantidade máxima de registros
+     * @return Registros alterados
+     */
+    @Query("SELECT a FROM Aluno a " +
+           "WHERE a.versaoSync > :desde AND a.versaoSync <= :ate ORDER BY a.versaoSync")
+    List<Aluno> buscarAlteracoes(long desde, long ate, Limit limite);
 }
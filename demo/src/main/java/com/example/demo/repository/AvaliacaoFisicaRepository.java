@@ -120,4 +120,29 @@ public interface AvaliacaoFisicaRepository extends JpaRepository<AvaliacaoFisica
      * @return Lista de avaliações do instrutor
      */
     List<AvaliacaoFisica> findByInstrutorIdInstrutor(Long idInstrutor);
+    
+    /**
+     * Busca as avaliações de um aluno com o instrutor carregado (mais recentes primeiro)
+     * @param aluno Aluno
+     * @return Lista de avaliações do aluno
+     */
+    @Query("SELECT a FROM AvaliacaoFisica a JOIN FETCH a.instrutor WHERE a.aluno = :aluno ORDER BY a.dataAvaliacao DESC, a.idAvaliacao DESC")
+    List<AvaliacaoFisica> findByAlunoWithInstrutor(Aluno aluno);
+    
+    /**
+     * Busca as avaliações de um aluno em um período com o instrutor carregado
+     * @param aluno Aluno
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Lista de avaliações do aluno no período
+     */
+    @Query("SELECT a FROM AvaliacaoFisica a JOIN FETCH a.instrutor WHERE a.aluno = :aluno AND a.dataAvaliacao BETWEEN :dataInicio AND :dataFim ORDER BY a.dataAvaliacao DESC, a.idAvaliacao DESC")
+    List<AvaliacaoFisica> findByAlunoNoPeriodoWithInstrutor(Aluno aluno, LocalDate dataInicio, LocalDate dataFim);
+    
+    /**
+     * Lista as avaliações com medidas corporais (carga do índice de busca)
+     * @return Linhas [idAvaliacao, idAluno, dataAvaliacao, medidasCorporais]
+     */
+    @Query("SELECT af.idAvaliacao, af.aluno.idAluno, af.dataAvaliacao, af.medidasCorporais FROM AvaliacaoFisica af WHERE af.medidasCorporais IS NOT NULL")
+    List<Object[]> listarTextosParaBusca();
 }
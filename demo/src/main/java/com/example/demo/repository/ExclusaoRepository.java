@@ -0,0 +1,27 @@
+package com.example.demo.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.example.demo.entity.Exclusao;
+
+/**
+ * Repository para os registros de exclusão usados pela sincronização incremental
+ */
+@Repository
+public interface ExclusaoRepository extends JpaRepository<Exclusao, Long> {
+
+    /**
+     * Busca as exclusões em um intervalo de versões de sincronização, em ordem de versão
+     * @param desde Versão inicial (exclusiva)
+     * @param ate Versão final (inclusiva)
+     * @param limite Quantidade máxima de registros
+     * @return Exclusões
+     */
+    @Query("SELECT e FROM Exclusao e WHERE e.versaoSync > :desde AND e.versaoSync <= :ate ORDER BY e.versaoSync")
+    List<Exclusao> buscarAlteracoes(long desde, long ate, Limit limite);
+}
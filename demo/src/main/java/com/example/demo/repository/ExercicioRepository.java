@@ -3,10 +3,15 @@ package com.example.demo.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 import com.example.demo.entity.Exercicio;
 import com.example.demo.entity.PlanoTreino;
 
@@ -45,9 +50,10 @@ public interface ExercicioRepository extends JpaRepository<Exercicio, Long> {
     List<Exercicio> findByGrupoMuscularIgnoreCase(String grupoMuscular);
     
     /**
-     * Lista todos os exercícios ordenados por nome
+     * Lista todos os exercícios ordenados por nome (resultado no cache de consultas)
      * @return Lista de exercícios ordenados
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Exercicio> findAllByOrderByNomeAsc();
     
     /**
@@ -98,4 +104,22 @@ public interface ExercicioRepository extends JpaRepository<Exercicio, Long> {
      * @return Lista de exercícios com grupo
      */
     List<Exercicio> findByGrupoMuscularIsNotNull();
+    
+    /**
+     * Lista id, nome, grupo muscular e descrição de todos os exercícios (carga do índice de busca)
+     * @return Linhas [idExercicio, nome, grupoMuscular, descricao]
+     */
+    @Query("SELECT e.idExercicio, e.nome, e.grupoMuscular, e.descricao FROM Exercicio e")
+    List<Object[]> listarTextosParaBusca();
+    
+    /**
+     * Busca os exercícios alterados em um intervalo de versões de sincronização, em ordem de versão
+     * @param desde Versão inicial (exclusiva)
+     * @param ate Versão final (inclusiva)
+     * @param limite Quantidade máxima de registros
+     * @return Registros alterados
+     */
+    @Query("SELECT e FROM Exercicio e " +
+           "WHERE e.versaoSync > :desde AND e.versaoSync <= :ate ORDER BY e.versaoSync")
+    List<Exercicio> buscarAlteracoes(long desde, long ate, Limit limite);
 }
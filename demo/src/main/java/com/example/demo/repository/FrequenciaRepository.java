@@ -1,14 +1,26 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.FrequenciaResponseDTO;
 import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Frequencia;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository para operações com a entidade Frequencia
@@ -77,6 +89,14 @@ public interface FrequenciaRepository extends JpaRepository<Frequencia, Long> {
      */
     List<Frequencia> findByAlunoOrderByDataDesc(Aluno aluno);
     
+    /**
+     * Busca os registros de vários alunos, com o aluno carregado, ordenados por data (mais recentes primeiro)
+     * @param idsAlunos IDs dos alunos
+     * @return Lista de registros ordenados
+     */
+    @Query("SELECT f FROM Frequencia f JOIN FETCH f.aluno WHERE f.aluno.idAluno IN :idsAlunos ORDER BY f.data DESC, f.idFrequencia DESC")
+    List<Frequencia> buscarPorAlunos(Collection<Long> idsAlunos);
+    
     /**
      * Conta o total de registros de frequência de um aluno
      * @param aluno Aluno
@@ -123,4 +143,74 @@ public interface FrequenciaRepository extends JpaRepository<Frequencia, Long> {
      * @return Lista de registros
      */
     List<Frequencia> findByDataAndPresenca(LocalDate data, Boolean presenca);
+    
+    /**
+     * Busca data e presença de todos os registros de um aluno, sem carregar as entidades
+     * @param idAluno ID do aluno
+     * @return Lista de linhas [data, presenca]
+     */
+    @Query("SELECT f.data, f.presenca FROM Frequencia f WHERE f.aluno.idAluno = :idAluno")
+    List<Object[]> buscarDatasEPresencas(Long idAluno);
+
+    /**
+     * Busca uma página de registros de frequência com o aluno carregado
+     * @param posicao Posição (keyset) do último registro da página anterior
+     * @param ordenacao Ordenação estável (data e ID)
+     * @param limite Quantidade máxima de registros
+     * @return Página de registros
+     */
+    @EntityGraph(attributePaths = "aluno")
+    Window<Frequencia> findBy(ScrollPosition posicao, Sort ordenacao, Limit limite);
+
+    /**
+     * Lê os registros de frequência de um período já projetados em DTO, para exportação
+     * Deve ser consumido dentro de uma transação e fechado ao final
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Stream de frequências ordenadas por data e ID
+     */
+    @Query("SELECT new com.example.demo.dto.FrequenciaResponseDTO(f.idFrequencia, a.idAluno, a.nome, a.cpf, f.data, f.presenca) " +
+           "FROM Frequencia f JOIN f.aluno a " +
+           "WHERE f.data BETWEEN :dataInicio AND :dataFim ORDER BY f.data, f.idFrequencia")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<FrequenciaResponseDTO> exportarPorPeriodo(LocalDate dataInicio, LocalDate dataFim);
+
+    /**
+     * Agrupa os registros de frequência de um período por dia
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Lista de linhas [data, totalPresencas, totalAusencias]
+     */
+    @Query("SELECT f.data, SUM(CASE WHEN f.presenca = true THEN 1 ELSE 0 END), SUM(CASE WHEN f.presenca = true THEN 0 ELSE 1 END) " +
+           "FROM Frequencia f WHERE f.data BETWEEN :dataInicio AND :dataFim GROUP BY f.data")
+    List<Object[]> resumirPorDia(LocalDate dataInicio, LocalDate dataFim);
+
+    /**
+     * Busca os pares (aluno, data) já registrados entre os alunos e datas informados
+     * O resultado pode conter combinações que não foram pedidas; quem chama filtra os pares exatos
+     * @param idsAlunos IDs dos alunos
+     * @param datas Datas
+     * @return Lista de linhas [idAluno, data]
+     */
+    @Query("SELECT f.aluno.idAluno, f.data FROM Frequencia f WHERE f.aluno.idAluno IN :idsAlunos AND f.data IN :datas")
+    List<Object[]> buscarRegistrosExistentes(Collection<Long> idsAlunos, Collection<LocalDate> datas);
+
+    /**
+     * Busca os IDs dos alunos com registro de frequência em uma data
+     * @param data Data
+     * @return IDs dos alunos
+     */
+    @Query("SELECT f.aluno.idAluno FROM Frequencia f WHERE f.data = :data")
+    List<Long> buscarIdsAlunosPorData(LocalDate data);
+    
+    /**
+     * Busca os frequências, com o aluno carregado, alterados em um intervalo de versões de sincronização, em ordem de versão
+     * @param desde Versão inicial (exclusiva)
+     * @param ate Versão final (inclusiva)
+     * @param limite Quantidade máxima de registros
+     * @return Registros alterados
+     */
+    @Query("SELECT f FROM Frequencia f JOIN FETCH f.aluno " +
+           "WHERE f.versaoSync > :desde AND f.versaoSync <= :ate ORDER BY f.versaoSync")
+    List<Frequencia> buscarAlteracoes(long desde, long ate, Limit limite);
 }
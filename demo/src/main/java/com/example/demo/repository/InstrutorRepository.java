@@ -1,9 +1,15 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Instrutor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -40,4 +46,23 @@ public interface InstrutorRepository extends JpaRepository<Instrutor, Long> {
      * @return true se existir, false caso contrário
      */
     boolean existsByNome(String nome);
+    
+    /**
+     * Lista todos os instrutores (resultado no cache de consultas)
+     * @return Lista de instrutores
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Instrutor> findAll();
+    
+    /**
+     * Busca os instrutores alterados em um intervalo de versões de sincronização, em ordem de versão
+     * @param desde Versão inicial (exclusiva)
+     * @param ate Versão final (inclusiva)
+     * @param limite Quantidade máxima de registros
+     * @return Registros alterados
+     */
+    @Query("SELECT i FROM Instrutor i " +
+           "WHERE i.versaoSync > :desde AND i.versaoSync <= :ate ORDER BY i.versaoSync")
+    List<Instrutor> buscarAlteracoes(long desde, long ate, Limit limite);
 }
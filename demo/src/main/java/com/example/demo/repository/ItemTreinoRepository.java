@@ -4,10 +4,16 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Exercicio;
 import com.example.demo.entity.ItemTreino;
 import com.example.demo.entity.PlanoTreino;
@@ -26,6 +32,13 @@ public interface ItemTreinoRepository extends JpaRepository<ItemTreino, Long> {
     @Query("SELECT it FROM ItemTreino it JOIN FETCH it.exercicio WHERE it.planoTreino = :planoTreino")
     List<ItemTreino> findByPlanoTreinoWithExercicio(PlanoTreino planoTreino);
     
+    /**
+     * Busca todos os itens de treino com plano de treino (e seu aluno) e exercício carregados
+     * @return Lista de itens de treino
+     */
+    @Query("SELECT it FROM ItemTreino it JOIN FETCH it.planoTreino pt JOIN FETCH pt.aluno JOIN FETCH it.exercicio")
+    List<ItemTreino> findAllWithPlanoTreinoAndExercicio();
+    
     /**
      * Busca todos os itens de um plano de treino
      * @param planoTreino Plano de treino
@@ -165,4 +178,48 @@ public interface ItemTreinoRepository extends JpaRepository<ItemTreino, Long> {
      */
     @Query("SELECT DISTINCT i.exercicio FROM ItemTreino i WHERE i.planoTreino = :planoTreino")
     List<Exercicio> buscarExerciciosDoPlano(PlanoTreino planoTreino);
+    
+    /**
+     * Busca os itens de todos os planos de treino de um aluno com o exercício carregado
+     * @param aluno Aluno
+     * @return Lista de itens de treino do aluno
+     */
+    @Query("SELECT it FROM ItemTreino it JOIN FETCH it.exercicio WHERE it.planoTreino.aluno = :aluno ORDER BY it.idItemTreino")
+    List<ItemTreino> findByAlunoWithExercicio(Aluno aluno);
+    
+    /**
+     * Conta os itens de cada plano de treino de um aluno (uma linha por plano)
+     * @param aluno Aluno
+     * @return Lista de pares [idPlanoTreino, totalItens]
+     */
+    @Query("SELECT it.planoTreino.idPlanoTreino, COUNT(it) FROM ItemTreino it WHERE it.planoTreino.aluno = :aluno GROUP BY it.planoTreino.idPlanoTreino")
+    List<Object[]> contarItensPorPlanoDoAluno(Aluno aluno);
+
+    /**
+     * Busca uma página de itens de treino com plano, aluno e exercício carregados
+     * @param posicao Posição (keyset) do último registro da página anterior
+     * @param ordenacao Ordenação estável (ID)
+     * @param limite Quantidade máxima de registros
+     * @return Página de registros
+     */
+    @EntityGraph(attributePaths = {"planoTreino", "planoTreino.aluno", "exercicio"})
+    Window<ItemTreino> findBy(ScrollPosition posicao, Sort ordenacao, Limit limite);
+    
+    /**
+     * Lista os itens de treino com observações (carga do índice de busca)
+     * @return Linhas [idItemTreino, idPlanoTreino, observacoes]
+     */
+    @Query("SELECT it.idItemTreino, it.planoTreino.idPlanoTreino, it.observacoes FROM ItemTreino it WHERE it.observacoes IS NOT NULL")
+    List<Object[]> listarTextosParaBusca();
+    
+    /**
+     * Busca os itens de treino, com plano de treino, aluno e exercício carregados, alterados em um intervalo de versões de sincronização, em ordem de versão
+     * @param desde Versão inicial (exclusiva)
+     * @param ate Versão final (inclusiva)
+     * @param limite Quantidade máxima de registros
+     * @return Registros alterados
+     */
+    @Query("SELECT it FROM ItemTreino it JOIN FETCH it.planoTreino pt JOIN FETCH pt.aluno JOIN FETCH it.exercicio " +
+           "WHERE it.versaoSync > :desde AND it.versaoSync <= :ate ORDER BY it.versaoSync")
+    List<ItemTreino> buscarAlteracoes(long desde, long ate, Limit limite);
 }
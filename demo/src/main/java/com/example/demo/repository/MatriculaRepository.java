@@ -1,12 +1,20 @@
 package com.example.demo.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.example.demo.dto.ContaReceberDTO;
 import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Matricula;
 import com.example.demo.entity.Plano;
@@ -69,6 +77,21 @@ public interface MatriculaRepository extends JpaRepository<Matricula, Long> {
     @Query("SELECT m FROM Matricula m WHERE m.status = 'ATIVA'")
     List<Matricula> findMatriculasAtivas();
     
+    /**
+     * Busca todas as matrículas com aluno e plano carregados
+     * @return Lista de matrículas
+     */
+    @Query("SELECT m FROM Matricula m JOIN FETCH m.aluno JOIN FETCH m.plano")
+    List<Matricula> findAllWithAlunoAndPlano();
+    
+    /**
+     * Busca as matrículas de vários alunos com aluno e plano carregados, ordenadas pelo nome do aluno
+     * @param idsAlunos IDs dos alunos
+     * @return Lista de matrículas
+     */
+    @Query("SELECT m FROM Matricula m JOIN FETCH m.aluno a JOIN FETCH m.plano WHERE a.idAluno IN :idsAlunos ORDER BY a.nome, m.idMatricula")
+    List<Matricula> buscarPorAlunos(Collection<Long> idsAlunos);
+    
     /**
      * Conta quantas matrículas um aluno possui
      * @param aluno Aluno
@@ -83,4 +106,139 @@ public interface MatriculaRepository extends JpaRepository<Matricula, Long> {
      * @return true se existir, false caso contrário
      */
     boolean existsByAlunoAndStatus(Aluno aluno, MatriculaStatus status);
+    
+    /**
+     * Busca as matrículas de um aluno com o plano carregado (mais recentes primeiro)
+     * @param aluno Aluno
+     * @return Lista de matrículas com plano
+     */
+    @Query("SELECT m FROM Matricula m JOIN FETCH m.plano WHERE m.aluno = :aluno ORDER BY m.dataInicio DESC, m.idMatricula DESC")
+    List<Matricula> findByAlunoWithPlano(Aluno aluno);
+
+    /**
+     * Busca uma página de matrículas com aluno e plano carregados
+     * @param posicao Posição (keyset) do último registro da página anterior
+     * @param ordenacao Ordenação estável (data e ID)
+     * @param limite Quantidade máxima de registros
+     * @return Página de registros
+     */
+    @EntityGraph(attributePaths = {"aluno", "plano"})
+    Window<Matricula> findBy(ScrollPosition posicao, Sort ordenacao, Limit limite);
+
+    /**
+     * Conta as matrículas com um determinado status
+     * @param status Status da matrícula
+     * @return Número de matrículas
+     */
+    long countByStatus(MatriculaStatus status);
+
+    /**
+     * Conta as matrículas iniciadas em cada dia de um período
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Lista de linhas [dataInicio, quantidade]
+     */
+    @Query("SELECT m.dataInicio, COUNT(m) FROM Matricula m WHERE m.dataInicio BETWEEN :dataInicio AND :dataFim GROUP BY m.dataInicio")
+    List<Object[]> contarNovasPorDia(LocalDate dataInicio, LocalDate dataFim);
+
+    /**
+     * Busca, para cada aluno informado, a maior data de término entre as matrículas com o status
+     * @param idsAlunos IDs dos alunos
+     * @param status Status da matrícula
+     * @return Lista de linhas [idAluno, dataFim] (alunos sem matrícula no status não aparecem)
+     */
+    @Query("SELECT m.aluno.idAluno, MAX(m.dataFim) FROM Matricula m " +
+           "WHERE m.aluno.idAluno IN :idsAlunos AND m.status = :status GROUP BY m.aluno.idAluno")
+    List<Object[]> buscarMaiorDataFimPorAluno(Collection<Long> idsAlunos, MatriculaStatus status);
+
+    /**
+     * Busca a maior data de término das matrículas com o status, para todos os alunos
+     * @param status Status da matrícula
+     * @return Lista de linhas [idAluno, dataFim]
+     */
+    @Query("SELECT m.aluno.idAluno, MAX(m.dataFim) FROM Matricula m WHERE m.status = :status GROUP BY m.aluno.idAluno")
+    List<Object[]> buscarMaiorDataFimDeTodos(MatriculaStatus status);
+
+    /**
+     * Busca o próximo lote de matrículas no status com término anterior à data, em ordem de ID
+     * @param status Status atual
+     * @param data Data de referência (matrículas com dataFim anterior a ela)
+     * @param aposId Último ID do lote anterior
+     * @param limite Tamanho do lote
+     * @return Lista de linhas [idMatricula, idAluno]
+     */
+    @Query("SELECT m.idMatricula, m.aluno.idAluno FROM Matricula m " +
+           "WHERE m.status = :status AND m.dataFim < :data AND m.idMatricula > :aposId ORDER BY m.idMatricula")
+    List<Object[]> buscarVencidas(MatriculaStatus status, LocalDate data, Long aposId, Limit limite);
+
+    /**
+     * Busca, entre as matrículas informadas, as que ainda não estão no status
+     * @param ids IDs das matrículas
+     * @param status Status de destino
+     * @return Lista de linhas [idMatricula, idAluno]
+     */
+    @Query("SELECT m.idMatricula, m.aluno.idAluno FROM Matricula m WHERE m.idMatricula IN :ids AND m.status <> :status")
+    List<Object[]> buscarForaDoStatus(Collection<Long> ids, MatriculaStatus status);
+
+    /**
+     * Altera o status das matrículas vencidas informadas em um único UPDATE
+     * As condições são repetidas para não alterar matrículas que mudaram depois da busca
+     * @param ids IDs das matrículas
+     * @param statusAtual Status atual esperado
+     * @param novoStatus Novo status
+     * @param data Data de referência do vencimento
+     * @param versaoSync Versão de sincronização gravada nas matrículas alteradas
+     * @return Número de matrículas alteradas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Matricula m SET m.status = :novoStatus, m.versaoSync = :versaoSync " +
+           "WHERE m.idMatricula IN :ids AND m.status = :statusAtual AND m.dataFim < :data")
+    int expirar(Collection<Long> ids, MatriculaStatus statusAtual, MatriculaStatus novoStatus, LocalDate data,
+                long versaoSync);
+
+    /**
+     * Altera o status das matrículas informadas em um único UPDATE
+     * @param ids IDs das matrículas
+     * @param novoStatus Novo status
+     * @param versaoSync Versão de sincronização gravada nas matrículas alteradas
+     * @return Número de matrículas alteradas (as que já estavam no status não contam)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Matricula m SET m.status = :novoStatus, m.versaoSync = :versaoSync " +
+           "WHERE m.idMatricula IN :ids AND m.status <> :novoStatus")
+    int alterarStatus(Collection<Long> ids, MatriculaStatus novoStatus, long versaoSync);
+
+    // Consulta base da situação financeira: uma linha por matrícula, com a soma dos pagamentos (nula se não houver)
+    String CONTAS_RECEBER = "SELECT new com.example.demo.dto.ContaReceberDTO(m.idMatricula, a.idAluno, a.nome, pl.nome, " +
+           "m.dataInicio, m.dataFim, m.status, pl.valor, SUM(p.valorPago)) " +
+           "FROM Matricula m JOIN m.aluno a JOIN m.plano pl LEFT JOIN Pagamento p ON p.matricula = m";
+
+    String CONTAS_RECEBER_GRUPO = "m.idMatricula, a.idAluno, a.nome, pl.nome, m.dataInicio, m.dataFim, m.status, pl.valor";
+
+    /**
+     * Calcula a situação financeira de todas as matrículas em uma única consulta agrupada
+     * (total pago somado por matrícula e comparado ao valor do plano)
+     * @return Situação de cada matrícula, ordenada por ID
+     */
+    @Query(CONTAS_RECEBER + " GROUP BY " + CONTAS_RECEBER_GRUPO + " ORDER BY m.idMatricula")
+    List<ContaReceberDTO> calcularContasReceber();
+
+    /**
+     * Calcula a situação financeira das matrículas informadas em uma única consulta agrupada
+     * @param idsMatriculas IDs das matrículas
+     * @return Situação de cada matrícula encontrada, ordenada por ID
+     */
+    @Query(CONTAS_RECEBER + " WHERE m.idMatricula IN :idsMatriculas GROUP BY " + CONTAS_RECEBER_GRUPO + " ORDER BY m.idMatricula")
+    List<ContaReceberDTO> calcularContasReceberPorMatriculas(Collection<Long> idsMatriculas);
+    
+    /**
+     * Busca os matrículas, com aluno e plano carregados, alterados em um intervalo de versões de sincronização, em ordem de versão
+     * @param desde Versão inicial (exclusiva)
+     * @param ate Versão final (inclusiva)
+     * @param limite Quantidade máxima de registros
+     * @return Registros alterados
+     */
+    @Query("SELECT m FROM Matricula m JOIN FETCH m.aluno JOIN FETCH m.plano " +
+           "WHERE m.versaoSync > :desde AND m.versaoSync <= :ate ORDER BY m.versaoSync")
+    List<Matricula> buscarAlteracoes(long desde, long ate, Limit limite);
 }
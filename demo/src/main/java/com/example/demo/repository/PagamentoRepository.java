@@ -1,14 +1,26 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.PagamentoResponseDTO;
+import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Matricula;
 import com.example.demo.entity.Pagamento;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository para operações com a entidade Pagamento
@@ -65,6 +77,13 @@ public interface PagamentoRepository extends JpaRepository<Pagamento, Long> {
      */
     List<Pagamento> findAllByOrderByDataPagamentoDesc();
     
+    /**
+     * Busca pagamentos ordenados por data (mais recentes primeiro) com matrícula, aluno e plano carregados
+     * @return Lista de pagamentos ordenados
+     */
+    @Query("SELECT p FROM Pagamento p JOIN FETCH p.matricula m JOIN FETCH m.aluno JOIN FETCH m.plano ORDER BY p.dataPagamento DESC")
+    List<Pagamento> findAllWithMatriculaAlunoAndPlano();
+    
     /**
      * Calcula o total pago em uma matrícula
      * @param matricula Matrícula
@@ -93,4 +112,76 @@ public interface PagamentoRepository extends JpaRepository<Pagamento, Long> {
      * @return true se existir, false caso contrário
      */
     boolean existsByDataPagamento(LocalDate dataPagamento);
+    
+    /**
+     * Calcula o total pago em cada matrícula de um aluno (uma linha por matrícula)
+     * @param aluno Aluno
+     * @return Lista de pares [idMatricula, totalPago]
+     */
+    @Query("SELECT p.matricula.idMatricula, SUM(p.valorPago) FROM Pagamento p WHERE p.matricula.aluno = :aluno GROUP BY p.matricula.idMatricula")
+    List<Object[]> calcularTotaisPagosPorMatriculaDoAluno(Aluno aluno);
+    
+    /**
+     * Busca os pagamentos de um aluno com matrícula e plano carregados (mais recentes primeiro)
+     * @param aluno Aluno
+     * @return Lista de pagamentos do aluno
+     */
+    @Query("SELECT p FROM Pagamento p JOIN FETCH p.matricula m JOIN FETCH m.plano WHERE m.aluno = :aluno ORDER BY p.dataPagamento DESC, p.idPagamento DESC")
+    List<Pagamento> findByAlunoWithMatriculaAndPlano(Aluno aluno);
+    
+    /**
+     * Busca os pagamentos de um aluno em um período com matrícula e plano carregados
+     * @param aluno Aluno
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Lista de pagamentos do aluno no período
+     */
+    @Query("SELECT p FROM Pagamento p JOIN FETCH p.matricula m JOIN FETCH m.plano WHERE m.aluno = :aluno AND p.dataPagamento BETWEEN :dataInicio AND :dataFim ORDER BY p.dataPagamento DESC, p.idPagamento DESC")
+    List<Pagamento> findByAlunoNoPeriodoWithMatriculaAndPlano(Aluno aluno, LocalDate dataInicio, LocalDate dataFim);
+
+    /**
+     * Busca uma página de pagamentos com matrícula, aluno e plano carregados
+     * @param posicao Posição (keyset) do último registro da página anterior
+     * @param ordenacao Ordenação estável (data e ID)
+     * @param limite Quantidade máxima de registros
+     * @return Página de registros
+     */
+    @EntityGraph(attributePaths = {"matricula", "matricula.aluno", "matricula.plano"})
+    Window<Pagamento> findBy(ScrollPosition posicao, Sort ordenacao, Limit limite);
+
+    /**
+     * Lê os pagamentos de um período já projetados em DTO, para exportação
+     * O resultado é percorrido por cursor (fetch size) e as linhas não são gerenciadas pelo
+     * contexto de persistência, então deve ser consumido dentro de uma transação e fechado ao final
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Stream de pagamentos ordenados por data e ID
+     */
+    @Query("SELECT new com.example.demo.dto.PagamentoResponseDTO(p.idPagamento, m.idMatricula, a.nome, pl.nome, " +
+           "p.dataPagamento, p.valorPago, p.formaPagamento) " +
+           "FROM Pagamento p JOIN p.matricula m JOIN m.aluno a JOIN m.plano pl " +
+           "WHERE p.dataPagamento BETWEEN :dataInicio AND :dataFim ORDER BY p.dataPagamento, p.idPagamento")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<PagamentoResponseDTO> exportarPorPeriodo(LocalDate dataInicio, LocalDate dataFim);
+
+    /**
+     * Agrupa os pagamentos de um período por dia e forma de pagamento
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Lista de linhas [data, formaPagamento, valorTotal, quantidade]
+     */
+    @Query("SELECT p.dataPagamento, p.formaPagamento, SUM(p.valorPago), COUNT(p) " +
+           "FROM Pagamento p WHERE p.dataPagamento BETWEEN :dataInicio AND :dataFim GROUP BY p.dataPagamento, p.formaPagamento")
+    List<Object[]> resumirPorDia(LocalDate dataInicio, LocalDate dataFim);
+    
+    /**
+     * Busca os pagamentos, com matrícula, aluno e plano carregados, alterados em um intervalo de versões de sincronização, em ordem de versão
+     * @param desde Versão inicial (exclusiva)
+     * @param ate Versão final (inclusiva)
+     * @param limite Quantidade máxima de registros
+     * @return Registros alterados
+     */
+    @Query("SELECT p FROM Pagamento p JOIN FETCH p.matricula m JOIN FETCH m.aluno JOIN FETCH m.plano " +
+           "WHERE p.versaoSync > :desde AND p.versaoSync <= :ate ORDER BY p.versaoSync")
+    List<Pagamento> buscarAlteracoes(long desde, long ate, Limit limite);
 }
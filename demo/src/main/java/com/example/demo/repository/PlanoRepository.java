@@ -3,9 +3,15 @@ package com.example.demo.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 import com.example.demo.entity.Plano;
 
 /**
@@ -37,7 +43,34 @@ public interface PlanoRepository extends JpaRepository<Plano, Long> {
     /**
      * Busca planos por status
      * @param status Status do plano (ATIVO/INATIVO)
-     * @return Lista de planos com o status especificado
+     * @return Lista de planos com o status especificado (resultado no cache de consultas)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Plano> findByStatus(String status);
+    
+    /**
+     * Lista todos os planos (resultado no cache de consultas)
+     * @return Lista de planos
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Plano> findAll();
+    
+    /**
+     * Lista id, nome e descrição de todos os planos (carga do índice de busca)
+     * @return Linhas [idPlanoAssinatura, nome, descricao]
+     */
+    @Query("SELECT p.idPlanoAssinatura, p.nome, p.descricao FROM Plano p")
+    List<Object[]> listarTextosParaBusca();
+    
+    /**
+     * Busca os planos alterados em um intervalo de versões de sincronização, em ordem de versão
+     * @param desde Versão inicial (exclusiva)
+     * @param ate Versão final (inclusiva)
+     * @param limite Quantidade máxima de registros
+     * @return Registros alterados
+     */
+    @Query("SELECT p FROM Plano p " +
+           "WHERE p.versaoSync > :desde AND p.versaoSync <= :ate ORDER BY p.versaoSync")
+    List<Plano> buscarAlteracoes(long desde, long ate, Limit limite);
 }
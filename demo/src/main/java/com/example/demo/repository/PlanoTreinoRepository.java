@@ -4,6 +4,11 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -160,4 +165,40 @@ public interface PlanoTreinoRepository extends JpaRepository<PlanoTreino, Long>
      */
     @Query("SELECT p FROM PlanoTreino p WHERE p.instrutor = :instrutor AND p.dataCriacao BETWEEN :dataInicio AND :dataFim ORDER BY p.dataCriacao DESC")
     List<PlanoTreino> buscarPlanosInstrutorNoPeriodo(Instrutor instrutor, LocalDate dataInicio, LocalDate dataFim);
+    
+    /**
+     * Busca os planos de treino de um aluno com o instrutor carregado (mais recentes primeiro)
+     * @param aluno Aluno
+     * @return Lista de planos de treino do aluno
+     */
+    @Query("SELECT pt FROM PlanoTreino pt JOIN FETCH pt.instrutor WHERE pt.aluno = :aluno ORDER BY pt.dataCriacao DESC, pt.idPlanoTreino DESC")
+    List<PlanoTreino> findByAlunoWithInstrutor(Aluno aluno);
+
+    /**
+     * Busca uma página de planos de treino com aluno e instrutor carregados
+     * @param posicao Posição (keyset) do último registro da página anterior
+     * @param ordenacao Ordenação estável (data e ID)
+     * @param limite Quantidade máxima de registros
+     * @return Página de registros
+     */
+    @EntityGraph(attributePaths = {"aluno", "instrutor"})
+    Window<PlanoTreino> findBy(ScrollPosition posicao, Sort ordenacao, Limit limite);
+    
+    /**
+     * Lista os planos de treino com descrição (carga do índice de busca)
+     * @return Linhas [idPlanoTreino, idAluno, dataCriacao, descricao]
+     */
+    @Query("SELECT pt.idPlanoTreino, pt.aluno.idAluno, pt.dataCriacao, pt.descricao FROM PlanoTreino pt WHERE pt.descricao IS NOT NULL")
+    List<Object[]> listarTextosParaBusca();
+    
+    /**
+     * Busca os planos de treino, com aluno e instrutor carregados, alterados em um intervalo de versões de sincronização, em ordem de versão
+     * @param desde Versão inicial (exclusiva)
+     * @param ate Versão final (inclusiva)
+     * @param limite Quantidade máxima de registros
+     * @return Registros alterados
+     */
+    @Query("SELECT pt FROM PlanoTreino pt LEFT JOIN FETCH pt.aluno LEFT JOIN FETCH pt.instrutor " +
+           "WHERE pt.versaoSync > :desde AND pt.versaoSync <= :ate ORDER BY pt.versaoSync")
+    List<PlanoTreino> buscarAlteracoes(long desde, long ate, Limit limite);
 }
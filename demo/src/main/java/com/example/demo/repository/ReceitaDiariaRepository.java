@@ -0,0 +1,66 @@
+package com.example.demo.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.QueryHint;
+
+import com.example.demo.entity.ReceitaDiaria;
+
+/**
+ * Repository para a receita diária por forma de pagamento
+ */
+@Repository
+public interface ReceitaDiariaRepository extends JpaRepository<ReceitaDiaria, ReceitaDiaria.Chave> {
+    
+    /**
+     * Soma o valor e a quantidade à linha do dia e forma de pagamento, criando-a se ainda não existir
+     * Declara receita_diaria como única tabela afetada (ver ResumoDiarioRepository.acumular)
+     * @param data Dia
+     * @param formaPagamento Forma de pagamento
+     * @param valor Variação do valor recebido (negativa para estornar)
+     * @param quantidade Variação da quantidade de pagamentos
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "receita_diaria"))
+    @Query(value = "INSERT INTO receita_diaria (data, forma_pagamento, valor_total, quantidade) " +
+                   "VALUES (:data, :formaPagamento, :valor, :quantidade) " +
+                   "ON DUPLICATE KEY UPDATE valor_total = valor_total + :valor, quantidade = quantidade + :quantidade",
+           nativeQuery = true)
+    void acumular(LocalDate data, String formaPagamento, BigDecimal valor, long quantidade);
+    
+    /**
+     * Busca a receita diária de um período
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Linhas ordenadas por data e forma de pagamento
+     */
+    List<ReceitaDiaria> findByDataBetweenOrderByDataAscFormaPagamentoAsc(LocalDate dataInicio, LocalDate dataFim);
+    
+    /**
+     * Soma a receita de um período
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Receita total (zero se não houver pagamentos)
+     */
+    @Query("SELECT COALESCE(SUM(r.valorTotal), 0) FROM ReceitaDiaria r WHERE r.data BETWEEN :dataInicio AND :dataFim")
+    BigDecimal somarValorNoPeriodo(LocalDate dataInicio, LocalDate dataFim);
+    
+    /**
+     * Remove as linhas de um período (usado na reconstrução)
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Número de linhas removidas
+     */
+    @Modifying
+    @Query("DELETE FROM ReceitaDiaria r WHERE r.data BETWEEN :dataInicio AND :dataFim")
+    int removerPeriodo(LocalDate dataInicio, LocalDate dataFim);
+}
@@ -0,0 +1,71 @@
+package com.example.demo.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.QueryHint;
+
+import com.example.demo.entity.ResumoDiario;
+
+/**
+ * Repository para os totais diários de frequência e matrículas
+ */
+@Repository
+public interface ResumoDiarioRepository extends JpaRepository<ResumoDiario, LocalDate> {
+    
+    /**
+     * Soma os valores informados à linha do dia, criando-a se ainda não existir
+     * O incremento é feito pelo banco em um único comando, então escritas concorrentes no mesmo dia não se perdem
+     * A tabela afetada é declarada no hint para que o comando nativo não esvazie o cache de segundo nível inteiro
+     * @param data Dia
+     * @param presencas Variação de presenças (negativa para estornar)
+     * @param ausencias Variação de ausências
+     * @param novasMatriculas Variação de novas matrículas
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "resumo_diario"))
+    @Query(value = "INSERT INTO resumo_diario (data, presencas, ausencias, novas_matriculas) " +
+                   "VALUES (:data, :presencas, :ausencias, :novasMatriculas) " +
+                   "ON DUPLICATE KEY UPDATE presencas = presencas + :presencas, ausencias = ausencias + :ausencias, " +
+                   "novas_matriculas = novas_matriculas + :novasMatriculas", nativeQuery = true)
+    void acumular(LocalDate data, long presencas, long ausencias, long novasMatriculas);
+    
+    /**
+     * Busca os totais diários de um período
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Linhas ordenadas por data
+     */
+    List<ResumoDiario> findByDataBetweenOrderByDataAsc(LocalDate dataInicio, LocalDate dataFim);
+    
+    /**
+     * Soma as presenças de todos os dias
+     * @return Total de presenças
+     */
+    @Query("SELECT COALESCE(SUM(r.presencas), 0) FROM ResumoDiario r")
+    long somarPresencas();
+    
+    /**
+     * Soma as ausências de todos os dias
+     * @return Total de ausências
+     */
+    @Query("SELECT COALESCE(SUM(r.ausencias), 0) FROM ResumoDiario r")
+    long somarAusencias();
+    
+    /**
+     * Remove as linhas de um período (usado na reconstrução)
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Número de linhas removidas
+     */
+    @Modifying
+    @Query("DELETE FROM ResumoDiario r WHERE r.data BETWEEN :dataInicio AND :dataFim")
+    int removerPeriodo(LocalDate dataInicio, LocalDate dataFim);
+}
@@ -2,22 +2,44 @@ package com.example.demo.service;
 
 import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.cache.ContasReceberCache;
+import com.example.demo.cache.HistoricoAlunoCache;
+import com.example.demo.dto.AlunoDTO;
 import com.example.demo.entity.Aluno;
 import com.example.demo.exception.RecursoNaoEncontradoException;
 import com.example.demo.exception.ValidacaoException;
+import com.example.demo.index.IndiceNomesAlunos;
 import com.example.demo.repository.AlunoRepository;
 import com.example.demo.util.ValidadorCPF;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed("gym.servico")
 public class AlunoService {
     
+    private static final Logger logger = LoggerFactory.getLogger(AlunoService.class);
+    
     @Autowired
     private AlunoRepository alunoRepository;
 
+    @Autowired
+    private HistoricoAlunoCache historicoAlunoCache;
+
+    @Autowired
+    private ContasReceberCache contasReceberCache;
+
+    @Autowired
+    private IndiceNomesAlunos indiceNomesAlunos;
+
     @Transactional
     public Aluno cadastrarAluno(Aluno aluno) {
         // Formata o CPF antes de validar
@@ -26,8 +48,11 @@ public class AlunoService {
         }
         
         validarAluno(aluno);
+        validarCpfUnico(aluno.getCpf(), null);
         
-        return alunoRepository.save(aluno);
+        Aluno alunoSalvo = alunoRepository.save(aluno);
+        indiceNomesAlunos.atualizar(alunoSalvo);
+        return alunoSalvo;
     }
 
     @Transactional(readOnly = true)
@@ -41,6 +66,22 @@ public class AlunoService {
         return alunoRepository.findAllByOrderByNomeAsc();
     }
 
+    /**
+     * Sugere alunos pelo início do nome ou do CPF, sem consultar o banco
+     * @param busca Texto digitado na caixa de busca
+     * @param limite Quantidade máxima de sugestões (nulo para o padrão)
+     * @return Alunos encontrados
+     */
+    public List<AlunoDTO> sugerir(String busca, Integer limite) {
+        if (limite == null) {
+            limite = IndiceNomesAlunos.LIMITE_PADRAO;
+        }
+        if (limite < 1 || limite > IndiceNomesAlunos.LIMITE_MAXIMO) {
+            throw new ValidacaoException("O limite deve estar entre 1 e " + IndiceNomesAlunos.LIMITE_MAXIMO);
+        }
+        return indiceNomesAlunos.buscar(busca, limite);
+    }
+
     @Transactional
     public Aluno atualizarAluno(Long id, Aluno alunoAtualizado) {
         Aluno alunoExistente = buscarPorId(id);
@@ -51,6 +92,7 @@ public class AlunoService {
         }
         
         validarAluno(alunoAtualizado);
+        validarCpfUnico(alunoAtualizado.getCpf(), id);
 
         // Atualiza os campos
         alunoExistente.setNome(alunoAtualizado.getNome());
@@ -59,7 +101,11 @@ public class AlunoService {
         }
         alunoExistente.setDataIngresso(alunoAtualizado.getDataIngresso());
 
-        return alunoRepository.save(alunoExistente);
+        historicoAlunoCache.invalidar(id);
+        contasReceberCache.invalidar();
+        Aluno alunoSalvo = alunoRepository.save(alunoExistente);
+        indiceNomesAlunos.atualizar(alunoSalvo);
+        return alunoSalvo;
     }
 
     @Transactional
@@ -68,6 +114,36 @@ public class AlunoService {
             throw new RecursoNaoEncontradoException("Aluno não encontrado com ID: " + id);
         }
         alunoRepository.deleteById(id);
+        indiceNomesAlunos.remover(id);
+        historicoAlunoCache.invalidar(id);
+        contasReceberCache.invalidar();
+    }
+
+    /**
+     * Preenche a chave numérica do CPF dos alunos cadastrados antes da coluna cpf_chave existir
+     * @return Quantidade de alunos atualizados
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public int preencherChavesCpf() {
+        List<Aluno> semChave = alunoRepository.findByCpfChaveIsNull();
+        int preenchidos = 0;
+        for (Aluno aluno : semChave) {
+            aluno.atualizarCpfChave();
+            if (aluno.getCpfChave() != null) {
+                preenchidos++;
+            }
+        }
+        if (preenchidos > 0) {
+            logger.info("Chave de CPF preenchida para {} alunos", preenchidos);
+        }
+        return preenchidos;
+    }
+
+    private void validarCpfUnico(String cpf, Long idAluno) {
+        if (alunoRepository.existeCpfChave(ValidadorCPF.chave(cpf), idAluno)) {
+            throw new ValidacaoException("Já existe um aluno cadastrado com este CPF");
+        }
     }
 
     private void validarAluno(Aluno aluno) {
@@ -0,0 +1,56 @@
+package com.example.demo.service;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dto.ResultadoBuscaDTO;
+import com.example.demo.enums.TipoDocumentoBusca;
+import com.example.demo.exception.ValidacaoException;
+import com.example.demo.index.IndiceTextual;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Busca textual global sobre os campos de texto livre, atendida pelo índice em memória
+ */
+@Service
+@Timed("gym.servico")
+public class BuscaService {
+
+    @Autowired
+    private IndiceTextual indiceTextual;
+
+    /**
+     * Busca exercícios, planos, planos de treino, itens de treino e avaliações pelo texto
+     * @param busca Texto da busca
+     * @param tipo Tipo de documento (nulo para todos)
+     * @param limite Quantidade máxima de resultados (nulo para o padrão)
+     * @return Resultados em ordem de relevância
+     */
+    public List<ResultadoBuscaDTO> buscar(String busca, String tipo, Integer limite) {
+        if (busca == null || busca.isBlank()) {
+            throw new ValidacaoException("Informe o texto da busca");
+        }
+        if (limite == null) {
+            limite = IndiceTextual.LIMITE_PADRAO;
+        }
+        if (limite < 1 || limite > IndiceTextual.LIMITE_MAXIMO) {
+            throw new ValidacaoException("O limite deve estar entre 1 e " + IndiceTextual.LIMITE_MAXIMO);
+        }
+        return indiceTextual.buscar(busca, converterTipo(tipo), limite);
+    }
+
+    private TipoDocumentoBusca converterTipo(String tipo) {
+        if (tipo == null || tipo.isBlank()) {
+            return null;
+        }
+        try {
+            return TipoDocumentoBusca.valueOf(tipo.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidacaoException("Tipo de busca inválido: " + tipo);
+        }
+    }
+}
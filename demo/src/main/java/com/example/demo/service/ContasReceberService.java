@@ -0,0 +1,160 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.cache.ContasReceberCache;
+import com.example.demo.dto.ContaReceberDTO;
+import com.example.demo.dto.PaginaDTO;
+import com.example.demo.enums.MatriculaStatus;
+import com.example.demo.exception.MatriculaException;
+import com.example.demo.exception.ValidacaoException;
+import com.example.demo.paginacao.OrdenacaoKeyset;
+import com.example.demo.repository.MatriculaRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Service de contas a receber e inadimplência
+ * 
+ * A situação de todas as matrículas (total pago contra o valor do plano) vem de uma única consulta
+ * agrupada e fica no ContasReceberCache. Dentro de uma transação de escrita o cache não é usado:
+ * a consulta vai direto ao banco para enxergar as alterações ainda não confirmadas, e o resultado
+ * não é armazenado. A consulta de uma única matrícula só aproveita um instantâneo já montado; sem ele,
+ * calcula apenas a matrícula pedida, para não disparar a consulta agrupada a cada escrita.
+ */
+@Service
+@Timed("gym.servico")
+@Transactional(readOnly = true)
+public class ContasReceberService {
+    
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+    
+    @Autowired
+    private ContasReceberCache contasReceberCache;
+    
+    /**
+     * Lista as matrículas ativas cujo total pago não cobre o valor do plano
+     * @return Contas inadimplentes, da maior para a menor dívida
+     */
+    public List<ContaReceberDTO> listarInadimplentes() {
+        return listarContas().stream()
+            .filter(ContaReceberDTO::inadimplente)
+            .sorted(Comparator.comparing(ContaReceberDTO::getSaldoDevedor).reversed()
+                .thenComparing(ContaReceberDTO::getIdMatricula))
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Lista uma página de contas a receber, ordenada pelo ID da matrícula
+     * @param status Filtra pelo status da matrícula (null para todos)
+     * @param emDia Filtra contas quitadas (true) ou em aberto (false); null para todas
+     * @param apos Cursor da página anterior (ID da última matrícula retornada)
+     * @param limite Tamanho da página
+     * @return Página de contas
+     */
+    public PaginaDTO<ContaReceberDTO> listarPagina(MatriculaStatus status, Boolean emDia, String apos, Integer limite) {
+        int tamanho = OrdenacaoKeyset.limite(limite).max();
+        long ultimoId = cursor(apos);
+        
+        Predicate<ContaReceberDTO> filtro = conta ->
+            (status == null || conta.getStatus() == status)
+            && (emDia == null || emDia.equals(conta.getEmDia()));
+        
+        List<ContaReceberDTO> contas = listarContas();
+        List<ContaReceberDTO> itens = new ArrayList<>();
+        boolean temMais = false;
+        for (int i = primeiraPosicaoApos(contas, ultimoId); i < contas.size(); i++) {
+            ContaReceberDTO conta = contas.get(i);
+            if (!filtro.test(conta)) {
+                continue;
+            }
+            if (itens.size() == tamanho) {
+                temMais = true;
+                break;
+            }
+            itens.add(conta);
+        }
+        
+        String proximoCursor = temMais ? String.valueOf(itens.get(itens.size() - 1).getIdMatricula()) : null;
+        return new PaginaDTO<>(itens, proximoCursor);
+    }
+    
+    /**
+     * Busca a situação financeira de uma matrícula
+     * Usa o instantâneo do cache se já estiver válido; senão calcula só esta matrícula
+     * @param idMatricula ID da matrícula
+     * @return Situação da matrícula
+     */
+    public ContaReceberDTO buscarPorMatricula(Long idMatricula) {
+        ContaReceberDTO conta = null;
+        if (podeUsarCache()) {
+            ContasReceberCache.Instantaneo instantaneo = contasReceberCache.obterAtual();
+            if (instantaneo != null) {
+                conta = instantaneo.porMatricula().get(idMatricula);
+            }
+        }
+        if (conta == null) {
+            List<ContaReceberDTO> contas = matriculaRepository.calcularContasReceberPorMatriculas(List.of(idMatricula));
+            if (contas.isEmpty()) {
+                throw new MatriculaException.MatriculaNotFoundException(
+                    "Matrícula não encontrada com ID: " + idMatricula);
+            }
+            conta = contas.get(0);
+        }
+        return conta;
+    }
+    
+    private List<ContaReceberDTO> listarContas() {
+        if (podeUsarCache()) {
+            return contasReceberCache.obter(matriculaRepository::calcularContasReceber).contas();
+        }
+        return matriculaRepository.calcularContasReceber();
+    }
+    
+    /**
+     * O cache só é lido e preenchido fora de transações de escrita, que podem ter pagamentos
+     * ou matrículas ainda não confirmados (e que talvez nunca sejam)
+     */
+    private boolean podeUsarCache() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+            || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+    
+    /**
+     * Busca binária da primeira conta com ID de matrícula maior que o cursor
+     */
+    private static int primeiraPosicaoApos(List<ContaReceberDTO> contas, long ultimoId) {
+        int inicio = 0;
+        int fim = contas.size();
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (contas.get(meio).getIdMatricula() <= ultimoId) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+    
+    private static long cursor(String apos) {
+        if (apos == null || apos.isBlank()) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return Long.parseLong(apos.trim());
+        } catch (NumberFormatException e) {
+            throw new ValidacaoException("Cursor inválido: " + apos);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.demo.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.dto.AtividadeRecenteDTO;
+import com.example.demo.dto.DashboardResumoDTO;
+import com.example.demo.enums.MatriculaStatus;
+import com.example.demo.repository.AlunoRepository;
+import com.example.demo.repository.ExercicioRepository;
+import com.example.demo.repository.MatriculaRepository;
+import com.example.demo.repository.PagamentoRepository;
+import com.example.demo.repository.PlanoTreinoRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Service que monta o resumo do dashboard
+ * Os indicadores são calculados no banco (COUNT e LIMIT) ou lidos dos totais diários, sem carregar as tabelas
+ */
+@Service
+@Timed("gym.servico")
+@Transactional(readOnly = true)
+public class DashboardService {
+
+    private static final int LIMITE_ATIVIDADES_RECENTES = 3;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+
+    @Autowired
+    private PagamentoRepository pagamentoRepository;
+
+    @Autowired
+    private ResumoDiarioService resumoDiarioService;
+
+    @Autowired
+    private ExercicioRepository exercicioRepository;
+
+    @Autowired
+    private PlanoTreinoRepository planoTreinoRepository;
+
+    /**
+     * Gera o resumo do dashboard
+     * @return Indicadores gerais e as atividades mais recentes
+     */
+    public DashboardResumoDTO gerarResumo() {
+        DashboardResumoDTO resumo = new DashboardResumoDTO();
+
+        resumo.setTotalAlunos(alunoRepository.count());
+        resumo.setMatriculasAtivas(matriculaRepository.countByStatus(MatriculaStatus.ATIVA));
+        resumo.setReceitaMes(calcularReceitaDoMes());
+        resumo.setTaxaPresenca(resumoDiarioService.calcularTaxaPresenca());
+        resumo.setTotalExercicios(exercicioRepository.count());
+        resumo.setTotalPlanosTreino(planoTreinoRepository.count());
+
+        resumo.setUltimasMatriculas(buscarUltimasMatriculas());
+        resumo.setUltimosPagamentos(buscarUltimosPagamentos());
+        resumo.setUltimosPlanosTreino(buscarUltimosPlanosTreino());
+
+        return resumo;
+    }
+
+    private BigDecimal calcularReceitaDoMes() {
+        YearMonth mesAtual = YearMonth.now();
+        LocalDate inicio = mesAtual.atDay(1);
+        LocalDate fim = mesAtual.atEndOfMonth();
+        return resumoDiarioService.somarReceita(inicio, fim);
+    }
+
+    private List<AtividadeRecenteDTO> buscarUltimasMatriculas() {
+        return matriculaRepository.findBy(ScrollPosition.keyset(),
+                Sort.by(Sort.Direction.DESC, "dataInicio", "idMatricula"),
+                Limit.of(LIMITE_ATIVIDADES_RECENTES))
+            .map(m -> new AtividadeRecenteDTO(m.getDataInicio(), m.getAluno().getNome(), m.getStatus().name(), null))
+            .getContent();
+    }
+
+    private List<AtividadeRecenteDTO> buscarUltimosPagamentos() {
+        return pagamentoRepository.findBy(ScrollPosition.keyset(),
+                Sort.by(Sort.Direction.DESC, "dataPagamento", "idPagamento"),
+                Limit.of(LIMITE_ATIVIDADES_RECENTES))
+            .map(p -> new AtividadeRecenteDTO(p.getDataPagamento(), p.getMatricula().getAluno().getNome(),
+                p.getFormaPagamento(), p.getValorPago()))
+            .getContent();
+    }
+
+    private List<AtividadeRecenteDTO> buscarUltimosPlanosTreino() {
+        return planoTreinoRepository.findBy(ScrollPosition.keyset(),
+                Sort.by(Sort.Direction.DESC, "dataCriacao", "idPlanoTreino"),
+                Limit.of(LIMITE_ATIVIDADES_RECENTES))
+            .map(p -> new AtividadeRecenteDTO(p.getDataCriacao(), p.getAluno().getNome(),
+                p.getInstrutor().getNome(), null))
+            .getContent();
+    }
+}
@@ -6,13 +6,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.cache.HistoricoAlunoCache;
 import com.example.demo.entity.Exercicio;
 import com.example.demo.entity.PlanoTreino;
+import com.example.demo.enums.TipoDocumentoBusca;
 import com.example.demo.exception.ExercicioException;
+import com.example.demo.index.IndiceTextual;
 import com.example.demo.repository.ExercicioRepository;
 import com.example.demo.repository.ItemTreinoRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed("gym.servico")
 @Transactional
 public class ExercicioService {
     
@@ -22,6 +28,12 @@ public class ExercicioService {
     @Autowired
     private ItemTreinoRepository itemTreinoRepository;
     
+    @Autowired
+    private HistoricoAlunoCache historicoAlunoCache;
+    
+    @Autowired
+    private IndiceTextual indiceTextual;
+    
     public Exercicio criarExercicio(Exercicio exercicio) {
         validarExercicio(exercicio);
         
@@ -31,7 +43,9 @@ public class ExercicioService {
                 "Já existe um exercício com o nome: " + exercicio.getNome());
         }
         
-        return exercicioRepository.save(exercicio);
+        Exercicio exercicioSalvo = exercicioRepository.save(exercicio);
+        indiceTextual.indexarExercicio(exercicioSalvo);
+        return exercicioSalvo;
     }
     
     public Exercicio atualizarExercicio(Long id, Exercicio exercicio) {
@@ -50,7 +64,11 @@ public class ExercicioService {
         exercicioExistente.setGrupoMuscular(exercicio.getGrupoMuscular());
         exercicioExistente.setDescricao(exercicio.getDescricao());
         
-        return exercicioRepository.save(exercicioExistente);
+        // O nome do exercício aparece nos planos de treino do histórico
+        historicoAlunoCache.invalidarTodos();
+        Exercicio exercicioAtualizado = exercicioRepository.save(exercicioExistente);
+        indiceTextual.indexarExercicio(exercicioAtualizado);
+        return exercicioAtualizado;
     }
     
     public void deletarExercicio(Long id) {
@@ -63,6 +81,7 @@ public class ExercicioService {
         }
         
         exercicioRepository.delete(exercicio);
+        indiceTextual.remover(TipoDocumentoBusca.EXERCICIO, id);
     }
     
     public Exercicio buscarPorId(Long id) {
@@ -1,34 +1,92 @@
 package com.example.demo.service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.cache.HistoricoAlunoCache;
+import com.example.demo.dto.FrequenciaRequestDTO;
+import com.example.demo.dto.FrequenciaResponseDTO;
+import com.example.demo.dto.ResultadoFrequenciaLoteDTO;
 import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Frequencia;
 import com.example.demo.entity.Matricula;
 import com.example.demo.enums.MatriculaStatus;
 import com.example.demo.exception.FrequenciaException;
+import com.example.demo.index.IndiceMatriculasAtivas;
+import com.example.demo.index.MapaFrequencias;
+import com.example.demo.metricas.MetricasNegocio;
+import com.example.demo.repository.AlunoRepository;
 import com.example.demo.repository.FrequenciaRepository;
 import com.example.demo.repository.MatriculaRepository;
+import com.example.demo.sincronizacao.RelogioSincronizacao;
+
+import io.micrometer.core.annotation.Timed;
 
 /**
  * Service para gerenciamento de Frequência
  * Implementa regras de negócio para registro e validação de presença
  */
 @Service
+@Timed("gym.servico")
 @Transactional
 public class FrequenciaService {
     
+    /** Máximo de entradas aceitas em um registro em lote */
+    public static final int LIMITE_LOTE = 500;
+    
+    /** Máximo de alunos em uma listagem por vários alunos */
+    public static final int LIMITE_ALUNOS = 50;
+    
+    private static final int TAMANHO_BATCH_JDBC = 100;
+    
     @Autowired
     private FrequenciaRepository frequenciaRepository;
     
     @Autowired
     private MatriculaRepository matriculaRepository;
     
+    @Autowired
+    private HistoricoAlunoCache historicoAlunoCache;
+    
+    @Autowired
+    private ResumoDiarioService resumoDiarioService;
+    
+    @Autowired
+    private AlunoRepository alunoRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private IndiceMatriculasAtivas indiceMatriculasAtivas;
+    
+    @Autowired
+    private MapaFrequencias mapaFrequencias;
+    
+    @Autowired
+    private MetricasNegocio metricasNegocio;
+    
+    @Autowired
+    private RelogioSincronizacao relogioSincronizacao;
+    
     /**
      * Registra presença de um aluno
      * @param frequencia Dados da frequência
@@ -43,7 +101,98 @@ public class FrequenciaService {
             frequencia.setPresenca(true);
         }
         
-        return frequenciaRepository.save(frequencia);
+        Frequencia frequenciaSalva = salvarSemDuplicidade(frequencia);
+        resumoDiarioService.registrarFrequencia(frequenciaSalva);
+        indiceMatriculasAtivas.registrarFrequencia(frequenciaSalva.getAluno().getIdAluno(), frequenciaSalva.getData());
+        mapaFrequencias.registrar(frequenciaSalva.getAluno().getIdAluno(), frequenciaSalva.getData(), frequenciaSalva.getPresenca());
+        historicoAlunoCache.invalidar(frequenciaSalva.getAluno());
+        boolean presente = frequenciaSalva.getPresenca();
+        metricasNegocio.registrarFrequencias(presente ? 1 : 0, presente ? 0 : 1);
+        return frequenciaSalva;
+    }
+    
+    /**
+     * Registra as frequências de vários alunos de uma vez (ex.: chamada de uma turma)
+     * 
+     * As entradas são validadas com as mesmas regras de registrarPresenca, mas com consultas por conjunto:
+     * uma para os alunos, uma para as matrículas ativas e uma para os registros já existentes.
+     * As válidas são inseridas em batch JDBC e as demais são devolvidas com o motivo da rejeição.
+     * @param entradas Alunos, datas e presenças
+     * @return Resultado de cada entrada, na ordem recebida
+     */
+    public List<ResultadoFrequenciaLoteDTO> registrarPresencasEmLote(List<FrequenciaRequestDTO> entradas) {
+        if (entradas == null || entradas.isEmpty()) {
+            throw new FrequenciaException.FrequenciaInvalidaException("O lote de frequências está vazio");
+        }
+        if (entradas.size() > LIMITE_LOTE) {
+            throw new FrequenciaException.FrequenciaInvalidaException(
+                "O lote de frequências pode ter no máximo " + LIMITE_LOTE + " registros");
+        }
+        
+        LocalDate hoje = LocalDate.now();
+        Set<Long> idsAlunos = new HashSet<>();
+        Set<LocalDate> datas = new HashSet<>();
+        for (FrequenciaRequestDTO entrada : entradas) {
+            if (entrada.getIdAluno() != null && entrada.getData() != null) {
+                idsAlunos.add(entrada.getIdAluno());
+                datas.add(entrada.getData());
+            }
+        }
+        
+        Map<Long, Aluno> alunos = new HashMap<>();
+        Map<Long, LocalDate> fimMatriculaAtiva = new HashMap<>();
+        Set<String> registrados = new HashSet<>();
+        if (!idsAlunos.isEmpty()) {
+            alunoRepository.findAllById(idsAlunos).forEach(aluno -> alunos.put(aluno.getIdAluno(), aluno));
+            for (Object[] linha : matriculaRepository.buscarMaiorDataFimPorAluno(idsAlunos, MatriculaStatus.ATIVA)) {
+                fimMatriculaAtiva.put((Long) linha[0], (LocalDate) linha[1]);
+            }
+            for (Object[] linha : frequenciaRepository.buscarRegistrosExistentes(idsAlunos, datas)) {
+                registrados.add(chaveRegistro((Long) linha[0], (LocalDate) linha[1]));
+            }
+        }
+        
+        List<ResultadoFrequenciaLoteDTO> resultados = new ArrayList<>(entradas.size());
+        List<Frequencia> novas = new ArrayList<>();
+        for (int i = 0; i < entradas.size(); i++) {
+            FrequenciaRequestDTO entrada = entradas.get(i);
+            String motivo = validarEntradaLote(entrada, hoje, alunos, fimMatriculaAtiva, registrados);
+            if (motivo == null) {
+                Boolean presenca = entrada.getPresenca() != null ? entrada.getPresenca() : Boolean.TRUE;
+                novas.add(new Frequencia(alunos.get(entrada.getIdAluno()), entrada.getData(), presenca));
+                // Marca o par como registrado para rejeitar repetições dentro do próprio lote
+                registrados.add(chaveRegistro(entrada.getIdAluno(), entrada.getData()));
+            }
+            resultados.add(new ResultadoFrequenciaLoteDTO(i, entrada.getIdAluno(), entrada.getData(), motivo == null, motivo));
+        }
+        
+        if (!novas.isEmpty()) {
+            // O insert por JDBC não passa pelo SincronizacaoListener: a versão de sincronização vai no próprio comando
+            long versaoSync = relogioSincronizacao.proxima();
+            try {
+                jdbcTemplate.batchUpdate(
+                    "INSERT INTO frequencia (id_aluno, data, presenca, versao_sync) VALUES (?, ?, ?, ?)",
+                    novas, TAMANHO_BATCH_JDBC, (ps, frequencia) -> {
+                        ps.setLong(1, frequencia.getAluno().getIdAluno());
+                        ps.setObject(2, frequencia.getData());
+                        ps.setBoolean(3, frequencia.getPresenca());
+                        ps.setLong(4, versaoSync);
+                    });
+            } catch (DataIntegrityViolationException e) {
+                // Outro registro do mesmo aluno e data foi gravado entre a validação e o insert
+                throw new FrequenciaException.FrequenciaConflictException(
+                    "Frequências do lote foram registradas por outra requisição; envie o lote novamente");
+            }
+            resumoDiarioService.registrarFrequencias(novas);
+            for (Frequencia nova : novas) {
+                indiceMatriculasAtivas.registrarFrequencia(nova.getAluno().getIdAluno(), nova.getData());
+                mapaFrequencias.registrar(nova.getAluno().getIdAluno(), nova.getData(), nova.getPresenca());
+            }
+            novas.stream().map(Frequencia::getAluno).distinct().forEach(historicoAlunoCache::invalidar);
+            long presencas = novas.stream().filter(Frequencia::getPresenca).count();
+            metricasNegocio.registrarFrequencias(presencas, novas.size() - presencas);
+        }
+        return resultados;
     }
     
     /**
@@ -65,6 +214,18 @@ public class FrequenciaService {
         return frequenciaRepository.findAllByOrderByDataDesc();
     }
     
+    /**
+     * Lista uma página de registros de frequência
+     * @param posicao Posição do último registro da página anterior
+     * @param ordenacao Ordenação por data e ID
+     * @param limite Tamanho da página
+     * @return Página de frequências
+     */
+    @Transactional(readOnly = true)
+    public Window<Frequencia> listarPagina(ScrollPosition posicao, Sort ordenacao, Limit limite) {
+        return frequenciaRepository.findBy(posicao, ordenacao, limite);
+    }
+    
     /**
      * Lista todos os registros de frequência de um aluno
      * @param aluno Aluno
@@ -74,6 +235,22 @@ public class FrequenciaService {
         return frequenciaRepository.findByAlunoOrderByDataDesc(aluno);
     }
     
+    /**
+     * Lista os registros de frequência de vários alunos em uma consulta (ex: alunos de uma busca por nome)
+     * @param idsAlunos IDs dos alunos, no máximo {@value #LIMITE_ALUNOS}
+     * @return Lista de frequências ordenadas por data
+     */
+    public List<Frequencia> listarPorAlunos(Collection<Long> idsAlunos) {
+        if (idsAlunos.size() > LIMITE_ALUNOS) {
+            throw new FrequenciaException.FrequenciaInvalidaException(
+                "A consulta pode ter no máximo " + LIMITE_ALUNOS + " alunos");
+        }
+        if (idsAlunos.isEmpty()) {
+            return List.of();
+        }
+        return frequenciaRepository.buscarPorAlunos(idsAlunos);
+    }
+    
     /**
      * Busca registro de frequência de um aluno em uma data específica
      * @param aluno Aluno
@@ -102,11 +279,34 @@ public class FrequenciaService {
      * @return Lista de frequências
      */
     public List<Frequencia> listarPorPeriodo(LocalDate dataInicio, LocalDate dataFim) {
+        validarPeriodo(dataInicio, dataFim);
+        return frequenciaRepository.findByDataBetween(dataInicio, dataFim);
+    }
+    
+    /**
+     * Exporta os registros de frequência de um período para o consumidor, na ordem em que chegam do banco
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @param consumidor Destino de cada registro (ex.: escritor da resposta HTTP)
+     */
+    @Transactional(readOnly = true)
+    public void exportarPorPeriodo(LocalDate dataInicio, LocalDate dataFim, Consumer<FrequenciaResponseDTO> consumidor) {
+        validarPeriodo(dataInicio, dataFim);
+        try (Stream<FrequenciaResponseDTO> registros = frequenciaRepository.exportarPorPeriodo(dataInicio, dataFim)) {
+            registros.forEach(consumidor);
+        }
+    }
+    
+    /**
+     * Valida um período de consulta
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     */
+    public void validarPeriodo(LocalDate dataInicio, LocalDate dataFim) {
         if (dataInicio.isAfter(dataFim)) {
             throw new FrequenciaException.DataInvalidaException(
                 "Data inicial não pode ser posterior à data final");
         }
-        return frequenciaRepository.findByDataBetween(dataInicio, dataFim);
     }
     
     /**
@@ -139,7 +339,7 @@ public class FrequenciaService {
      * @return Número de presenças
      */
     public long contarPresencas(Aluno aluno) {
-        return frequenciaRepository.countByAlunoAndPresenca(aluno, true);
+        return mapaFrequencias.obter(aluno.getIdAluno()).contarTudo().presencas();
     }
     
     /**
@@ -155,13 +355,25 @@ public class FrequenciaService {
                 "Data inicial não pode ser posterior à data final");
         }
         
-        long totalRegistros = frequenciaRepository.findByAlunoAndDataBetween(aluno, dataInicio, dataFim).size();
-        if (totalRegistros == 0) {
-            return 0.0;
-        }
-        
-        long presencas = frequenciaRepository.contarPresencasNoPeriodo(aluno, dataInicio, dataFim);
-        return (presencas * 100.0) / totalRegistros;
+        return mapaFrequencias.obter(aluno.getIdAluno()).contar(dataInicio, dataFim).taxaPresenca();
+    }
+    
+    /**
+     * Conta os dias consecutivos com presença até hoje (ou até ontem, se o aluno ainda não veio hoje)
+     * @param aluno Aluno
+     * @return Tamanho da sequência atual
+     */
+    public int calcularSequenciaAtual(Aluno aluno) {
+        return mapaFrequencias.obter(aluno.getIdAluno()).sequenciaAtual(LocalDate.now());
+    }
+    
+    /**
+     * Calcula a maior sequência de dias consecutivos com presença do aluno
+     * @param aluno Aluno
+     * @return Tamanho da maior sequência
+     */
+    public int calcularMaiorSequencia(Aluno aluno) {
+        return mapaFrequencias.obter(aluno.getIdAluno()).maiorSequencia();
     }
     
     /**
@@ -181,11 +393,21 @@ public class FrequenciaService {
             verificarDuplicidade(frequencia.getAluno(), frequencia.getData());
         }
         
+        historicoAlunoCache.invalidar(frequenciaExistente.getAluno());
+        historicoAlunoCache.invalidar(frequencia.getAluno());
+        
+        resumoDiarioService.estornarFrequencia(frequenciaExistente);
+        indiceMatriculasAtivas.removerFrequencia(frequenciaExistente.getAluno().getIdAluno(), frequenciaExistente.getData());
+        mapaFrequencias.remover(frequenciaExistente.getAluno().getIdAluno(), frequenciaExistente.getData());
+        
         frequenciaExistente.setAluno(frequencia.getAluno());
         frequenciaExistente.setData(frequencia.getData());
         frequenciaExistente.setPresenca(frequencia.getPresenca());
         
-        return frequenciaRepository.save(frequenciaExistente);
+        resumoDiarioService.registrarFrequencia(frequenciaExistente);
+        indiceMatriculasAtivas.registrarFrequencia(frequencia.getAluno().getIdAluno(), frequencia.getData());
+        mapaFrequencias.registrar(frequencia.getAluno().getIdAluno(), frequencia.getData(), frequencia.getPresenca());
+        return salvarSemDuplicidade(frequenciaExistente);
     }
     
     /**
@@ -195,6 +417,10 @@ public class FrequenciaService {
     public void deletarFrequencia(Long id) {
         Frequencia frequencia = buscarPorId(id);
         frequenciaRepository.delete(frequencia);
+        resumoDiarioService.estornarFrequencia(frequencia);
+        indiceMatriculasAtivas.removerFrequencia(frequencia.getAluno().getIdAluno(), frequencia.getData());
+        mapaFrequencias.remover(frequencia.getAluno().getIdAluno(), frequencia.getData());
+        historicoAlunoCache.invalidar(frequencia.getAluno());
     }
     
     /**
@@ -223,12 +449,66 @@ public class FrequenciaService {
         }
     }
     
+    /**
+     * Aplica as regras de registro a uma entrada do lote usando os dados já carregados
+     * @return Motivo da rejeição, ou null se a entrada pode ser registrada
+     */
+    private String validarEntradaLote(FrequenciaRequestDTO entrada, LocalDate hoje, Map<Long, Aluno> alunos,
+                                      Map<Long, LocalDate> fimMatriculaAtiva, Set<String> registrados) {
+        if (entrada.getIdAluno() == null) {
+            return "ID do aluno é obrigatório";
+        }
+        if (entrada.getData() == null) {
+            return "Data é obrigatória para o registro de frequência";
+        }
+        if (entrada.getData().isAfter(hoje)) {
+            return "Data do registro não pode ser futura";
+        }
+        if (!alunos.containsKey(entrada.getIdAluno())) {
+            return "Aluno não encontrado com ID: " + entrada.getIdAluno();
+        }
+        LocalDate fimMatricula = fimMatriculaAtiva.get(entrada.getIdAluno());
+        if (fimMatricula == null) {
+            return "Aluno não possui matrícula ativa para registrar frequência";
+        }
+        if (fimMatricula.isBefore(hoje)) {
+            return "A matrícula do aluno está expirada. Data de término: " + fimMatricula;
+        }
+        if (registrados.contains(chaveRegistro(entrada.getIdAluno(), entrada.getData()))) {
+            return "Já existe registro de frequência para este aluno na data: " + entrada.getData();
+        }
+        return null;
+    }
+    
+    private static String chaveRegistro(Long idAluno, LocalDate data) {
+        return idAluno + "|" + data;
+    }
+    
+    /**
+     * Grava o registro, convertendo a violação da restrição única (id_aluno, data) em conflito
+     * @param frequencia Frequência a gravar
+     * @return Frequência gravada
+     */
+    private Frequencia salvarSemDuplicidade(Frequencia frequencia) {
+        try {
+            return frequenciaRepository.saveAndFlush(frequencia);
+        } catch (DataIntegrityViolationException e) {
+            throw new FrequenciaException.FrequenciaConflictException(
+                "Já existe registro de frequência para este aluno na data: " + frequencia.getData());
+        }
+    }
+    
     /**
      * Verifica se já existe registro de frequência para o aluno na data
+     * Para a data de hoje, o índice em memória dispensa a consulta quando não há registro;
+     * se um check-in simultâneo passar pela verificação, a restrição única barra o segundo insert
      * @param aluno Aluno
      * @param data Data
      */
     private void verificarDuplicidade(Aluno aluno, LocalDate data) {
+        if (data.equals(LocalDate.now()) && !indiceMatriculasAtivas.possuiFrequenciaHoje(aluno.getIdAluno())) {
+            return;
+        }
         if (frequenciaRepository.existsByAlunoAndData(aluno, data)) {
             throw new FrequenciaException.FrequenciaConflictException(
                 "Já existe registro de frequência para este aluno na data: " + data);
@@ -237,9 +517,16 @@ public class FrequenciaService {
     
     /**
      * Valida se o aluno possui matrícula ativa
+     * Quando o índice em memória confirma uma matrícula ativa vigente, o banco não é consultado;
+     * nos demais casos (índice sem o aluno ou com matrícula vencida) a resposta vem do banco
      * @param aluno Aluno
      */
     private void validarAlunoTemMatriculaAtiva(Aluno aluno) {
+        LocalDate fimMatricula = indiceMatriculasAtivas.buscarFimMatriculaAtiva(aluno.getIdAluno());
+        if (fimMatricula != null && !fimMatricula.isBefore(LocalDate.now())) {
+            return;
+        }
+        
         List<Matricula> matriculas = matriculaRepository.findByAlunoAndStatus(aluno, MatriculaStatus.ATIVA);
         
         if (matriculas.isEmpty()) {
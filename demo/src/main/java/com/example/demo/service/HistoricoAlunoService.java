@@ -1,17 +1,28 @@
 package com.example.demo.service;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.cache.HistoricoAlunoCache;
+import com.example.demo.config.HistoricoProperties;
 
 import com.example.demo.dto.AvaliacaoFisicaSummaryDTO;
 import com.example.demo.dto.FrequenciaSummaryDTO;
@@ -21,26 +32,36 @@ import com.example.demo.dto.PagamentoResponseDTO;
 import com.example.demo.dto.PlanoTreinoSummaryDTO;
 import com.example.demo.entity.Aluno;
 import com.example.demo.entity.AvaliacaoFisica;
-import com.example.demo.entity.Frequencia;
 import com.example.demo.entity.ItemTreino;
 import com.example.demo.entity.Matricula;
 import com.example.demo.entity.Pagamento;
 import com.example.demo.entity.PlanoTreino;
 import com.example.demo.enums.MatriculaStatus;
 import com.example.demo.exception.HistoricoException;
+import com.example.demo.index.ContagemFrequencia;
+import com.example.demo.index.MapaFrequencias;
+import com.example.demo.metricas.ContadorConsultas;
 import com.example.demo.repository.AvaliacaoFisicaRepository;
-import com.example.demo.repository.FrequenciaRepository;
 import com.example.demo.repository.ItemTreinoRepository;
 import com.example.demo.repository.MatriculaRepository;
 import com.example.demo.repository.PagamentoRepository;
 import com.example.demo.repository.PlanoTreinoRepository;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+
 /**
  * Service para gerenciamento do histórico completo do aluno
  * Agrega dados de múltiplas tabelas: treinos, avaliações, frequência, matrículas e pagamentos
+ * 
+ * As seções são independentes entre si. No modo sequencial (padrão) todas são carregadas em uma
+ * única transação somente leitura; no modo paralelo (historico.paralelo=true) cada seção roda em uma
+ * thread virtual com sua própria transação, limitado a historico.max-concorrencia seções simultâneas.
+ * 
+ * Os históricos montados ficam no HistoricoAlunoCache, invalidado pelos services que alteram dados do aluno.
  */
 @Service
-@Transactional(readOnly = true)
+@Timed("gym.servico")
 public class HistoricoAlunoService {
     
     @Autowired
@@ -56,7 +77,7 @@ public class HistoricoAlunoService {
     private AvaliacaoFisicaRepository avaliacaoFisicaRepository;
     
     @Autowired
-    private FrequenciaRepository frequenciaRepository;
+    private MapaFrequencias mapaFrequencias;
     
     @Autowired
     private PagamentoRepository pagamentoRepository;
@@ -64,96 +85,269 @@ public class HistoricoAlunoService {
     @Autowired
     private ItemTreinoRepository itemTreinoRepository;
     
+    @Autowired
+    private HistoricoProperties historicoProperties;
+    
+    @Autowired
+    private HistoricoAlunoCache historicoAlunoCache;
+    
+    @Autowired
+    private ExecutorService historicoExecutor;
+    
+    @Autowired
+    private ContadorConsultas contadorConsultas;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private TransactionTemplate transacaoSomenteLeitura;
+    
+    private Semaphore limiteConcorrencia;
+    
+    @PostConstruct
+    public void inicializar() {
+        transacaoSomenteLeitura = new TransactionTemplate(transactionManager);
+        transacaoSomenteLeitura.setReadOnly(true);
+        limiteConcorrencia = new Semaphore(Math.max(1, historicoProperties.getMaxConcorrencia()));
+    }
+    
     /**
      * Busca o histórico completo do aluno
+     * Cada seção é carregada com uma única consulta (fetch join ou agregação),
+     * de modo que o número de consultas não cresce com o volume de dados do aluno
      * @param idAluno ID do aluno
      * @return DTO com histórico completo
      */
     public HistoricoAlunoDTO buscarHistoricoCompleto(Long idAluno) {
+        return historicoAlunoCache.obter(idAluno, null, null, () -> {
+            // Lido antes da transação: o mapa de frequências só é publicado se nenhuma escrita entrou depois disso
+            long escritasFrequencia = mapaFrequencias.contarEscritas(idAluno);
+            if (historicoProperties.isParalelo()) {
+                return buscarHistoricoCompletoEmParalelo(idAluno, escritasFrequencia);
+            }
+            return transacaoSomenteLeitura.execute(status -> buscarHistoricoCompletoSequencial(idAluno, escritasFrequencia));
+        });
+    }
+    
+    /**
+     * Busca histórico do aluno em um período específico
+     * @param idAluno ID do aluno
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return DTO com histórico filtrado
+     */
+    public HistoricoAlunoDTO buscarHistoricoPorPeriodo(Long idAluno, LocalDate dataInicio, LocalDate dataFim) {
+        validarPeriodo(dataInicio, dataFim);
+        
+        return historicoAlunoCache.obter(idAluno, dataInicio, dataFim, () -> {
+            long escritasFrequencia = mapaFrequencias.contarEscritas(idAluno);
+            if (historicoProperties.isParalelo()) {
+                return buscarHistoricoPorPeriodoEmParalelo(idAluno, dataInicio, dataFim, escritasFrequencia);
+            }
+            return transacaoSomenteLeitura.execute(status ->
+                buscarHistoricoPorPeriodoSequencial(idAluno, dataInicio, dataFim, escritasFrequencia));
+        });
+    }
+    
+    // ==================== Modos de execução ====================
+    
+    private HistoricoAlunoDTO buscarHistoricoCompletoSequencial(Long idAluno, long escritasFrequencia) {
         try {
             // Buscar aluno
             Aluno aluno = alunoService.buscarPorId(idAluno);
             
-            // Criar DTO base
-            HistoricoAlunoDTO historico = new HistoricoAlunoDTO(
-                aluno.getIdAluno(),
-                aluno.getNome(),
-                aluno.getCpf(),
-                aluno.getDataIngresso() // Usando dataIngresso no lugar de dataNascimento
-            );
-            
             // Agregar dados de múltiplas tabelas
-            historico.setMatriculas(buscarMatriculas(aluno));
-            historico.setMatriculaAtual(buscarMatriculaAtual(aluno));
-            
-            historico.setPlanosTreino(buscarPlanosTreino(aluno));
-            historico.setPlanoTreinoAtual(buscarPlanoTreinoAtual(aluno));
-            
-            historico.setAvaliacoesFisicas(buscarAvaliacoesFisicas(aluno));
-            historico.setUltimaAvaliacaoFisica(buscarUltimaAvaliacaoFisica(aluno));
-            
-            historico.setFrequenciaMensal(buscarFrequenciaMensal(aluno));
-            historico.setFrequenciaMesAtual(buscarFrequenciaMesAtual(aluno));
+            return montarHistoricoCompleto(
+                aluno,
+                buscarMatriculas(aluno),
+                buscarPlanosTreino(aluno),
+                buscarAvaliacoesFisicas(aluno),
+                buscarFrequenciaMensal(aluno, escritasFrequencia),
+                buscarPagamentos(aluno)
+            );
             
-            historico.setPagamentos(buscarPagamentos(aluno));
-            historico.setUltimoPagamento(buscarUltimoPagamento(aluno));
+        } catch (Exception e) {
+            throw new HistoricoException.ErroAgregacaoException(
+                "Erro ao agregar dados do histórico do aluno: " + e.getMessage(), e);
+        }
+    }
+    
+    private HistoricoAlunoDTO buscarHistoricoCompletoEmParalelo(Long idAluno, long escritasFrequencia) {
+        List<Future<?>> secoes = new ArrayList<>();
+        try {
+            // Buscar aluno (transação própria, liberada antes de disparar as seções)
+            Aluno aluno = alunoService.buscarPorId(idAluno);
             
-            // Calcular estatísticas
-            historico.setEstatisticas(calcularEstatisticas(aluno, historico));
+            Future<List<MatriculaSummaryDTO>> matriculas = executarSecao(secoes, () -> buscarMatriculas(aluno));
+            Future<List<PlanoTreinoSummaryDTO>> planosTreino = executarSecao(secoes, () -> buscarPlanosTreino(aluno));
+            Future<List<AvaliacaoFisicaSummaryDTO>> avaliacoes = executarSecao(secoes, () -> buscarAvaliacoesFisicas(aluno));
+            Future<List<FrequenciaSummaryDTO>> frequenciaMensal = executarSecao(secoes, () -> buscarFrequenciaMensal(aluno, escritasFrequencia));
+            Future<List<PagamentoResponseDTO>> pagamentos = executarSecao(secoes, () -> buscarPagamentos(aluno));
             
-            return historico;
+            return montarHistoricoCompleto(
+                aluno,
+                aguardarSecao(matriculas),
+                aguardarSecao(planosTreino),
+                aguardarSecao(avaliacoes),
+                aguardarSecao(frequenciaMensal),
+                aguardarSecao(pagamentos)
+            );
             
         } catch (Exception e) {
+            secoes.forEach(secao -> secao.cancel(true));
             throw new HistoricoException.ErroAgregacaoException(
                 "Erro ao agregar dados do histórico do aluno: " + e.getMessage(), e);
         }
     }
     
-    /**
-     * Busca histórico do aluno em um período específico
-     * @param idAluno ID do aluno
-     * @param dataInicio Data inicial
-     * @param dataFim Data final
-     * @return DTO com histórico filtrado
-     */
-    public HistoricoAlunoDTO buscarHistoricoPorPeriodo(Long idAluno, LocalDate dataInicio, LocalDate dataFim) {
-        validarPeriodo(dataInicio, dataFim);
-        
+    private HistoricoAlunoDTO buscarHistoricoPorPeriodoSequencial(Long idAluno, LocalDate dataInicio, LocalDate dataFim,
+                                                                 long escritasFrequencia) {
         try {
             Aluno aluno = alunoService.buscarPorId(idAluno);
             
-            HistoricoAlunoDTO historico = new HistoricoAlunoDTO(
-                aluno.getIdAluno(),
-                aluno.getNome(),
-                aluno.getCpf(),
-                aluno.getDataIngresso() // Usando dataIngresso
+            // Buscar apenas dados do período
+            return montarHistoricoPorPeriodo(
+                aluno,
+                buscarPlanosTreinoPorPeriodo(aluno, dataInicio, dataFim),
+                buscarAvaliacoesFisicasPorPeriodo(aluno, dataInicio, dataFim),
+                buscarFrequenciaPorPeriodo(aluno, dataInicio, dataFim, escritasFrequencia),
+                buscarPagamentosPorPeriodo(aluno, dataInicio, dataFim)
             );
             
-            // Buscar apenas dados do período
-            historico.setPlanosTreino(buscarPlanosTreinoPorPeriodo(aluno, dataInicio, dataFim));
-            historico.setAvaliacoesFisicas(buscarAvaliacoesFisicasPorPeriodo(aluno, dataInicio, dataFim));
-            historico.setFrequenciaMensal(buscarFrequenciaPorPeriodo(aluno, dataInicio, dataFim));
-            historico.setPagamentos(buscarPagamentosPorPeriodo(aluno, dataInicio, dataFim));
+        } catch (Exception e) {
+            throw new HistoricoException.ErroAgregacaoException(
+                "Erro ao buscar histórico do período: " + e.getMessage(), e);
+        }
+    }
+    
+    private HistoricoAlunoDTO buscarHistoricoPorPeriodoEmParalelo(Long idAluno, LocalDate dataInicio, LocalDate dataFim,
+                                                                  long escritasFrequencia) {
+        List<Future<?>> secoes = new ArrayList<>();
+        try {
+            Aluno aluno = alunoService.buscarPorId(idAluno);
             
-            return historico;
+            Future<List<PlanoTreinoSummaryDTO>> planosTreino = executarSecao(secoes, () -> buscarPlanosTreinoPorPeriodo(aluno, dataInicio, dataFim));
+            Future<List<AvaliacaoFisicaSummaryDTO>> avaliacoes = executarSecao(secoes, () -> buscarAvaliacoesFisicasPorPeriodo(aluno, dataInicio, dataFim));
+            Future<List<FrequenciaSummaryDTO>> frequencia = executarSecao(secoes, () -> buscarFrequenciaPorPeriodo(aluno, dataInicio, dataFim, escritasFrequencia));
+            Future<List<PagamentoResponseDTO>> pagamentos = executarSecao(secoes, () -> buscarPagamentosPorPeriodo(aluno, dataInicio, dataFim));
+            
+            return montarHistoricoPorPeriodo(
+                aluno,
+                aguardarSecao(planosTreino),
+                aguardarSecao(avaliacoes),
+                aguardarSecao(frequencia),
+                aguardarSecao(pagamentos)
+            );
             
         } catch (Exception e) {
+            secoes.forEach(secao -> secao.cancel(true));
             throw new HistoricoException.ErroAgregacaoException(
                 "Erro ao buscar histórico do período: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * Dispara uma seção em thread virtual, dentro de uma transação somente leitura própria.
+     * A seção só obtém conexão depois de conseguir uma vaga no limite de concorrência;
+     * seus comandos SQL entram na contagem da requisição
+     */
+    private <T> Future<T> executarSecao(List<Future<?>> secoes, Supplier<T> secao) {
+        Future<T> futuro = historicoExecutor.submit(contadorConsultas.propagar(() -> {
+            limiteConcorrencia.acquire();
+            try {
+                return transacaoSomenteLeitura.execute(status -> secao.get());
+            } finally {
+                limiteConcorrencia.release();
+            }
+        }));
+        secoes.add(futuro);
+        return futuro;
+    }
+    
+    /**
+     * Aguarda o resultado de uma seção, propagando a exceção original em caso de falha
+     */
+    private <T> T aguardarSecao(Future<T> secao) throws Exception {
+        try {
+            return secao.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+    
+    // ==================== Montagem do histórico ====================
+    
+    private HistoricoAlunoDTO montarHistoricoCompleto(Aluno aluno,
+                                                      List<MatriculaSummaryDTO> matriculas,
+                                                      List<PlanoTreinoSummaryDTO> planosTreino,
+                                                      List<AvaliacaoFisicaSummaryDTO> avaliacoes,
+                                                      List<FrequenciaSummaryDTO> frequenciaMensal,
+                                                      List<PagamentoResponseDTO> pagamentos) {
+        HistoricoAlunoDTO historico = criarHistoricoBase(aluno);
+        
+        // Os itens "atuais" são derivados das listas já carregadas
+        historico.setMatriculas(matriculas);
+        historico.setMatriculaAtual(buscarMatriculaAtual(matriculas));
+        
+        historico.setPlanosTreino(planosTreino);
+        historico.setPlanoTreinoAtual(buscarPlanoTreinoAtual(planosTreino));
+        
+        historico.setAvaliacoesFisicas(avaliacoes);
+        historico.setUltimaAvaliacaoFisica(avaliacoes.isEmpty() ? null : avaliacoes.get(0));
+        
+        historico.setFrequenciaMensal(frequenciaMensal);
+        historico.setFrequenciaMesAtual(buscarFrequenciaMesAtual(frequenciaMensal));
+        
+        historico.setPagamentos(pagamentos);
+        historico.setUltimoPagamento(pagamentos.isEmpty() ? null : pagamentos.get(0));
+        
+        // Calcular estatísticas
+        historico.setEstatisticas(calcularEstatisticas(historico));
+        
+        return historico;
+    }
+    
+    private HistoricoAlunoDTO montarHistoricoPorPeriodo(Aluno aluno,
+                                                        List<PlanoTreinoSummaryDTO> planosTreino,
+                                                        List<AvaliacaoFisicaSummaryDTO> avaliacoes,
+                                                        List<FrequenciaSummaryDTO> frequencia,
+                                                        List<PagamentoResponseDTO> pagamentos) {
+        HistoricoAlunoDTO historico = criarHistoricoBase(aluno);
+        
+        historico.setPlanosTreino(planosTreino);
+        historico.setAvaliacoesFisicas(avaliacoes);
+        historico.setFrequenciaMensal(frequencia);
+        historico.setPagamentos(pagamentos);
+        
+        return historico;
+    }
+    
+    private HistoricoAlunoDTO criarHistoricoBase(Aluno aluno) {
+        return new HistoricoAlunoDTO(
+            aluno.getIdAluno(),
+            aluno.getNome(),
+            aluno.getCpf(),
+            aluno.getDataIngresso() // Usando dataIngresso no lugar de dataNascimento
+        );
+    }
+    
     // ==================== Métodos privados de agregação ====================
     
     /**
-     * Busca todas as matrículas do aluno
+     * Busca todas as matrículas do aluno com o total pago de cada uma
+     * (uma consulta para as matrículas e outra para os totais agrupados)
      */
     private List<MatriculaSummaryDTO> buscarMatriculas(Aluno aluno) {
         try {
-            List<Matricula> matriculas = matriculaRepository.findByAluno(aluno);
+            List<Matricula> matriculas = matriculaRepository.findByAlunoWithPlano(aluno);
             
-            // Ordenar manualmente por dataInicio desc
-            matriculas.sort(Comparator.comparing(Matricula::getDataInicio).reversed());
+            Map<Long, BigDecimal> totaisPagos = new HashMap<>();
+            for (Object[] linha : pagamentoRepository.calcularTotaisPagosPorMatriculaDoAluno(aluno)) {
+                totaisPagos.put((Long) linha[0], (BigDecimal) linha[1]);
+            }
             
             return matriculas.stream()
                 .map(m -> {
@@ -166,8 +360,8 @@ public class HistoricoAlunoService {
                         m.getStatus().toString()
                     );
                     
-                    // Calcular total pago e status
-                    dto.setTotalPago(pagamentoRepository.calcularTotalPagoPorMatricula(m));
+                    // Total pago e status
+                    dto.setTotalPago(totaisPagos.get(m.getIdMatricula()));
                     dto.setEmDia(dto.getTotalPago() != null && 
                                 dto.getTotalPago().compareTo(m.getPlano().getValor()) >= 0);
                     
@@ -182,60 +376,32 @@ public class HistoricoAlunoService {
     }
     
     /**
-     * Busca a matrícula ativa atual do aluno
+     * Seleciona a matrícula ativa atual entre as matrículas já carregadas
      */
-    private MatriculaSummaryDTO buscarMatriculaAtual(Aluno aluno) {
-        List<Matricula> matriculasAtivas = matriculaRepository.findByAlunoAndStatus(aluno, MatriculaStatus.ATIVA);
-        
-        if (matriculasAtivas.isEmpty()) {
-            return null;
-        }
-        
-        Matricula matricula = matriculasAtivas.get(0);
-        MatriculaSummaryDTO dto = new MatriculaSummaryDTO(
-            matricula.getIdMatricula(),
-            matricula.getPlano().getNome(),
-            matricula.getPlano().getValor(),
-            matricula.getDataInicio(),
-            matricula.getDataFim(),
-            matricula.getStatus().toString()
-        );
-        
-        dto.setTotalPago(pagamentoRepository.calcularTotalPagoPorMatricula(matricula));
-        dto.setEmDia(dto.getTotalPago() != null && 
-                    dto.getTotalPago().compareTo(matricula.getPlano().getValor()) >= 0);
-        
-        return dto;
+    private MatriculaSummaryDTO buscarMatriculaAtual(List<MatriculaSummaryDTO> matriculas) {
+        return matriculas.stream()
+            .filter(m -> MatriculaStatus.ATIVA.toString().equals(m.getStatus()))
+            .findFirst()
+            .orElse(null);
     }
     
     /**
-     * Busca todos os planos de treino do aluno
+     * Busca todos os planos de treino do aluno com seus exercícios
+     * (uma consulta para os planos e outra para os itens de todos os planos)
      */
     private List<PlanoTreinoSummaryDTO> buscarPlanosTreino(Aluno aluno) {
         try {
-            List<PlanoTreino> planos = planoTreinoRepository.findByAluno(aluno);
+            List<PlanoTreino> planos = planoTreinoRepository.findByAlunoWithInstrutor(aluno);
             
-            // Ordenar manualmente por dataCriacao desc
-            planos.sort(Comparator.comparing(PlanoTreino::getDataCriacao).reversed());
+            // Agrupar os itens por plano
+            Map<Long, List<ItemTreino>> itensPorPlano = itemTreinoRepository.findByAlunoWithExercicio(aluno).stream()
+                .collect(Collectors.groupingBy(i -> i.getPlanoTreino().getIdPlanoTreino()));
             
             return planos.stream()
                 .map(p -> {
-                    // Calcular dataFim baseada na duração em semanas
-                    LocalDate dataFim = p.getDuracaoSemanas() != null 
-                        ? p.getDataCriacao().plusWeeks(p.getDuracaoSemanas()) 
-                        : null;
-                        
-                    PlanoTreinoSummaryDTO dto = new PlanoTreinoSummaryDTO(
-                        p.getIdPlanoTreino(),
-                        p.getInstrutor().getNome(),
-                        p.getDataCriacao(), // Usando dataCriacao como dataInicio
-                        dataFim, // Calculado
-                        p.getDescricao(), // Usando descrição como objetivo
-                        null // será preenchido abaixo
-                    );
+                    PlanoTreinoSummaryDTO dto = criarPlanoTreinoSummary(p, null);
                     
-                    // Buscar exercícios do plano
-                    List<ItemTreino> itens = itemTreinoRepository.findByPlanoTreino(p);
+                    List<ItemTreino> itens = itensPorPlano.getOrDefault(p.getIdPlanoTreino(), List.of());
                     dto.setTotalExercicios(itens.size());
                     
                     // Converter itens para DTOs
@@ -260,57 +426,13 @@ public class HistoricoAlunoService {
     }
     
     /**
-     * Busca o plano de treino ativo atual
+     * Seleciona o plano de treino vigente mais recente entre os planos já carregados
      */
-    private PlanoTreinoSummaryDTO buscarPlanoTreinoAtual(Aluno aluno) {
-        List<PlanoTreino> planos = planoTreinoRepository.findByAluno(aluno);
-        
-        // Ordenar por dataCriacao desc
-        planos.sort(Comparator.comparing(PlanoTreino::getDataCriacao).reversed());
-        
-        LocalDate hoje = LocalDate.now();
-        PlanoTreino planoAtual = planos.stream()
-            .filter(p -> {
-                LocalDate dataFim = p.getDuracaoSemanas() != null 
-                    ? p.getDataCriacao().plusWeeks(p.getDuracaoSemanas()) 
-                    : null;
-                return !hoje.isBefore(p.getDataCriacao()) && 
-                       (dataFim == null || !hoje.isAfter(dataFim));
-            })
+    private PlanoTreinoSummaryDTO buscarPlanoTreinoAtual(List<PlanoTreinoSummaryDTO> planosTreino) {
+        return planosTreino.stream()
+            .filter(p -> Boolean.TRUE.equals(p.getAtivo()))
             .findFirst()
             .orElse(null);
-        
-        if (planoAtual == null) {
-            return null;
-        }
-        
-        LocalDate dataFim = planoAtual.getDuracaoSemanas() != null 
-            ? planoAtual.getDataCriacao().plusWeeks(planoAtual.getDuracaoSemanas()) 
-            : null;
-        
-        PlanoTreinoSummaryDTO dto = new PlanoTreinoSummaryDTO(
-            planoAtual.getIdPlanoTreino(),
-            planoAtual.getInstrutor().getNome(),
-            planoAtual.getDataCriacao(),
-            dataFim,
-            planoAtual.getDescricao(),
-            null
-        );
-        
-        List<ItemTreino> itens = itemTreinoRepository.findByPlanoTreino(planoAtual);
-        dto.setTotalExercicios(itens.size());
-        
-        List<PlanoTreinoSummaryDTO.ExercicioResumoDTO> exercicios = itens.stream()
-            .map(i -> new PlanoTreinoSummaryDTO.ExercicioResumoDTO(
-                i.getExercicio().getNome(),
-                i.getSeries(),
-                i.getRepeticoes(),
-                i.getCarga()
-            ))
-            .collect(Collectors.toList());
-        dto.setExercicios(exercicios);
-        
-        return dto;
     }
     
     /**
@@ -318,18 +440,8 @@ public class HistoricoAlunoService {
      */
     private List<AvaliacaoFisicaSummaryDTO> buscarAvaliacoesFisicas(Aluno aluno) {
         try {
-            List<AvaliacaoFisica> avaliacoes = avaliacaoFisicaRepository.findByAlunoOrderByDataAvaliacaoDesc(aluno);
-            
-            return avaliacoes.stream()
-                .map(a -> new AvaliacaoFisicaSummaryDTO(
-                    a.getIdAvaliacao(),
-                    a.getDataAvaliacao(),
-                    a.getInstrutor().getNome(),
-                    a.getPeso(),
-                    a.getAltura(),
-                    a.getPercentualGordura(),
-                    a.getMedidasCorporais()
-                ))
+            return avaliacaoFisicaRepository.findByAlunoWithInstrutor(aluno).stream()
+                .map(this::criarAvaliacaoFisicaSummary)
                 .collect(Collectors.toList());
                 
         } catch (Exception e) {
@@ -339,49 +451,11 @@ public class HistoricoAlunoService {
     }
     
     /**
-     * Busca a última avaliação física do aluno
+     * Busca frequência mensal no mapa de bits do aluno
      */
-    private AvaliacaoFisicaSummaryDTO buscarUltimaAvaliacaoFisica(Aluno aluno) {
-        return avaliacaoFisicaRepository.findFirstByAlunoOrderByDataAvaliacaoDesc(aluno)
-            .map(a -> new AvaliacaoFisicaSummaryDTO(
-                a.getIdAvaliacao(),
-                a.getDataAvaliacao(),
-                a.getInstrutor().getNome(),
-                a.getPeso(),
-                a.getAltura(),
-                a.getPercentualGordura(),
-                a.getMedidasCorporais()
-            ))
-            .orElse(null);
-    }
-    
-    /**
-     * Busca frequência mensal agregada
-     */
-    private List<FrequenciaSummaryDTO> buscarFrequenciaMensal(Aluno aluno) {
+    private List<FrequenciaSummaryDTO> buscarFrequenciaMensal(Aluno aluno, long escritasFrequencia) {
         try {
-            List<Frequencia> frequencias = frequenciaRepository.findByAlunoOrderByDataDesc(aluno);
-            
-            // Agrupar por mês
-            Map<YearMonth, List<Frequencia>> porMes = frequencias.stream()
-                .collect(Collectors.groupingBy(f -> YearMonth.from(f.getData())));
-            
-            return porMes.entrySet().stream()
-                .map(entry -> {
-                    List<Frequencia> freqMes = entry.getValue();
-                    long totalDias = freqMes.size();
-                    long totalPresencas = freqMes.stream().filter(Frequencia::getPresenca).count();
-                    long totalAusencias = totalDias - totalPresencas;
-                    
-                    return new FrequenciaSummaryDTO(
-                        entry.getKey().atDay(1),
-                        totalDias,
-                        totalPresencas,
-                        totalAusencias
-                    );
-                })
-                .sorted(Comparator.comparing(FrequenciaSummaryDTO::getMes).reversed())
-                .collect(Collectors.toList());
+            return converterResumoMensal(mapaFrequencias.obter(aluno.getIdAluno(), escritasFrequencia).contarPorMes(null, null));
                 
         } catch (Exception e) {
             throw new HistoricoException.DadosCorruptosException(
@@ -390,24 +464,15 @@ public class HistoricoAlunoService {
     }
     
     /**
-     * Busca frequência do mês atual
+     * Seleciona a frequência do mês atual no resumo mensal já carregado
      */
-    private FrequenciaSummaryDTO buscarFrequenciaMesAtual(Aluno aluno) {
-        LocalDate hoje = LocalDate.now();
-        LocalDate inicioMes = hoje.withDayOfMonth(1);
-        LocalDate fimMes = hoje.withDayOfMonth(hoje.lengthOfMonth());
-        
-        List<Frequencia> frequencias = frequenciaRepository.findByAlunoAndDataBetween(aluno, inicioMes, fimMes);
-        
-        if (frequencias.isEmpty()) {
-            return null;
-        }
-        
-        long totalDias = frequencias.size();
-        long totalPresencas = frequencias.stream().filter(Frequencia::getPresenca).count();
-        long totalAusencias = totalDias - totalPresencas;
+    private FrequenciaSummaryDTO buscarFrequenciaMesAtual(List<FrequenciaSummaryDTO> frequenciaMensal) {
+        LocalDate inicioMes = LocalDate.now().withDayOfMonth(1);
         
-        return new FrequenciaSummaryDTO(inicioMes, totalDias, totalPresencas, totalAusencias);
+        return frequenciaMensal.stream()
+            .filter(f -> inicioMes.equals(f.getMes()))
+            .findFirst()
+            .orElse(null);
     }
     
     /**
@@ -415,27 +480,9 @@ public class HistoricoAlunoService {
      */
     private List<PagamentoResponseDTO> buscarPagamentos(Aluno aluno) {
         try {
-            List<Matricula> matriculas = matriculaRepository.findByAluno(aluno);
-            List<PagamentoResponseDTO> todosPagamentos = new ArrayList<>();
-            
-            for (Matricula matricula : matriculas) {
-                List<Pagamento> pagamentos = pagamentoRepository.findByMatriculaOrderByDataPagamentoAsc(matricula);
-                
-                pagamentos.forEach(p -> todosPagamentos.add(new PagamentoResponseDTO(
-                    p.getIdPagamento(),
-                    p.getMatricula().getIdMatricula(),
-                    aluno.getNome(),
-                    p.getMatricula().getPlano().getNome(),
-                    p.getDataPagamento(),
-                    p.getValorPago(),
-                    p.getFormaPagamento()
-                )));
-            }
-            
-            // Ordenar por data decrescente
-            todosPagamentos.sort(Comparator.comparing(PagamentoResponseDTO::getDataPagamento).reversed());
-            
-            return todosPagamentos;
+            return pagamentoRepository.findByAlunoWithMatriculaAndPlano(aluno).stream()
+                .map(p -> criarPagamentoResponse(aluno, p))
+                .collect(Collectors.toList());
             
         } catch (Exception e) {
             throw new HistoricoException.DadosCorruptosException(
@@ -443,19 +490,16 @@ public class HistoricoAlunoService {
         }
     }
     
-    /**
-     * Busca o último pagamento do aluno
-     */
-    private PagamentoResponseDTO buscarUltimoPagamento(Aluno aluno) {
-        List<PagamentoResponseDTO> pagamentos = buscarPagamentos(aluno);
-        return pagamentos.isEmpty() ? null : pagamentos.get(0);
-    }
-    
     /**
      * Busca planos de treino em um período
      */
     private List<PlanoTreinoSummaryDTO> buscarPlanosTreinoPorPeriodo(Aluno aluno, LocalDate inicio, LocalDate fim) {
-        List<PlanoTreino> planos = planoTreinoRepository.findByAluno(aluno);
+        List<PlanoTreino> planos = planoTreinoRepository.findByAlunoWithInstrutor(aluno);
+        
+        Map<Long, Long> totalItensPorPlano = new HashMap<>();
+        for (Object[] linha : itemTreinoRepository.contarItensPorPlanoDoAluno(aluno)) {
+            totalItensPorPlano.put((Long) linha[0], (Long) linha[1]);
+        }
         
         return planos.stream()
             .filter(p -> {
@@ -464,19 +508,8 @@ public class HistoricoAlunoService {
                     : LocalDate.now().plusYears(10); // Se não tem fim, considera muito no futuro
                 return !p.getDataCriacao().isAfter(fim) && !dataFim.isBefore(inicio);
             })
-            .map(p -> {
-                LocalDate dataFim = p.getDuracaoSemanas() != null 
-                    ? p.getDataCriacao().plusWeeks(p.getDuracaoSemanas()) 
-                    : null;
-                return new PlanoTreinoSummaryDTO(
-                    p.getIdPlanoTreino(),
-                    p.getInstrutor().getNome(),
-                    p.getDataCriacao(),
-                    dataFim,
-                    p.getDescricao(),
-                    itemTreinoRepository.findByPlanoTreino(p).size()
-                );
-            })
+            .map(p -> criarPlanoTreinoSummary(p,
+                totalItensPorPlano.getOrDefault(p.getIdPlanoTreino(), 0L).intValue()))
             .collect(Collectors.toList());
     }
     
@@ -484,85 +517,50 @@ public class HistoricoAlunoService {
      * Busca avaliações físicas em um período
      */
     private List<AvaliacaoFisicaSummaryDTO> buscarAvaliacoesFisicasPorPeriodo(Aluno aluno, LocalDate inicio, LocalDate fim) {
-        List<AvaliacaoFisica> avaliacoes = avaliacaoFisicaRepository.findAvaliacoesAlunoNoPeriodo(aluno, inicio, fim);
-        
-        return avaliacoes.stream()
-            .map(a -> new AvaliacaoFisicaSummaryDTO(
-                a.getIdAvaliacao(),
-                a.getDataAvaliacao(),
-                a.getInstrutor().getNome(),
-                a.getPeso(),
-                a.getAltura(),
-                a.getPercentualGordura(),
-                a.getMedidasCorporais()
-            ))
+        return avaliacaoFisicaRepository.findByAlunoNoPeriodoWithInstrutor(aluno, inicio, fim).stream()
+            .map(this::criarAvaliacaoFisicaSummary)
             .collect(Collectors.toList());
     }
     
     /**
      * Busca frequência em um período
      */
-    private List<FrequenciaSummaryDTO> buscarFrequenciaPorPeriodo(Aluno aluno, LocalDate inicio, LocalDate fim) {
-        List<Frequencia> frequencias = frequenciaRepository.findByAlunoAndDataBetween(aluno, inicio, fim);
-        
-        Map<YearMonth, List<Frequencia>> porMes = frequencias.stream()
-            .collect(Collectors.groupingBy(f -> YearMonth.from(f.getData())));
-        
-        return porMes.entrySet().stream()
-            .map(entry -> {
-                List<Frequencia> freqMes = entry.getValue();
-                long totalDias = freqMes.size();
-                long totalPresencas = freqMes.stream().filter(Frequencia::getPresenca).count();
-                long totalAusencias = totalDias - totalPresencas;
-                
-                return new FrequenciaSummaryDTO(
-                    entry.getKey().atDay(1),
-                    totalDias,
-                    totalPresencas,
-                    totalAusencias
-                );
-            })
-            .sorted(Comparator.comparing(FrequenciaSummaryDTO::getMes).reversed())
-            .collect(Collectors.toList());
+    private List<FrequenciaSummaryDTO> buscarFrequenciaPorPeriodo(Aluno aluno, LocalDate inicio, LocalDate fim,
+                                                                  long escritasFrequencia) {
+        return converterResumoMensal(mapaFrequencias.obter(aluno.getIdAluno(), escritasFrequencia).contarPorMes(inicio, fim));
     }
     
     /**
      * Busca pagamentos em um período
      */
     private List<PagamentoResponseDTO> buscarPagamentosPorPeriodo(Aluno aluno, LocalDate inicio, LocalDate fim) {
-        List<Pagamento> pagamentos = pagamentoRepository.findByDataPagamentoBetween(inicio, fim);
-        
-        return pagamentos.stream()
-            .filter(p -> p.getMatricula().getAluno().equals(aluno))
-            .map(p -> new PagamentoResponseDTO(
-                p.getIdPagamento(),
-                p.getMatricula().getIdMatricula(),
-                aluno.getNome(),
-                p.getMatricula().getPlano().getNome(),
-                p.getDataPagamento(),
-                p.getValorPago(),
-                p.getFormaPagamento()
-            ))
-            .sorted(Comparator.comparing(PagamentoResponseDTO::getDataPagamento).reversed())
+        return pagamentoRepository.findByAlunoNoPeriodoWithMatriculaAndPlano(aluno, inicio, fim).stream()
+            .map(p -> criarPagamentoResponse(aluno, p))
             .collect(Collectors.toList());
     }
     
     /**
-     * Calcula estatísticas gerais do aluno
+     * Calcula estatísticas gerais do aluno a partir das seções já carregadas
      */
-    private HistoricoAlunoDTO.EstatisticasDTO calcularEstatisticas(Aluno aluno, HistoricoAlunoDTO historico) {
+    private HistoricoAlunoDTO.EstatisticasDTO calcularEstatisticas(HistoricoAlunoDTO historico) {
         HistoricoAlunoDTO.EstatisticasDTO stats = new HistoricoAlunoDTO.EstatisticasDTO();
         
         stats.setTotalMatriculas(historico.getMatriculas() != null ? historico.getMatriculas().size() : 0);
         stats.setTotalPlanosTreino(historico.getPlanosTreino() != null ? historico.getPlanosTreino().size() : 0);
         stats.setTotalAvaliacoesFisicas(historico.getAvaliacoesFisicas() != null ? historico.getAvaliacoesFisicas().size() : 0);
         
-        // Calcular total de presenças
-        long totalPresencas = frequenciaRepository.countByAlunoAndPresenca(aluno, true);
+        // Calcular total de presenças e de registros a partir do resumo mensal
+        long totalPresencas = 0;
+        long totalRegistros = 0;
+        if (historico.getFrequenciaMensal() != null) {
+            for (FrequenciaSummaryDTO mes : historico.getFrequenciaMensal()) {
+                totalPresencas += mes.getTotalPresencas();
+                totalRegistros += mes.getTotalDias();
+            }
+        }
         stats.setTotalPresencas(totalPresencas);
         
         // Calcular taxa de presença geral
-        long totalRegistros = frequenciaRepository.countByAluno(aluno);
         if (totalRegistros > 0) {
             stats.setTaxaPresencaGeral((totalPresencas * 100.0) / totalRegistros);
         } else {
@@ -584,6 +582,62 @@ public class HistoricoAlunoService {
         return stats;
     }
     
+    // ==================== Conversões ====================
+    
+    /**
+     * Converte as contagens mensais em resumos (mais recentes primeiro)
+     */
+    private List<FrequenciaSummaryDTO> converterResumoMensal(Map<YearMonth, ContagemFrequencia> porMes) {
+        return porMes.entrySet().stream()
+            .map(mes -> new FrequenciaSummaryDTO(
+                mes.getKey().atDay(1),
+                mes.getValue().registros(),
+                mes.getValue().presencas(),
+                mes.getValue().ausencias()))
+            .sorted(Comparator.comparing(FrequenciaSummaryDTO::getMes).reversed())
+            .collect(Collectors.toList());
+    }
+    
+    private PlanoTreinoSummaryDTO criarPlanoTreinoSummary(PlanoTreino p, Integer totalExercicios) {
+        // Calcular dataFim baseada na duração em semanas
+        LocalDate dataFim = p.getDuracaoSemanas() != null 
+            ? p.getDataCriacao().plusWeeks(p.getDuracaoSemanas()) 
+            : null;
+        
+        return new PlanoTreinoSummaryDTO(
+            p.getIdPlanoTreino(),
+            p.getInstrutor().getNome(),
+            p.getDataCriacao(), // Usando dataCriacao como dataInicio
+            dataFim, // Calculado
+            p.getDescricao(), // Usando descrição como objetivo
+            totalExercicios
+        );
+    }
+    
+    private AvaliacaoFisicaSummaryDTO criarAvaliacaoFisicaSummary(AvaliacaoFisica a) {
+        return new AvaliacaoFisicaSummaryDTO(
+            a.getIdAvaliacao(),
+            a.getDataAvaliacao(),
+            a.getInstrutor().getNome(),
+            a.getPeso(),
+            a.getAltura(),
+            a.getPercentualGordura(),
+            a.getMedidasCorporais()
+        );
+    }
+    
+    private PagamentoResponseDTO criarPagamentoResponse(Aluno aluno, Pagamento p) {
+        return new PagamentoResponseDTO(
+            p.getIdPagamento(),
+            p.getMatricula().getIdMatricula(),
+            aluno.getNome(),
+            p.getMatricula().getPlano().getNome(),
+            p.getDataPagamento(),
+            p.getValorPago(),
+            p.getFormaPagamento()
+        );
+    }
+    
     /**
      * Valida o período informado
      */
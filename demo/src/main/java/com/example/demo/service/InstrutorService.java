@@ -6,17 +6,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.cache.HistoricoAlunoCache;
 import com.example.demo.entity.Instrutor;
 import com.example.demo.exception.RecursoNaoEncontradoException;
 import com.example.demo.exception.ValidacaoException;
 import com.example.demo.repository.InstrutorRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed("gym.servico")
 public class InstrutorService {
 
     @Autowired
     private InstrutorRepository instrutorRepository;
 
+    @Autowired
+    private HistoricoAlunoCache historicoAlunoCache;
+
     @Transactional
     public Instrutor cadastrarInstrutor(Instrutor instrutor) {
         validarInstrutor(instrutor);
@@ -44,6 +51,8 @@ public class InstrutorService {
         instrutorExistente.setNome(instrutorAtualizado.getNome());
         instrutorExistente.setEspecialidade(instrutorAtualizado.getEspecialidade());
 
+        // O nome do instrutor aparece nos planos de treino e avaliações do histórico
+        historicoAlunoCache.invalidarTodos();
         return instrutorRepository.save(instrutorExistente);
     }
 
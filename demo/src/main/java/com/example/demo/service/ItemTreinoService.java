@@ -4,21 +4,37 @@ import java.math.BigDecimal;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.cache.HistoricoAlunoCache;
 import com.example.demo.entity.ItemTreino;
 import com.example.demo.entity.PlanoTreino;
+import com.example.demo.enums.TipoDocumentoBusca;
 import com.example.demo.exception.ItemTreinoException;
+import com.example.demo.index.IndiceTextual;
 import com.example.demo.repository.ItemTreinoRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed("gym.servico")
 @Transactional
 public class ItemTreinoService {
     
     @Autowired
     private ItemTreinoRepository itemTreinoRepository;
     
+    @Autowired
+    private HistoricoAlunoCache historicoAlunoCache;
+    
+    @Autowired
+    private IndiceTextual indiceTextual;
+    
     public ItemTreino adicionarExercicioAoPlano(ItemTreino itemTreino) {
         validarItemTreino(itemTreino);
         
@@ -29,7 +45,10 @@ public class ItemTreinoService {
                 "Este exercício já está incluído no plano");
         }
         
-        return itemTreinoRepository.save(itemTreino);
+        ItemTreino itemSalvo = itemTreinoRepository.save(itemTreino);
+        historicoAlunoCache.invalidar(itemSalvo.getPlanoTreino().getAluno());
+        indiceTextual.indexarItemTreino(itemSalvo);
+        return itemSalvo;
     }
     
     public ItemTreino atualizarItemTreino(Long id, ItemTreino itemTreino) {
@@ -51,12 +70,17 @@ public class ItemTreinoService {
         itemExistente.setCarga(itemTreino.getCarga());
         itemExistente.setObservacoes(itemTreino.getObservacoes());
         
-        return itemTreinoRepository.save(itemExistente);
+        historicoAlunoCache.invalidar(itemExistente.getPlanoTreino().getAluno());
+        ItemTreino itemAtualizado = itemTreinoRepository.save(itemExistente);
+        indiceTextual.indexarItemTreino(itemAtualizado);
+        return itemAtualizado;
     }
     
     public void removerExercicioDoPlano(Long id) {
         ItemTreino item = buscarPorId(id);
         itemTreinoRepository.delete(item);
+        indiceTextual.remover(TipoDocumentoBusca.ITEM_TREINO, id);
+        historicoAlunoCache.invalidar(item.getPlanoTreino().getAluno());
     }
     
     public ItemTreino buscarPorId(Long id) {
@@ -66,7 +90,12 @@ public class ItemTreinoService {
     }
     
     public List<ItemTreino> listarTodos() {
-        return itemTreinoRepository.findAll();
+        return itemTreinoRepository.findAllWithPlanoTreinoAndExercicio();
+    }
+    
+    @Transactional(readOnly = true)
+    public Window<ItemTreino> listarPagina(ScrollPosition posicao, Sort ordenacao, Limit limite) {
+        return itemTreinoRepository.findBy(posicao, ordenacao, limite);
     }
     
     public List<ItemTreino> listarExerciciosDoPlano(PlanoTreino planoTreino) {
@@ -2,30 +2,56 @@ package com.example.demo.service;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.cache.ContasReceberCache;
+import com.example.demo.cache.HistoricoAlunoCache;
 import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Matricula;
 import com.example.demo.entity.Plano;
 import com.example.demo.enums.MatriculaStatus;
 import com.example.demo.exception.MatriculaException;
+import com.example.demo.index.IndiceMatriculasAtivas;
 import com.example.demo.repository.MatriculaRepository;
 import com.example.demo.repository.PlanoRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed("gym.servico")
 @Transactional
 public class MatriculaService {
     
+    /** Máximo de alunos em uma listagem por vários alunos */
+    public static final int LIMITE_ALUNOS = 50;
+    
     @Autowired
     private MatriculaRepository matriculaRepository;
     
     @Autowired
     private PlanoRepository planoRepository;
     
+    @Autowired
+    private HistoricoAlunoCache historicoAlunoCache;
+    
+    @Autowired
+    private ContasReceberCache contasReceberCache;
+    
+    @Autowired
+    private ResumoDiarioService resumoDiarioService;
+    
+    @Autowired
+    private IndiceMatriculasAtivas indiceMatriculasAtivas;
+    
     public Matricula criarMatricula(Matricula matricula) {
         validarMatricula(matricula);
         validarPlano(matricula.getPlano());
@@ -48,7 +74,12 @@ public class MatriculaService {
         // Matrícula nova sempre começa com status ATIVA
         matricula.setStatus(MatriculaStatus.ATIVA);
         
-        return matriculaRepository.save(matricula);
+        Matricula matriculaSalva = matriculaRepository.save(matricula);
+        resumoDiarioService.registrarMatricula(matriculaSalva);
+        indiceMatriculasAtivas.atualizarAluno(matriculaSalva.getAluno().getIdAluno());
+        historicoAlunoCache.invalidar(matriculaSalva.getAluno());
+        contasReceberCache.invalidar();
+        return matriculaSalva;
     }
     
     public Matricula atualizarMatricula(Long id, Matricula matricula) {
@@ -58,12 +89,28 @@ public class MatriculaService {
         validarPlano(matricula.getPlano());
         validarPeriodo(matricula.getDataInicio(), matricula.getDataFim());
         
+        historicoAlunoCache.invalidar(matriculaExistente.getAluno());
+        historicoAlunoCache.invalidar(matricula.getAluno());
+        contasReceberCache.invalidar();
+        
+        if (!matriculaExistente.getDataInicio().equals(matricula.getDataInicio())) {
+            resumoDiarioService.estornarMatricula(matriculaExistente);
+            resumoDiarioService.registrarMatricula(matricula);
+        }
+        
+        Long idAlunoAnterior = matriculaExistente.getAluno().getIdAluno();
+        
         matriculaExistente.setAluno(matricula.getAluno());
         matriculaExistente.setPlano(matricula.getPlano());
         matriculaExistente.setDataInicio(matricula.getDataInicio());
         matriculaExistente.setDataFim(matricula.getDataFim());
         
-        return matriculaRepository.save(matriculaExistente);
+        Matricula matriculaAtualizada = matriculaRepository.save(matriculaExistente);
+        indiceMatriculasAtivas.atualizarAluno(matricula.getAluno().getIdAluno());
+        if (!idAlunoAnterior.equals(matricula.getAluno().getIdAluno())) {
+            indiceMatriculasAtivas.atualizarAluno(idAlunoAnterior);
+        }
+        return matriculaAtualizada;
     }
     
     public Matricula buscarMatriculaPorId(Long id) {
@@ -73,13 +120,34 @@ public class MatriculaService {
     }
     
     public List<Matricula> listarTodasMatriculas() {
-        return matriculaRepository.findAll();
+        return matriculaRepository.findAllWithAlunoAndPlano();
+    }
+    
+    @Transactional(readOnly = true)
+    public Window<Matricula> listarPaginaMatriculas(ScrollPosition posicao, Sort ordenacao, Limit limite) {
+        return matriculaRepository.findBy(posicao, ordenacao, limite);
     }
     
     public List<Matricula> listarMatriculasPorAluno(Aluno aluno) {
         return matriculaRepository.findByAluno(aluno);
     }
     
+    /**
+     * Lista as matrículas de vários alunos em uma consulta (ex: alunos de uma busca por nome)
+     * @param idsAlunos IDs dos alunos, no máximo {@value #LIMITE_ALUNOS}
+     * @return Matrículas ordenadas pelo nome do aluno
+     */
+    public List<Matricula> listarMatriculasPorAlunos(Collection<Long> idsAlunos) {
+        if (idsAlunos.size() > LIMITE_ALUNOS) {
+            throw new MatriculaException.MatriculaInvalidaException(
+                "A consulta pode ter no máximo " + LIMITE_ALUNOS + " alunos");
+        }
+        if (idsAlunos.isEmpty()) {
+            return List.of();
+        }
+        return matriculaRepository.buscarPorAlunos(idsAlunos);
+    }
+    
     public List<Matricula> listarMatriculasPorStatus(MatriculaStatus status) {
         return matriculaRepository.findByStatus(status);
     }
@@ -98,6 +166,9 @@ public class MatriculaService {
         
         matricula.setStatus(MatriculaStatus.CANCELADA);
         matriculaRepository.save(matricula);
+        indiceMatriculasAtivas.atualizarAluno(matricula.getAluno().getIdAluno());
+        historicoAlunoCache.invalidar(matricula.getAluno());
+        contasReceberCache.invalidar();
     }
     
     public void ativarMatricula(Long id) {
@@ -116,6 +187,9 @@ public class MatriculaService {
         
         matricula.setStatus(MatriculaStatus.ATIVA);
         matriculaRepository.save(matricula);
+        indiceMatriculasAtivas.atualizarAluno(matricula.getAluno().getIdAluno());
+        historicoAlunoCache.invalidar(matricula.getAluno());
+        contasReceberCache.invalidar();
     }
     
     public void inativarMatricula(Long id) {
@@ -128,6 +202,9 @@ public class MatriculaService {
         
         matricula.setStatus(MatriculaStatus.INATIVA);
         matriculaRepository.save(matricula);
+        indiceMatriculasAtivas.atualizarAluno(matricula.getAluno().getIdAluno());
+        historicoAlunoCache.invalidar(matricula.getAluno());
+        contasReceberCache.invalidar();
     }
     
     private void validarMatricula(Matricula matricula) {
@@ -199,11 +276,20 @@ public class MatriculaService {
             MatriculaStatus.ATIVA
         );
         
-        return matriculaRepository.save(novaMatricula);
+        Matricula matriculaSalva = matriculaRepository.save(novaMatricula);
+        resumoDiarioService.registrarMatricula(matriculaSalva);
+        indiceMatriculasAtivas.atualizarAluno(matriculaSalva.getAluno().getIdAluno());
+        historicoAlunoCache.invalidar(matriculaSalva.getAluno());
+        contasReceberCache.invalidar();
+        return matriculaSalva;
     }
     
     public void deletarMatricula(Long id) {
         Matricula matricula = buscarMatriculaPorId(id);
         matriculaRepository.delete(matricula);
+        resumoDiarioService.estornarMatricula(matricula);
+        indiceMatriculasAtivas.atualizarAluno(matricula.getAluno().getIdAluno());
+        historicoAlunoCache.invalidar(matricula.getAluno());
+        contasReceberCache.invalidar();
     }
 }
\ No newline at end of file
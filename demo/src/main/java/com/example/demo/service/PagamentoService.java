@@ -3,28 +3,56 @@ package com.example.demo.service;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.cache.ContasReceberCache;
+import com.example.demo.cache.HistoricoAlunoCache;
+import com.example.demo.dto.PagamentoResponseDTO;
 import com.example.demo.entity.Matricula;
 import com.example.demo.entity.Pagamento;
 import com.example.demo.enums.MatriculaStatus;
 import com.example.demo.exception.PagamentoException;
+import com.example.demo.metricas.MetricasNegocio;
 import com.example.demo.repository.PagamentoRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Service para gerenciamento de Pagamentos
  * Implementa regras de negócio para registro e validação de pagamentos
  */
 @Service
+@Timed("gym.servico")
 @Transactional
 public class PagamentoService {
     
     @Autowired
     private PagamentoRepository pagamentoRepository;
     
+    @Autowired
+    private HistoricoAlunoCache historicoAlunoCache;
+    
+    @Autowired
+    private ContasReceberCache contasReceberCache;
+    
+    @Autowired
+    private ContasReceberService contasReceberService;
+    
+    @Autowired
+    private ResumoDiarioService resumoDiarioService;
+    
+    @Autowired
+    private MetricasNegocio metricasNegocio;
+    
     /**
      * Registra um novo pagamento
      * @param pagamento Dados do pagamento
@@ -34,7 +62,12 @@ public class PagamentoService {
         validarPagamento(pagamento);
         validarMatricula(pagamento.getMatricula());
         
-        return pagamentoRepository.save(pagamento);
+        Pagamento pagamentoSalvo = pagamentoRepository.save(pagamento);
+        resumoDiarioService.registrarPagamento(pagamentoSalvo);
+        historicoAlunoCache.invalidar(pagamentoSalvo.getMatricula().getAluno());
+        contasReceberCache.invalidar();
+        metricasNegocio.registrarPagamento(pagamentoSalvo.getValorPago());
+        return pagamentoSalvo;
     }
     
     /**
@@ -53,7 +86,19 @@ public class PagamentoService {
      * @return Lista de pagamentos
      */
     public List<Pagamento> listarTodos() {
-        return pagamentoRepository.findAllByOrderByDataPagamentoDesc();
+        return pagamentoRepository.findAllWithMatriculaAlunoAndPlano();
+    }
+    
+    /**
+     * Lista uma página de pagamentos
+     * @param posicao Posição do último registro da página anterior
+     * @param ordenacao Ordenação por data de pagamento e ID
+     * @param limite Tamanho da página
+     * @return Página de pagamentos
+     */
+    @Transactional(readOnly = true)
+    public Window<Pagamento> listarPagina(ScrollPosition posicao, Sort ordenacao, Limit limite) {
+        return pagamentoRepository.findBy(posicao, ordenacao, limite);
     }
     
     /**
@@ -81,11 +126,35 @@ public class PagamentoService {
      * @return Lista de pagamentos
      */
     public List<Pagamento> buscarPorPeriodo(LocalDate dataInicio, LocalDate dataFim) {
+        validarPeriodo(dataInicio, dataFim);
+        return pagamentoRepository.findByDataPagamentoBetween(dataInicio, dataFim);
+    }
+    
+    /**
+     * Exporta os pagamentos de um período, entregando um registro por vez ao consumidor
+     * A leitura é feita por cursor dentro da transação, sem carregar o período inteiro em memória
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @param consumidor Destino de cada registro (ex.: escritor da resposta HTTP)
+     */
+    @Transactional(readOnly = true)
+    public void exportarPorPeriodo(LocalDate dataInicio, LocalDate dataFim, Consumer<PagamentoResponseDTO> consumidor) {
+        validarPeriodo(dataInicio, dataFim);
+        try (Stream<PagamentoResponseDTO> registros = pagamentoRepository.exportarPorPeriodo(dataInicio, dataFim)) {
+            registros.forEach(consumidor);
+        }
+    }
+    
+    /**
+     * Valida um período de consulta
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     */
+    public void validarPeriodo(LocalDate dataInicio, LocalDate dataFim) {
         if (dataInicio.isAfter(dataFim)) {
             throw new PagamentoException.DataInvalidaException(
                 "Data inicial não pode ser posterior à data final");
         }
-        return pagamentoRepository.findByDataPagamentoBetween(dataInicio, dataFim);
     }
     
     /**
@@ -100,14 +169,13 @@ public class PagamentoService {
     
     /**
      * Verifica se uma matrícula está com pagamentos em dia
+     * Fora de transações de escrita aproveita o cache de contas a receber, se já estiver montado
      * @param matricula Matrícula
      * @return true se está em dia, false caso contrário
      */
+    @Transactional(readOnly = true)
     public boolean verificarPagamentosEmDia(Matricula matricula) {
-        BigDecimal totalPago = calcularTotalPago(matricula);
-        BigDecimal valorPlano = matricula.getPlano().getValor();
-        
-        return totalPago.compareTo(valorPlano) >= 0;
+        return contasReceberService.buscarPorMatricula(matricula.getIdMatricula()).getEmDia();
     }
     
     /**
@@ -121,10 +189,16 @@ public class PagamentoService {
         
         validarPagamento(pagamento);
         
+        resumoDiarioService.estornarPagamento(pagamentoExistente);
+        
         pagamentoExistente.setDataPagamento(pagamento.getDataPagamento());
         pagamentoExistente.setValorPago(pagamento.getValorPago());
         pagamentoExistente.setFormaPagamento(pagamento.getFormaPagamento());
         
+        resumoDiarioService.registrarPagamento(pagamentoExistente);
+        
+        historicoAlunoCache.invalidar(pagamentoExistente.getMatricula().getAluno());
+        contasReceberCache.invalidar();
         return pagamentoRepository.save(pagamentoExistente);
     }
     
@@ -135,6 +209,9 @@ public class PagamentoService {
     public void deletarPagamento(Long id) {
         Pagamento pagamento = buscarPorId(id);
         pagamentoRepository.delete(pagamento);
+        resumoDiarioService.estornarPagamento(pagamento);
+        historicoAlunoCache.invalidar(pagamento.getMatricula().getAluno());
+        contasReceberCache.invalidar();
     }
     
     /**
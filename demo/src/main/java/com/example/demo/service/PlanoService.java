@@ -7,20 +7,38 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.cache.ContasReceberCache;
+import com.example.demo.cache.HistoricoAlunoCache;
 import com.example.demo.entity.Plano;
+import com.example.demo.enums.TipoDocumentoBusca;
 import com.example.demo.exception.PlanoException;
+import com.example.demo.index.IndiceTextual;
 import com.example.demo.repository.PlanoRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed("gym.servico")
 @Transactional
 public class PlanoService {
     
     @Autowired
     private PlanoRepository planoRepository;
     
+    @Autowired
+    private HistoricoAlunoCache historicoAlunoCache;
+    
+    @Autowired
+    private ContasReceberCache contasReceberCache;
+    
+    @Autowired
+    private IndiceTextual indiceTextual;
+    
     public Plano criarPlano(Plano plano) {
         validarPlano(plano);
-        return planoRepository.save(plano);
+        Plano planoSalvo = planoRepository.save(plano);
+        indiceTextual.indexarPlano(planoSalvo);
+        return planoSalvo;
     }
     
     public Plano atualizarPlano(Long id, Plano plano) {
@@ -34,7 +52,12 @@ public class PlanoService {
         planoExistente.setDuracaoMeses(plano.getDuracaoMeses());
         planoExistente.setStatus(plano.getStatus());
         
-        return planoRepository.save(planoExistente);
+        // Nome e valor do plano aparecem no histórico de todos os alunos matriculados
+        historicoAlunoCache.invalidarTodos();
+        contasReceberCache.invalidar();
+        Plano planoAtualizado = planoRepository.save(planoExistente);
+        indiceTextual.indexarPlano(planoAtualizado);
+        return planoAtualizado;
     }
     
     public Plano buscarPlanoPorId(Long id) {
@@ -54,6 +77,7 @@ public class PlanoService {
     public void deletarPlano(Long id) {
         Plano plano = buscarPlanoPorId(id);
         planoRepository.delete(plano);
+        indiceTextual.remover(TipoDocumentoBusca.PLANO, id);
     }
     
     public void ativarPlano(Long id) {
@@ -4,22 +4,37 @@ import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.cache.HistoricoAlunoCache;
 import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Instrutor;
 import com.example.demo.entity.PlanoTreino;
 import com.example.demo.exception.PlanoTreinoException;
+import com.example.demo.index.IndiceTextual;
 import com.example.demo.repository.PlanoTreinoRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed("gym.servico")
 @Transactional
 public class PlanoTreinoService {
     
     @Autowired
     private PlanoTreinoRepository planoTreinoRepository;
     
+    @Autowired
+    private HistoricoAlunoCache historicoAlunoCache;
+    
+    @Autowired
+    private IndiceTextual indiceTextual;
+    
     public PlanoTreino criarPlanoTreino(PlanoTreino planoTreino) {
         validarPlanoTreino(planoTreino);
         
@@ -27,7 +42,10 @@ public class PlanoTreinoService {
             planoTreino.setDataCriacao(LocalDate.now());
         }
         
-        return planoTreinoRepository.save(planoTreino);
+        PlanoTreino planoSalvo = planoTreinoRepository.save(planoTreino);
+        historicoAlunoCache.invalidar(planoSalvo.getAluno());
+        indiceTextual.indexarPlanoTreino(planoSalvo);
+        return planoSalvo;
     }
     
     public PlanoTreino atualizarPlanoTreino(Long id, PlanoTreino planoTreino) {
@@ -35,17 +53,24 @@ public class PlanoTreinoService {
         
         validarPlanoTreino(planoTreino);
         
+        historicoAlunoCache.invalidar(planoExistente.getAluno());
+        historicoAlunoCache.invalidar(planoTreino.getAluno());
+        
         planoExistente.setAluno(planoTreino.getAluno());
         planoExistente.setInstrutor(planoTreino.getInstrutor());
         planoExistente.setDescricao(planoTreino.getDescricao());
         planoExistente.setDuracaoSemanas(planoTreino.getDuracaoSemanas());
         
-        return planoTreinoRepository.save(planoExistente);
+        PlanoTreino planoAtualizado = planoTreinoRepository.save(planoExistente);
+        indiceTextual.indexarPlanoTreino(planoAtualizado);
+        return planoAtualizado;
     }
     
     public void deletarPlanoTreino(Long id) {
         PlanoTreino plano = buscarPorId(id);
         planoTreinoRepository.delete(plano);
+        indiceTextual.removerPlanoTreino(id);
+        historicoAlunoCache.invalidar(plano.getAluno());
     }
     
     public PlanoTreino buscarPorId(Long id) {
@@ -55,7 +80,12 @@ public class PlanoTreinoService {
     }
     
     public List<PlanoTreino> listarTodos() {
-        return planoTreinoRepository.findAll();
+        return planoTreinoRepository.findAllWithAlunoAndInstrutor();
+    }
+    
+    @Transactional(readOnly = true)
+    public Window<PlanoTreino> listarPagina(ScrollPosition posicao, Sort ordenacao, Limit limite) {
+        return planoTreinoRepository.findBy(posicao, ordenacao, limite);
     }
     
     public List<PlanoTreino> listarPlanosDoAluno(Aluno aluno) {
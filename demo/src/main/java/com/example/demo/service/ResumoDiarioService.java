@@ -0,0 +1,273 @@
+package com.example.demo.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.dto.ResumoDiarioDTO;
+import com.example.demo.entity.Frequencia;
+import com.example.demo.entity.Matricula;
+import com.example.demo.entity.Pagamento;
+import com.example.demo.entity.ReceitaDiaria;
+import com.example.demo.entity.ResumoDiario;
+import com.example.demo.exception.ValidacaoException;
+import com.example.demo.repository.FrequenciaRepository;
+import com.example.demo.repository.MatriculaRepository;
+import com.example.demo.repository.PagamentoRepository;
+import com.example.demo.repository.ReceitaDiariaRepository;
+import com.example.demo.repository.ResumoDiarioRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Service que mantém os totais diários (resumo_diario e receita_diaria)
+ *
+ * FrequenciaService, PagamentoService e MatriculaService chamam os métodos de registro e estorno
+ * na mesma transação da escrita, então os totais só mudam se a escrita for confirmada.
+ * Relatórios e dashboard leem uma linha por dia em vez de percorrer as tabelas de origem.
+ * A reconstrução recalcula um período a partir das tabelas de origem (carga inicial ou correções);
+ * na inicialização, se as duas tabelas de totais estiverem vazias, tudo é recalculado.
+ */
+@Service
+@Timed("gym.servico")
+@Transactional
+public class ResumoDiarioService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumoDiarioService.class);
+
+    /** Limites das colunas DATE do MySQL, usados na reconstrução completa */
+    private static final LocalDate PRIMEIRA_DATA = LocalDate.of(1000, 1, 1);
+    private static final LocalDate ULTIMA_DATA = LocalDate.of(9999, 12, 31);
+
+    @Autowired
+    private ResumoDiarioRepository resumoDiarioRepository;
+
+    @Autowired
+    private ReceitaDiariaRepository receitaDiariaRepository;
+
+    @Autowired
+    private FrequenciaRepository frequenciaRepository;
+
+    @Autowired
+    private PagamentoRepository pagamentoRepository;
+
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+
+    /**
+     * Soma um registro de frequência ao total do dia
+     * @param frequencia Frequência registrada
+     */
+    public void registrarFrequencia(Frequencia frequencia) {
+        acumularFrequencia(frequencia, 1);
+    }
+
+    /**
+     * Retira um registro de frequência do total do dia (exclusão ou valores anteriores a uma atualização)
+     * @param frequencia Frequência com os valores que estavam contabilizados
+     */
+    public void estornarFrequencia(Frequencia frequencia) {
+        acumularFrequencia(frequencia, -1);
+    }
+
+    /**
+     * Soma vários registros de frequência aos totais, com um comando por dia em vez de um por registro
+     * @param frequencias Frequências registradas
+     */
+    public void registrarFrequencias(Collection<Frequencia> frequencias) {
+        Map<LocalDate, long[]> totaisPorDia = new TreeMap<>();
+        for (Frequencia frequencia : frequencias) {
+            long[] totais = totaisPorDia.computeIfAbsent(frequencia.getData(), d -> new long[2]);
+            totais[Boolean.TRUE.equals(frequencia.getPresenca()) ? 0 : 1]++;
+        }
+        totaisPorDia.forEach((data, totais) -> resumoDiarioRepository.acumular(data, totais[0], totais[1], 0));
+    }
+
+    /**
+     * Soma um pagamento à receita do dia
+     * @param pagamento Pagamento registrado
+     */
+    public void registrarPagamento(Pagamento pagamento) {
+        acumularPagamento(pagamento, 1);
+    }
+
+    /**
+     * Retira um pagamento da receita do dia
+     * @param pagamento Pagamento com os valores que estavam contabilizados
+     */
+    public void estornarPagamento(Pagamento pagamento) {
+        acumularPagamento(pagamento, -1);
+    }
+
+    /**
+     * Conta uma nova matrícula no dia de início
+     * @param matricula Matrícula criada
+     */
+    public void registrarMatricula(Matricula matricula) {
+        resumoDiarioRepository.acumular(matricula.getDataInicio(), 0, 0, 1);
+    }
+
+    /**
+     * Retira uma matrícula da contagem do dia de início
+     * @param matricula Matrícula com a data de início que estava contabilizada
+     */
+    public void estornarMatricula(Matricula matricula) {
+        resumoDiarioRepository.acumular(matricula.getDataInicio(), 0, 0, -1);
+    }
+
+    /**
+     * Busca os totais de cada dia de um período
+     * Dias sem nenhum movimento não aparecem no resultado
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Totais ordenados por data
+     */
+    @Transactional(readOnly = true)
+    public List<ResumoDiarioDTO> listarPorPeriodo(LocalDate dataInicio, LocalDate dataFim) {
+        validarPeriodo(dataInicio, dataFim);
+
+        Map<LocalDate, ResumoDiarioDTO> porDia = new TreeMap<>();
+        for (ResumoDiario resumo : resumoDiarioRepository.findByDataBetweenOrderByDataAsc(dataInicio, dataFim)) {
+            ResumoDiarioDTO dto = porDia.computeIfAbsent(resumo.getData(), ResumoDiarioDTO::new);
+            dto.setPresencas(resumo.getPresencas());
+            dto.setAusencias(resumo.getAusencias());
+            dto.setNovasMatriculas(resumo.getNovasMatriculas());
+        }
+        for (ReceitaDiaria receita : receitaDiariaRepository
+                .findByDataBetweenOrderByDataAscFormaPagamentoAsc(dataInicio, dataFim)) {
+            ResumoDiarioDTO dto = porDia.computeIfAbsent(receita.getData(), ResumoDiarioDTO::new);
+            dto.getReceitaPorFormaPagamento().put(receita.getFormaPagamento(), receita.getValorTotal());
+            dto.setReceitaTotal(dto.getReceitaTotal().add(receita.getValorTotal()));
+        }
+        return new ArrayList<>(porDia.values());
+    }
+
+    /**
+     * Soma a receita de um período
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Receita total
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal somarReceita(LocalDate dataInicio, LocalDate dataFim) {
+        return receitaDiariaRepository.somarValorNoPeriodo(dataInicio, dataFim);
+    }
+
+    /**
+     * Calcula a taxa de presença geral
+     * @return Percentual de presenças sobre o total de registros (0 se não houver registros)
+     */
+    @Transactional(readOnly = true)
+    public double calcularTaxaPresenca() {
+        long presencas = resumoDiarioRepository.somarPresencas();
+        long total = presencas + resumoDiarioRepository.somarAusencias();
+        if (total == 0) {
+            return 0.0;
+        }
+        return (presencas * 100.0) / total;
+    }
+
+    /**
+     * Recalcula os totais de um período a partir de Frequencia, Pagamentos e Matriculas
+     * As linhas do período são removidas e gravadas de novo, com uma consulta agrupada por tabela de origem
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Número de dias com movimento no período
+     */
+    public int reconstruir(LocalDate dataInicio, LocalDate dataFim) {
+        validarPeriodo(dataInicio, dataFim);
+
+        resumoDiarioRepository.removerPeriodo(dataInicio, dataFim);
+        receitaDiariaRepository.removerPeriodo(dataInicio, dataFim);
+
+        Map<LocalDate, long[]> totaisPorDia = new TreeMap<>();
+        for (Object[] linha : frequenciaRepository.resumirPorDia(dataInicio, dataFim)) {
+            long[] totais = totaisPorDia.computeIfAbsent((LocalDate) linha[0], d -> new long[3]);
+            totais[0] = ((Number) linha[1]).longValue();
+            totais[1] = ((Number) linha[2]).longValue();
+        }
+        for (Object[] linha : matriculaRepository.contarNovasPorDia(dataInicio, dataFim)) {
+            totaisPorDia.computeIfAbsent((LocalDate) linha[0], d -> new long[3])[2] = ((Number) linha[1]).longValue();
+        }
+        totaisPorDia.forEach((data, totais) ->
+            resumoDiarioRepository.acumular(data, totais[0], totais[1], totais[2]));
+
+        List<Object[]> receitas = pagamentoRepository.resumirPorDia(dataInicio, dataFim);
+        for (Object[] linha : receitas) {
+            // Pagamentos sem forma e com forma não informada caem na mesma linha, por isso acumular
+            receitaDiariaRepository.acumular((LocalDate) linha[0], formaDaChave((String) linha[1]),
+                (BigDecimal) linha[2], ((Number) linha[3]).longValue());
+        }
+
+        Set<LocalDate> dias = new HashSet<>(totaisPorDia.keySet());
+        receitas.forEach(linha -> dias.add((LocalDate) linha[0]));
+        return dias.size();
+    }
+
+    /**
+     * Recalcula todos os totais a partir das tabelas de origem
+     * @return Número de dias com movimento
+     */
+    public int reconstruirTudo() {
+        return reconstruir(PRIMEIRA_DATA, ULTIMA_DATA);
+    }
+
+    /**
+     * Carrega os totais de um banco que já tinha movimento antes de resumo_diario e receita_diaria existirem
+     * @return Número de dias com movimento (0 se os totais já estavam preenchidos)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int carregarTotaisSeVazios() {
+        if (resumoDiarioRepository.count() > 0 || receitaDiariaRepository.count() > 0) {
+            return 0;
+        }
+        int dias = reconstruirTudo();
+        if (dias > 0) {
+            logger.info("Totais diários carregados para {} dias", dias);
+        }
+        return dias;
+    }
+
+    private void acumularFrequencia(Frequencia frequencia, int sinal) {
+        if (Boolean.TRUE.equals(frequencia.getPresenca())) {
+            resumoDiarioRepository.acumular(frequencia.getData(), sinal, 0, 0);
+        } else {
+            resumoDiarioRepository.acumular(frequencia.getData(), 0, sinal, 0);
+        }
+    }
+
+    private void acumularPagamento(Pagamento pagamento, int sinal) {
+        receitaDiariaRepository.acumular(pagamento.getDataPagamento(), formaDaChave(pagamento.getFormaPagamento()),
+            sinal > 0 ? pagamento.getValorPago() : pagamento.getValorPago().negate(), sinal);
+    }
+
+    private String formaDaChave(String formaPagamento) {
+        if (formaPagamento == null || formaPagamento.isBlank()) {
+            return ReceitaDiaria.FORMA_NAO_INFORMADA;
+        }
+        return formaPagamento;
+    }
+
+    private void validarPeriodo(LocalDate dataInicio, LocalDate dataFim) {
+        if (dataInicio == null || dataFim == null) {
+            throw new ValidacaoException("Data inicial e data final são obrigatórias");
+        }
+        if (dataInicio.isAfter(dataFim)) {
+            throw new ValidacaoException("Data inicial não pode ser posterior à data final");
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.dto.AlunoDTO;
+import com.example.demo.dto.ExercicioResponseDTO;
+import com.example.demo.dto.FrequenciaResponseDTO;
+import com.example.demo.dto.InstrutorDTO;
+import com.example.demo.dto.ItemTreinoResponseDTO;
+import com.example.demo.dto.MatriculaResponseDTO;
+import com.example.demo.dto.PagamentoResponseDTO;
+import com.example.demo.dto.PlanoResponseDTO;
+import com.example.demo.dto.PlanoTreinoResponseDTO;
+import com.example.demo.dto.SincronizacaoDTO;
+import com.example.demo.entity.Exclusao;
+import com.example.demo.entity.Sincronizavel;
+import com.example.demo.exception.ValidacaoException;
+import com.example.demo.repository.AlunoRepository;
+import com.example.demo.repository.ExclusaoRepository;
+import com.example.demo.repository.ExercicioRepository;
+import com.example.demo.repository.FrequenciaRepository;
+import com.example.demo.repository.InstrutorRepository;
+import com.example.demo.repository.ItemTreinoRepository;
+import com.example.demo.repository.MatriculaRepository;
+import com.example.demo.repository.PagamentoRepository;
+import com.example.demo.repository.PlanoRepository;
+import com.example.demo.repository.PlanoTreinoRepository;
+import com.example.demo.sincronizacao.RelogioSincronizacao;
+import com.example.demo.sincronizacao.TipoSincronizacao;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Service da sincronização incremental (GET /api/sync)
+ *
+ * Cada entidade sincronizável guarda a versão da sua última alteração e cada exclusão deixa um registro
+ * na tabela exclusoes (ver SincronizacaoListener). O token é a versão até a qual o cliente já recebeu tudo:
+ * a resposta traz o que mudou depois dela e até o limite confirmado do RelogioSincronizacao, e o novo token
+ * é esse limite. Sem token, a resposta é a carga inicial com todos os registros.
+ *
+ * Cada tipo entrega no máximo {@link #LIMITE_POR_TIPO} registros por chamada. Quando algum tipo passa disso,
+ * o token da resposta para na última versão entregue desse tipo e a resposta vem marcada como incompleta;
+ * os registros de outros tipos acima desse token são entregues de novo na chamada seguinte.
+ */
+@Service
+@Timed("gym.servico")
+@Transactional(readOnly = true)
+public class SincronizacaoService {
+
+    static final int LIMITE_POR_TIPO = 500;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private InstrutorRepository instrutorRepository;
+
+    @Autowired
+    private PlanoRepository planoRepository;
+
+    @Autowired
+    private ExercicioRepository exercicioRepository;
+
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+
+    @Autowired
+    private PagamentoRepository pagamentoRepository;
+
+    @Autowired
+    private FrequenciaRepository frequenciaRepository;
+
+    @Autowired
+    private PlanoTreinoRepository planoTreinoRepository;
+
+    @Autowired
+    private ItemTreinoRepository itemTreinoRepository;
+
+    @Autowired
+    private ExclusaoRepository exclusaoRepository;
+
+    @Autowired
+    private RelogioSincronizacao relogioSincronizacao;
+
+    /**
+     * Busca as inserções, alterações e exclusões desde o token
+     * @param token Token da resposta anterior (null ou vazio para a carga inicial)
+     * @return Alterações por tipo e o token para a próxima chamada
+     */
+    public SincronizacaoDTO buscarAlteracoes(String token) {
+        long desde = lerToken(token);
+        Intervalo intervalo = new Intervalo(desde, Math.max(desde, relogioSincronizacao.limiteConfirmado()));
+        SincronizacaoDTO resposta = new SincronizacaoDTO();
+
+        adicionar(resposta, intervalo, TipoSincronizacao.ALUNOS, alunoRepository::buscarAlteracoes, AlunoDTO::new);
+        adicionar(resposta, intervalo, TipoSincronizacao.INSTRUTORES, instrutorRepository::buscarAlteracoes, InstrutorDTO::new);
+        adicionar(resposta, intervalo, TipoSincronizacao.PLANOS, planoRepository::buscarAlteracoes, PlanoResponseDTO::new);
+        adicionar(resposta, intervalo, TipoSincronizacao.EXERCICIOS, exercicioRepository::buscarAlteracoes,
+            ExercicioResponseDTO::new);
+        adicionar(resposta, intervalo, TipoSincronizacao.MATRICULAS, matriculaRepository::buscarAlteracoes,
+            MatriculaResponseDTO::new);
+        adicionar(resposta, intervalo, TipoSincronizacao.PAGAMENTOS, pagamentoRepository::buscarAlteracoes,
+            PagamentoResponseDTO::new);
+        adicionar(resposta, intervalo, TipoSincronizacao.FREQUENCIAS, frequenciaRepository::buscarAlteracoes,
+            FrequenciaResponseDTO::new);
+        adicionar(resposta, intervalo, TipoSincronizacao.PLANOS_TREINO, planoTreinoRepository::buscarAlteracoes,
+            PlanoTreinoResponseDTO::new);
+        adicionar(resposta, intervalo, TipoSincronizacao.ITENS_TREINO, itemTreinoRepository::buscarAlteracoes,
+            ItemTreinoResponseDTO::new);
+
+        Map<String, List<Long>> excluidos = new LinkedHashMap<>();
+        for (Exclusao exclusao : buscar(intervalo, exclusaoRepository::buscarAlteracoes, Exclusao::getVersaoSync)) {
+            excluidos.computeIfAbsent(exclusao.getTipo(), tipo -> new ArrayList<>()).add(exclusao.getIdRegistro());
+        }
+        resposta.setExcluidos(excluidos);
+
+        resposta.setToken(Long.toString(intervalo.limiteResposta));
+        resposta.setCompleto(intervalo.limiteResposta == intervalo.ate);
+        return resposta;
+    }
+
+    private <E extends Sincronizavel> void adicionar(SincronizacaoDTO resposta, Intervalo intervalo, TipoSincronizacao tipo,
+                                                     ConsultaAlteracoes<E> consulta, Function<E, ?> conversor) {
+        List<E> registros = buscar(intervalo, consulta, Sincronizavel::getVersaoSync);
+        if (!registros.isEmpty()) {
+            resposta.getAlterados().put(tipo.getChave(), registros.stream().map(conversor).toList());
+        }
+    }
+
+    /**
+     * Busca até LIMITE_POR_TIPO registros do intervalo; se o limite for atingido, completa a última versão
+     * (os registros de um UPDATE em lote têm todos a mesma versão e não podem ficar divididos entre duas
+     * respostas) e reduz o limite da resposta a ela
+     */
+    private <E> List<E> buscar(Intervalo intervalo, ConsultaAlteracoes<E> consulta, ToLongFunction<E> versao) {
+        List<E> registros = consulta.buscar(intervalo.desde, intervalo.ate, Limit.of(LIMITE_POR_TIPO));
+        if (registros.size() < LIMITE_POR_TIPO) {
+            return registros;
+        }
+        long ultima = versao.applyAsLong(registros.get(registros.size() - 1));
+        List<E> completos = new ArrayList<>(registros.size());
+        for (E registro : registros) {
+            if (versao.applyAsLong(registro) < ultima) {
+                completos.add(registro);
+            }
+        }
+        completos.addAll(consulta.buscar(ultima - 1, ultima, Limit.unlimited()));
+        intervalo.limiteResposta = Math.min(intervalo.limiteResposta, ultima);
+        return completos;
+    }
+
+    private long lerToken(String token) {
+        if (token == null || token.isBlank()) {
+            // Inclui as linhas gravadas antes da versão existir (versão 0)
+            return -1;
+        }
+        long desde;
+        try {
+            desde = Long.parseLong(token.trim());
+        } catch (NumberFormatException e) {
+            throw new ValidacaoException("Token de sincronização inválido: " + token);
+        }
+        if (desde < 0 || desde > relogioSincronizacao.ultima()) {
+            throw new ValidacaoException("Token de sincronização desconhecido; sincronize novamente sem token");
+        }
+        return desde;
+    }
+
+    @FunctionalInterface
+    private interface ConsultaAlteracoes<E> {
+        List<E> buscar(long desde, long ate, Limit limite);
+    }
+
+    /**
+     * Versões pedidas (desde, ate] e a versão até a qual a resposta ficou completa
+     */
+    private static final class Intervalo {
+
+        private final long desde;
+        private final long ate;
+        private long limiteResposta;
+
+        private Intervalo(long desde, long ate) {
+            this.desde = desde;
+            this.ate = ate;
+            this.limiteResposta = ate;
+        }
+    }
+}
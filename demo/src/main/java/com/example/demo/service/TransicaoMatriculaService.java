@@ -0,0 +1,198 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.cache.ContasReceberCache;
+import com.example.demo.cache.HistoricoAlunoCache;
+import com.example.demo.config.TransicaoMatriculaProperties;
+import com.example.demo.dto.ResultadoTransicaoDTO;
+import com.example.demo.enums.MatriculaStatus;
+import com.example.demo.exception.MatriculaException;
+import com.example.demo.exception.ValidacaoException;
+import com.example.demo.index.IndiceMatriculasAtivas;
+import com.example.demo.repository.MatriculaRepository;
+import com.example.demo.sincronizacao.RelogioSincronizacao;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Service de transições de status de matrículas em lote
+ * 
+ * As matrículas são alteradas com UPDATEs por conjunto de IDs, em lotes de
+ * matricula.transicao.tamanho-lote. Cada lote roda em uma transação curta (ou na transação de quem
+ * chamou, se houver uma), então os locks são liberados a cada lote em vez de durarem a operação inteira.
+ * Depois de cada lote o índice de matrículas ativas e os caches dos alunos afetados são atualizados.
+ * Os UPDATEs não passam pelo SincronizacaoListener, então gravam a versão de sincronização diretamente
+ * (a mesma para todas as matrículas do lote).
+ */
+@Service
+@Timed("gym.servico")
+public class TransicaoMatriculaService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TransicaoMatriculaService.class);
+    
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+    
+    @Autowired
+    private IndiceMatriculasAtivas indiceMatriculasAtivas;
+    
+    @Autowired
+    private HistoricoAlunoCache historicoAlunoCache;
+    
+    @Autowired
+    private ContasReceberCache contasReceberCache;
+    
+    @Autowired
+    private TransicaoMatriculaProperties transicaoMatriculaProperties;
+    
+    @Autowired
+    private RelogioSincronizacao relogioSincronizacao;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private TransactionTemplate transacao;
+    
+    @PostConstruct
+    public void inicializar() {
+        transacao = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * Expira diariamente as matrículas ativas vencidas
+     */
+    @Scheduled(cron = "${matricula.transicao.cron:0 10 0 * * *}")
+    public void expirarVencidasAgendado() {
+        ResultadoTransicaoDTO resultado = expirarVencidas(LocalDate.now());
+        logger.info("Expiração de matrículas: {} vencidas, {} inativadas em {} lotes",
+            resultado.getEncontradas(), resultado.getAtualizadas(), resultado.getLotes());
+    }
+    
+    /**
+     * Inativa as matrículas ativas com término anterior à data de referência
+     * @param dataReferencia Data de referência (null para hoje)
+     * @return Quantidades encontradas e alteradas
+     */
+    public ResultadoTransicaoDTO expirarVencidas(LocalDate dataReferencia) {
+        LocalDate data = dataReferencia != null ? dataReferencia : LocalDate.now();
+        Limit limite = Limit.of(tamanhoLote());
+        
+        int encontradas = 0;
+        int atualizadas = 0;
+        int lotes = 0;
+        long aposId = 0;
+        while (true) {
+            long cursor = aposId;
+            Lote lote = transacao.execute(status -> {
+                List<Object[]> linhas = matriculaRepository.buscarVencidas(MatriculaStatus.ATIVA, data, cursor, limite);
+                if (linhas.isEmpty()) {
+                    return null;
+                }
+                Lote encontrado = new Lote(linhas);
+                int alteradas = matriculaRepository.expirar(
+                    encontrado.ids, MatriculaStatus.ATIVA, MatriculaStatus.INATIVA, data, relogioSincronizacao.proxima());
+                atualizarDerivados(encontrado.idsAlunos);
+                return encontrado.comAlteradas(alteradas);
+            });
+            if (lote == null) {
+                break;
+            }
+            encontradas += lote.ids.size();
+            atualizadas += lote.alteradas;
+            lotes++;
+            aposId = lote.ids.get(lote.ids.size() - 1);
+        }
+        return new ResultadoTransicaoDTO(MatriculaStatus.INATIVA, encontradas, atualizadas, lotes);
+    }
+    
+    /**
+     * Altera o status de várias matrículas (ex.: cancelamento em massa)
+     * Matrículas inexistentes ou já no status são ignoradas
+     * @param ids IDs das matrículas
+     * @param novoStatus INATIVA ou CANCELADA
+     * @return Quantidades encontradas e alteradas
+     */
+    public ResultadoTransicaoDTO alterarStatus(List<Long> ids, MatriculaStatus novoStatus) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ValidacaoException("Informe ao menos uma matrícula");
+        }
+        // Ativar exige as validações individuais de ativarMatricula (ex.: matrícula não expirada)
+        if (novoStatus != MatriculaStatus.INATIVA && novoStatus != MatriculaStatus.CANCELADA) {
+            throw new MatriculaException.StatusInvalidoException(
+                "Alteração em lote permitida apenas para INATIVA ou CANCELADA");
+        }
+        
+        List<Long> distintos = new ArrayList<>(new LinkedHashSet<>(ids));
+        int tamanhoLote = tamanhoLote();
+        
+        int encontradas = 0;
+        int atualizadas = 0;
+        int lotes = 0;
+        for (int inicio = 0; inicio < distintos.size(); inicio += tamanhoLote) {
+            List<Long> parte = distintos.subList(inicio, Math.min(inicio + tamanhoLote, distintos.size()));
+            Lote lote = transacao.execute(status -> {
+                Lote encontrado = new Lote(matriculaRepository.buscarForaDoStatus(parte, novoStatus));
+                if (encontrado.ids.isEmpty()) {
+                    return encontrado;
+                }
+                int alteradas = matriculaRepository.alterarStatus(encontrado.ids, novoStatus, relogioSincronizacao.proxima());
+                atualizarDerivados(encontrado.idsAlunos);
+                return encontrado.comAlteradas(alteradas);
+            });
+            encontradas += lote.ids.size();
+            atualizadas += lote.alteradas;
+            lotes++;
+        }
+        return new ResultadoTransicaoDTO(novoStatus, encontradas, atualizadas, lotes);
+    }
+    
+    /**
+     * Atualiza o índice de check-in e invalida os caches dos alunos afetados (aplicado após o commit)
+     */
+    private void atualizarDerivados(Set<Long> idsAlunos) {
+        indiceMatriculasAtivas.atualizarAlunos(idsAlunos);
+        idsAlunos.forEach(historicoAlunoCache::invalidar);
+        contasReceberCache.invalidar();
+    }
+    
+    private int tamanhoLote() {
+        return Math.max(1, transicaoMatriculaProperties.getTamanhoLote());
+    }
+    
+    /**
+     * Matrículas de um lote, a partir de linhas [idMatricula, idAluno]
+     */
+    private static final class Lote {
+        
+        private final List<Long> ids = new ArrayList<>();
+        private final Set<Long> idsAlunos = new LinkedHashSet<>();
+        private int alteradas;
+        
+        Lote(List<Object[]> linhas) {
+            for (Object[] linha : linhas) {
+                ids.add((Long) linha[0]);
+                idsAlunos.add((Long) linha[1]);
+            }
+        }
+        
+        Lote comAlteradas(int alteradas) {
+            this.alteradas = alteradas;
+            return this;
+        }
+    }
+}
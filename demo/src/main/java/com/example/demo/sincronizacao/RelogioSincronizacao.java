@@ -0,0 +1,64 @@
+package com.example.demo.sincronizacao;
+
+import java.util.TreeSet;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.util.Transacoes;
+
+/**
+ * Gera as versões gravadas nas entidades sincronizáveis e nas exclusões
+ *
+ * As versões são crescentes e começam no instante em que a aplicação subiu, em microssegundos, então
+ * continuam maiores que as de antes de um reinício sem consultar o banco (a menos que a aplicação tenha
+ * gerado mais de um milhão de versões por segundo de execução).
+ *
+ * Uma versão é gerada antes do commit, então uma transação ainda aberta pode confirmar uma versão menor
+ * que a de outra já confirmada. Por isso a sincronização só entrega versões até {@link #limiteConfirmado()},
+ * que para antes da menor versão de uma transação em andamento: nenhuma versão abaixo desse limite
+ * ainda pode aparecer no banco.
+ */
+@Component
+public class RelogioSincronizacao {
+
+    private long ultima = System.currentTimeMillis() * 1000;
+
+    // Primeira versão gerada por cada transação ainda não concluída
+    private final TreeSet<Long> emAndamento = new TreeSet<>();
+
+    /**
+     * Gera a próxima versão; se houver transação, ela conta como em andamento até ser concluída
+     * @return Versão
+     */
+    public synchronized long proxima() {
+        long versao = ++ultima;
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(this)) {
+            emAndamento.add(versao);
+            Transacoes.vincular(this, versao);
+            Transacoes.aposConclusao(() -> concluir(versao));
+        }
+        return versao;
+    }
+
+    /**
+     * Maior versão que já não pode mais ser gravada por uma transação em andamento
+     * @return Versão limite (inclusive)
+     */
+    public synchronized long limiteConfirmado() {
+        return emAndamento.isEmpty() ? ultima : emAndamento.first() - 1;
+    }
+
+    /**
+     * Última versão gerada (confirmada ou não)
+     * @return Versão
+     */
+    public synchronized long ultima() {
+        return ultima;
+    }
+
+    private synchronized void concluir(long versao) {
+        emAndamento.remove(versao);
+    }
+}
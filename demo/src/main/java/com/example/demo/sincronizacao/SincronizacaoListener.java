@@ -0,0 +1,45 @@
+package com.example.demo.sincronizacao;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.entity.Sincronizavel;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Mantém a versão das entidades sincronizáveis e registra as exclusões
+ *
+ * Criado pelo Hibernate através do contêiner de beans do Spring, por isso recebe as dependências no construtor.
+ * Alterações que não passam pelo ciclo de vida das entidades (UPDATEs em lote, inserts por JDBC)
+ * precisam gravar a versão por conta própria, com {@link RelogioSincronizacao#proxima()}.
+ */
+public class SincronizacaoListener {
+
+    private final RelogioSincronizacao relogioSincronizacao;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SincronizacaoListener(RelogioSincronizacao relogioSincronizacao, JdbcTemplate jdbcTemplate) {
+        this.relogioSincronizacao = relogioSincronizacao;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void registrarAlteracao(Sincronizavel entidade) {
+        entidade.setVersaoSync(relogioSincronizacao.proxima());
+    }
+
+    /**
+     * Grava a exclusão por JDBC, na conexão da transação atual: o EntityManager não pode ser usado
+     * dentro de um callback do ciclo de vida
+     */
+    @PreRemove
+    public void registrarExclusao(Sincronizavel entidade) {
+        TipoSincronizacao tipo = TipoSincronizacao.de(entidade);
+        jdbcTemplate.update("INSERT INTO exclusoes (tipo, id_registro, versao_sync) VALUES (?, ?, ?)",
+            tipo.getChave(), tipo.id(entidade), relogioSincronizacao.proxima());
+    }
+}
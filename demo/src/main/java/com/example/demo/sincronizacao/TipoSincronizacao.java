@@ -0,0 +1,71 @@
+package com.example.demo.sincronizacao;
+
+import java.util.function.Function;
+
+import com.example.demo.entity.Aluno;
+import com.example.demo.entity.Exercicio;
+import com.example.demo.entity.Frequencia;
+import com.example.demo.entity.Instrutor;
+import com.example.demo.entity.ItemTreino;
+import com.example.demo.entity.Matricula;
+import com.example.demo.entity.Pagamento;
+import com.example.demo.entity.Plano;
+import com.example.demo.entity.PlanoTreino;
+import com.example.demo.entity.Sincronizavel;
+
+/**
+ * Entidades entregues pela sincronização incremental, na ordem em que aparecem na resposta
+ * (as referenciadas antes das que as referenciam)
+ */
+public enum TipoSincronizacao {
+
+    ALUNOS("alunos", Aluno.class, Aluno::getIdAluno),
+    INSTRUTORES("instrutores", Instrutor.class, Instrutor::getIdInstrutor),
+    PLANOS("planos", Plano.class, Plano::getIdPlanoAssinatura),
+    EXERCICIOS("exercicios", Exercicio.class, Exercicio::getIdExercicio),
+    MATRICULAS("matriculas", Matricula.class, Matricula::getIdMatricula),
+    PAGAMENTOS("pagamentos", Pagamento.class, Pagamento::getIdPagamento),
+    FREQUENCIAS("frequencias", Frequencia.class, Frequencia::getIdFrequencia),
+    PLANOS_TREINO("planosTreino", PlanoTreino.class, PlanoTreino::getIdPlanoTreino),
+    ITENS_TREINO("itensTreino", ItemTreino.class, ItemTreino::getIdItemTreino);
+
+    private final String chave;
+    private final Class<? extends Sincronizavel> classe;
+    private final Function<Object, Long> id;
+
+    <E extends Sincronizavel> TipoSincronizacao(String chave, Class<E> classe, Function<E, Long> id) {
+        this.chave = chave;
+        this.classe = classe;
+        this.id = entidade -> id.apply(classe.cast(entidade));
+    }
+
+    /**
+     * Tipo de uma entidade
+     * @param entidade Entidade sincronizável
+     * @return Tipo correspondente à classe da entidade
+     */
+    public static TipoSincronizacao de(Sincronizavel entidade) {
+        for (TipoSincronizacao tipo : values()) {
+            if (tipo.classe == entidade.getClass()) {
+                return tipo;
+            }
+        }
+        throw new IllegalArgumentException("Entidade sem tipo de sincronização: " + entidade.getClass().getName());
+    }
+
+    /**
+     * Chave do tipo na resposta da sincronização e nas exclusões (ex.: "planosTreino")
+     */
+    public String getChave() {
+        return chave;
+    }
+
+    /**
+     * ID da entidade
+     * @param entidade Entidade deste tipo
+     * @return ID
+     */
+    public Long id(Sincronizavel entidade) {
+        return id.apply(entidade);
+    }
+}
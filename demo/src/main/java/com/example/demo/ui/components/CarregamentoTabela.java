@@ -0,0 +1,112 @@
+package com.example.demo.ui.components;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.example.demo.ui.utils.ApiClient;
+
+/**
+ * Carrega uma lista do backend direto em uma CustomTable, em lotes.
+ * Os elementos são convertidos conforme chegam (ApiClient.getEmLotes) e as linhas são publicadas
+ * a cada lote, então as primeiras aparecem enquanto o restante da resposta ainda está sendo lido.
+ * 
+ * Uma nova carga ou atualização da mesma tabela deve cancelar a anterior com cancel(true),
+ * para que as linhas das duas não se misturem.
+ * 
+ * @param <T> Tipo dos elementos da lista
+ */
+public class CarregamentoTabela<T> extends SwingWorker<Integer, List<Object[]>> {
+    
+    private static final int TAMANHO_LOTE = 100;
+    
+    private final ApiClient apiClient;
+    private final String endpoint;
+    private final Class<T> clazz;
+    private final CustomTable table;
+    private final Function<T, Object[]> toRow;
+    private final Runnable onComplete;
+    private final Consumer<Exception> onError;
+    
+    private CarregamentoTabela(ApiClient apiClient, String endpoint, Class<T> clazz, CustomTable table,
+                               Function<T, Object[]> toRow, Runnable onComplete, Consumer<Exception> onError) {
+        this.apiClient = apiClient;
+        this.endpoint = endpoint;
+        this.clazz = clazz;
+        this.table = table;
+        this.toRow = toRow;
+        this.onComplete = onComplete;
+        this.onError = onError;
+    }
+    
+    /**
+     * Limpa a tabela e inicia a carga. Deve ser chamado no EDT.
+     * 
+     * @param apiClient Cliente da API
+     * @param endpoint Endpoint da lista (ex: "/alunos")
+     * @param clazz Classe dos elementos
+     * @param table Tabela que recebe as linhas
+     * @param toRow Converte um elemento em linha (executado fora do EDT)
+     * @param onComplete Ação após a última linha (opcional)
+     * @param onError Ação em caso de erro (opcional)
+     * @return Carga iniciada, para cancelamento
+     */
+    public static <T> CarregamentoTabela<T> iniciar(ApiClient apiClient, String endpoint, Class<T> clazz,
+                                                    CustomTable table, Function<T, Object[]> toRow,
+                                                    Runnable onComplete, Consumer<Exception> onError) {
+        CarregamentoTabela<T> carregamento =
+            new CarregamentoTabela<>(apiClient, endpoint, clazz, table, toRow, onComplete, onError);
+        table.clearRows();
+        carregamento.execute();
+        return carregamento;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Integer doInBackground() throws Exception {
+        return apiClient.getEmLotes(endpoint, clazz, TAMANHO_LOTE, lote -> {
+            // Interrompe a leitura da resposta quando a carga é cancelada
+            if (isCancelled()) {
+                throw new CancellationException();
+            }
+            List<Object[]> rows = new ArrayList<>(lote.size());
+            for (T item : lote) {
+                rows.add(toRow.apply(item));
+            }
+            publish(rows);
+        });
+    }
+    
+    @Override
+    protected void process(List<List<Object[]>> lotes) {
+        if (isCancelled()) {
+            return;
+        }
+        for (List<Object[]> rows : lotes) {
+            table.addRows(rows);
+        }
+    }
+    
+    @Override
+    protected void done() {
+        if (isCancelled()) {
+            return;
+        }
+        try {
+            get();
+            if (onComplete != null) {
+                onComplete.run();
+            }
+        } catch (ExecutionException e) {
+            if (onError != null) {
+                onError.accept(e.getCause() instanceof Exception causa ? causa : e);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -6,6 +6,9 @@ import javax.swing.table.DefaultTableModel;
 import javax.swing.table.JTableHeader;
 import javax.swing.table.TableColumn;
 import java.awt.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Vector;
 
 import static com.example.demo.ui.utils.UIConstants.*;
 
@@ -153,6 +156,24 @@ public class CustomTable extends JTable {
         tableModel.addRow(rowData);
     }
     
+    /**
+     * Adiciona várias linhas à tabela, com um único evento de inserção
+     * 
+     * @param rows Dados das linhas
+     */
+    public void addRows(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        int firstRow = tableModel.getRowCount();
+        for (Object[] rowData : rows) {
+            Vector<Object> row = new Vector<>(Arrays.asList(rowData));
+            row.setSize(tableModel.getColumnCount());
+            tableModel.getDataVector().add(row);
+        }
+        tableModel.fireTableRowsInserted(firstRow, tableModel.getRowCount() - 1);
+    }
+    
     /**
      * Remove a linha selecionada
      */
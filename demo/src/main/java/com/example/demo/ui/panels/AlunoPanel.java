@@ -16,10 +16,15 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 
 import com.example.demo.dto.AlunoDTO;
 import com.example.demo.ui.GymManagementUI;
+import com.example.demo.ui.components.CarregamentoTabela;
 import com.example.demo.ui.components.CustomButton;
 import com.example.demo.ui.components.CustomDatePicker;
 import com.example.demo.ui.components.CustomTable;
@@ -44,9 +49,16 @@ import com.example.demo.ui.utils.ValidationUtils;
 
 public class AlunoPanel extends JPanel implements RefreshablePanel {
     
+    private static final int LIMITE_SUGESTOES = 50;
+    private static final int ATRASO_SUGESTOES_MS = 250; // espera o usuário parar de digitar
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    
     private final ApiClient apiClient;
     private CustomTable table;
     private CustomTextField txtBusca;
+    private Timer timerSugestoes;
+    private SwingWorker<List<AlunoDTO>, Void> sugestoesEmAndamento;
+    private CarregamentoTabela<AlunoDTO> carregamento;
     private CustomButton btnNovo, btnEditar, btnExcluir, btnAtualizar;
     
     public AlunoPanel() {
@@ -79,6 +91,26 @@ public class AlunoPanel extends JPanel implements RefreshablePanel {
         txtBusca = new CustomTextField("Buscar aluno por nome", 25);
         txtBusca.addActionListener(e -> buscarAlunos());
         
+        // Sugestões enquanto digita: a busca parte só depois de uma pausa na digitação
+        timerSugestoes = new Timer(ATRASO_SUGESTOES_MS, e -> sugerirAlunos());
+        timerSugestoes.setRepeats(false);
+        txtBusca.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                timerSugestoes.restart();
+            }
+            
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                timerSugestoes.restart();
+            }
+            
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                timerSugestoes.restart();
+            }
+        });
+        
         btnNovo = CustomButton.createAddButton("Novo");
         btnEditar = CustomButton.createEditButton("Editar");
         btnExcluir = CustomButton.createDeleteButton("Excluir");
@@ -126,18 +158,10 @@ public class AlunoPanel extends JPanel implements RefreshablePanel {
     }
     
     private void loadAlunos() {
-        LoadingDialog.executeWithLoading(
-            SwingUtilities.getWindowAncestor(this),
-            "Carregando alunos...",
-            () -> {
-                String response = apiClient.get("/alunos");
-                List<AlunoDTO> alunos = apiClient.fromJsonArray(response, AlunoDTO.class);
-                
-                SwingUtilities.invokeLater(() -> {
-                    updateTable(alunos);
-                });
-            },
-            () -> {},
+        cancelarCarregamento();
+        // As linhas aparecem em lotes, conforme a resposta é lida
+        carregamento = CarregamentoTabela.iniciar(apiClient, "/alunos", AlunoDTO.class, table, this::toRow,
+            this::updateButtonStates,
             error -> {
                 if (error instanceof ApiException) {
                     MessageDialog.showError(this, ((ApiException) error).getUserFriendlyMessage());
@@ -148,23 +172,33 @@ public class AlunoPanel extends JPanel implements RefreshablePanel {
         );
     }
     
+    private void cancelarCarregamento() {
+        if (carregamento != null) {
+            carregamento.cancel(true);
+            carregamento = null;
+        }
+    }
+    
     private void updateTable(List<AlunoDTO> alunos) {
+        cancelarCarregamento();
         table.clearRows();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
         
         for (AlunoDTO aluno : alunos) {
-            Object[] row = {
-                aluno.getIdAluno(),
-                aluno.getNome(),
-                aluno.getCpf(),
-                aluno.getDataIngresso() != null ? aluno.getDataIngresso().format(formatter) : ""
-            };
-            table.addRow(row);
+            table.addRow(toRow(aluno));
         }
         
         updateButtonStates();
     }
     
+    private Object[] toRow(AlunoDTO aluno) {
+        return new Object[]{
+            aluno.getIdAluno(),
+            aluno.getNome(),
+            aluno.getCpf(),
+            aluno.getDataIngresso() != null ? aluno.getDataIngresso().format(DATE_FORMATTER) : ""
+        };
+    }
+    
     private void editarAluno() {
         if (!table.hasSelection()) {
             MessageDialog.showWarning(this, "Selecione um aluno para editar.");
@@ -355,6 +389,7 @@ public class AlunoPanel extends JPanel implements RefreshablePanel {
     
     private void buscarAlunos() {
         String termo = txtBusca.getText().trim();
+        timerSugestoes.stop();
         
         if (termo.isEmpty()) {
             loadAlunos();
@@ -365,12 +400,7 @@ public class AlunoPanel extends JPanel implements RefreshablePanel {
             SwingUtilities.getWindowAncestor(this),
             "Buscando alunos...",
             () -> {
-                String response = apiClient.get("/alunos");
-                List<AlunoDTO> alunos = apiClient.fromJsonArray(response, AlunoDTO.class);
-                
-                List<AlunoDTO> filtered = alunos.stream()
-                    .filter(a -> a.getNome().toLowerCase().contains(termo.toLowerCase()))
-                    .toList();
+                List<AlunoDTO> filtered = buscarSugestoes(termo);
                 
                 SwingUtilities.invokeLater(() -> {
                     updateTable(filtered);
@@ -390,6 +420,47 @@ public class AlunoPanel extends JPanel implements RefreshablePanel {
         );
     }
     
+    /**
+     * Atualiza a tabela com as sugestões do texto digitado, sem diálogo de carregamento
+     * Uma busca ainda em andamento é cancelada quando o texto muda
+     */
+    private void sugerirAlunos() {
+        String termo = txtBusca.getText().trim();
+        if (sugestoesEmAndamento != null) {
+            sugestoesEmAndamento.cancel(true);
+        }
+        if (termo.isEmpty()) {
+            loadAlunos();
+            return;
+        }
+        
+        sugestoesEmAndamento = new SwingWorker<List<AlunoDTO>, Void>() {
+            @Override
+            protected List<AlunoDTO> doInBackground() throws Exception {
+                return buscarSugestoes(termo);
+            }
+            
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    updateTable(get());
+                } catch (Exception e) {
+                    // Falha na sugestão não interrompe a digitação; Enter faz a busca com mensagem de erro
+                }
+            }
+        };
+        sugestoesEmAndamento.execute();
+    }
+    
+    private List<AlunoDTO> buscarSugestoes(String termo) throws ApiException {
+        String response = apiClient.get("/alunos/sugestoes?q=" + ApiClient.codificar(termo)
+            + "&limite=" + LIMITE_SUGESTOES);
+        return apiClient.fromJsonArray(response, AlunoDTO.class);
+    }
+    
     private void updateButtonStates() {
         boolean hasSelection = table.hasSelection();
         btnEditar.setEnabled(hasSelection);
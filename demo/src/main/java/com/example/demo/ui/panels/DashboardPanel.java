@@ -9,7 +9,6 @@ import java.awt.FlowLayout;
 import java.awt.Font;
 import java.awt.GridLayout;
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
@@ -24,12 +23,8 @@ import javax.swing.JTextArea;
 import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
 
-import com.example.demo.dto.AlunoDTO;
-import com.example.demo.dto.ExercicioResponseDTO;
-import com.example.demo.dto.FrequenciaResponseDTO;
-import com.example.demo.dto.MatriculaResponseDTO;
-import com.example.demo.dto.PagamentoResponseDTO;
-import com.example.demo.dto.PlanoTreinoResponseDTO;
+import com.example.demo.dto.AtividadeRecenteDTO;
+import com.example.demo.dto.DashboardResumoDTO;
 import com.example.demo.ui.components.LoadingDialog;
 import com.example.demo.ui.components.MessageDialog;
 import com.example.demo.ui.utils.ApiClient;
@@ -348,23 +343,21 @@ public class DashboardPanel extends JPanel {
             "Carregando estatísticas...",
             () -> {
                 try {
-                    // Carregar todas as estatísticas em paralelo
-                    int totalAlunos = loadTotalAlunos();
-                    int matriculasAtivas = loadMatriculasAtivas();
-                    BigDecimal receitaMensal = loadReceitaMensal();
-                    double frequenciaMedia = loadFrequenciaMedia();
-                    int totalExercicios = loadTotalExercicios();
-                    int planosTreino = loadPlanosTreino();
-                    String atividades = loadAtividadesRecentes();
+                    // Todos os indicadores vêm calculados do servidor em uma única requisição
+                    String response = apiClient.get("/dashboard/resumo");
+                    DashboardResumoDTO resumo = apiClient.fromJson(response, DashboardResumoDTO.class);
+                    String atividades = formatAtividadesRecentes(resumo);
+                    BigDecimal receitaMensal = resumo.getReceitaMes() != null ? resumo.getReceitaMes() : BigDecimal.ZERO;
+                    double frequenciaMedia = resumo.getTaxaPresenca() != null ? resumo.getTaxaPresenca() : 0.0;
                     
                     // Atualizar UI na thread principal
                     SwingUtilities.invokeLater(() -> {
-                        lblTotalAlunos.setText(String.valueOf(totalAlunos));
-                        lblMatriculasAtivas.setText(String.valueOf(matriculasAtivas));
+                        lblTotalAlunos.setText(String.valueOf(resumo.getTotalAlunos()));
+                        lblMatriculasAtivas.setText(String.valueOf(resumo.getMatriculasAtivas()));
                         lblReceitaMensal.setText(String.format("R$ %.2f", receitaMensal));
                         lblFrequenciaMedia.setText(String.format("%.1f%%", frequenciaMedia));
-                        lblTotalExercicios.setText(String.valueOf(totalExercicios));
-                        lblPlanosTreino.setText(String.valueOf(planosTreino));
+                        lblTotalExercicios.setText(String.valueOf(resumo.getTotalExercicios()));
+                        lblPlanosTreino.setText(String.valueOf(resumo.getTotalPlanosTreino()));
                         txtAtividadesRecentes.setText(atividades);
                     });
                 } catch (Exception ex) {
@@ -387,146 +380,42 @@ public class DashboardPanel extends JPanel {
         );
     }
     
-    private int loadTotalAlunos() {
-        try {
-            String response = apiClient.get("/alunos");
-            List<AlunoDTO> alunos = apiClient.fromJsonArray(response, AlunoDTO.class);
-            return alunos.size();
-        } catch (Exception ex) {
-            return 0;
-        }
-    }
-    
-    private int loadMatriculasAtivas() {
-        try {
-            String response = apiClient.get("/matriculas");
-            List<MatriculaResponseDTO> matriculas = apiClient.fromJsonArray(response, MatriculaResponseDTO.class);
-            return (int) matriculas.stream()
-                .filter(m -> m.getStatus() != null && m.getStatus().name().equals("ATIVA"))
-                .count();
-        } catch (Exception ex) {
-            return 0;
-        }
-    }
-    
-    private BigDecimal loadReceitaMensal() {
-        try {
-            String response = apiClient.get("/pagamentos");
-            List<PagamentoResponseDTO> pagamentos = apiClient.fromJsonArray(response, PagamentoResponseDTO.class);
-            
-            LocalDate hoje = LocalDate.now();
-            int mesAtual = hoje.getMonthValue();
-            int anoAtual = hoje.getYear();
-            
-            return pagamentos.stream()
-                .filter(p -> p.getDataPagamento() != null)
-                .filter(p -> p.getDataPagamento().getMonthValue() == mesAtual && 
-                           p.getDataPagamento().getYear() == anoAtual)
-                .map(PagamentoResponseDTO::getValorPago)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        } catch (Exception ex) {
-            return BigDecimal.ZERO;
-        }
-    }
-    
-    private double loadFrequenciaMedia() {
-        try {
-            String response = apiClient.get("/frequencias");
-            List<FrequenciaResponseDTO> frequencias = apiClient.fromJsonArray(response, FrequenciaResponseDTO.class);
-            
-            if (frequencias.isEmpty()) {
-                return 0.0;
-            }
-            
-            long presentes = frequencias.stream()
-                .filter(f -> Boolean.TRUE.equals(f.getPresenca()))
-                .count();
-            
-            return (presentes * 100.0) / frequencias.size();
-        } catch (Exception ex) {
-            return 0.0;
-        }
-    }
-    
-    private int loadTotalExercicios() {
-        try {
-            String response = apiClient.get("/exercicios");
-            List<ExercicioResponseDTO> exercicios = apiClient.fromJsonArray(response, ExercicioResponseDTO.class);
-            return exercicios.size();
-        } catch (Exception ex) {
-            return 0;
-        }
-    }
-    
-    private int loadPlanosTreino() {
-        try {
-            String response = apiClient.get("/planos-treino");
-            List<PlanoTreinoResponseDTO> planos = apiClient.fromJsonArray(response, PlanoTreinoResponseDTO.class);
-            return planos.size();
-        } catch (Exception ex) {
-            return 0;
-        }
-    }
-    
-    private String loadAtividadesRecentes() {
+    private String formatAtividadesRecentes(DashboardResumoDTO resumo) {
         StringBuilder sb = new StringBuilder();
         sb.append("Atividades Recentes do Sistema:\n\n");
         
-        try {
-            // Últimas matrículas
-            String responseMatriculas = apiClient.get("/matriculas");
-            List<MatriculaResponseDTO> matriculas = apiClient.fromJsonArray(responseMatriculas, MatriculaResponseDTO.class);
-            
-            sb.append("Últimas Matrículas:\n");
-            matriculas.stream()
-                .sorted((m1, m2) -> m2.getDataInicio().compareTo(m1.getDataInicio()))
-                .limit(3)
-                .forEach(m -> {
-                    sb.append(String.format("   • %s - %s (%s)\n", 
-                        m.getDataInicio().format(FORMATTER),
-                        m.getNomeAluno(),
-                        m.getStatus()));
-                });
-            
-            sb.append("\n");
-            
-            // Últimos pagamentos
-            String responsePagamentos = apiClient.get("/pagamentos");
-            List<PagamentoResponseDTO> pagamentos = apiClient.fromJsonArray(responsePagamentos, PagamentoResponseDTO.class);
-            
-            sb.append("Últimos Pagamentos:\n");
-            pagamentos.stream()
-                .filter(p -> p.getDataPagamento() != null)
-                .sorted((p1, p2) -> p2.getDataPagamento().compareTo(p1.getDataPagamento()))
-                .limit(3)
-                .forEach(p -> {
-                    sb.append(String.format("   • %s - %s: R$ %.2f\n",
-                        p.getDataPagamento().format(FORMATTER),
-                        p.getNomeAluno(),
-                        p.getValorPago()));
-                });
-            
-            sb.append("\n");
-            
-            // Últimos planos de treino
-            String responsePlanos = apiClient.get("/planos-treino");
-            List<PlanoTreinoResponseDTO> planos = apiClient.fromJsonArray(responsePlanos, PlanoTreinoResponseDTO.class);
-            
-            sb.append("Últimos Planos de Treino:\n");
-            planos.stream()
-                .sorted((p1, p2) -> p2.getDataCriacao().compareTo(p1.getDataCriacao()))
-                .limit(3)
-                .forEach(p -> {
-                    sb.append(String.format("   • %s - %s (Instrutor: %s)\n",
-                        p.getDataCriacao().format(FORMATTER),
-                        p.getNomeAluno(),
-                        p.getNomeInstrutor()));
-                });
-            
-        } catch (Exception ex) {
-            sb.append("Erro ao carregar atividades recentes: ").append(ex.getMessage());
+        sb.append("Últimas Matrículas:\n");
+        for (AtividadeRecenteDTO m : listaOuVazia(resumo.getUltimasMatriculas())) {
+            sb.append(String.format("   • %s - %s (%s)\n",
+                m.getData().format(FORMATTER),
+                m.getNomeAluno(),
+                m.getDetalhe()));
+        }
+        
+        sb.append("\n");
+        
+        sb.append("Últimos Pagamentos:\n");
+        for (AtividadeRecenteDTO p : listaOuVazia(resumo.getUltimosPagamentos())) {
+            sb.append(String.format("   • %s - %s: R$ %.2f\n",
+                p.getData().format(FORMATTER),
+                p.getNomeAluno(),
+                p.getValor()));
+        }
+        
+        sb.append("\n");
+        
+        sb.append("Últimos Planos de Treino:\n");
+        for (AtividadeRecenteDTO p : listaOuVazia(resumo.getUltimosPlanosTreino())) {
+            sb.append(String.format("   • %s - %s (Instrutor: %s)\n",
+                p.getData().format(FORMATTER),
+                p.getNomeAluno(),
+                p.getDetalhe()));
         }
         
         return sb.toString();
     }
+    
+    private static List<AtividadeRecenteDTO> listaOuVazia(List<AtividadeRecenteDTO> atividades) {
+        return atividades != null ? atividades : List.of();
+    }
 }
@@ -11,6 +11,8 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -29,6 +31,7 @@ import com.example.demo.dto.AlunoDTO;
 import com.example.demo.dto.FrequenciaRequestDTO;
 import com.example.demo.dto.FrequenciaResponseDTO;
 import com.example.demo.ui.GymManagementUI;
+import com.example.demo.ui.components.CarregamentoTabela;
 import com.example.demo.ui.components.CustomButton;
 import com.example.demo.ui.components.CustomComboBox;
 import com.example.demo.ui.components.CustomDatePicker;
@@ -66,11 +69,15 @@ import static com.example.demo.ui.utils.UIConstants.TEXT_SECONDARY;
  */
 public class FrequenciaPanel extends JPanel implements RefreshablePanel {
     
+    // Máximo de /alunos/sugestoes e das listagens por vários alunos
+    private static final int LIMITE_ALUNOS_BUSCA = 50;
+    
     private final ApiClient apiClient;
     private final DateTimeFormatter dateFormatter;
     
     // Componentes da tabela
     private CustomTable table;
+    private CarregamentoTabela<FrequenciaResponseDTO> carregamento;
     private CustomTextField txtBuscaAluno;
     private CustomDatePicker dataBuscaInicio;
     private CustomDatePicker dataBuscaFim;
@@ -273,20 +280,11 @@ public class FrequenciaPanel extends JPanel implements RefreshablePanel {
     }
     
     private void loadFrequencias() {
-        LoadingDialog.executeWithLoading(
-            SwingUtilities.getWindowAncestor(this),
-            "Carregando frequências...",
-            () -> {
-                String response = apiClient.get("/frequencias");
-                List<FrequenciaResponseDTO> frequencias = apiClient.fromJsonArray(response, FrequenciaResponseDTO.class);
-                
-                SwingUtilities.invokeLater(() -> {
-                    updateTable(frequencias);
-                });
-            },
-            () -> {
-                // Sucesso
-            },
+        cancelarCarregamento();
+        // As linhas aparecem em lotes, conforme a resposta é lida
+        carregamento = CarregamentoTabela.iniciar(apiClient, "/frequencias", FrequenciaResponseDTO.class, table,
+            this::toRow,
+            null,
             error -> {
                 if (error instanceof ApiException) {
                     MessageDialog.showError(this, ((ApiException) error).getUserFriendlyMessage());
@@ -297,19 +295,31 @@ public class FrequenciaPanel extends JPanel implements RefreshablePanel {
         );
     }
     
+    private void cancelarCarregamento() {
+        if (carregamento != null) {
+            carregamento.cancel(true);
+            carregamento = null;
+        }
+    }
+    
     private void updateTable(List<FrequenciaResponseDTO> frequencias) {
+        cancelarCarregamento();
         table.clearRows();
         for (FrequenciaResponseDTO freq : frequencias) {
-            table.addRow(new Object[]{
-                freq.getIdFrequencia(),
-                freq.getNomeAluno(),
-                freq.getCpfAluno(),
-                freq.getData().format(dateFormatter),
-                freq.getStatusPresenca()
-            });
+            table.addRow(toRow(freq));
         }
     }
     
+    private Object[] toRow(FrequenciaResponseDTO freq) {
+        return new Object[]{
+            freq.getIdFrequencia(),
+            freq.getNomeAluno(),
+            freq.getCpfAluno(),
+            freq.getData().format(dateFormatter),
+            freq.getStatusPresenca()
+        };
+    }
+    
     // ========== CRUD OPERATIONS ==========
     
     private void novaFrequencia() {
@@ -576,20 +586,29 @@ public class FrequenciaPanel extends JPanel implements RefreshablePanel {
             SwingUtilities.getWindowAncestor(this),
             "Buscando frequências...",
             () -> {
-                String response = apiClient.get("/frequencias");
-                List<FrequenciaResponseDTO> todasFrequencias = apiClient.fromJsonArray(response, FrequenciaResponseDTO.class);
-                
-                // Filtrar localmente pelo nome do aluno
-                List<FrequenciaResponseDTO> filtradas = todasFrequencias.stream()
-                    .filter(f -> f.getNomeAluno().toLowerCase().contains(busca.toLowerCase()))
-                    .toList();
+                // Resolve os alunos pelo índice de sugestões e busca as frequências de todos em uma chamada
+                String response = apiClient.get("/alunos/sugestoes?q=" + ApiClient.codificar(busca)
+                    + "&limite=" + LIMITE_ALUNOS_BUSCA);
+                List<AlunoDTO> alunos = apiClient.fromJsonArray(response, AlunoDTO.class);
+                List<FrequenciaResponseDTO> filtradas = List.of();
+                if (!alunos.isEmpty()) {
+                    StringJoiner ids = new StringJoiner(",");
+                    alunos.forEach(aluno -> ids.add(aluno.getIdAluno().toString()));
+                    String frequencias = apiClient.get("/frequencias/alunos?ids=" + ids);
+                    filtradas = apiClient.fromJsonArray(frequencias, FrequenciaResponseDTO.class);
+                }
+                List<FrequenciaResponseDTO> encontradas = filtradas;
                 
                 SwingUtilities.invokeLater(() -> {
-                    updateTable(filtradas);
+                    updateTable(encontradas);
                     
-                    if (filtradas.isEmpty()) {
+                    if (encontradas.isEmpty()) {
                         MessageDialog.showInfo(this, 
                             "Nenhuma frequência encontrada para o aluno: " + busca);
+                    } else if (alunos.size() == LIMITE_ALUNOS_BUSCA) {
+                        MessageDialog.showInfo(this, 
+                            "Foram considerados apenas os " + LIMITE_ALUNOS_BUSCA + " primeiros alunos encontrados. "
+                            + "Refine a busca para ver os demais.");
                     }
                 });
             },
@@ -778,24 +797,28 @@ public class FrequenciaPanel extends JPanel implements RefreshablePanel {
             parentDialog,
             "Calculando estatísticas...",
             () -> {
-                // Buscar taxa de presença
-                String responseTaxa = apiClient.get(
-                    "/api/frequencias/aluno/" + alunoSel.getId() + "/taxa-presenca?dataInicio=" + 
+                // As três consultas são independentes e vão ao backend em paralelo
+                CompletableFuture<String> taxaFuturo = apiClient.getAsync(
+                    "/frequencias/aluno/" + alunoSel.getId() + "/taxa-presenca?dataInicio=" + 
                     dataIni + "&dataFim=" + dataFim
                 );
+                CompletableFuture<String> totalFuturo =
+                    apiClient.getAsync("/frequencias/aluno/" + alunoSel.getId() + "/total-presencas");
+                CompletableFuture<List<FrequenciaResponseDTO>> frequenciasFuturo = apiClient.getListAsync(
+                    "/frequencias/aluno/" + alunoSel.getId() + "/periodo?dataInicio=" + 
+                    dataIni + "&dataFim=" + dataFim,
+                    FrequenciaResponseDTO.class
+                );
+                
+                // Taxa de presença
                 @SuppressWarnings("unchecked")
-                Map<String, Object> taxaData = apiClient.fromJson(responseTaxa, Map.class);
+                Map<String, Object> taxaData = apiClient.fromJson(ApiClient.aguardar(taxaFuturo), Map.class);
                 
-                // Buscar total de presenças
-                String responseTotal = apiClient.get("/frequencias/aluno/" + alunoSel.getId() + "/total-presencas");
-                Long totalPresencas = Long.parseLong(responseTotal);
+                // Total de presenças
+                Long totalPresencas = Long.parseLong(ApiClient.aguardar(totalFuturo));
                 
-                // Buscar frequências do período
-                String responseFreq = apiClient.get(
-                    "/api/frequencias/aluno/" + alunoSel.getId() + "/periodo?dataInicio=" + 
-                    dataIni + "&dataFim=" + dataFim
-                );
-                List<FrequenciaResponseDTO> frequencias = apiClient.fromJsonArray(responseFreq, FrequenciaResponseDTO.class);
+                // Frequências do período
+                List<FrequenciaResponseDTO> frequencias = ApiClient.aguardar(frequenciasFuturo);
                 
                 long presencasNoPeriodo = frequencias.stream()
                     .filter(FrequenciaResponseDTO::getPresenca)
@@ -10,6 +10,8 @@ import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -22,9 +24,11 @@ import javax.swing.JSplitPane;
 import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
 
+import com.example.demo.dto.AlunoDTO;
 import com.example.demo.dto.MatriculaResponseDTO;
 import com.example.demo.dto.PlanoResponseDTO;
 import com.example.demo.ui.GymManagementUI;
+import com.example.demo.ui.components.CarregamentoTabela;
 import com.example.demo.ui.components.CustomButton;
 import com.example.demo.ui.components.CustomComboBox;
 import com.example.demo.ui.components.CustomDatePicker;
@@ -57,12 +61,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 public class MatriculaPanel extends JPanel implements RefreshablePanel {
     
+    // Máximo de /alunos/sugestoes e das listagens por vários alunos
+    private static final int LIMITE_ALUNOS_BUSCA = 50;
+    
     private final ApiClient apiClient;
     private final DateTimeFormatter dateFormatter;
     private final ObjectMapper objectMapper;
     
     // Componentes da tabela
     private CustomTable table;
+    private CarregamentoTabela<MatriculaResponseDTO> carregamento;
     private CustomTextField txtBusca;
     private CustomComboBox<String> cmbFiltroStatus;
     
@@ -332,20 +340,11 @@ public class MatriculaPanel extends JPanel implements RefreshablePanel {
     }
     
     private void loadMatriculas() {
-        LoadingDialog.executeWithLoading(
-            SwingUtilities.getWindowAncestor(this),
-            "Carregando matrículas...",
-            () -> {
-                String response = apiClient.get("/matriculas");
-                List<MatriculaResponseDTO> matriculas = apiClient.fromJsonArray(response, MatriculaResponseDTO.class);
-                
-                SwingUtilities.invokeLater(() -> {
-                    updateTable(matriculas);
-                });
-            },
-            () -> {
-                // Sucesso
-            },
+        cancelarCarregamento();
+        // As linhas aparecem em lotes, conforme a resposta é lida
+        carregamento = CarregamentoTabela.iniciar(apiClient, "/matriculas", MatriculaResponseDTO.class, table,
+            this::toRow,
+            null,
             error -> {
                 if (error instanceof ApiException) {
                     MessageDialog.showError(this, ((ApiException) error).getUserFriendlyMessage());
@@ -366,9 +365,13 @@ public class MatriculaPanel extends JPanel implements RefreshablePanel {
             SwingUtilities.getWindowAncestor(this),
             "Carregando dados...",
             () -> {
+                // As duas listas são buscadas em paralelo
+                CompletableFuture<String> alunosFuturo = apiClient.getAsync("/alunos");
+                CompletableFuture<List<PlanoResponseDTO>> planosFuturo =
+                    apiClient.getListAsync("/planos", PlanoResponseDTO.class);
+                
                 // Carregar alunos
-                String alunosJson = apiClient.get("/alunos");
-                JsonNode alunosArray = objectMapper.readTree(alunosJson);
+                JsonNode alunosArray = objectMapper.readTree(ApiClient.aguardar(alunosFuturo));
                 
                 SwingUtilities.invokeLater(() -> {
                     cmbAluno.removeAllItems();
@@ -380,8 +383,7 @@ public class MatriculaPanel extends JPanel implements RefreshablePanel {
                 });
                 
                 // Carregar planos ativos
-                String planosJson = apiClient.get("/planos");
-                List<PlanoResponseDTO> planos = apiClient.fromJsonArray(planosJson, PlanoResponseDTO.class);
+                List<PlanoResponseDTO> planos = ApiClient.aguardar(planosFuturo);
                 
                 SwingUtilities.invokeLater(() -> {
                     cmbPlano.removeAllItems();
@@ -409,20 +411,32 @@ public class MatriculaPanel extends JPanel implements RefreshablePanel {
         );
     }
     
+    private void cancelarCarregamento() {
+        if (carregamento != null) {
+            carregamento.cancel(true);
+            carregamento = null;
+        }
+    }
+    
     private void updateTable(List<MatriculaResponseDTO> matriculas) {
+        cancelarCarregamento();
         table.clearRows();
         for (MatriculaResponseDTO matricula : matriculas) {
-            table.addRow(new Object[]{
-                matricula.getId(),
-                matricula.getNomeAluno(),
-                matricula.getNomePlano(),
-                matricula.getDataInicio().format(dateFormatter),
-                matricula.getDataFim().format(dateFormatter),
-                matricula.getStatus() != null ? matricula.getStatus().name() : "DESCONHECIDO"
-            });
+            table.addRow(toRow(matricula));
         }
     }
     
+    private Object[] toRow(MatriculaResponseDTO matricula) {
+        return new Object[]{
+            matricula.getId(),
+            matricula.getNomeAluno(),
+            matricula.getNomePlano(),
+            matricula.getDataInicio().format(dateFormatter),
+            matricula.getDataFim().format(dateFormatter),
+            matricula.getStatus() != null ? matricula.getStatus().name() : "DESCONHECIDO"
+        };
+    }
+    
     private void onMatriculaSelected() {
         if (!table.hasSelection()) {
             clearSelection();
@@ -998,7 +1012,7 @@ public class MatriculaPanel extends JPanel implements RefreshablePanel {
     }
     
     private void buscarMatriculas() {
-        String termo = txtBusca.getText().trim().toLowerCase();
+        String termo = txtBusca.getText().trim();
         if (termo.isEmpty()) {
             loadMatriculas();
             return;
@@ -1008,16 +1022,26 @@ public class MatriculaPanel extends JPanel implements RefreshablePanel {
             SwingUtilities.getWindowAncestor(this),
             "Buscando matrículas...",
             () -> {
-                String response = apiClient.get("/matriculas");
-                List<MatriculaResponseDTO> todasMatriculas = apiClient.fromJsonArray(response, MatriculaResponseDTO.class);
-                List<MatriculaResponseDTO> filtradas = todasMatriculas.stream()
-                    .filter(m -> m.getNomeAluno().toLowerCase().contains(termo))
-                    .toList();
+                // Resolve os alunos pelo índice de sugestões e busca as matrículas de todos em uma chamada
+                String response = apiClient.get("/alunos/sugestoes?q=" + ApiClient.codificar(termo)
+                    + "&limite=" + LIMITE_ALUNOS_BUSCA);
+                List<AlunoDTO> alunos = apiClient.fromJsonArray(response, AlunoDTO.class);
+                List<MatriculaResponseDTO> filtradas = List.of();
+                if (!alunos.isEmpty()) {
+                    StringJoiner ids = new StringJoiner(",");
+                    alunos.forEach(aluno -> ids.add(aluno.getIdAluno().toString()));
+                    String matriculas = apiClient.get("/matriculas/alunos?ids=" + ids);
+                    filtradas = apiClient.fromJsonArray(matriculas, MatriculaResponseDTO.class);
+                }
+                List<MatriculaResponseDTO> encontradas = filtradas;
                 
                 SwingUtilities.invokeLater(() -> {
-                    updateTable(filtradas);
-                    if (filtradas.isEmpty()) {
+                    updateTable(encontradas);
+                    if (encontradas.isEmpty()) {
                         MessageDialog.showInfo(this, "Nenhuma matrícula encontrada.");
+                    } else if (alunos.size() == LIMITE_ALUNOS_BUSCA) {
+                        MessageDialog.showInfo(this, "Foram considerados apenas os " + LIMITE_ALUNOS_BUSCA
+                            + " primeiros alunos encontrados. Refine a busca para ver os demais.");
                     }
                 });
             },
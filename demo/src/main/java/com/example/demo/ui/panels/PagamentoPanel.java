@@ -27,6 +27,7 @@ import com.example.demo.dto.PagamentoRequestDTO;
 import com.example.demo.dto.PagamentoResponseDTO;
 import com.example.demo.enums.MatriculaStatus;
 import com.example.demo.ui.GymManagementUI;
+import com.example.demo.ui.components.CarregamentoTabela;
 import com.example.demo.ui.components.CustomButton;
 import com.example.demo.ui.components.CustomComboBox;
 import com.example.demo.ui.components.CustomDatePicker;
@@ -50,8 +51,11 @@ import static com.example.demo.ui.utils.UIConstants.TEXT_PRIMARY;
 
 public class PagamentoPanel extends JPanel implements RefreshablePanel {
     
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    
     private final ApiClient apiClient;
     private CustomTable table;
+    private CarregamentoTabela<PagamentoResponseDTO> carregamento;
     private CustomButton btnNovo, btnEditar, btnExcluir, btnAtualizar;
     
     public PagamentoPanel() {
@@ -118,15 +122,13 @@ public class PagamentoPanel extends JPanel implements RefreshablePanel {
     }
     
     private void loadPagamentos() {
-        LoadingDialog.executeWithLoading(
-            SwingUtilities.getWindowAncestor(this),
-            "Carregando pagamentos...",
-            () -> {
-                String response = apiClient.get("/pagamentos");
-                List<PagamentoResponseDTO> pagamentos = apiClient.fromJsonArray(response, PagamentoResponseDTO.class);
-                SwingUtilities.invokeLater(() -> updateTable(pagamentos));
-            },
-            () -> {},
+        // As linhas aparecem em lotes, conforme a resposta é lida
+        if (carregamento != null) {
+            carregamento.cancel(true);
+        }
+        carregamento = CarregamentoTabela.iniciar(apiClient, "/pagamentos", PagamentoResponseDTO.class, table,
+            this::toRow,
+            this::updateButtonStates,
             error -> {
                 if (error instanceof ApiException) {
                     MessageDialog.showError(this, ((ApiException) error).getUserFriendlyMessage());
@@ -137,22 +139,15 @@ public class PagamentoPanel extends JPanel implements RefreshablePanel {
         );
     }
     
-    private void updateTable(List<PagamentoResponseDTO> pagamentos) {
-        table.clearRows();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        
-        for (PagamentoResponseDTO pag : pagamentos) {
-            Object[] row = {
-                pag.getIdPagamento(),
-                pag.getNomeAluno(),
-                pag.getNomePlano(),
-                pag.getDataPagamento() != null ? pag.getDataPagamento().format(formatter) : "",
-                pag.getValorPago(),
-                formatFormaPagamento(pag.getFormaPagamento())
-            };
-            table.addRow(row);
-        }
-        updateButtonStates();
+    private Object[] toRow(PagamentoResponseDTO pag) {
+        return new Object[]{
+            pag.getIdPagamento(),
+            pag.getNomeAluno(),
+            pag.getNomePlano(),
+            pag.getDataPagamento() != null ? pag.getDataPagamento().format(DATE_FORMATTER) : "",
+            pag.getValorPago(),
+            formatFormaPagamento(pag.getFormaPagamento())
+        };
     }
     
     private String formatFormaPagamento(String forma) {
@@ -1,13 +1,34 @@
 package com.example.demo.ui.utils;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -15,12 +36,114 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 /**
  * Cliente HTTP para comunicação com o backend REST.
  * Gerencia todas as requisições HTTP (GET, POST, PUT, DELETE).
+ * 
+ * Usa um único HttpClient para todas as instâncias, que mantém as conexões abertas (keep-alive) entre
+ * as requisições. Cada método tem uma versão assíncrona (getAsync, postAsync, ...) que devolve um
+ * CompletableFuture e não bloqueia quem chama; as versões síncronas esperam por ela. As requisições rodam
+ * em um pool de tamanho fixo, ajustável com -Dgym.api.requisicoesSimultaneas (padrão 4).
+ * 
+ * Respostas GET passam pelo CacheRespostas, compartilhado por todas as instâncias já que cada painel
+ * cria o seu ApiClient: ficam válidas por alguns segundos, depois são revalidadas com If-None-Match
+ * quando trazem ETag (304 sem corpo se nada mudou), e GETs iguais simultâneos viram uma só requisição.
+ * POST, PUT e DELETE invalidam o cache.
+ * 
+ * Listas grandes podem ser lidas com getEmLotes, que converte os elementos um a um direto do corpo
+ * da resposta, sem montar a lista inteira em memória; o corpo só vai para o cache, para ser revalidado,
+ * se couber no limite por resposta do cache (a cópia é abandonada assim que passa dele).
  */
 public class ApiClient {
     
     private final String baseUrl;
     private final ObjectMapper objectMapper;
-    private static final int TIMEOUT = 10000; // 10 segundos
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final long VALIDADE_CACHE = 15000; // 15 segundos
+    private static final long MAXIMO_CARACTERES_CACHE = 4_000_000; // soma dos corpos guardados
+    private static final int MAXIMO_CARACTERES_RESPOSTA_CACHE = 512 * 1024;
+    private static final int REQUISICOES_SIMULTANEAS = Integer.getInteger("gym.api.requisicoesSimultaneas", 4);
+    
+    private static final CacheRespostas CACHE =
+        new CacheRespostas(VALIDADE_CACHE, MAXIMO_CARACTERES_CACHE, MAXIMO_CARACTERES_RESPOSTA_CACHE,
+            System::currentTimeMillis);
+    
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(TIMEOUT)
+        .build();
+    
+    /**
+     * Threads que enviam as requisições e leem as respostas; o tamanho limita as requisições simultâneas.
+     * Daemon para não impedir o encerramento da aplicação.
+     */
+    private static final ExecutorService REQUISICOES = Executors.newFixedThreadPool(REQUISICOES_SIMULTANEAS,
+        new ThreadFactory() {
+            private final AtomicInteger contador = new AtomicInteger();
+            
+            @Override
+            public Thread newThread(Runnable tarefa) {
+                Thread thread = new Thread(tarefa, "api-client-" + contador.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    
+    /**
+     * Lê a resposta recebida; o corpo já vem descompactado
+     */
+    @FunctionalInterface
+    private interface LeitorResposta<T> {
+        T ler(HttpResponse<InputStream> resposta, InputStream corpo) throws IOException, ApiException;
+    }
+    
+    /**
+     * Guarda uma cópia do que é lido do stream, até um limite de bytes: passado o limite a cópia
+     * é descartada e o restante só é repassado
+     */
+    private static class CopiaInputStream extends FilterInputStream {
+        
+        private final int limite;
+        private ByteArrayOutputStream copia = new ByteArrayOutputStream();
+        
+        CopiaInputStream(InputStream entrada, int limite) {
+            super(entrada);
+            this.limite = limite;
+        }
+        
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                copiar(new byte[] {(byte) b}, 0, 1);
+            }
+            return b;
+        }
+        
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int lidos = super.read(b, off, len);
+            if (lidos > 0) {
+                copiar(b, off, lidos);
+            }
+            return lidos;
+        }
+        
+        private void copiar(byte[] b, int off, int len) {
+            if (copia == null) {
+                return;
+            }
+            if (copia.size() + len > limite) {
+                copia = null;
+                return;
+            }
+            copia.write(b, off, len);
+        }
+        
+        /**
+         * @return Texto lido, ou null se passou do limite
+         */
+        String copiado() {
+            return copia != null ? copia.toString(StandardCharsets.UTF_8) : null;
+        }
+    }
     
     /**
      * Construtor padrão - conecta ao backend local
@@ -29,9 +152,7 @@ public class ApiClient {
         // Força uso de IPv4 para evitar problemas de conexão
         System.setProperty("java.net.preferIPv4Stack", "true");
         this.baseUrl = "http://127.0.0.1:5000/api";
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
-        this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.objectMapper = criarObjectMapper();
     }
     
     /**
@@ -41,9 +162,16 @@ public class ApiClient {
      */
     public ApiClient(String baseUrl) {
         this.baseUrl = baseUrl;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
-        this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.objectMapper = criarObjectMapper();
+    }
+    
+    private static ObjectMapper criarObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        // O corpo é lido até o fim depois da conversão, para a conexão voltar ao pool
+        objectMapper.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        return objectMapper;
     }
     
     /**
@@ -54,7 +182,7 @@ public class ApiClient {
      * @throws ApiException em caso de erro na requisição
      */
     public String get(String endpoint) throws ApiException {
-        return executeRequest("GET", endpoint, null);
+        return aguardar(getAsync(endpoint));
     }
     
     /**
@@ -66,7 +194,7 @@ public class ApiClient {
      * @throws ApiException em caso de erro na requisição
      */
     public String post(String endpoint, Object body) throws ApiException {
-        return executeRequest("POST", endpoint, body);
+        return aguardar(executeWrite("POST", endpoint, body, this::lerTexto));
     }
     
     /**
@@ -78,7 +206,7 @@ public class ApiClient {
      * @throws ApiException em caso de erro na requisição
      */
     public String put(String endpoint, Object body) throws ApiException {
-        return executeRequest("PUT", endpoint, body);
+        return aguardar(executeWrite("PUT", endpoint, body, this::lerTexto));
     }
     
     /**
@@ -89,106 +217,315 @@ public class ApiClient {
      * @throws ApiException em caso de erro na requisição
      */
     public String delete(String endpoint) throws ApiException {
-        return executeRequest("DELETE", endpoint, null);
+        return aguardar(executeWrite("DELETE", endpoint, null, this::lerTexto));
+    }
+    
+    /**
+     * Realiza uma requisição GET sem bloquear
+     * 
+     * @param endpoint Endpoint da API (ex: "/alunos")
+     * @return Resposta JSON como String; em caso de erro, o futuro termina com ApiException
+     */
+    public CompletableFuture<String> getAsync(String endpoint) {
+        return CACHE.buscar(baseUrl + endpoint, endpoint, etagGuardado -> {
+            HttpRequest.Builder requisicao = novaRequisicao(endpoint).GET();
+            // Revalida a resposta guardada em vez de baixá-la de novo
+            if (etagGuardado != null) {
+                requisicao.header("If-None-Match", etagGuardado);
+            }
+            return executeRequest(requisicao.build(), (resposta, corpo) -> {
+                if (resposta.statusCode() == 304 && etagGuardado != null) {
+                    return new CacheRespostas.Resposta(true, null, etagGuardado);
+                }
+                String texto = lerTexto(resposta, corpo);
+                return new CacheRespostas.Resposta(false, texto, resposta.headers().firstValue("ETag").orElse(null));
+            });
+        });
     }
     
     /**
-     * Executa uma requisição HTTP
+     * Realiza uma requisição GET sem bloquear e converte a resposta
      * 
-     * @param method Método HTTP (GET, POST, PUT, DELETE)
      * @param endpoint Endpoint da API
-     * @param body Corpo da requisição (opcional)
-     * @return Resposta como String
-     * @throws ApiException em caso de erro
+     * @param clazz Classe do objeto
+     * @return Objeto deserializado
      */
-    private String executeRequest(String method, String endpoint, Object body) throws ApiException {
-        HttpURLConnection connection = null;
-        
-        try {
-            // Cria conexão
-            @SuppressWarnings("deprecation")
-            URL url = new URL(baseUrl + endpoint);
-            System.out.println("[ApiClient] " + method + " " + url.toString()); // DEBUG
-            connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod(method);
-            connection.setRequestProperty("Content-Type", "application/json");
-            connection.setRequestProperty("Accept", "application/json");
-            connection.setConnectTimeout(TIMEOUT);
-            connection.setReadTimeout(TIMEOUT);
-            
-            // Envia corpo da requisição se necessário
-            if (body != null && (method.equals("POST") || method.equals("PUT"))) {
-                connection.setDoOutput(true);
-                String jsonBody = objectMapper.writeValueAsString(body);
-                
-                try (OutputStream os = connection.getOutputStream()) {
-                    byte[] input = jsonBody.getBytes(StandardCharsets.UTF_8);
-                    os.write(input, 0, input.length);
+    public <T> CompletableFuture<T> getAsync(String endpoint, Class<T> clazz) {
+        return converter(getAsync(endpoint), objectMapper.constructType(clazz));
+    }
+    
+    /**
+     * Realiza uma requisição GET sem bloquear e converte a resposta em lista
+     * 
+     * @param endpoint Endpoint da API
+     * @param clazz Classe dos elementos
+     * @return Lista de objetos
+     */
+    public <T> CompletableFuture<List<T>> getListAsync(String endpoint, Class<T> clazz) {
+        return converter(getAsync(endpoint), objectMapper.getTypeFactory().constructCollectionType(List.class, clazz));
+    }
+    
+    /**
+     * Realiza uma requisição POST sem bloquear; a resposta é convertida direto do corpo recebido
+     * 
+     * @param endpoint Endpoint da API
+     * @param body Corpo da requisição (objeto será convertido para JSON)
+     * @param clazz Classe da resposta (Void.class para ignorá-la)
+     * @return Objeto deserializado
+     */
+    public <T> CompletableFuture<T> postAsync(String endpoint, Object body, Class<T> clazz) {
+        return executeWrite("POST", endpoint, body, leitorJson(clazz));
+    }
+    
+    /**
+     * Realiza uma requisição PUT sem bloquear; a resposta é convertida direto do corpo recebido
+     * 
+     * @param endpoint Endpoint da API
+     * @param body Corpo da requisição (objeto será convertido para JSON)
+     * @param clazz Classe da resposta (Void.class para ignorá-la)
+     * @return Objeto deserializado
+     */
+    public <T> CompletableFuture<T> putAsync(String endpoint, Object body, Class<T> clazz) {
+        return executeWrite("PUT", endpoint, body, leitorJson(clazz));
+    }
+    
+    /**
+     * Realiza uma requisição DELETE sem bloquear
+     * 
+     * @param endpoint Endpoint da API
+     * @return Futuro concluído quando o backend confirmar a exclusão
+     */
+    public CompletableFuture<Void> deleteAsync(String endpoint) {
+        return executeWrite("DELETE", endpoint, null, leitorJson(Void.class));
+    }
+    
+    /**
+     * Realiza uma requisição GET de uma lista JSON e entrega os elementos em lotes, conforme são lidos
+     * 
+     * Usa a resposta do cache se ainda estiver válida. Vencida, é revalidada com If-None-Match e, se o
+     * backend responder 304, os lotes saem do corpo guardado; senão saem do corpo recebido, conforme
+     * chega, e ele é guardado no cache se não passar do limite por resposta. Bloqueia até o fim da lista: chamar fora do EDT (ex: em um SwingWorker).
+     * 
+     * @param endpoint Endpoint da API (ex: "/frequencias")
+     * @param clazz Classe dos elementos
+     * @param tamanhoLote Número de elementos por lote (o último pode ter menos)
+     * @param consumidor Recebe cada lote, na thread que lê a resposta
+     * @return Total de elementos lidos
+     * @throws ApiException em caso de erro na requisição ou na conversão
+     */
+    public <T> int getEmLotes(String endpoint, Class<T> clazz, int tamanhoLote, Consumer<List<T>> consumidor)
+            throws ApiException {
+        String url = baseUrl + endpoint;
+        CacheRespostas.Guardada guardada = CACHE.consultar(url);
+        if (guardada != null && guardada.valida()) {
+            try (JsonParser parser = objectMapper.createParser(guardada.corpo())) {
+                return lerEmLotes(parser, clazz, tamanhoLote, consumidor);
+            } catch (IOException e) {
+                throw new ApiException("Erro ao converter JSON array: " + e.getMessage(), 0, e.getMessage());
+            }
+        }
+
+        long geracao = CACHE.geracao();
+        String etagGuardado = guardada != null ? guardada.etag() : null;
+        HttpRequest.Builder requisicao = novaRequisicao(endpoint).GET();
+        if (etagGuardado != null) {
+            requisicao.header("If-None-Match", etagGuardado);
+        }
+        return aguardar(executeRequest(requisicao.build(), (resposta, corpo) -> {
+            if (resposta.statusCode() == 304 && etagGuardado != null) {
+                CACHE.registrar(url, endpoint, guardada.corpo(), etagGuardado, geracao);
+                try (JsonParser parser = objectMapper.createParser(guardada.corpo())) {
+                    return lerEmLotes(parser, clazz, tamanhoLote, consumidor);
                 }
             }
-            
-            // Lê resposta
-            int responseCode = connection.getResponseCode();
-            
-            if (responseCode >= 200 && responseCode < 300) {
-                return readResponse(connection);
+            verificarStatus(resposta, corpo);
+            // Os lotes saem conforme o corpo chega; a cópia vai para o cache, para a próxima leitura revalidar.
+            // Em UTF-8 cada caractere ocupa ao menos um byte, então a cópia que cabe no limite também cabe no cache
+            CopiaInputStream copia = new CopiaInputStream(corpo, MAXIMO_CARACTERES_RESPOSTA_CACHE);
+            int total;
+            try (JsonParser parser = objectMapper.createParser(copia)) {
+                total = lerEmLotes(parser, clazz, tamanhoLote, consumidor);
+            }
+            String copiado = copia.copiado();
+            if (copiado != null) {
+                CACHE.registrar(url, endpoint, copiado, resposta.headers().firstValue("ETag").orElse(null), geracao);
             } else {
-                String errorMessage = readErrorResponse(connection);
-                throw new ApiException(
-                    "Erro na requisição: " + responseCode + " - " + errorMessage,
-                    responseCode,
-                    errorMessage
-                );
+                CACHE.descartar(url);
             }
-            
-        } catch (IOException e) {
-            System.err.println("[ApiClient] ERRO: " + e.getClass().getName() + " - " + e.getMessage()); // DEBUG
-            e.printStackTrace(); // DEBUG
-            throw new ApiException(
-                "Erro de conexão com o servidor: " + e.getMessage() + 
-                "\nVerifique se o backend está rodando em " + baseUrl,
-                0,
-                e.getMessage()
-            );
-        } finally {
-            if (connection != null) {
-                connection.disconnect();
+            return total;
+        }));
+    }
+    
+    private <T> int lerEmLotes(JsonParser parser, Class<T> clazz, int tamanhoLote, Consumer<List<T>> consumidor)
+            throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Resposta não é uma lista JSON");
+        }
+        List<T> lote = new ArrayList<>(tamanhoLote);
+        int total = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new JsonParseException(parser, "Lista JSON incompleta");
+            }
+            lote.add(objectMapper.readValue(parser, clazz));
+            total++;
+            if (lote.size() == tamanhoLote) {
+                consumidor.accept(lote);
+                lote = new ArrayList<>(tamanhoLote);
             }
         }
+        if (!lote.isEmpty()) {
+            consumidor.accept(lote);
+        }
+        return total;
     }
     
     /**
-     * Lê a resposta bem-sucedida da conexão
+     * Espera o resultado de uma chamada assíncrona
+     * 
+     * @param futuro Futuro devolvido por getAsync, postAsync, ...
+     * @return Resultado da chamada
+     * @throws ApiException em caso de erro na requisição
      */
-    private String readResponse(HttpURLConnection connection) throws IOException {
-        StringBuilder response = new StringBuilder();
-        
-        try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                response.append(line.trim());
-            }
+    public static <T> T aguardar(CompletableFuture<T> futuro) throws ApiException {
+        try {
+            return futuro.get();
+        } catch (ExecutionException e) {
+            throw ApiException.de(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Requisição interrompida", e);
         }
-        
-        return response.toString();
     }
     
     /**
-     * Lê a mensagem de erro da conexão
+     * Executa uma escrita e invalida o cache, mesmo em caso de erro (a alteração pode ter sido aplicada)
+     */
+    private <T> CompletableFuture<T> executeWrite(String method, String endpoint, Object body,
+                                                  LeitorResposta<T> leitor) {
+        HttpRequest requisicao;
+        try {
+            HttpRequest.BodyPublisher corpo = body != null
+                ? HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))
+                : HttpRequest.BodyPublishers.noBody();
+            requisicao = novaRequisicao(endpoint)
+                .header("Content-Type", "application/json")
+                .method(method, corpo)
+                .build();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(
+                new ApiException("Erro ao montar a requisição: " + e.getMessage(), 0, e.getMessage()));
+        }
+        return executeRequest(requisicao, leitor).whenComplete((resultado, erro) -> CACHE.invalidar(endpoint));
+    }
+    
+    private HttpRequest.Builder novaRequisicao(String endpoint) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + endpoint))
+            .timeout(TIMEOUT)
+            .header("Accept", "application/json")
+            .header("Accept-Encoding", "gzip");
+    }
+    
+    /**
+     * Executa uma requisição HTTP no pool de requisições
+     * 
+     * @param requisicao Requisição a enviar
+     * @param leitor Lê o corpo da resposta
+     * @return Resultado do leitor; em caso de erro, o futuro termina com ApiException
+     */
+    private <T> CompletableFuture<T> executeRequest(HttpRequest requisicao, LeitorResposta<T> leitor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                HttpResponse<InputStream> resposta =
+                    HTTP_CLIENT.send(requisicao, HttpResponse.BodyHandlers.ofInputStream());
+                try (InputStream corpo = resposta.body()) {
+                    T resultado = leitor.ler(resposta, descompactar(resposta, corpo));
+                    // Descarta o que sobrou do corpo para a conexão ser reaproveitada
+                    corpo.transferTo(OutputStream.nullOutputStream());
+                    return resultado;
+                }
+            } catch (ApiException e) {
+                throw new CompletionException(e);
+            } catch (JsonProcessingException e) {
+                throw new CompletionException(
+                    new ApiException("Erro ao converter JSON: " + e.getMessage(), 0, e.getMessage()));
+            } catch (IOException e) {
+                throw new CompletionException(new ApiException(
+                    "Erro de conexão com o servidor: " + e.getMessage() +
+                    "\nVerifique se o backend está rodando em " + baseUrl,
+                    0,
+                    e.getMessage()
+                ));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(new ApiException("Requisição interrompida", e));
+            }
+        }, REQUISICOES);
+    }
+    
+    /**
+     * Leitor que converte o corpo com Jackson direto do stream, sem montá-lo antes em uma String
      */
-    private String readErrorResponse(HttpURLConnection connection) {
-        try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(connection.getErrorStream(), StandardCharsets.UTF_8))) {
-            StringBuilder response = new StringBuilder();
-            String line;
-            while ((line = br.readLine()) != null) {
-                response.append(line.trim());
+    private <T> LeitorResposta<T> leitorJson(Class<T> clazz) {
+        return (resposta, corpo) -> {
+            verificarStatus(resposta, corpo);
+            if (clazz == Void.class || resposta.statusCode() == 204) {
+                return null;
             }
-            return response.toString();
-        } catch (Exception e) {
-            return "Não foi possível ler a mensagem de erro";
+            return objectMapper.readValue(corpo, clazz);
+        };
+    }
+    
+    /**
+     * Lê a resposta bem-sucedida como texto
+     */
+    private String lerTexto(HttpResponse<InputStream> resposta, InputStream corpo) throws IOException, ApiException {
+        verificarStatus(resposta, corpo);
+        return new String(corpo.readAllBytes(), StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Lança ApiException com a mensagem de erro do backend se a resposta não for 2xx
+     */
+    private void verificarStatus(HttpResponse<InputStream> resposta, InputStream corpo) throws ApiException {
+        int responseCode = resposta.statusCode();
+        if (responseCode >= 200 && responseCode < 300) {
+            return;
+        }
+        String errorMessage;
+        try {
+            errorMessage = new String(corpo.readAllBytes(), StandardCharsets.UTF_8).strip();
+        } catch (IOException e) {
+            errorMessage = "Não foi possível ler a mensagem de erro";
         }
+        throw new ApiException(
+            "Erro na requisição: " + responseCode + " - " + errorMessage,
+            responseCode,
+            errorMessage
+        );
+    }
+    
+    /**
+     * Descompacta o corpo quando o backend responde com Content-Encoding gzip
+     */
+    private InputStream descompactar(HttpResponse<InputStream> resposta, InputStream corpo) throws IOException {
+        boolean gzip = resposta.headers().firstValue("Content-Encoding")
+            .map("gzip"::equalsIgnoreCase)
+            .orElse(false);
+        // 304 e 204 não têm corpo para descompactar
+        return gzip && resposta.statusCode() != 304 && resposta.statusCode() != 204 ? new GZIPInputStream(corpo) : corpo;
+    }
+    
+    private <T> CompletableFuture<T> converter(CompletableFuture<String> json, JavaType tipo) {
+        return json.thenApply(texto -> {
+            try {
+                return objectMapper.readValue(texto, tipo);
+            } catch (IOException e) {
+                throw new CompletionException(
+                    new ApiException("Erro ao converter JSON: " + e.getMessage(), 0, e.getMessage()));
+            }
+        });
     }
     
     /**
@@ -215,15 +552,25 @@ public class ApiClient {
      * @return Lista de objetos
      * @throws ApiException em caso de erro na conversão
      */
-    public <T> java.util.List<T> fromJsonArray(String json, Class<T> clazz) throws ApiException {
+    public <T> List<T> fromJsonArray(String json, Class<T> clazz) throws ApiException {
         try {
-            return objectMapper.readValue(json, 
-                objectMapper.getTypeFactory().constructCollectionType(java.util.List.class, clazz));
+            return objectMapper.readValue(json,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, clazz));
         } catch (IOException e) {
             throw new ApiException("Erro ao converter JSON array: " + e.getMessage(), 0, e.getMessage());
         }
     }
     
+    /**
+     * Codifica um valor para uso em parâmetro de query string
+     * 
+     * @param valor Valor do parâmetro (ex: texto digitado em uma busca)
+     * @return Valor codificado em UTF-8
+     */
+    public static String codificar(String valor) {
+        return URLEncoder.encode(valor, StandardCharsets.UTF_8);
+    }
+    
     /**
      * Testa a conexão com o backend
      * 
@@ -231,7 +578,8 @@ public class ApiClient {
      */
     public boolean testConnection() {
         try {
-            get("/");
+            // Direto ao backend: uma resposta do cache não diz se o servidor está no ar
+            aguardar(executeRequest(novaRequisicao("/").GET().build(), this::lerTexto));
             return true;
         } catch (ApiException e) {
             return false;
@@ -1,5 +1,8 @@
 package com.example.demo.ui.utils;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
 /**
  * Exceção customizada para erros de comunicação com a API.
  * Encapsula informações sobre erros HTTP e problemas de rede.
@@ -43,6 +46,24 @@ public class ApiException extends Exception {
         this.errorMessage = message;
     }
     
+    /**
+     * Obtém a ApiException de uma falha de CompletableFuture (ou cria uma para outros erros)
+     * 
+     * @param erro Falha recebida em whenComplete/exceptionally ou lançada por get()
+     * @return ApiException original da requisição
+     */
+    public static ApiException de(Throwable erro) {
+        Throwable causa = erro;
+        while ((causa instanceof CompletionException || causa instanceof ExecutionException)
+                && causa.getCause() != null) {
+            causa = causa.getCause();
+        }
+        if (causa instanceof ApiException apiException) {
+            return apiException;
+        }
+        return new ApiException("Erro na requisição: " + causa.getMessage(), causa);
+    }
+    
     /**
      * Retorna o código HTTP de status
      * 
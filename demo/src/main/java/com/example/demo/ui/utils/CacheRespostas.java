@@ -0,0 +1,249 @@
+package com.example.demo.ui.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache das respostas GET do ApiClient, compartilhado por todos os painéis.
+ *
+ * - Dentro do prazo de validade a resposta guardada é devolvida sem ir ao backend.
+ * - Vencido o prazo, a resposta com ETag é revalidada com If-None-Match (304 renova o prazo).
+ * - GETs iguais simultâneos viram uma única requisição: quem chega depois recebe a resposta da primeira.
+ * - POST, PUT e DELETE descartam as respostas do mesmo recurso e vencem as demais, que podem
+ *   conter dados relacionados (ex: /matriculas traz o nome do aluno) e passam a ser revalidadas.
+ * - O limite é a soma do tamanho dos corpos guardados: as respostas usadas há mais tempo são removidas
+ *   até caber a nova, e um corpo maior que o limite por resposta não é guardado.
+ */
+class CacheRespostas {
+
+    /**
+     * Resultado de uma requisição GET ao backend
+     *
+     * @param naoModificada true quando o backend respondeu 304 ao If-None-Match
+     * @param corpo Corpo da resposta (null quando não modificada)
+     * @param etag ETag da resposta (null se o endpoint não usa ETag)
+     */
+    record Resposta(boolean naoModificada, String corpo, String etag) {
+    }
+
+    /**
+     * Resposta guardada para uma URL, dentro ou fora do prazo de validade
+     *
+     * @param corpo Corpo guardado
+     * @param etag ETag guardado (null se o endpoint não usa ETag)
+     * @param valida true se ainda está no prazo de validade
+     */
+    record Guardada(String corpo, String etag, boolean valida) {
+    }
+
+    private record Entrada(String recurso, String corpo, String etag, long expiraEm) {
+
+        Entrada vencida() {
+            return new Entrada(recurso, corpo, etag, Long.MIN_VALUE);
+        }
+    }
+
+    private final long validadeMillis;
+    private final long maximoCaracteres;
+    private final int maximoCaracteresResposta;
+    private final LongSupplier relogio;
+
+    // Ordem de acesso (LRU); alterado só com o lock de entradas, junto com totalCaracteres
+    private final Map<String, Entrada> entradas = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalCaracteres;
+    private final Map<String, CompletableFuture<String>> emAndamento = new ConcurrentHashMap<>();
+
+    // Incrementada a cada escrita: respostas de GETs iniciados antes dela não são guardadas
+    private final AtomicLong geracao = new AtomicLong();
+
+    /**
+     * @param validadeMillis Tempo em que uma resposta é usada sem consultar o backend
+     * @param maximoCaracteres Soma máxima do tamanho dos corpos guardados (remoção LRU)
+     * @param maximoCaracteresResposta Tamanho máximo de um corpo para ser guardado
+     * @param relogio Fonte do tempo atual em milissegundos
+     */
+    CacheRespostas(long validadeMillis, long maximoCaracteres, int maximoCaracteresResposta, LongSupplier relogio) {
+        this.validadeMillis = validadeMillis;
+        this.maximoCaracteres = maximoCaracteres;
+        this.maximoCaracteresResposta = maximoCaracteresResposta;
+        this.relogio = relogio;
+    }
+
+    /**
+     * Devolve o corpo da resposta de GET em url, do cache ou do backend
+     *
+     * @param url URL completa, usada como chave
+     * @param endpoint Endpoint da API, de onde sai o recurso (ex: "/alunos/5" pertence a "alunos")
+     * @param requisicao Executa o GET quando a resposta guardada não pode ser usada, recebendo o ETag
+     *                   guardado para o If-None-Match (ou null)
+     * @return Corpo da resposta; em caso de erro, o futuro termina com a ApiException da requisição
+     */
+    CompletableFuture<String> buscar(String url, String endpoint,
+                                     Function<String, CompletableFuture<Resposta>> requisicao) {
+        Entrada guardada = obter(url);
+        if (guardada != null && guardada.expiraEm() > relogio.getAsLong()) {
+            return CompletableFuture.completedFuture(guardada.corpo());
+        }
+
+        CompletableFuture<String> futuro = new CompletableFuture<>();
+        CompletableFuture<String> existente = emAndamento.putIfAbsent(url, futuro);
+        if (existente != null) {
+            // Cópia: cancelar a espera de um painel não cancela a dos outros
+            return existente.copy();
+        }
+
+        long geracaoInicial = geracao.get();
+        CompletableFuture<Resposta> resposta;
+        try {
+            resposta = requisicao.apply(guardada != null ? guardada.etag() : null);
+        } catch (RuntimeException e) {
+            resposta = CompletableFuture.failedFuture(e);
+        }
+        resposta.whenComplete((recebida, erro) -> {
+            emAndamento.remove(url, futuro);
+            if (erro != null) {
+                futuro.completeExceptionally(erro);
+            } else {
+                futuro.complete(guardar(url, recurso(endpoint), guardada, recebida, geracaoInicial));
+            }
+        });
+        return futuro.copy();
+    }
+
+    private String guardar(String url, String recurso, Entrada guardada, Resposta resposta, long geracaoInicial) {
+        Entrada nova;
+        if (resposta.naoModificada() && guardada != null) {
+            nova = new Entrada(recurso, guardada.corpo(), guardada.etag(), relogio.getAsLong() + validadeMillis);
+        } else {
+            nova = new Entrada(recurso, resposta.corpo(), resposta.etag(), relogio.getAsLong() + validadeMillis);
+        }
+        synchronized (entradas) {
+            if (geracao.get() == geracaoInicial) {
+                colocar(url, nova);
+            }
+        }
+        return nova.corpo();
+    }
+
+    /**
+     * Guarda a entrada e remove as usadas há mais tempo até a soma dos corpos caber no limite
+     * (chamado com o lock de entradas)
+     */
+    private void colocar(String url, Entrada nova) {
+        descartar(url);
+        int tamanho = nova.corpo().length();
+        if (tamanho > maximoCaracteresResposta) {
+            return;
+        }
+        Iterator<Entrada> maisAntigas = entradas.values().iterator();
+        while (totalCaracteres + tamanho > maximoCaracteres && maisAntigas.hasNext()) {
+            totalCaracteres -= maisAntigas.next().corpo().length();
+            maisAntigas.remove();
+        }
+        entradas.put(url, nova);
+        totalCaracteres += tamanho;
+    }
+
+    /**
+     * Invalida o cache após uma escrita em endpoint
+     *
+     * @param endpoint Endpoint do POST, PUT ou DELETE
+     */
+    void invalidar(String endpoint) {
+        String recurso = recurso(endpoint);
+        synchronized (entradas) {
+            geracao.incrementAndGet();
+            Iterator<Entrada> guardadas = entradas.values().iterator();
+            while (guardadas.hasNext()) {
+                Entrada entrada = guardadas.next();
+                if (entrada.recurso().equals(recurso)) {
+                    totalCaracteres -= entrada.corpo().length();
+                    guardadas.remove();
+                }
+            }
+            entradas.replaceAll((url, entrada) -> entrada.vencida());
+        }
+        // GETs em andamento podem trazer dados anteriores à escrita; as próximas chamadas não devem esperá-los
+        emAndamento.clear();
+    }
+
+    /**
+     * Resposta guardada para url, para quem faz o GET por conta própria (ex: leitura em lotes):
+     * usar o corpo se ainda for válida, ou revalidar com o ETag
+     *
+     * @param url URL completa
+     * @return Resposta guardada ou null
+     */
+    Guardada consultar(String url) {
+        Entrada guardada = obter(url);
+        if (guardada == null) {
+            return null;
+        }
+        return new Guardada(guardada.corpo(), guardada.etag(), guardada.expiraEm() > relogio.getAsLong());
+    }
+
+    /**
+     * Geração atual, a ser lida antes de um GET feito fora de buscar e passada a registrar
+     *
+     * @return Número de escritas já invalidadas
+     */
+    long geracao() {
+        return geracao.get();
+    }
+
+    /**
+     * Guarda a resposta de um GET feito fora de buscar, a menos que uma escrita tenha invalidado
+     * o cache depois que ele começou
+     *
+     * @param url URL completa
+     * @param endpoint Endpoint da API
+     * @param corpo Corpo completo da resposta (o guardado, se o backend respondeu 304)
+     * @param etag ETag da resposta
+     * @param geracaoInicial Valor de geracao() antes da requisição
+     */
+    void registrar(String url, String endpoint, String corpo, String etag, long geracaoInicial) {
+        guardar(url, recurso(endpoint), null, new Resposta(false, corpo, etag), geracaoInicial);
+    }
+
+    /**
+     * Remove a resposta guardada para url (ex: o corpo novo é grande demais para substituí-la)
+     *
+     * @param url URL completa
+     */
+    void descartar(String url) {
+        synchronized (entradas) {
+            Entrada anterior = entradas.remove(url);
+            if (anterior != null) {
+                totalCaracteres -= anterior.corpo().length();
+            }
+        }
+    }
+
+    private Entrada obter(String url) {
+        synchronized (entradas) {
+            return entradas.get(url);
+        }
+    }
+
+    /**
+     * Primeiro segmento do endpoint (ex: "/alunos/5?x=1" -> "alunos")
+     */
+    static String recurso(String endpoint) {
+        String caminho = endpoint.startsWith("/") ? endpoint.substring(1) : endpoint;
+        int fim = caminho.length();
+        for (int i = 0; i < caminho.length(); i++) {
+            char c = caminho.charAt(i);
+            if (c == '/' || c == '?') {
+                fim = i;
+                break;
+            }
+        }
+        return caminho.substring(0, fim);
+    }
+}
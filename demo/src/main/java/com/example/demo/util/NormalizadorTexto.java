@@ -0,0 +1,48 @@
+package com.example.demo.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização de texto para os índices de busca em memória
+ * Remove acentos e converte para minúsculas, de modo que "Lesão" e "lesao" virem o mesmo termo
+ */
+public final class NormalizadorTexto {
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private NormalizadorTexto() {
+    }
+
+    /**
+     * Remove acentos e converte para minúsculas
+     * @param texto Texto original
+     * @return Texto normalizado
+     */
+    public static String normalizar(String texto) {
+        String semAcentos = ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return semAcentos.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Separa o texto em palavras normalizadas (letras e dígitos), na ordem em que aparecem
+     * @param texto Texto original (nulo resulta em lista vazia)
+     * @return Palavras normalizadas, com repetições
+     */
+    public static List<String> palavras(String texto) {
+        List<String> palavras = new ArrayList<>();
+        if (texto == null) {
+            return palavras;
+        }
+        for (String palavra : SEPARADORES.split(normalizar(texto))) {
+            if (!palavra.isEmpty()) {
+                palavras.add(palavra);
+            }
+        }
+        return palavras;
+    }
+}
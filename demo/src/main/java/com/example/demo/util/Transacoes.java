@@ -0,0 +1,61 @@
+package com.example.demo.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Ações atreladas ao fim da transação corrente
+ *
+ * Usado pelos caches e índices em memória, que só podem refletir uma escrita depois que ela foi
+ * confirmada no banco. Sem transação ativa, a ação roda na hora.
+ */
+public class Transacoes {
+
+    private Transacoes() {
+    }
+
+    /**
+     * Executa a ação depois do commit da transação corrente (nada acontece se ela for desfeita)
+     * @param acao Ação a executar
+     */
+    public static void aposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+
+    /**
+     * Executa a ação quando a transação corrente terminar, confirmada ou desfeita
+     * @param acao Ação a executar
+     */
+    public static void aposConclusao(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+
+    /**
+     * Associa um valor à transação corrente, para ser recuperado com getResource(chave) até ela terminar
+     * (exige transação ativa)
+     * @param chave Chave do recurso
+     * @param valor Valor associado
+     */
+    public static void vincular(Object chave, Object valor) {
+        TransactionSynchronizationManager.bindResource(chave, valor);
+        aposConclusao(() -> TransactionSynchronizationManager.unbindResourceIfPossible(chave));
+    }
+}
@@ -1,49 +1,124 @@
 package com.example.demo.util;
 
+/**
+ * Validação e formatação de CPF
+ *
+ * Os métodos percorrem o texto uma única vez, considerando só os dígitos, e não alocam nada além
+ * da String devolvida por {@link #format}. Os 11 dígitos cabem em um long (até 99999999999), que é
+ * a chave usada nas buscas por igualdade: "123.456.789-09" e "12345678909" têm a mesma chave.
+ */
 public class ValidadorCPF {
-    public static boolean isValid(String cpf) {
-        if (cpf == null) {
-            return false;
-        }
 
-        cpf = cpf.replaceAll("[^0-9]", "");
-        
-        if (cpf.length() != 11) {
+    /** Chave devolvida quando o texto não tem exatamente 11 dígitos */
+    public static final long CHAVE_INVALIDA = -1L;
+
+    private static final long MAIOR_CHAVE = 99_999_999_999L;
+
+    /** Todo CPF com os 11 dígitos iguais é múltiplo deste número */
+    private static final long DIGITOS_REPETIDOS = 11_111_111_111L;
+
+    private ValidadorCPF() {
+    }
+
+    public static boolean isValid(CharSequence cpf) {
+        return isValid(chave(cpf));
+    }
+
+    /**
+     * Valida os dígitos verificadores de um CPF já convertido em chave
+     * @param chave Chave do CPF
+     * @return true se o CPF é válido
+     */
+    public static boolean isValid(long chave) {
+        if (chave < 0 || chave > MAIOR_CHAVE || chave % DIGITOS_REPETIDOS == 0) {
             return false;
         }
 
-        if (cpf.matches("(\\d)\\1{10}")) {
-            return false;
+        // Percorre os 9 primeiros dígitos do último para o primeiro: pesos 2..10 no primeiro
+        // dígito verificador e 3..11 no segundo
+        int somaPrimeiro = 0;
+        int somaSegundo = 0;
+        long restante = chave / 100;
+        for (int peso = 2; peso <= 10; peso++) {
+            int digito = (int) (restante % 10);
+            somaPrimeiro += digito * peso;
+            somaSegundo += digito * (peso + 1);
+            restante /= 10;
         }
+        int primeiroDigito = digitoVerificador(somaPrimeiro);
+        int segundoDigito = digitoVerificador(somaSegundo + primeiroDigito * 2);
+        return chave % 100 == primeiroDigito * 10 + segundoDigito;
+    }
 
-        int sum = 0;
-        for (int i = 0; i < 9; i++) {
-            sum += (cpf.charAt(i) - '0') * (10 - i);
+    /**
+     * Converte o CPF (formatado ou não) na chave numérica, ignorando o que não for dígito
+     * @param cpf CPF
+     * @return Os 11 dígitos como long, ou {@link #CHAVE_INVALIDA} se não houver exatamente 11 dígitos
+     */
+    public static long chave(CharSequence cpf) {
+        if (cpf == null) {
+            return CHAVE_INVALIDA;
         }
-        int firstDigit = 11 - (sum % 11);
-        if (firstDigit > 9) firstDigit = 0;
-        if (firstDigit != (cpf.charAt(9) - '0')) {
-            return false;
+        long chave = 0;
+        int digitos = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digitos > 11) {
+                    return CHAVE_INVALIDA;
+                }
+                chave = chave * 10 + (c - '0');
+            }
         }
+        return digitos == 11 ? chave : CHAVE_INVALIDA;
+    }
 
-        // Second digit validation
-        sum = 0;
-        for (int i = 0; i < 10; i++) {
-            sum += (cpf.charAt(i) - '0') * (11 - i);
+    /**
+     * Formata o CPF como 000.000.000-00
+     * @param cpf CPF com ou sem pontuação
+     * @return CPF formatado; só os dígitos se não houver exatamente 11; null se cpf for null
+     */
+    public static String format(CharSequence cpf) {
+        if (cpf == null) {
+            return null;
         }
-        int secondDigit = 11 - (sum % 11);
-        if (secondDigit > 9) secondDigit = 0;
-        if (secondDigit != (cpf.charAt(10) - '0')) {
-            return false;
+        long chave = chave(cpf);
+        if (chave != CHAVE_INVALIDA) {
+            return formatar(chave);
+        }
+        StringBuilder digitos = new StringBuilder(cpf.length());
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digitos.append(c);
+            }
         }
+        return digitos.toString();
+    }
 
-        return true;
+    /**
+     * Formata a chave como 000.000.000-00
+     * @param chave Chave do CPF
+     * @return CPF formatado
+     */
+    public static String formatar(long chave) {
+        char[] texto = new char[14];
+        long restante = chave;
+        for (int posicao = 13; posicao >= 0; posicao--) {
+            if (posicao == 11) {
+                texto[posicao] = '-';
+            } else if (posicao == 3 || posicao == 7) {
+                texto[posicao] = '.';
+            } else {
+                texto[posicao] = (char) ('0' + restante % 10);
+                restante /= 10;
+            }
+        }
+        return new String(texto);
     }
 
-    public static String format(String cpf) {
-        if (cpf == null) return null;
-        cpf = cpf.replaceAll("[^0-9]", "");
-        if (cpf.length() != 11) return cpf;
-        return cpf.substring(0, 3) + "." + cpf.substring(3, 6) + "." + cpf.substring(6, 9) + "-" + cpf.substring(9);
+    private static int digitoVerificador(int soma) {
+        int digito = 11 - soma % 11;
+        return digito > 9 ? 0 : digito;
     }
-}
\ No newline at end of file
+}
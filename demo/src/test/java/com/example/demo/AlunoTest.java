@@ -254,6 +254,23 @@ public class AlunoTest {
         System.out.println("=== TESTE CONCLUÍDO ===\n");
     }
 
+    @Test
+    public void testBuscarPorChaveDoCpf() {
+        System.out.println("=== TESTE: Buscar por Chave do CPF ===");
+        
+        // A chave é calculada ao salvar, independente da formatação do CPF
+        Aluno salvo = alunoRepository.save(new Aluno("Chave CPF", "529.982.247-25"));
+        
+        // Validações
+        assertEquals(52998224725L, salvo.getCpfChave(), "Deve calcular a chave numérica ao salvar");
+        assertTrue(alunoRepository.existeCpfChave(52998224725L, null));
+        assertFalse(alunoRepository.existeCpfChave(52998224725L, salvo.getIdAluno()),
+            "O próprio aluno não conta como duplicado");
+        
+        System.out.println("✅ Busca por chave do CPF funcionando corretamente");
+        System.out.println("=== TESTE CONCLUÍDO ===\n");
+    }
+
     @Test
     public void testCpfUnico() {
         System.out.println("=== TESTE: CPF Único (Constraint) ===");
@@ -2,17 +2,22 @@ package com.example.demo;
 
 import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Frequencia;
+import com.example.demo.paginacao.OrdenacaoKeyset;
 import com.example.demo.repository.AlunoRepository;
 import com.example.demo.repository.FrequenciaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Window;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -445,4 +450,49 @@ public class FrequenciaTest {
         System.out.println("✅ Frequência deletada com sucesso");
         System.out.println("=== TESTE CONCLUÍDO ===\n");
     }
+
+    @Test
+    public void testPaginarFrequenciasPorCursor() {
+        System.out.println("=== TESTE: Paginação de Frequências por Cursor ===");
+        
+        // Vários registros na mesma data (de alunos diferentes) para exercitar o desempate pelo ID
+        LocalDate base = LocalDate.of(2030, 1, 1);
+        List<Aluno> alunos = List.of(alunoTeste,
+            alunoRepository.save(new Aluno("Ana Cursor", "404.505.606-70", LocalDate.now())),
+            alunoRepository.save(new Aluno("Bruno Cursor", "707.808.909-10", LocalDate.now())));
+        Set<Long> idsCriados = new HashSet<>();
+        for (int i = 0; i < 7; i++) {
+            Frequencia frequencia = frequenciaRepository.save(new Frequencia(alunos.get(i / 3), base.plusDays(i % 3), true));
+            idsCriados.add(frequencia.getIdFrequencia());
+        }
+        
+        // Percorrer todas as páginas em ordem crescente
+        OrdenacaoKeyset ordenacao = new OrdenacaoKeyset("data", "idFrequencia");
+        List<Frequencia> percorridas = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            Window<Frequencia> pagina = frequenciaRepository.findBy(
+                ordenacao.posicao(cursor), ordenacao.ordenacao("asc"), OrdenacaoKeyset.limite(3));
+            percorridas.addAll(pagina.getContent());
+            cursor = ordenacao.proximoCursor(pagina);
+            paginas++;
+        } while (cursor != null);
+        
+        // Validações
+        List<Long> idsPercorridos = percorridas.stream().map(Frequencia::getIdFrequencia).toList();
+        assertEquals(idsPercorridos.size(), new HashSet<>(idsPercorridos).size(), "Nenhum registro deve se repetir entre páginas");
+        assertTrue(idsPercorridos.containsAll(idsCriados), "Todos os registros devem ser percorridos");
+        assertTrue(paginas >= 3, "Os registros devem ser divididos em páginas");
+        for (int i = 1; i < percorridas.size(); i++) {
+            Frequencia anterior = percorridas.get(i - 1);
+            Frequencia atual = percorridas.get(i);
+            int comparacao = anterior.getData().compareTo(atual.getData());
+            assertTrue(comparacao < 0 || (comparacao == 0 && anterior.getIdFrequencia() < atual.getIdFrequencia()),
+                "A ordem por data e ID deve ser estável");
+        }
+        
+        System.out.println("✅ " + percorridas.size() + " frequências percorridas em " + paginas + " páginas");
+        System.out.println("=== TESTE CONCLUÍDO ===\n");
+    }
 }
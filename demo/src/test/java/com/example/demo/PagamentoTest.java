@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -15,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.dto.PagamentoResponseDTO;
 import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Matricula;
 import com.example.demo.entity.Pagamento;
@@ -473,4 +475,32 @@ public class PagamentoTest {
         System.out.println("✅ Pagamento deletado com sucesso");
         System.out.println("=== TESTE CONCLUÍDO ===\n");
     }
+
+    @Test
+    public void testExportarPagamentosPorPeriodo() {
+        System.out.println("=== TESTE: Exportar Pagamentos por Período ===");
+        
+        // Pagamentos dentro e fora do período
+        LocalDate base = LocalDate.of(2031, 3, 1);
+        pagamentoRepository.save(new Pagamento(matriculaTeste, base.plusDays(2), new BigDecimal("30.00"), "PIX"));
+        pagamentoRepository.save(new Pagamento(matriculaTeste, base, new BigDecimal("10.00"), "DINHEIRO"));
+        pagamentoRepository.save(new Pagamento(matriculaTeste, base.plusDays(1), new BigDecimal("20.00"), "CARTAO"));
+        pagamentoRepository.save(new Pagamento(matriculaTeste, base.plusMonths(2), new BigDecimal("99.90"), "PIX"));
+        
+        // Ler pelo stream de exportação
+        List<PagamentoResponseDTO> exportados;
+        try (Stream<PagamentoResponseDTO> stream = pagamentoRepository.exportarPorPeriodo(base, base.plusDays(10))) {
+            exportados = stream.toList();
+        }
+        
+        // Validações
+        assertEquals(3, exportados.size(), "Apenas os pagamentos do período devem ser exportados");
+        assertEquals(base, exportados.get(0).getDataPagamento(), "A exportação deve seguir a ordem das datas");
+        assertEquals(new BigDecimal("30.00"), exportados.get(2).getValorPago());
+        assertEquals("João Pagamento", exportados.get(0).getNomeAluno());
+        assertEquals("Plano Mensal", exportados.get(0).getNomePlano());
+        
+        System.out.println("✅ " + exportados.size() + " pagamentos exportados");
+        System.out.println("=== TESTE CONCLUÍDO ===\n");
+    }
 }
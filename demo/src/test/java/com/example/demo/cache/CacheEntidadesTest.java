@@ -0,0 +1,123 @@
+package com.example.demo.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.dto.EstatisticasCacheDTO;
+import com.example.demo.entity.Plano;
+import com.example.demo.repository.PlanoRepository;
+import com.example.demo.repository.ResumoDiarioRepository;
+import com.example.demo.service.PlanoService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Testes de integração do cache de segundo nível das entidades de referência
+ * Sem @Transactional: o Hibernate só coloca no cache entidades cuja inserção já foi confirmada,
+ * então os dados são gravados em transações próprias e removidos ao final
+ */
+@SpringBootTest
+public class CacheEntidadesTest {
+
+    private static final LocalDate DIA_TESTE = LocalDate.of(1900, 1, 1);
+
+    @Autowired
+    private CacheEntidades cacheEntidades;
+
+    @Autowired
+    private PlanoService planoService;
+
+    @Autowired
+    private PlanoRepository planoRepository;
+
+    @Autowired
+    private ResumoDiarioRepository resumoDiarioRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Plano plano;
+
+    @BeforeEach
+    void setUp() {
+        plano = planoRepository.save(new Plano("Plano Cache", "Plano do teste", new BigDecimal("60.00"), 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        planoRepository.deleteById(plano.getIdPlanoAssinatura());
+    }
+
+    @Test
+    public void buscarPlanoPorId_DeveSerServidoPeloCache() {
+        System.out.println("=== TESTE: Cache de segundo nível de planos ===");
+
+        planoService.buscarPlanoPorId(plano.getIdPlanoAssinatura());
+        long acertosAntes = regiao("plano").getAcertos();
+
+        Plano lido = planoService.buscarPlanoPorId(plano.getIdPlanoAssinatura());
+
+        assertEquals("Plano Cache", lido.getNome());
+        assertEquals(acertosAntes + 1, regiao("plano").getAcertos());
+
+        System.out.println("✅ Plano lido do cache");
+    }
+
+    @Test
+    public void atualizarPlano_DeveRefletirNoCache() {
+        System.out.println("=== TESTE: Escrita atualiza o cache ===");
+
+        planoService.buscarPlanoPorId(plano.getIdPlanoAssinatura());
+        Plano alterado = new Plano("Plano Cache Alterado", "Plano do teste", new BigDecimal("65.00"), 1);
+        alterado.setStatus("ATIVO");
+        planoService.atualizarPlano(plano.getIdPlanoAssinatura(), alterado);
+
+        assertEquals("Plano Cache Alterado", planoService.buscarPlanoPorId(plano.getIdPlanoAssinatura()).getNome());
+        assertTrue(planoService.listarTodosPlanos().stream()
+            .anyMatch(p -> p.getNome().equals("Plano Cache Alterado")));
+
+        System.out.println("✅ Cache atualizado pela escrita");
+    }
+
+    @Test
+    public void acumularResumo_NaoDeveEsvaziarCacheDeEntidades() {
+        System.out.println("=== TESTE: Comando nativo preserva o cache ===");
+
+        planoService.buscarPlanoPorId(plano.getIdPlanoAssinatura());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            resumoDiarioRepository.acumular(DIA_TESTE, 1, 0, 0);
+            resumoDiarioRepository.removerPeriodo(DIA_TESTE, DIA_TESTE);
+        });
+
+        assertTrue(entityManagerFactory.getCache().contains(Plano.class, plano.getIdPlanoAssinatura()));
+
+        System.out.println("✅ Cache preservado após o comando nativo");
+    }
+
+    @Test
+    public void estatisticas_DeveListarTodasAsRegioes() {
+        assertEquals(CacheEntidades.REGIOES,
+            cacheEntidades.estatisticas().stream().map(EstatisticasCacheDTO::getNome).toList());
+        assertEquals(1000, regiao("plano").getCapacidade());
+    }
+
+    private EstatisticasCacheDTO regiao(String nome) {
+        return cacheEntidades.estatisticas().stream()
+            .filter(estatistica -> estatistica.getNome().equals(nome))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.cache;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Testes unitários do CompressaoGzipFilter
+ */
+public class CompressaoGzipFilterTest {
+
+    private final CompressaoGzipFilter filter = new CompressaoGzipFilter();
+
+    @Test
+    void doFilter_ComEtagGzipDeveCompactarCorpoGrande() throws Exception {
+        byte[] corpo = "[{\"nome\":\"Aluno\"}]".repeat(200).getBytes(StandardCharsets.UTF_8);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(requisicaoComGzip(), response, (req, resp) -> {
+            ((HttpServletResponse) resp).setHeader(HttpHeaders.ETAG, "\"abc-1-gzip\"");
+            resp.setContentLength(corpo.length);
+            resp.getOutputStream().write(corpo);
+        });
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertNull(response.getHeader(HttpHeaders.CONTENT_LENGTH));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertArrayEquals(corpo, gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void doFilter_ComCorpoPequenoNaoDeveCompactar() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(requisicaoComGzip(), response, (req, resp) -> {
+            ((HttpServletResponse) resp).setHeader(HttpHeaders.ETAG, "\"abc-1-gzip\"");
+            resp.getWriter().write("[]");
+        });
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(2, response.getContentLength());
+        assertEquals("[]", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_SemEtagGzipNaoDeveCompactar() throws Exception {
+        byte[] corpo = new byte[CompressaoGzipFilter.TAMANHO_MINIMO * 2];
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(requisicaoComGzip(), response, (req, resp) -> resp.getOutputStream().write(corpo));
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(corpo, response.getContentAsByteArray());
+    }
+
+    @Test
+    void doFilter_AssincronoNaoDeveCompactar() throws Exception {
+        byte[] corpo = new byte[CompressaoGzipFilter.TAMANHO_MINIMO * 2];
+        MockHttpServletRequest request = requisicaoComGzip();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, resp) -> {
+            ((HttpServletResponse) resp).setHeader(HttpHeaders.ETAG, "\"abc-1-gzip\"");
+            req.startAsync(req, resp);
+            resp.getOutputStream().write(corpo);
+        });
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(corpo, response.getContentAsByteArray());
+    }
+
+    private MockHttpServletRequest requisicaoComGzip() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/alunos");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        return request;
+    }
+}
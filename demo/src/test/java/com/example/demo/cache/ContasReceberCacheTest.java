@@ -0,0 +1,121 @@
+package com.example.demo.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.dto.ContaReceberDTO;
+import com.example.demo.enums.MatriculaStatus;
+
+/**
+ * Testes unitários do ContasReceberCache
+ */
+public class ContasReceberCacheTest {
+
+    private ContasReceberCache cache;
+    private AtomicInteger carregamentos;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ContasReceberCache();
+        carregamentos = new AtomicInteger();
+    }
+
+    @Test
+    void obter_QuandoInstantaneoValido_DeveReutilizar() {
+        ContasReceberCache.Instantaneo primeiro = cache.obter(this::carregar);
+        ContasReceberCache.Instantaneo segundo = cache.obter(this::carregar);
+
+        assertSame(primeiro, segundo);
+        assertEquals(1, carregamentos.get());
+        assertEquals(1, cache.estatisticas().getAcertos());
+        assertEquals(2, cache.estatisticas().getTamanho());
+        assertEquals(0, new BigDecimal("30.00").compareTo(primeiro.porMatricula().get(2L).getSaldoDevedor()));
+    }
+
+    @Test
+    void invalidar_DeveRemontarNaProximaConsulta() {
+        cache.obter(this::carregar);
+        cache.invalidar();
+        cache.obter(this::carregar);
+
+        assertEquals(2, carregamentos.get());
+        assertEquals(1, cache.estatisticas().getInvalidacoes());
+    }
+
+    @Test
+    void obter_QuandoInvalidadoDuranteMontagem_NaoDeveArmazenar() {
+        cache.obter(() -> {
+            cache.invalidar();
+            return carregar();
+        });
+        cache.obter(this::carregar);
+
+        assertEquals(2, carregamentos.get());
+        assertEquals(0, cache.estatisticas().getAcertos());
+    }
+
+    @Test
+    void obterAtual_NaoDeveMontarInstantaneo() {
+        assertNull(cache.obterAtual());
+        assertEquals(0, carregamentos.get());
+
+        ContasReceberCache.Instantaneo montado = cache.obter(this::carregar);
+        assertSame(montado, cache.obterAtual());
+
+        cache.invalidar();
+        assertNull(cache.obterAtual());
+        assertEquals(1, carregamentos.get());
+    }
+
+    @Test
+    void obter_SimultaneosDevemMontarUmaSoVez() throws Exception {
+        CountDownLatch montando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CompletableFuture<ContasReceberCache.Instantaneo> primeiro = CompletableFuture.supplyAsync(() ->
+            cache.obter(() -> {
+                montando.countDown();
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return carregar();
+            }));
+        montando.await();
+
+        AtomicReference<Thread> threadSegundo = new AtomicReference<>();
+        CompletableFuture<ContasReceberCache.Instantaneo> segundo = CompletableFuture.supplyAsync(() -> {
+            threadSegundo.set(Thread.currentThread());
+            return cache.obter(this::carregar);
+        });
+        // Só libera a primeira montagem quando a segunda consulta já está esperando por ela
+        while (threadSegundo.get() == null || threadSegundo.get().getState() != Thread.State.BLOCKED) {
+            Thread.onSpinWait();
+        }
+        liberar.countDown();
+
+        assertSame(primeiro.get(), segundo.get());
+        assertEquals(1, carregamentos.get());
+    }
+
+    private List<ContaReceberDTO> carregar() {
+        carregamentos.incrementAndGet();
+        LocalDate hoje = LocalDate.now();
+        BigDecimal valor = new BigDecimal("50.00");
+        return List.of(
+            new ContaReceberDTO(1L, 1L, "Aluno 1", "Plano", hoje, hoje.plusMonths(1), MatriculaStatus.ATIVA, valor, valor),
+            new ContaReceberDTO(2L, 2L, "Aluno 2", "Plano", hoje, hoje.plusMonths(1), MatriculaStatus.ATIVA, valor, new BigDecimal("20.00"))
+        );
+    }
+}
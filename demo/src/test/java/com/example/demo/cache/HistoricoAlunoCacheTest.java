@@ -0,0 +1,127 @@
+package com.example.demo.cache;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.config.HistoricoProperties;
+import com.example.demo.dto.EstatisticasCacheDTO;
+import com.example.demo.dto.HistoricoAlunoDTO;
+
+/**
+ * Testes unitários do HistoricoAlunoCache
+ */
+public class HistoricoAlunoCacheTest {
+
+    private HistoricoProperties historicoProperties;
+    private HistoricoAlunoCache cache;
+    private AtomicInteger carregamentos;
+
+    @BeforeEach
+    void setUp() {
+        historicoProperties = new HistoricoProperties();
+        historicoProperties.getCache().setCapacidade(2);
+        cache = new HistoricoAlunoCache(historicoProperties);
+        carregamentos = new AtomicInteger();
+    }
+
+    @Test
+    void obter_QuandoHistoricoJaMontado_DeveRetornarDoCache() {
+        HistoricoAlunoDTO primeiro = cache.obter(1L, null, null, () -> carregar(1L));
+        HistoricoAlunoDTO segundo = cache.obter(1L, null, null, () -> carregar(1L));
+
+        assertSame(primeiro, segundo);
+        assertEquals(1, carregamentos.get());
+
+        EstatisticasCacheDTO estatisticas = cache.estatisticas();
+        assertEquals(1, estatisticas.getAcertos());
+        assertEquals(1, estatisticas.getFalhas());
+        assertEquals(50.0, estatisticas.getTaxaAcerto());
+    }
+
+    @Test
+    void obter_QuandoPeriodosDiferentes_DeveArmazenarSeparadamente() {
+        LocalDate hoje = LocalDate.now();
+
+        cache.obter(1L, null, null, () -> carregar(1L));
+        cache.obter(1L, hoje.minusMonths(1), hoje, () -> carregar(1L));
+        cache.obter(1L, hoje.minusMonths(1), hoje, () -> carregar(1L));
+
+        assertEquals(2, carregamentos.get());
+    }
+
+    @Test
+    void invalidar_QuandoDadosDoAlunoMudam_DeveRemontarApenasEsseAluno() {
+        cache.obter(1L, null, null, () -> carregar(1L));
+        cache.obter(2L, null, null, () -> carregar(2L));
+
+        cache.invalidar(1L);
+
+        cache.obter(1L, null, null, () -> carregar(1L));
+        cache.obter(2L, null, null, () -> carregar(2L));
+
+        assertEquals(3, carregamentos.get());
+        assertEquals(1, cache.estatisticas().getInvalidacoes());
+    }
+
+    @Test
+    void invalidarTodos_DeveRemontarTodosOsAlunos() {
+        cache.obter(1L, null, null, () -> carregar(1L));
+        cache.obter(2L, null, null, () -> carregar(2L));
+
+        cache.invalidarTodos();
+
+        cache.obter(1L, null, null, () -> carregar(1L));
+        cache.obter(2L, null, null, () -> carregar(2L));
+
+        assertEquals(4, carregamentos.get());
+    }
+
+    @Test
+    void obter_QuandoAlunoInvalidadoDuranteMontagem_NaoDeveArmazenar() {
+        // O histórico montado antes da invalidação pode conter dados antigos
+        cache.obter(1L, null, null, () -> {
+            HistoricoAlunoDTO historico = carregar(1L);
+            cache.invalidar(1L);
+            return historico;
+        });
+        cache.obter(1L, null, null, () -> carregar(1L));
+
+        assertEquals(2, carregamentos.get());
+        assertEquals(0, cache.estatisticas().getAcertos());
+    }
+
+    @Test
+    void obter_QuandoCapacidadeExcedida_DeveRemoverMenosRecente() {
+        cache.obter(1L, null, null, () -> carregar(1L));
+        cache.obter(2L, null, null, () -> carregar(2L));
+        cache.obter(1L, null, null, () -> carregar(1L)); // 1 passa a ser o mais recente
+        cache.obter(3L, null, null, () -> carregar(3L)); // remove o 2
+
+        cache.obter(1L, null, null, () -> carregar(1L));
+        cache.obter(2L, null, null, () -> carregar(2L));
+
+        assertEquals(4, carregamentos.get());
+        assertEquals(2, cache.estatisticas().getTamanho());
+        assertEquals(2, cache.estatisticas().getRemocoes());
+    }
+
+    @Test
+    void obter_QuandoCacheDesabilitado_DeveSempreMontar() {
+        historicoProperties.getCache().setHabilitado(false);
+
+        cache.obter(1L, null, null, () -> carregar(1L));
+        cache.obter(1L, null, null, () -> carregar(1L));
+
+        assertEquals(2, carregamentos.get());
+    }
+
+    private HistoricoAlunoDTO carregar(Long idAluno) {
+        carregamentos.incrementAndGet();
+        return new HistoricoAlunoDTO(idAluno, "Aluno " + idAluno, "000.000.000-00", LocalDate.now());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Testes unitários do VersoesTabelas
+ */
+public class VersoesTabelasTest {
+
+    private VersoesTabelas versoesTabelas;
+
+    @BeforeEach
+    void setUp() {
+        versoesTabelas = new VersoesTabelas();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(versoesTabelas);
+    }
+
+    @Test
+    void tabelaAlterada_DeveReconhecerEscritas() {
+        assertEquals("alunos", VersoesTabelas.tabelaAlterada("insert into alunos (cpf,nome) values (?,?)"));
+        assertEquals("matriculas", VersoesTabelas.tabelaAlterada("UPDATE matriculas SET status=? WHERE id_matricula=?"));
+        assertEquals("resumo_diario", VersoesTabelas.tabelaAlterada("  delete from resumo_diario where data=?"));
+        assertNull(VersoesTabelas.tabelaAlterada("select a1_0.nome from alunos a1_0 where a1_0.id_aluno=?"));
+    }
+
+    @Test
+    void registrarEscrita_SemTransacaoDeveMudarEtagNaHora() {
+        String etag = versoesTabelas.etag("planos_treino", "alunos");
+
+        versoesTabelas.registrarEscrita("PlanosTreino");
+
+        assertNotEquals(etag, versoesTabelas.etag("planos_treino", "alunos"));
+        assertEquals(1, versoesTabelas.versao("planos_treino"));
+        assertEquals(0, versoesTabelas.versao("alunos"));
+    }
+
+    @Test
+    void registrarEscrita_EmTransacaoSoDeveMudarAposCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        versoesTabelas.registrarEscrita("alunos");
+        versoesTabelas.registrarEscrita("alunos");
+
+        assertEquals(0, versoesTabelas.versao("alunos"));
+
+        concluir(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(1, versoesTabelas.versao("alunos"));
+    }
+
+    @Test
+    void registrarEscrita_EmTransacaoDesfeitaNaoDeveMudar() {
+        TransactionSynchronizationManager.initSynchronization();
+        versoesTabelas.registrarEscrita("alunos");
+
+        concluir(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(0, versoesTabelas.versao("alunos"));
+    }
+
+    private void concluir(int status) {
+        for (TransactionSynchronization sincronizacao : TransactionSynchronizationManager.getSynchronizations()) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                sincronizacao.afterCommit();
+            }
+            sincronizacao.afterCompletion(status);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
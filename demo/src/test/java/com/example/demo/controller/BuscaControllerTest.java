@@ -0,0 +1,54 @@
+package com.example.demo.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.demo.dto.ResultadoBuscaDTO;
+import com.example.demo.enums.TipoDocumentoBusca;
+import com.example.demo.exception.ValidacaoException;
+import com.example.demo.service.BuscaService;
+
+/**
+ * Testes para BuscaController
+ */
+@WebMvcTest(BuscaController.class)
+public class BuscaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BuscaService buscaService;
+
+    @Test
+    void buscar_DeveRetornarResultadosTipados() throws Exception {
+        ResultadoBuscaDTO item = new ResultadoBuscaDTO(TipoDocumentoBusca.ITEM_TREINO, 100L, 10L,
+            "Item #100 do plano de treino #10", "Aluno relatou lesão no joelho", 2.5);
+        when(buscaService.buscar("lesão no joelho", null, null)).thenReturn(List.of(item));
+
+        mockMvc.perform(get("/api/busca").param("q", "lesão no joelho"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].tipo").value("ITEM_TREINO"))
+                .andExpect(jsonPath("$[0].id").value(100))
+                .andExpect(jsonPath("$[0].idRelacionado").value(10))
+                .andExpect(jsonPath("$[0].trecho").value("Aluno relatou lesão no joelho"));
+    }
+
+    @Test
+    void buscar_ComTipoInvalido_DeveRetornarBadRequest() throws Exception {
+        when(buscaService.buscar("joelho", "ALUNO", null))
+            .thenThrow(new ValidacaoException("Tipo de busca inválido: ALUNO"));
+
+        mockMvc.perform(get("/api/busca").param("q", "joelho").param("tipo", "ALUNO"))
+                .andExpect(status().isBadRequest());
+    }
+}
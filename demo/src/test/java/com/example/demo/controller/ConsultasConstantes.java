@@ -0,0 +1,30 @@
+package com.example.demo.controller;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Executa o teste uma vez para cada volume de dados e falha se o número de comandos SQL do corpo
+ * do teste crescer com o volume (ex.: N+1 ao converter uma lista de entidades em DTOs)
+ *
+ * O volume é recebido como parâmetro int pelos métodos @BeforeEach e pelo próprio teste. Os dados
+ * devem ser criados no @BeforeEach, porque só o corpo do teste é contado. Os comandos são contados
+ * pelo proxy do DataSource, então a classe precisa do contexto completo (@SpringBootTest com
+ * @AutoConfigureMockMvc), não de um @WebMvcTest com services mockados.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@TestTemplate
+@ExtendWith(ConsultasConstantesExtension.class)
+public @interface ConsultasConstantes {
+
+    /**
+     * Volumes de dados em que o teste é executado; o primeiro é comparado com o último
+     */
+    int[] volumes() default {1, 10};
+}
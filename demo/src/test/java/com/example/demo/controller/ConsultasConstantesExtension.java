@@ -0,0 +1,129 @@
+package com.example.demo.controller;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.example.demo.metricas.ContadorConsultas;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Extensão por trás de {@link ConsultasConstantes}
+ *
+ * Antes do corpo do teste esvazia o cache de segundo nível (senão um N+1 sobre entidades em cache,
+ * como Aluno e Instrutor, passaria despercebido) e abre uma contagem no ContadorConsultas; a contagem
+ * da requisição feita pelo MockMvc é somada a ela. A comparação entre os volumes é feita na última execução.
+ */
+class ConsultasConstantesExtension implements TestTemplateInvocationContextProvider {
+
+    @Override
+    public boolean supportsTestTemplate(ExtensionContext context) {
+        return AnnotationSupport.isAnnotated(context.getTestMethod(), ConsultasConstantes.class);
+    }
+
+    @Override
+    public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+        int[] volumes = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), ConsultasConstantes.class)
+            .orElseThrow()
+            .volumes();
+        ContadorConsultas.Contagem[] contagens = new ContadorConsultas.Contagem[volumes.length];
+        return Stream.iterate(0, i -> i < volumes.length, i -> i + 1)
+            .map(i -> new Execucao(volumes, i, contagens));
+    }
+
+    private static final class Execucao implements TestTemplateInvocationContext {
+
+        private final int[] volumes;
+        private final int indice;
+        private final ContadorConsultas.Contagem[] contagens;
+
+        private Execucao(int[] volumes, int indice, ContadorConsultas.Contagem[] contagens) {
+            this.volumes = volumes;
+            this.indice = indice;
+            this.contagens = contagens;
+        }
+
+        @Override
+        public String getDisplayName(int invocationIndex) {
+            return "volume = " + volumes[indice];
+        }
+
+        @Override
+        public List<Extension> getAdditionalExtensions() {
+            return List.of(new VolumeResolver(volumes[indice]), new Contagem(this));
+        }
+    }
+
+    private static final class VolumeResolver implements ParameterResolver {
+
+        private final int volume;
+
+        private VolumeResolver(int volume) {
+            this.volume = volume;
+        }
+
+        @Override
+        public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+            return parameterContext.getParameter().getType() == int.class;
+        }
+
+        @Override
+        public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+            return volume;
+        }
+    }
+
+    private static final class Contagem implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+        private final Execucao execucao;
+
+        private Contagem(Execucao execucao) {
+            this.execucao = execucao;
+        }
+
+        @Override
+        public void beforeTestExecution(ExtensionContext context) {
+            ApplicationContext aplicacao = SpringExtension.getApplicationContext(context);
+            aplicacao.getBean(EntityManagerFactory.class).getCache().evictAll();
+            aplicacao.getBean(ContadorConsultas.class).iniciar();
+        }
+
+        @Override
+        public void afterTestExecution(ExtensionContext context) {
+            ContadorConsultas.Contagem contagem =
+                SpringExtension.getApplicationContext(context).getBean(ContadorConsultas.class).encerrar();
+            if (context.getExecutionException().isPresent()) {
+                return;
+            }
+            ContadorConsultas.Contagem[] contagens = execucao.contagens;
+            contagens[execucao.indice] = contagem;
+            if (execucao.indice < contagens.length - 1 || contagens[0] == null) {
+                return;
+            }
+            int[] volumes = execucao.volumes;
+            ContadorConsultas.Contagem primeira = contagens[0];
+            if (contagem.total() > primeira.total()) {
+                Method metodo = context.getRequiredTestMethod();
+                throw new AssertionFailedError(String.format(
+                    "%s executou %d comandos SQL com volume %d e %d com volume %d; "
+                        + "o número de comandos não deve crescer com os dados. Comando mais repetido (%dx): %s",
+                    metodo.getName(), primeira.total(), volumes[0], contagem.total(), volumes[execucao.indice],
+                    contagem.repeticoes(), contagem.comandoMaisRepetido()));
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.demo.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.StringJoiner;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.demo.entity.Aluno;
+import com.example.demo.entity.Exercicio;
+import com.example.demo.entity.Frequencia;
+import com.example.demo.entity.Instrutor;
+import com.example.demo.entity.ItemTreino;
+import com.example.demo.entity.Matricula;
+import com.example.demo.entity.Pagamento;
+import com.example.demo.entity.Plano;
+import com.example.demo.entity.PlanoTreino;
+import com.example.demo.enums.MatriculaStatus;
+import com.example.demo.repository.AlunoRepository;
+import com.example.demo.repository.ExercicioRepository;
+import com.example.demo.repository.FrequenciaRepository;
+import com.example.demo.repository.InstrutorRepository;
+import com.example.demo.repository.ItemTreinoRepository;
+import com.example.demo.repository.MatriculaRepository;
+import com.example.demo.repository.PagamentoRepository;
+import com.example.demo.repository.PlanoRepository;
+import com.example.demo.repository.PlanoTreinoRepository;
+
+/**
+ * Verifica que as listagens da API não fazem N+1: o número de comandos SQL de cada endpoint
+ * não pode crescer com a quantidade de registros (ver {@link ConsultasConstantes})
+ *
+ * Banco H2 próprio, para que o schema criado por este contexto não afete os demais testes.
+ * Sem @Transactional: dentro da transação do teste as entidades já estariam no contexto de
+ * persistência e os carregamentos preguiçosos não iriam ao banco.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:consultas;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@AutoConfigureMockMvc
+public class ConsultasPorEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private InstrutorRepository instrutorRepository;
+
+    @Autowired
+    private PlanoRepository planoRepository;
+
+    @Autowired
+    private PlanoTreinoRepository planoTreinoRepository;
+
+    @Autowired
+    private ExercicioRepository exercicioRepository;
+
+    @Autowired
+    private ItemTreinoRepository itemTreinoRepository;
+
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+
+    @Autowired
+    private PagamentoRepository pagamentoRepository;
+
+    @Autowired
+    private FrequenciaRepository frequenciaRepository;
+
+    /** IDs dos alunos criados, no formato do parâmetro ids */
+    private String idsAlunos;
+
+    /**
+     * Cada aluno tem instrutor, plano, plano de treino (com um exercício), matrícula, pagamento e frequência próprios,
+     * para que cada linha das listagens aponte para entidades diferentes
+     */
+    @BeforeEach
+    void setUp(int volume) {
+        LocalDate hoje = LocalDate.now();
+        StringJoiner ids = new StringJoiner(",");
+        for (int i = 0; i < volume; i++) {
+            Aluno aluno = alunoRepository.save(new Aluno("Aluno " + i, String.format("%011d", i), hoje));
+            Instrutor instrutor = instrutorRepository.save(new Instrutor("Instrutor " + i, "Musculação"));
+            Plano plano = planoRepository.save(new Plano("Plano " + i, null, new BigDecimal("99.90"), 1));
+            PlanoTreino planoTreino = planoTreinoRepository.save(new PlanoTreino(aluno, instrutor, hoje, null, 8));
+            Exercicio exercicio = exercicioRepository.save(new Exercicio("Exercício " + i, "Peito"));
+            itemTreinoRepository.save(new ItemTreino(planoTreino, exercicio, 3, 12, new BigDecimal("20")));
+            Matricula matricula = matriculaRepository.save(
+                new Matricula(aluno, plano, hoje, hoje.plusMonths(1), MatriculaStatus.ATIVA));
+            pagamentoRepository.save(new Pagamento(matricula, hoje, plano.getValor(), "PIX"));
+            frequenciaRepository.save(new Frequencia(aluno, hoje, true));
+            ids.add(aluno.getIdAluno().toString());
+        }
+        idsAlunos = ids.toString();
+    }
+
+    @AfterEach
+    void tearDown() {
+        frequenciaRepository.deleteAll();
+        pagamentoRepository.deleteAll();
+        matriculaRepository.deleteAll();
+        itemTreinoRepository.deleteAll();
+        exercicioRepository.deleteAll();
+        planoTreinoRepository.deleteAll();
+        planoRepository.deleteAll();
+        instrutorRepository.deleteAll();
+        alunoRepository.deleteAll();
+    }
+
+    @ConsultasConstantes
+    void listarPlanosTreino(int volume) throws Exception {
+        mockMvc.perform(get("/api/planos-treino"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(volume));
+    }
+
+    @ConsultasConstantes
+    void listarItensTreino(int volume) throws Exception {
+        mockMvc.perform(get("/api/itens-treino"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(volume));
+    }
+
+    @ConsultasConstantes
+    void listarMatriculas(int volume) throws Exception {
+        mockMvc.perform(get("/api/matriculas"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(volume));
+    }
+
+    @ConsultasConstantes
+    void listarMatriculasPorAlunos(int volume) throws Exception {
+        mockMvc.perform(get("/api/matriculas/alunos").param("ids", idsAlunos))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(volume));
+    }
+
+    @ConsultasConstantes
+    void listarFrequenciasPorAlunos(int volume) throws Exception {
+        mockMvc.perform(get("/api/frequencias/alunos").param("ids", idsAlunos))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(volume));
+    }
+
+    @ConsultasConstantes
+    void listarPagamentos(int volume) throws Exception {
+        mockMvc.perform(get("/api/pagamentos"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(volume));
+    }
+
+    @ConsultasConstantes
+    void sincronizar(int volume) throws Exception {
+        mockMvc.perform(get("/api/sync"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.alterados.matriculas.length()").value(volume))
+            .andExpect(jsonPath("$.alterados.pagamentos.length()").value(volume))
+            .andExpect(jsonPath("$.alterados.itensTreino.length()").value(volume));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.controller;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.demo.dto.AtividadeRecenteDTO;
+import com.example.demo.dto.DashboardResumoDTO;
+import com.example.demo.service.DashboardService;
+
+/**
+ * Testes para DashboardController
+ */
+@WebMvcTest(DashboardController.class)
+public class DashboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private DashboardService dashboardService;
+
+    @Test
+    void buscarResumo_DeveRetornarIndicadoresEAtividades() throws Exception {
+        DashboardResumoDTO resumo = new DashboardResumoDTO();
+        resumo.setTotalAlunos(120);
+        resumo.setMatriculasAtivas(95);
+        resumo.setReceitaMes(new BigDecimal("9490.50"));
+        resumo.setTaxaPresenca(72.5);
+        resumo.setTotalExercicios(40);
+        resumo.setTotalPlanosTreino(80);
+        resumo.setUltimasMatriculas(List.of(
+            new AtividadeRecenteDTO(LocalDate.of(2025, 10, 1), "João Silva", "ATIVA", null)));
+        resumo.setUltimosPagamentos(List.of(
+            new AtividadeRecenteDTO(LocalDate.of(2025, 10, 2), "Maria Santos", "PIX", new BigDecimal("99.90"))));
+        resumo.setUltimosPlanosTreino(List.of());
+        when(dashboardService.gerarResumo()).thenReturn(resumo);
+
+        mockMvc.perform(get("/api/dashboard/resumo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalAlunos").value(120))
+                .andExpect(jsonPath("$.matriculasAtivas").value(95))
+                .andExpect(jsonPath("$.receitaMes").value(9490.50))
+                .andExpect(jsonPath("$.taxaPresenca").value(72.5))
+                .andExpect(jsonPath("$.ultimasMatriculas[0].nomeAluno").value("João Silva"))
+                .andExpect(jsonPath("$.ultimosPagamentos[0].data").value("2025-10-02"))
+                .andExpect(jsonPath("$.ultimosPagamentos[0].valor").value(99.90));
+
+        verify(dashboardService).gerarResumo();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.demo.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -11,16 +12,25 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.example.demo.dto.FrequenciaRequestDTO;
+import com.example.demo.dto.FrequenciaResponseDTO;
+import com.example.demo.dto.ResultadoFrequenciaLoteDTO;
 import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Frequencia;
 import com.example.demo.exception.FrequenciaException;
@@ -84,6 +94,49 @@ public class FrequenciaControllerTest {
         verify(frequenciaService).registrarPresenca(any(Frequencia.class));
     }
 
+    @Test
+    void registrarPresencasEmLote_DeveRetornarResultadoDeCadaEntrada() throws Exception {
+        List<FrequenciaRequestDTO> entradas = List.of(
+            new FrequenciaRequestDTO(1L, ontem, true),
+            new FrequenciaRequestDTO(2L, ontem, false));
+        when(frequenciaService.registrarPresencasEmLote(any())).thenReturn(List.of(
+            new ResultadoFrequenciaLoteDTO(0, 1L, ontem, true, null),
+            new ResultadoFrequenciaLoteDTO(1, 2L, ontem, false, "Aluno não possui matrícula ativa para registrar frequência")));
+
+        mockMvc.perform(post("/api/frequencias/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(entradas)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].registrada").value(true))
+                .andExpect(jsonPath("$[1].indice").value(1))
+                .andExpect(jsonPath("$[1].registrada").value(false))
+                .andExpect(jsonPath("$[1].mensagem").value("Aluno não possui matrícula ativa para registrar frequência"));
+    }
+
+    @Test
+    void registrarPresencasEmLote_QuandoVazio_DeveRetornarBadRequest() throws Exception {
+        when(frequenciaService.registrarPresencasEmLote(any()))
+            .thenThrow(new FrequenciaException.FrequenciaInvalidaException("O lote de frequências está vazio"));
+
+        mockMvc.perform(post("/api/frequencias/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void calcularSequencias_DeveRetornarSequenciaAtualEMaior() throws Exception {
+        when(alunoService.buscarPorId(1L)).thenReturn(aluno);
+        when(frequenciaService.calcularSequenciaAtual(aluno)).thenReturn(4);
+        when(frequenciaService.calcularMaiorSequencia(aluno)).thenReturn(12);
+
+        mockMvc.perform(get("/api/frequencias/aluno/1/sequencia"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nomeAluno").value("Maria Santos"))
+                .andExpect(jsonPath("$.sequenciaAtual").value(4))
+                .andExpect(jsonPath("$.maiorSequencia").value(12));
+    }
+
     @Test
     void registrarPresenca_QuandoAlunoNaoExiste_DeveRetornarInternalError() throws Exception {
         when(alunoService.buscarPorId(1L))
@@ -144,6 +197,71 @@ public class FrequenciaControllerTest {
         verify(frequenciaService).listarTodos();
     }
 
+    @Test
+    void listarFrequenciasPaginadas_QuandoHaMaisRegistros_DeveRetornarProximoCursor() throws Exception {
+        Window<Frequencia> pagina = Window.from(List.of(frequencia),
+            i -> ScrollPosition.forward(Map.of("data", ontem, "idFrequencia", 1L)), true);
+        when(frequenciaService.listarPagina(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+            .thenReturn(pagina);
+
+        mockMvc.perform(get("/api/frequencias").param("limite", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].idFrequencia").value(1))
+                .andExpect(jsonPath("$.proximoCursor").value(ontem + ",1"))
+                .andExpect(jsonPath("$.temMais").value(true));
+
+        verify(frequenciaService).listarPagina(
+            ScrollPosition.keyset(),
+            Sort.by(Sort.Direction.DESC, "data", "idFrequencia"),
+            Limit.of(1));
+    }
+
+    @Test
+    void listarFrequenciasPaginadas_QuandoCursorInvalido_DeveRetornarBadRequest() throws Exception {
+        mockMvc.perform(get("/api/frequencias").param("limite", "10").param("apos", "ontem"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void listarFrequenciasPaginadas_QuandoLimiteExcedeMaximo_DeveRetornarBadRequest() throws Exception {
+        mockMvc.perform(get("/api/frequencias").param("limite", "100000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportarPorPeriodo_EmCsv_DeveEscreverCabecalhoELinhas() throws Exception {
+        FrequenciaResponseDTO registro = new FrequenciaResponseDTO(1L, 1L, "Santos, Maria", "987.654.321-00", ontem, true);
+        doAnswer(invocacao -> {
+            Consumer<FrequenciaResponseDTO> consumidor = invocacao.getArgument(2);
+            consumidor.accept(registro);
+            return null;
+        }).when(frequenciaService).exportarPorPeriodo(eq(ontem), eq(hoje), any());
+
+        MvcResult resultado = mockMvc.perform(get("/api/frequencias/exportar")
+                .param("dataInicio", ontem.toString())
+                .param("dataFim", hoje.toString())
+                .param("formato", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(content().string(
+                    "idFrequencia,idAluno,nomeAluno,cpfAluno,data,presenca\r\n" +
+                    "1,1,\"Santos, Maria\",987.654.321-00," + ontem + ",true\r\n"));
+    }
+
+    @Test
+    void exportarPorPeriodo_QuandoFormatoInvalido_DeveRetornarBadRequest() throws Exception {
+        mockMvc.perform(get("/api/frequencias/exportar")
+                .param("dataInicio", ontem.toString())
+                .param("dataFim", hoje.toString())
+                .param("formato", "xlsx"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void buscarPorId_QuandoExiste_DeveRetornarOk() throws Exception {
         when(frequenciaService.buscarPorId(1L)).thenReturn(frequencia);
@@ -10,11 +10,17 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -195,4 +201,22 @@ public class ItemTreinoControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[0].exercicioNome").value("Supino Reto"));
     }
+
+    @Test
+    void listarItensPaginados_DeveUsarIdComoCursor() throws Exception {
+        Window<ItemTreino> pagina = Window.from(List.of(itemTreino),
+            i -> ScrollPosition.forward(Map.of("idItemTreino", 1L)), true);
+        when(itemTreinoService.listarPagina(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+            .thenReturn(pagina);
+
+        mockMvc.perform(get("/api/itens-treino").param("limite", "1").param("apos", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].exercicioNome").value("Supino Reto"))
+                .andExpect(jsonPath("$.proximoCursor").value("1"));
+
+        verify(itemTreinoService).listarPagina(
+            ScrollPosition.forward(Map.of("idItemTreino", 2L)),
+            Sort.by(Sort.Direction.DESC, "idItemTreino"),
+            Limit.of(1));
+    }
 }
@@ -10,24 +10,36 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.example.demo.dto.ContaReceberDTO;
 import com.example.demo.dto.MatriculaRequestDTO;
+import com.example.demo.dto.PaginaDTO;
+import com.example.demo.dto.ResultadoTransicaoDTO;
+import com.example.demo.dto.TransicaoMatriculasRequestDTO;
 import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Matricula;
 import com.example.demo.entity.Plano;
 import com.example.demo.enums.MatriculaStatus;
 import com.example.demo.exception.MatriculaException;
 import com.example.demo.service.AlunoService;
+import com.example.demo.service.ContasReceberService;
 import com.example.demo.service.MatriculaService;
 import com.example.demo.service.PlanoService;
+import com.example.demo.service.TransicaoMatriculaService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(MatriculaController.class)
@@ -45,6 +57,12 @@ public class MatriculaControllerTest {
     @MockitoBean
     private PlanoService planoService;
 
+    @MockitoBean
+    private ContasReceberService contasReceberService;
+
+    @MockitoBean
+    private TransicaoMatriculaService transicaoMatriculaService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -172,4 +190,82 @@ public class MatriculaControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(matricula.getIdMatricula()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void listarMatriculasPaginadas_DeveRetornarPagina() throws Exception {
+        Window<Matricula> pagina = Window.from(List.of(matricula),
+            i -> ScrollPosition.forward(Map.of("dataInicio", amanha, "idMatricula", 1L)), true);
+        when(matriculaService.listarPaginaMatriculas(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+            .thenReturn(pagina);
+
+        mockMvc.perform(get("/api/matriculas").param("limite", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].id").value(matricula.getIdMatricula()))
+                .andExpect(jsonPath("$.proximoCursor").value(amanha + ",1"));
+    }
+
+    @Test
+    void listarInadimplentes_DeveRetornarContasComSaldoDevedor() throws Exception {
+        ContaReceberDTO conta = new ContaReceberDTO(1L, 1L, "João Test", "Plano Test", amanha, mesQueVem,
+            MatriculaStatus.ATIVA, new BigDecimal("99.90"), new BigDecimal("50.00"));
+        when(contasReceberService.listarInadimplentes()).thenReturn(List.of(conta));
+
+        mockMvc.perform(get("/api/matriculas/inadimplentes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].idMatricula").value(1))
+                .andExpect(jsonPath("$[0].saldoDevedor").value(49.90))
+                .andExpect(jsonPath("$[0].emDia").value(false));
+    }
+
+    @Test
+    void listarContasReceber_DeveRepassarFiltrosECursor() throws Exception {
+        ContaReceberDTO conta = new ContaReceberDTO(2L, 1L, "João Test", "Plano Test", amanha, mesQueVem,
+            MatriculaStatus.ATIVA, new BigDecimal("99.90"), null);
+        when(contasReceberService.listarPagina(MatriculaStatus.ATIVA, false, "1", 1))
+            .thenReturn(new PaginaDTO<>(List.of(conta), "2"));
+
+        mockMvc.perform(get("/api/matriculas/contas-receber")
+                    .param("limite", "1")
+                    .param("apos", "1")
+                    .param("status", "ATIVA")
+                    .param("emDia", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].idMatricula").value(2))
+                .andExpect(jsonPath("$.itens[0].totalPago").value(0))
+                .andExpect(jsonPath("$.proximoCursor").value("2"));
+    }
+
+    @Test
+    void expirarMatriculas_DeveRetornarQuantidades() throws Exception {
+        when(transicaoMatriculaService.expirarVencidas(hoje))
+            .thenReturn(new ResultadoTransicaoDTO(MatriculaStatus.INATIVA, 3, 3, 1));
+
+        mockMvc.perform(post("/api/matriculas/expirar").param("dataReferencia", hoje.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.novoStatus").value("INATIVA"))
+                .andExpect(jsonPath("$.atualizadas").value(3));
+    }
+
+    @Test
+    void alterarStatusEmLote_DeveRetornarQuantidades() throws Exception {
+        when(transicaoMatriculaService.alterarStatus(List.of(1L, 2L), MatriculaStatus.CANCELADA))
+            .thenReturn(new ResultadoTransicaoDTO(MatriculaStatus.CANCELADA, 2, 1, 1));
+
+        mockMvc.perform(post("/api/matriculas/transicao")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(
+                        new TransicaoMatriculasRequestDTO(List.of(1L, 2L), MatriculaStatus.CANCELADA))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.encontradas").value(2))
+                .andExpect(jsonPath("$.atualizadas").value(1));
+    }
+
+    @Test
+    void alterarStatusEmLote_QuandoSemIds_DeveRetornarBadRequest() throws Exception {
+        mockMvc.perform(post("/api/matriculas/transicao")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(
+                        new TransicaoMatriculasRequestDTO(List.of(), MatriculaStatus.CANCELADA))))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.demo.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -12,16 +15,24 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.example.demo.dto.PagamentoRequestDTO;
+import com.example.demo.dto.PagamentoResponseDTO;
 import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Matricula;
 import com.example.demo.entity.Pagamento;
@@ -154,6 +165,73 @@ public class PagamentoControllerTest {
         verify(pagamentoService).listarTodos();
     }
 
+    @Test
+    void listarPagamentosPaginados_QuandoCursorInformado_DeveContinuarAposCursor() throws Exception {
+        Window<Pagamento> pagina = Window.from(List.of(pagamento),
+            i -> ScrollPosition.forward(Map.of("dataPagamento", ontem, "idPagamento", 1L)), false);
+        when(pagamentoService.listarPagina(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+            .thenReturn(pagina);
+
+        mockMvc.perform(get("/api/pagamentos")
+                .param("limite", "20")
+                .param("apos", "2025-01-10,5")
+                .param("ordem", "asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].idPagamento").value(1))
+                .andExpect(jsonPath("$.proximoCursor").doesNotExist())
+                .andExpect(jsonPath("$.temMais").value(false));
+
+        verify(pagamentoService).listarPagina(
+            ScrollPosition.forward(Map.of("dataPagamento", LocalDate.of(2025, 1, 10), "idPagamento", 5L)),
+            Sort.by(Sort.Direction.ASC, "dataPagamento", "idPagamento"),
+            Limit.of(20));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportarPorPeriodo_EmNdjson_DeveEscreverUmPagamentoPorLinha() throws Exception {
+        PagamentoResponseDTO primeiro = new PagamentoResponseDTO(1L, 1L, "João Silva", "Plano Mensal",
+            ontem, new BigDecimal("99.90"), "CARTAO");
+        PagamentoResponseDTO segundo = new PagamentoResponseDTO(2L, 1L, "João Silva", "Plano Mensal",
+            hoje, new BigDecimal("50.00"), "PIX");
+        doAnswer(invocacao -> {
+            Consumer<PagamentoResponseDTO> consumidor = invocacao.getArgument(2);
+            consumidor.accept(primeiro);
+            consumidor.accept(segundo);
+            return null;
+        }).when(pagamentoService).exportarPorPeriodo(eq(ontem), eq(hoje), any());
+
+        MvcResult resultado = mockMvc.perform(get("/api/pagamentos/exportar")
+                .param("dataInicio", ontem.toString())
+                .param("dataFim", hoje.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String corpo = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition",
+                    "attachment; filename=\"pagamentos_" + ontem + "_" + hoje + ".ndjson\""))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] linhas = corpo.split("\n");
+        assertEquals(2, linhas.length);
+        assertEquals(1L, objectMapper.readTree(linhas[0]).get("idPagamento").asLong());
+        assertEquals("PIX", objectMapper.readTree(linhas[1]).get("formaPagamento").asText());
+    }
+
+    @Test
+    void exportarPorPeriodo_QuandoPeriodoInvalido_DeveRetornarBadRequestSemIniciarStreaming() throws Exception {
+        doThrow(new PagamentoException.DataInvalidaException("Data inicial não pode ser posterior à data final"))
+            .when(pagamentoService).validarPeriodo(hoje, ontem);
+
+        mockMvc.perform(get("/api/pagamentos/exportar")
+                .param("dataInicio", hoje.toString())
+                .param("dataFim", ontem.toString()))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void buscarPorId_QuandoExiste_DeveRetornarOk() throws Exception {
         when(pagamentoService.buscarPorId(1L)).thenReturn(pagamento);
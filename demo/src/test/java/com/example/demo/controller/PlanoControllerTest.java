@@ -18,6 +18,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.example.demo.cache.VersoesTabelas;
 import com.example.demo.dto.PlanoRequestDTO;
 import com.example.demo.entity.Plano;
 import com.example.demo.exception.PlanoException;
@@ -36,6 +37,9 @@ public class PlanoControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private VersoesTabelas versoesTabelas;
+
     private Plano planoValido;
     private PlanoRequestDTO requestDTO;
 
@@ -79,6 +83,31 @@ public class PlanoControllerTest {
                 .andExpect(jsonPath("$[0].nome").value(planoValido.getNome()));
     }
 
+    @Test
+    void listarPlanos_ComEtagAtual_DeveRetornarNotModifiedSemConsultar() throws Exception {
+        String etag = mockMvc.perform(get("/api/planos"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/planos").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(planoService).listarTodosPlanos();
+    }
+
+    @Test
+    void listarPlanos_AposEscritaNaTabela_DeveRetornarNovoConteudo() throws Exception {
+        String etag = versoesTabelas.etag("planos");
+        versoesTabelas.registrarEscrita("Planos");
+        when(planoService.listarTodosPlanos()).thenReturn(Arrays.asList(planoValido));
+
+        mockMvc.perform(get("/api/planos").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", versoesTabelas.etag("planos")));
+    }
+
     @Test
     void buscarPorId_QuandoExiste_DeveRetornarPlano() throws Exception {
         when(planoService.buscarPlanoPorId(1L)).thenReturn(planoValido);
@@ -9,11 +9,17 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -166,6 +172,19 @@ public class PlanoTreinoControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1L));
     }
 
+    @Test
+    void listarPlanosPaginados_QuandoUltimaPagina_DeveRetornarSemCursor() throws Exception {
+        Window<PlanoTreino> pagina = Window.from(List.of(planoTreino),
+            i -> ScrollPosition.forward(Map.of("dataCriacao", LocalDate.now(), "idPlanoTreino", 1L)), false);
+        when(planoTreinoService.listarPagina(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+            .thenReturn(pagina);
+
+        mockMvc.perform(get("/api/planos-treino").param("limite", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].nomeAluno").value("João Silva"))
+                .andExpect(jsonPath("$.temMais").value(false));
+    }
+
     @Test
     void buscarPlanosRecentes_DeveRetornarLista() throws Exception {
         when(alunoService.buscarPorId(1L)).thenReturn(aluno);
@@ -0,0 +1,91 @@
+package com.example.demo.controller;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.demo.dto.ResumoDiarioDTO;
+import com.example.demo.exception.ValidacaoException;
+import com.example.demo.service.ResumoDiarioService;
+
+/**
+ * Testes para ResumoDiarioController
+ */
+@WebMvcTest(ResumoDiarioController.class)
+public class ResumoDiarioControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ResumoDiarioService resumoDiarioService;
+
+    @Test
+    void listarPorPeriodo_DeveRetornarTotaisDiarios() throws Exception {
+        LocalDate data = LocalDate.of(2025, 10, 1);
+        ResumoDiarioDTO dia = new ResumoDiarioDTO(data);
+        dia.setPresencas(40);
+        dia.setAusencias(5);
+        dia.setNovasMatriculas(2);
+        dia.setReceitaTotal(new BigDecimal("300.00"));
+        dia.getReceitaPorFormaPagamento().put("PIX", new BigDecimal("300.00"));
+        when(resumoDiarioService.listarPorPeriodo(data, data)).thenReturn(List.of(dia));
+
+        mockMvc.perform(get("/api/resumos")
+                .param("dataInicio", "2025-10-01")
+                .param("dataFim", "2025-10-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].data").value("2025-10-01"))
+                .andExpect(jsonPath("$[0].presencas").value(40))
+                .andExpect(jsonPath("$[0].novasMatriculas").value(2))
+                .andExpect(jsonPath("$[0].receitaPorFormaPagamento.PIX").value(300.00));
+    }
+
+    @Test
+    void listarPorPeriodo_ComPeriodoInvalido_DeveRetornarBadRequest() throws Exception {
+        LocalDate inicio = LocalDate.of(2025, 10, 2);
+        LocalDate fim = LocalDate.of(2025, 10, 1);
+        when(resumoDiarioService.listarPorPeriodo(inicio, fim))
+            .thenThrow(new ValidacaoException("Data inicial não pode ser posterior à data final"));
+
+        mockMvc.perform(get("/api/resumos")
+                .param("dataInicio", "2025-10-02")
+                .param("dataFim", "2025-10-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void reconstruir_SemDatas_DeveRecalcularTodoOHistorico() throws Exception {
+        when(resumoDiarioService.reconstruirTudo()).thenReturn(12);
+
+        mockMvc.perform(post("/api/resumos/reconstruir"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.diasReconstruidos").value(12));
+
+        verify(resumoDiarioService).reconstruirTudo();
+    }
+
+    @Test
+    void reconstruir_ComPeriodo_DeveRecalcularSomenteOPeriodo() throws Exception {
+        LocalDate inicio = LocalDate.of(2025, 9, 1);
+        LocalDate fim = LocalDate.of(2025, 9, 30);
+        when(resumoDiarioService.reconstruir(inicio, fim)).thenReturn(30);
+
+        mockMvc.perform(post("/api/resumos/reconstruir")
+                .param("dataInicio", "2025-09-01")
+                .param("dataFim", "2025-09-30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.diasReconstruidos").value(30));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.demo.index;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários do BitmapFrequencia
+ */
+public class BitmapFrequenciaTest {
+
+    @Test
+    void contar_DeveSomarRegistrosEPresencasDoPeriodo() {
+        BitmapFrequencia mapa = new BitmapFrequencia();
+        LocalDate inicio = LocalDate.of(2024, 12, 20);
+        for (int i = 0; i < 30; i++) {
+            mapa.marcar(inicio.plusDays(i), i % 3 != 0);
+        }
+
+        ContagemFrequencia total = mapa.contar(inicio, inicio.plusDays(29));
+        assertEquals(30, total.registros());
+        assertEquals(20, total.presencas());
+        assertEquals(10, total.ausencias());
+
+        // Período que atravessa a virada do ano e corta palavras no meio
+        ContagemFrequencia parcial = mapa.contar(LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 2));
+        assertEquals(4, parcial.registros());
+        assertEquals(30, mapa.contarTudo().registros());
+    }
+
+    @Test
+    void marcar_DeveSubstituirPresencaEDesmarcarDeveRemoverRegistro() {
+        BitmapFrequencia mapa = new BitmapFrequencia();
+        LocalDate dia = LocalDate.of(2025, 3, 10);
+
+        mapa.marcar(dia, true);
+        mapa.marcar(dia, false);
+        assertEquals(new ContagemFrequencia(1, 0), mapa.contar(dia, dia));
+
+        mapa.desmarcar(dia);
+        mapa.desmarcar(dia.plusYears(3));
+        assertEquals(new ContagemFrequencia(0, 0), mapa.contarTudo());
+    }
+
+    @Test
+    void contarPorMes_DeveOmitirMesesSemRegistro() {
+        BitmapFrequencia mapa = new BitmapFrequencia();
+        mapa.marcar(LocalDate.of(2025, 1, 31), true);
+        mapa.marcar(LocalDate.of(2025, 3, 1), false);
+        mapa.marcar(LocalDate.of(2025, 3, 2), true);
+
+        Map<YearMonth, ContagemFrequencia> porMes = mapa.contarPorMes(null, null);
+        assertEquals(2, porMes.size());
+        assertEquals(new ContagemFrequencia(1, 1), porMes.get(YearMonth.of(2025, 1)));
+        assertEquals(new ContagemFrequencia(2, 1), porMes.get(YearMonth.of(2025, 3)));
+
+        assertEquals(1, mapa.contarPorMes(LocalDate.of(2025, 3, 2), null).size());
+    }
+
+    @Test
+    void sequencias_DevemContarDiasConsecutivosComPresenca() {
+        BitmapFrequencia mapa = new BitmapFrequencia();
+        LocalDate hoje = LocalDate.of(2025, 3, 10);
+
+        // 100 dias seguidos até ontem, atravessando a virada do ano e várias palavras inteiras
+        for (int i = 1; i <= 100; i++) {
+            mapa.marcar(hoje.minusDays(i), true);
+        }
+        // Ausência interrompe a sequência
+        mapa.marcar(hoje.minusDays(101), false);
+        for (int i = 102; i < 110; i++) {
+            mapa.marcar(hoje.minusDays(i), true);
+        }
+
+        assertEquals(100, mapa.sequenciaAtual(hoje));
+        assertEquals(100, mapa.maiorSequencia());
+
+        mapa.marcar(hoje, true);
+        assertEquals(101, mapa.sequenciaAtual(hoje));
+        assertEquals(0, mapa.sequenciaAtual(hoje.plusDays(5)));
+    }
+
+    @Test
+    void maiorSequencia_DeveConsiderarAnoCompletoEAnosNaoConsecutivos() {
+        BitmapFrequencia mapa = new BitmapFrequencia();
+        for (LocalDate dia = LocalDate.of(2024, 1, 1); dia.getYear() == 2024; dia = dia.plusDays(1)) {
+            mapa.marcar(dia, true);
+        }
+        mapa.marcar(LocalDate.of(2025, 1, 1), true);
+        mapa.marcar(LocalDate.of(2025, 1, 2), true);
+        mapa.marcar(LocalDate.of(2027, 1, 1), true);
+
+        assertEquals(368, mapa.maiorSequencia());
+        assertEquals(1, mapa.sequenciaAtual(LocalDate.of(2027, 1, 2)));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.demo.index;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários do ConjuntoLong
+ */
+public class ConjuntoLongTest {
+
+    @Test
+    void adicionar_DeveIgnorarValoresRepetidos() {
+        ConjuntoLong conjunto = new ConjuntoLong();
+
+        assertTrue(conjunto.adicionar(42L));
+        assertFalse(conjunto.adicionar(42L));
+        assertTrue(conjunto.adicionar(0L));
+        assertFalse(conjunto.adicionar(0L));
+
+        assertEquals(2, conjunto.tamanho());
+        assertTrue(conjunto.contem(42L));
+        assertTrue(conjunto.contem(0L));
+        assertFalse(conjunto.contem(7L));
+    }
+
+    @Test
+    void remover_DeveManterOsDemaisValoresAcessiveis() {
+        ConjuntoLong conjunto = new ConjuntoLong();
+        for (long id = 1; id <= 1000; id++) {
+            conjunto.adicionar(id);
+        }
+
+        for (long id = 2; id <= 1000; id += 2) {
+            assertTrue(conjunto.remover(id));
+        }
+
+        assertEquals(500, conjunto.tamanho());
+        for (long id = 1; id <= 1000; id++) {
+            assertEquals(id % 2 == 1, conjunto.contem(id), "ID " + id);
+        }
+        assertFalse(conjunto.remover(2L));
+    }
+
+    @Test
+    void operacoesAleatorias_DevemSeComportarComoHashSet() {
+        ConjuntoLong conjunto = new ConjuntoLong();
+        Set<Long> referencia = new HashSet<>();
+        Random aleatorio = new Random(7);
+
+        for (int i = 0; i < 20_000; i++) {
+            long valor = aleatorio.nextInt(2_000);
+            if (aleatorio.nextBoolean()) {
+                assertEquals(referencia.add(valor), conjunto.adicionar(valor));
+            } else {
+                assertEquals(referencia.remove(valor), conjunto.remover(valor));
+            }
+        }
+
+        assertEquals(referencia.size(), conjunto.tamanho());
+        for (long valor = 0; valor < 2_000; valor++) {
+            assertEquals(referencia.contains(valor), conjunto.contem(valor));
+        }
+
+        conjunto.limpar();
+        assertEquals(0, conjunto.tamanho());
+    }
+}
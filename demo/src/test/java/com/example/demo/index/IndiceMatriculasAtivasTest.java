@@ -0,0 +1,100 @@
+package com.example.demo.index;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.enums.MatriculaStatus;
+import com.example.demo.repository.FrequenciaRepository;
+import com.example.demo.repository.MatriculaRepository;
+
+/**
+ * Testes unitários do IndiceMatriculasAtivas
+ * Fora de uma transação as atualizações são aplicadas na hora
+ */
+@ExtendWith(MockitoExtension.class)
+public class IndiceMatriculasAtivasTest {
+
+    @Mock
+    private MatriculaRepository matriculaRepository;
+
+    @Mock
+    private FrequenciaRepository frequenciaRepository;
+
+    @InjectMocks
+    private IndiceMatriculasAtivas indice;
+
+    private LocalDate hoje;
+
+    @BeforeEach
+    void setUp() {
+        hoje = LocalDate.now();
+        when(matriculaRepository.buscarMaiorDataFimDeTodos(MatriculaStatus.ATIVA)).thenReturn(List.of(
+            new Object[] {1L, hoje.plusMonths(1)},
+            new Object[] {2L, hoje.minusDays(1)}));
+        when(frequenciaRepository.buscarIdsAlunosPorData(hoje)).thenReturn(List.of(1L));
+        indice.reconstruir();
+    }
+
+    @Test
+    void reconstruir_DeveCarregarMatriculasEPresencasDeHoje() {
+        assertEquals(hoje.plusMonths(1), indice.buscarFimMatriculaAtiva(1L));
+        assertEquals(hoje.minusDays(1), indice.buscarFimMatriculaAtiva(2L));
+        assertNull(indice.buscarFimMatriculaAtiva(3L));
+        assertTrue(indice.possuiFrequenciaHoje(1L));
+        assertFalse(indice.possuiFrequenciaHoje(2L));
+    }
+
+    @Test
+    void registrarFrequencia_DeveIndexarSomenteRegistrosDeHoje() {
+        indice.registrarFrequencia(2L, hoje);
+        indice.registrarFrequencia(3L, hoje.minusDays(1));
+
+        assertTrue(indice.possuiFrequenciaHoje(2L));
+        assertFalse(indice.possuiFrequenciaHoje(3L));
+
+        indice.removerFrequencia(1L, hoje);
+        assertFalse(indice.possuiFrequenciaHoje(1L));
+    }
+
+    @Test
+    void atualizarAluno_DeveRefletirAsMatriculasAtivasNoBanco() {
+        when(matriculaRepository.buscarMaiorDataFimPorAluno(List.of(3L), MatriculaStatus.ATIVA))
+            .thenReturn(List.<Object[]>of(new Object[] {3L, hoje.plusMonths(3)}));
+        when(matriculaRepository.buscarMaiorDataFimPorAluno(List.of(1L), MatriculaStatus.ATIVA))
+            .thenReturn(List.of());
+
+        indice.atualizarAluno(3L);
+        indice.atualizarAluno(1L);
+
+        assertEquals(hoje.plusMonths(3), indice.buscarFimMatriculaAtiva(3L));
+        assertNull(indice.buscarFimMatriculaAtiva(1L));
+    }
+
+    @Test
+    void reconstruir_NaoDeveSobrescreverAtualizacaoConsultadaDepois() {
+        // A matrícula do aluno 1 é cancelada enquanto a reconstrução ainda lê o estado anterior
+        when(matriculaRepository.buscarMaiorDataFimPorAluno(List.of(1L), MatriculaStatus.ATIVA))
+            .thenReturn(List.of());
+        when(matriculaRepository.buscarMaiorDataFimDeTodos(MatriculaStatus.ATIVA)).thenAnswer(invocacao -> {
+            indice.atualizarAluno(1L);
+            return List.<Object[]>of(new Object[] {1L, hoje.plusMonths(1)});
+        });
+
+        indice.reconstruir();
+
+        assertNull(indice.buscarFimMatriculaAtiva(1L));
+        assertNull(indice.buscarFimMatriculaAtiva(2L));
+    }
+}
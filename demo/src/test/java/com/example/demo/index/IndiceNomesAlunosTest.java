@@ -0,0 +1,93 @@
+package com.example.demo.index;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.dto.AlunoDTO;
+import com.example.demo.entity.Aluno;
+import com.example.demo.repository.AlunoRepository;
+
+/**
+ * Testes unitários do IndiceNomesAlunos
+ * Fora de uma transação as atualizações são aplicadas na hora
+ */
+@ExtendWith(MockitoExtension.class)
+public class IndiceNomesAlunosTest {
+
+    @Mock
+    private AlunoRepository alunoRepository;
+
+    @InjectMocks
+    private IndiceNomesAlunos indice;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate ingresso = LocalDate.of(2024, 1, 10);
+        when(alunoRepository.listarResumos()).thenReturn(List.of(
+            new AlunoDTO(1L, "João da Silva", "529.982.247-25", ingresso),
+            new AlunoDTO(2L, "Joana Souza", "111.444.777-35", ingresso),
+            new AlunoDTO(3L, "Ângela Silveira", "390.533.447-05", ingresso)));
+        indice.reconstruir();
+    }
+
+    @Test
+    void buscar_DeveIgnorarAcentosEMaiusculas() {
+        assertEquals(List.of(3L), ids(indice.buscar("ANGE", 10)));
+        assertEquals(List.of(2L, 1L), ids(indice.buscar("jo", 10)));
+        assertEquals(List.of(1L), ids(indice.buscar("joão", 10)));
+    }
+
+    @Test
+    void buscar_ComVariosTermos_DeveExigirTodos() {
+        assertEquals(List.of(1L), ids(indice.buscar("sil jo", 10)));
+        assertEquals(List.of(1L, 3L), ids(indice.buscar("sil", 10)));
+        assertTrue(indice.buscar("sil souza", 10).isEmpty());
+    }
+
+    @Test
+    void buscar_PorDigitosDoCpf_DeveIgnorarPontuacao() {
+        assertEquals(List.of(1L), ids(indice.buscar("529.982", 10)));
+        assertEquals(List.of(2L), ids(indice.buscar("1114447", 10)));
+        assertTrue(indice.buscar("  ", 10).isEmpty());
+    }
+
+    @Test
+    void buscar_DeveRespeitarLimite() {
+        assertEquals(List.of(2L), ids(indice.buscar("jo", 1)));
+    }
+
+    @Test
+    void atualizarERemover_DevemRefletirNaBusca() {
+        Aluno aluno = new Aluno("Joana Pereira", "111.444.777-35", LocalDate.of(2024, 1, 10));
+        aluno.setIdAluno(2L);
+        indice.atualizar(aluno);
+
+        assertTrue(indice.buscar("souza", 10).isEmpty());
+        assertEquals(List.of(2L), ids(indice.buscar("pere", 10)));
+        assertEquals("Joana Pereira", indice.buscar("pere", 10).get(0).getNome());
+
+        indice.remover(2L);
+        assertEquals(List.of(1L), ids(indice.buscar("jo", 10)));
+    }
+
+    @Test
+    void termosDaBusca_DeveOrdenarDoMaisLongoParaOMaisCurto() {
+        assertArrayEquals(new String[] {"silva", "jo"}, IndiceNomesAlunos.termosDaBusca("Jo  SILVA"));
+        assertArrayEquals(new String[] {"52998224725"}, IndiceNomesAlunos.termosDaBusca("529.982.247-25"));
+    }
+
+    private static List<Long> ids(List<AlunoDTO> alunos) {
+        return alunos.stream().map(AlunoDTO::getIdAluno).toList();
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.demo.index;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.dto.ResultadoBuscaDTO;
+import com.example.demo.entity.ItemTreino;
+import com.example.demo.entity.Plano;
+import com.example.demo.entity.PlanoTreino;
+import com.example.demo.enums.TipoDocumentoBusca;
+import com.example.demo.repository.AvaliacaoFisicaRepository;
+import com.example.demo.repository.ExercicioRepository;
+import com.example.demo.repository.ItemTreinoRepository;
+import com.example.demo.repository.PlanoRepository;
+import com.example.demo.repository.PlanoTreinoRepository;
+
+/**
+ * Testes unitários do IndiceTextual
+ * Fora de uma transação as atualizações são aplicadas na hora
+ */
+@ExtendWith(MockitoExtension.class)
+public class IndiceTextualTest {
+
+    @Mock
+    private ExercicioRepository exercicioRepository;
+
+    @Mock
+    private PlanoRepository planoRepository;
+
+    @Mock
+    private PlanoTreinoRepository planoTreinoRepository;
+
+    @Mock
+    private ItemTreinoRepository itemTreinoRepository;
+
+    @Mock
+    private AvaliacaoFisicaRepository avaliacaoFisicaRepository;
+
+    @InjectMocks
+    private IndiceTextual indice;
+
+    @BeforeEach
+    void setUp() {
+        when(exercicioRepository.listarTextosParaBusca()).thenReturn(List.<Object[]>of(
+            new Object[] {1L, "Agachamento", "Pernas", "Evitar em caso de lesão no joelho"},
+            new Object[] {2L, "Supino", "Peito", "Barra livre"}));
+        when(planoRepository.listarTextosParaBusca()).thenReturn(List.<Object[]>of(
+            new Object[] {1L, "Plano Mensal", "Acesso livre à musculação"}));
+        when(planoTreinoRepository.listarTextosParaBusca()).thenReturn(List.<Object[]>of(
+            new Object[] {10L, 5L, LocalDate.of(2025, 3, 1), "Foco em fortalecimento do joelho"}));
+        when(itemTreinoRepository.listarTextosParaBusca()).thenReturn(List.<Object[]>of(
+            new Object[] {100L, 10L, "Aluno relatou lesão no joelho esquerdo, reduzir carga"},
+            new Object[] {101L, 10L, "Sem restrições"}));
+        when(avaliacaoFisicaRepository.listarTextosParaBusca()).thenReturn(List.<Object[]>of(
+            new Object[] {7L, 5L, LocalDate.of(2025, 2, 1), "Cintura 80cm; quadril 95cm"}));
+        indice.reconstruir();
+    }
+
+    @Test
+    void buscar_DeveOrdenarPorPalavrasEncontradasERelevancia() {
+        List<ResultadoBuscaDTO> resultados = indice.buscar("lesão no joelho", null, 10);
+
+        // Os dois documentos com "lesão" e "joelho" vêm antes do plano de treino, que só tem "joelho"
+        assertEquals(3, resultados.size());
+        assertEquals(TipoDocumentoBusca.PLANO_TREINO, resultados.get(2).getTipo());
+        assertTrue(resultados.stream().limit(2).anyMatch(r -> r.getTipo() == TipoDocumentoBusca.ITEM_TREINO && r.getId() == 100L));
+        assertTrue(resultados.stream().limit(2).anyMatch(r -> r.getTipo() == TipoDocumentoBusca.EXERCICIO && r.getId() == 1L));
+        assertTrue(resultados.get(0).getPontuacao() >= resultados.get(1).getPontuacao());
+    }
+
+    @Test
+    void buscar_DeveIgnorarAcentosEMaiusculasEAceitarPrefixoNaUltimaPalavra() {
+        List<ResultadoBuscaDTO> resultados = indice.buscar("LESAO joel", null, 10);
+
+        assertEquals(3, resultados.size());
+        assertTrue(resultados.stream().limit(2).noneMatch(r -> r.getTipo() == TipoDocumentoBusca.PLANO_TREINO));
+        assertEquals("Item #100 do plano de treino #10", indice.buscar("esquer", null, 10).get(0).getTitulo());
+    }
+
+    @Test
+    void buscar_ComTipo_DeveFiltrarResultados() {
+        List<ResultadoBuscaDTO> resultados = indice.buscar("livre", TipoDocumentoBusca.PLANO, 10);
+
+        assertEquals(1, resultados.size());
+        assertEquals("Plano Mensal", resultados.get(0).getTitulo());
+        assertEquals(1, indice.buscar("joelho", null, 1).size());
+    }
+
+    @Test
+    void buscar_DeveMontarTrechoEmVoltaDaPalavra() {
+        ResultadoBuscaDTO avaliacao = indice.buscar("quadril", null, 10).get(0);
+
+        assertEquals(TipoDocumentoBusca.AVALIACAO_FISICA, avaliacao.getTipo());
+        assertEquals(5L, avaliacao.getIdRelacionado());
+        assertEquals("Avaliação física de 01/02/2025", avaliacao.getTitulo());
+        assertEquals("Cintura 80cm; quadril 95cm", avaliacao.getTrecho());
+
+        String longo = "x".repeat(300) + " lesão no joelho " + "y".repeat(300);
+        String trecho = IndiceTextual.trecho(longo, List.of("joelho"));
+        assertTrue(trecho.startsWith("…") && trecho.endsWith("…"));
+        assertTrue(trecho.contains("lesão no joelho"));
+    }
+
+    @Test
+    void indexarERemover_DevemRefletirNaBusca() {
+        Plano plano = new Plano("Plano Trimestral", "Inclui avaliação postural", null, 3);
+        plano.setIdPlanoAssinatura(2L);
+        indice.indexarPlano(plano);
+        assertEquals(List.of(2L), indice.buscar("postural", null, 10).stream().map(ResultadoBuscaDTO::getId).toList());
+
+        plano.setDescricao("Inclui avaliação completa");
+        indice.indexarPlano(plano);
+        assertTrue(indice.buscar("postural", null, 10).isEmpty());
+
+        PlanoTreino planoTreino = new PlanoTreino();
+        planoTreino.setIdPlanoTreino(10L);
+        ItemTreino item = new ItemTreino();
+        item.setIdItemTreino(102L);
+        item.setPlanoTreino(planoTreino);
+        item.setObservacoes("Alongar o joelho antes");
+        indice.indexarItemTreino(item);
+        assertEquals(4, indice.buscar("joelho", null, 10).size());
+
+        indice.removerPlanoTreino(10L);
+        List<ResultadoBuscaDTO> restantes = indice.buscar("joelho", null, 10);
+        assertEquals(1, restantes.size());
+        assertEquals(TipoDocumentoBusca.EXERCICIO, restantes.get(0).getTipo());
+
+        indice.remover(TipoDocumentoBusca.EXERCICIO, 1L);
+        assertTrue(indice.buscar("joelho", null, 10).isEmpty());
+    }
+
+    @Test
+    void palavrasDaBusca_DeveDescartarPalavrasVaziasSomenteSeHouverOutras() {
+        assertEquals(List.of("lesao", "joelho"), IndiceTextual.palavrasDaBusca("Lesão no joelho"));
+        assertEquals(List.of("de", "a"), IndiceTextual.palavrasDaBusca("de a"));
+    }
+}
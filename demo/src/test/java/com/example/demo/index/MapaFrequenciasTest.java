@@ -0,0 +1,98 @@
+package com.example.demo.index;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.entity.Aluno;
+import com.example.demo.entity.Frequencia;
+import com.example.demo.repository.AlunoRepository;
+import com.example.demo.repository.FrequenciaRepository;
+
+/**
+ * Testes de integração da publicação dos mapas de frequência
+ * Sem @Transactional: o check-in concorrente precisa ser confirmado enquanto a leitura ainda está aberta,
+ * então os dados são gravados em transações próprias e removidos ao final
+ */
+@SpringBootTest
+public class MapaFrequenciasTest {
+
+    private static final LocalDate DIA_TESTE = LocalDate.of(1900, 1, 1);
+
+    @Autowired
+    private MapaFrequencias mapaFrequencias;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private FrequenciaRepository frequenciaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Aluno aluno;
+
+    @BeforeEach
+    void setUp() {
+        aluno = alunoRepository.save(new Aluno("Aluno Mapa", "963.852.741-00", LocalDate.now().minusYears(20)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        frequenciaRepository.deleteAll(frequenciaRepository.findByAluno(aluno));
+        alunoRepository.deleteById(aluno.getIdAluno());
+    }
+
+    @Test
+    public void obter_ComCheckinConfirmadoDepoisDoSnapshot_NaoDevePublicarMapaDesatualizado() {
+        System.out.println("=== TESTE: Check-in entre o snapshot e a montagem do mapa ===");
+
+        Long idAluno = aluno.getIdAluno();
+        TransactionTemplate leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+        leitura.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        long escritas = mapaFrequencias.contarEscritas(idAluno);
+        BitmapFrequencia lidoNaTransacao = leitura.execute(status -> {
+            // A primeira consulta fixa o snapshot da transação
+            alunoRepository.findById(idAluno).orElseThrow();
+            CompletableFuture.runAsync(() -> registrarCheckin(DIA_TESTE)).join();
+            return mapaFrequencias.obter(idAluno, escritas);
+        });
+
+        assertEquals(0, lidoNaTransacao.contarTudo().presencas());
+        assertEquals(1, mapaFrequencias.obter(idAluno).contarTudo().presencas());
+
+        System.out.println("✅ Mapa montado no snapshot antigo não foi publicado");
+    }
+
+    @Test
+    public void obter_SemEscritasConcorrentes_DevePublicarMapa() {
+        registrarCheckin(DIA_TESTE);
+
+        BitmapFrequencia publicado = mapaFrequencias.obter(aluno.getIdAluno());
+
+        assertEquals(1, publicado.contarTudo().presencas());
+        assertEquals(publicado, mapaFrequencias.obter(aluno.getIdAluno()));
+    }
+
+    /**
+     * Grava uma presença e atualiza o mapa como o FrequenciaService faz, em transação própria
+     */
+    private void registrarCheckin(LocalDate data) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            frequenciaRepository.save(new Frequencia(aluno, data, true));
+            mapaFrequencias.registrar(aluno.getIdAluno(), data, true);
+        });
+    }
+}
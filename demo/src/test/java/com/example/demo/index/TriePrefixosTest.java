@@ -0,0 +1,62 @@
+package com.example.demo.index;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários da TriePrefixos
+ */
+public class TriePrefixosTest {
+
+    private TriePrefixos trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new TriePrefixos();
+        trie.adicionar("maria", 3L);
+        trie.adicionar("mario", 1L);
+        trie.adicionar("marcos", 2L);
+        trie.adicionar("ana", 4L);
+        trie.adicionar("maria", 5L);
+    }
+
+    @Test
+    void coletar_DeveRetornarIdsEmOrdemAlfabeticaDosTermos() {
+        assertEquals(List.of(2L, 3L, 5L, 1L), List.copyOf(trie.coletar("mar", id -> true, 10)));
+        assertEquals(List.of(4L), List.copyOf(trie.coletar("a", id -> true, 10)));
+        assertTrue(trie.coletar("x", id -> true, 10).isEmpty());
+    }
+
+    @Test
+    void coletar_DevePararNoLimiteEAplicarFiltro() {
+        assertEquals(List.of(2L, 3L), List.copyOf(trie.coletar("m", id -> true, 2)));
+        assertEquals(List.of(2L, 1L), List.copyOf(trie.coletar("m", id -> id != 3L && id != 5L, 10)));
+    }
+
+    @Test
+    void coletar_NaoDeveRepetirIdComVariosTermos() {
+        trie.adicionar("marinho", 3L);
+        Set<Long> ids = trie.coletar("mari", id -> true, 10);
+        assertEquals(List.of(3L, 5L, 1L), List.copyOf(ids));
+    }
+
+    @Test
+    void remover_DeveDescartarNosVazios() {
+        trie.remover("marcos", 2L);
+        trie.remover("maria", 3L);
+        trie.remover("inexistente", 9L);
+
+        assertEquals(List.of("ana", "maria", "mario"), trie.termos());
+        assertEquals(List.of(5L, 1L), List.copyOf(trie.coletar("mar", id -> true, 10)));
+
+        trie.remover("maria", 5L);
+        trie.remover("mario", 1L);
+        trie.remover("ana", 4L);
+        assertTrue(trie.termos().isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.metricas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.example.demo.config.ConsultasProperties;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes unitários do ConsultasPorRequisicaoFilter
+ */
+public class ConsultasPorRequisicaoFilterTest {
+
+    private SimpleMeterRegistry registry;
+
+    private ContadorConsultas contadorConsultas;
+
+    private ConsultasPorRequisicaoFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        contadorConsultas = new ContadorConsultas();
+        filter = new ConsultasPorRequisicaoFilter(contadorConsultas, registry, new ConsultasProperties());
+    }
+
+    @Test
+    void doFilter_DeveRegistrarConsultasPorEndpoint() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/historico/aluno/7");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, resp) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/historico/aluno/{id}");
+            contadorConsultas.registrar("select * from alunos where id_aluno=?");
+            contadorConsultas.registrar("select * from matriculas where id_aluno=?");
+        });
+
+        DistributionSummary resumo = registry.get(ConsultasPorRequisicaoFilter.METRICA)
+            .tag("method", "GET")
+            .tag("uri", "/api/historico/aluno/{id}")
+            .summary();
+        assertEquals(1, resumo.count());
+        assertEquals(2.0, resumo.totalAmount());
+    }
+
+    @Test
+    void doFilter_ForaDaApiNaoDeveRegistrar() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/prometheus"), new MockHttpServletResponse(),
+            (req, resp) -> contadorConsultas.registrar("select 1"));
+
+        assertNull(registry.find(ConsultasPorRequisicaoFilter.METRICA).summary());
+    }
+
+    @Test
+    void registrar_SemContagemIniciadaNaoDeveContar() {
+        contadorConsultas.registrar("select 1");
+
+        assertEquals(0, contadorConsultas.encerrar().total());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.demo.metricas;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários do ContadorConsultas
+ */
+public class ContadorConsultasTest {
+
+    private ContadorConsultas contadorConsultas;
+
+    @BeforeEach
+    void setUp() {
+        contadorConsultas = new ContadorConsultas();
+    }
+
+    @Test
+    void encerrar_DeveAgruparComandosComValoresDiferentes() {
+        contadorConsultas.iniciar();
+        contadorConsultas.registrar("select * from alunos where id_aluno=1");
+        contadorConsultas.registrar("select * from alunos   where id_aluno=25");
+        contadorConsultas.registrar("select * from alunos where nome='Ana'");
+
+        ContadorConsultas.Contagem contagem = contadorConsultas.encerrar();
+
+        assertEquals(3, contagem.total());
+        assertEquals(2, contagem.repeticoes());
+        assertEquals("select * from alunos where id_aluno=?", contagem.comandoMaisRepetido());
+    }
+
+    @Test
+    void formato_DeveReduzirListasDoInEManterAliases() {
+        assertEquals("select a1_0.nome from alunos a1_0 where a1_0.id_aluno in (?)",
+            ContadorConsultas.formato("select a1_0.nome from alunos a1_0 where a1_0.id_aluno in (?, ?, ?)"));
+    }
+
+    @Test
+    void encerrar_ContagemAninhadaDeveSerSomadaAAnterior() {
+        contadorConsultas.iniciar();
+        contadorConsultas.registrar("select 1");
+        contadorConsultas.iniciar();
+        contadorConsultas.registrar("select 2");
+
+        assertEquals(1, contadorConsultas.encerrar().total());
+        assertEquals(2, contadorConsultas.encerrar().total());
+        assertEquals(0, contadorConsultas.encerrar().total());
+    }
+
+    @Test
+    void propagar_DeveContarSomenteAsTarefasEmbrulhadas() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            contadorConsultas.iniciar();
+            // A thread do pool é criada durante a contagem, mas não deve herdá-la
+            executor.submit(() -> contadorConsultas.registrar("select 1")).get();
+            executor.submit(contadorConsultas.propagar(() -> {
+                contadorConsultas.registrar("select 2");
+                return null;
+            })).get();
+
+            assertEquals(1, contadorConsultas.encerrar().total());
+
+            // Depois da tarefa embrulhada a thread do pool volta a não ter contagem
+            contadorConsultas.iniciar();
+            executor.submit(() -> contadorConsultas.registrar("select 3")).get();
+            assertEquals(0, contadorConsultas.encerrar().total());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
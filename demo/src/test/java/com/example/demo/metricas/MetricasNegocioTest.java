@@ -0,0 +1,44 @@
+package com.example.demo.metricas;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes unitários do MetricasNegocio
+ * Fora de uma transação os contadores são atualizados na hora
+ */
+public class MetricasNegocioTest {
+
+    private SimpleMeterRegistry registry;
+
+    private MetricasNegocio metricasNegocio;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metricasNegocio = new MetricasNegocio(registry);
+    }
+
+    @Test
+    void registrarFrequencias_DeveSepararPresencasDeAusencias() {
+        metricasNegocio.registrarFrequencias(3, 1);
+        metricasNegocio.registrarFrequencias(1, 0);
+
+        assertEquals(4.0, registry.get("gym.frequencias").tag("presenca", "true").counter().count());
+        assertEquals(1.0, registry.get("gym.frequencias").tag("presenca", "false").counter().count());
+    }
+
+    @Test
+    void registrarPagamento_DeveContarESomarValores() {
+        metricasNegocio.registrarPagamento(new BigDecimal("99.90"));
+        metricasNegocio.registrarPagamento(new BigDecimal("150.10"));
+
+        assertEquals(2.0, registry.get("gym.pagamentos").counter().count());
+        assertEquals(250.0, registry.get("gym.pagamentos.valor").counter().count(), 0.001);
+    }
+}
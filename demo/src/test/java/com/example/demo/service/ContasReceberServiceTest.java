@@ -0,0 +1,123 @@
+package com.example.demo.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.dto.ContaReceberDTO;
+import com.example.demo.dto.PaginaDTO;
+import com.example.demo.entity.Aluno;
+import com.example.demo.entity.Matricula;
+import com.example.demo.entity.Pagamento;
+import com.example.demo.entity.Plano;
+import com.example.demo.enums.MatriculaStatus;
+import com.example.demo.repository.AlunoRepository;
+import com.example.demo.repository.MatriculaRepository;
+import com.example.demo.repository.PagamentoRepository;
+import com.example.demo.repository.PlanoRepository;
+
+/**
+ * Testes de integração do ContasReceberService
+ * Dentro da transação do teste o cache não é usado, então as consultas enxergam os dados inseridos
+ */
+@SpringBootTest
+@Transactional
+public class ContasReceberServiceTest {
+
+    @Autowired
+    private ContasReceberService contasReceberService;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private PlanoRepository planoRepository;
+
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+
+    @Autowired
+    private PagamentoRepository pagamentoRepository;
+
+    private Matricula parcial;
+    private Matricula quitada;
+    private Matricula cancelada;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate hoje = LocalDate.now();
+        Aluno aluno = alunoRepository.save(new Aluno("Aluno Contas", "741.852.963-00", hoje));
+        Plano plano = planoRepository.save(new Plano("Plano Contas", "Plano do teste", new BigDecimal("100.00"), 1));
+
+        parcial = matriculaRepository.save(new Matricula(aluno, plano, hoje, hoje.plusMonths(1), MatriculaStatus.ATIVA));
+        quitada = matriculaRepository.save(new Matricula(aluno, plano, hoje, hoje.plusMonths(1), MatriculaStatus.ATIVA));
+        cancelada = matriculaRepository.save(new Matricula(aluno, plano, hoje.minusYears(1), hoje.minusYears(1).plusMonths(1),
+            MatriculaStatus.CANCELADA));
+
+        pagamentoRepository.save(new Pagamento(parcial, hoje, new BigDecimal("25.00"), "PIX"));
+        pagamentoRepository.save(new Pagamento(parcial, hoje, new BigDecimal("15.00"), "DINHEIRO"));
+        pagamentoRepository.save(new Pagamento(quitada, hoje, new BigDecimal("100.00"), "PIX"));
+    }
+
+    @Test
+    public void listarInadimplentes_DeveRetornarApenasAtivasComSaldoDevedor() {
+        System.out.println("=== TESTE: Matrículas inadimplentes ===");
+
+        List<ContaReceberDTO> inadimplentes = contasReceberService.listarInadimplentes();
+
+        ContaReceberDTO conta = inadimplentes.stream()
+            .filter(c -> c.getIdMatricula().equals(parcial.getIdMatricula()))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(0, new BigDecimal("40.00").compareTo(conta.getTotalPago()));
+        assertEquals(0, new BigDecimal("60.00").compareTo(conta.getSaldoDevedor()));
+        assertEquals("Aluno Contas", conta.getNomeAluno());
+        assertFalse(inadimplentes.stream().anyMatch(c -> c.getIdMatricula().equals(quitada.getIdMatricula())));
+        assertFalse(inadimplentes.stream().anyMatch(c -> c.getIdMatricula().equals(cancelada.getIdMatricula())));
+
+        System.out.println("✅ Inadimplentes calculados em uma consulta agrupada");
+    }
+
+    @Test
+    public void listarPagina_DevePaginarPorCursorComFiltros() {
+        System.out.println("=== TESTE: Contas a receber paginadas ===");
+
+        String antesDasMatriculas = String.valueOf(parcial.getIdMatricula() - 1);
+
+        PaginaDTO<ContaReceberDTO> primeira = contasReceberService.listarPagina(null, null, antesDasMatriculas, 2);
+        assertEquals(List.of(parcial.getIdMatricula(), quitada.getIdMatricula()),
+            primeira.getItens().stream().map(ContaReceberDTO::getIdMatricula).toList());
+        assertTrue(primeira.isTemMais());
+
+        PaginaDTO<ContaReceberDTO> segunda = contasReceberService.listarPagina(null, null, primeira.getProximoCursor(), 2);
+        assertEquals(cancelada.getIdMatricula(), segunda.getItens().get(0).getIdMatricula());
+        assertEquals(0, BigDecimal.ZERO.compareTo(segunda.getItens().get(0).getTotalPago()));
+        assertNull(segunda.getProximoCursor());
+
+        PaginaDTO<ContaReceberDTO> emAberto = contasReceberService.listarPagina(MatriculaStatus.ATIVA, false, antesDasMatriculas, 10);
+        assertEquals(List.of(parcial.getIdMatricula()),
+            emAberto.getItens().stream().map(ContaReceberDTO::getIdMatricula).toList());
+
+        System.out.println("✅ Páginas e filtros corretos");
+    }
+
+    @Test
+    public void buscarPorMatricula_DeveIndicarSeEstaEmDia() {
+        System.out.println("=== TESTE: Situação de uma matrícula ===");
+
+        assertTrue(contasReceberService.buscarPorMatricula(quitada.getIdMatricula()).getEmDia());
+        assertFalse(contasReceberService.buscarPorMatricula(parcial.getIdMatricula()).getEmDia());
+
+        System.out.println("✅ Situação da matrícula correta");
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.dto.DashboardResumoDTO;
+import com.example.demo.entity.Aluno;
+import com.example.demo.entity.Frequencia;
+import com.example.demo.entity.Instrutor;
+import com.example.demo.entity.Matricula;
+import com.example.demo.entity.Pagamento;
+import com.example.demo.entity.Plano;
+import com.example.demo.entity.PlanoTreino;
+import com.example.demo.enums.MatriculaStatus;
+import com.example.demo.repository.AlunoRepository;
+import com.example.demo.repository.FrequenciaRepository;
+import com.example.demo.repository.InstrutorRepository;
+import com.example.demo.repository.MatriculaRepository;
+import com.example.demo.repository.PagamentoRepository;
+import com.example.demo.repository.PlanoRepository;
+import com.example.demo.repository.PlanoTreinoRepository;
+
+/**
+ * Testes de integração do DashboardService
+ * Compara o resumo antes e depois de inserir dados, para não depender do conteúdo prévio do banco
+ */
+@SpringBootTest
+@Transactional
+public class DashboardServiceTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private ResumoDiarioService resumoDiarioService;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private PlanoRepository planoRepository;
+
+    @Autowired
+    private InstrutorRepository instrutorRepository;
+
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+
+    @Autowired
+    private PagamentoRepository pagamentoRepository;
+
+    @Autowired
+    private FrequenciaRepository frequenciaRepository;
+
+    @Autowired
+    private PlanoTreinoRepository planoTreinoRepository;
+
+    @Test
+    public void gerarResumo_DeveCalcularIndicadoresNoBanco() {
+        System.out.println("=== TESTE: Resumo do Dashboard ===");
+
+        DashboardResumoDTO antes = dashboardService.gerarResumo();
+
+        LocalDate hoje = LocalDate.now();
+        Aluno aluno = alunoRepository.save(new Aluno("Aluno Dashboard", "321.654.987-00", hoje));
+        Plano plano = planoRepository.save(new Plano("Plano Dashboard", "Plano do teste", new BigDecimal("80.00"), 1));
+        Instrutor instrutor = instrutorRepository.save(new Instrutor("Instrutor Dashboard", "Funcional"));
+
+        Matricula ativa = matriculaRepository.save(
+            new Matricula(aluno, plano, hoje.plusYears(50), hoje.plusYears(50).plusMonths(1), MatriculaStatus.ATIVA));
+        matriculaRepository.save(new Matricula(aluno, plano, hoje.minusYears(1), hoje.minusYears(1).plusMonths(1),
+            MatriculaStatus.CANCELADA));
+
+        pagamentoRepository.save(new Pagamento(ativa, hoje.withDayOfMonth(1), new BigDecimal("80.00"), "PIX"));
+        pagamentoRepository.save(new Pagamento(ativa, hoje.minusMonths(2), new BigDecimal("80.00"), "PIX"));
+
+        planoTreinoRepository.save(new PlanoTreino(aluno, instrutor, hoje.plusYears(50), "Treino Dashboard", 4));
+        // Os dados foram gravados direto nos repositories, então os totais diários são recalculados
+        resumoDiarioService.reconstruirTudo();
+
+        DashboardResumoDTO depois = dashboardService.gerarResumo();
+
+        assertEquals(antes.getTotalAlunos() + 1, depois.getTotalAlunos());
+        assertEquals(antes.getMatriculasAtivas() + 1, depois.getMatriculasAtivas());
+        assertEquals(antes.getTotalPlanosTreino() + 1, depois.getTotalPlanosTreino());
+        assertEquals(0, antes.getReceitaMes().add(new BigDecimal("80.00")).compareTo(depois.getReceitaMes()),
+            "Somente o pagamento do mês corrente entra na receita");
+
+        // Registros com datas futuras garantem que os itens do teste são os mais recentes
+        assertEquals("Aluno Dashboard", depois.getUltimasMatriculas().get(0).getNomeAluno());
+        assertEquals("ATIVA", depois.getUltimasMatriculas().get(0).getDetalhe());
+        assertEquals("Instrutor Dashboard", depois.getUltimosPlanosTreino().get(0).getDetalhe());
+
+        System.out.println("=== TESTE CONCLUÍDO ===\n");
+    }
+
+    @Test
+    public void gerarResumo_DeveCalcularTaxaDePresenca() {
+        System.out.println("=== TESTE: Taxa de presença do Dashboard ===");
+
+        frequenciaRepository.deleteAll();
+        Aluno aluno = alunoRepository.save(new Aluno("Aluno Presença", "147.258.369-00", LocalDate.now()));
+        frequenciaRepository.save(new Frequencia(aluno, LocalDate.now().minusDays(3), true));
+        frequenciaRepository.save(new Frequencia(aluno, LocalDate.now().minusDays(2), true));
+        frequenciaRepository.save(new Frequencia(aluno, LocalDate.now().minusDays(1), true));
+        frequenciaRepository.save(new Frequencia(aluno, LocalDate.now(), false));
+        resumoDiarioService.reconstruirTudo();
+
+        DashboardResumoDTO resumo = dashboardService.gerarResumo();
+
+        assertEquals(75.0, resumo.getTaxaPresenca());
+
+        System.out.println("=== TESTE CONCLUÍDO ===\n");
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.demo.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.dto.FrequenciaRequestDTO;
+import com.example.demo.dto.ResultadoFrequenciaLoteDTO;
+import com.example.demo.entity.Aluno;
+import com.example.demo.entity.Frequencia;
+import com.example.demo.entity.Matricula;
+import com.example.demo.entity.Plano;
+import com.example.demo.enums.MatriculaStatus;
+import com.example.demo.exception.FrequenciaException;
+import com.example.demo.repository.AlunoRepository;
+import com.example.demo.repository.FrequenciaRepository;
+import com.example.demo.repository.MatriculaRepository;
+import com.example.demo.repository.PlanoRepository;
+
+/**
+ * Testes de integração do registro de frequências em lote
+ */
+@SpringBootTest
+@Transactional
+public class FrequenciaServiceTest {
+
+    @Autowired
+    private FrequenciaService frequenciaService;
+
+    @Autowired
+    private FrequenciaRepository frequenciaRepository;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private PlanoRepository planoRepository;
+
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+
+    private LocalDate hoje;
+    private Aluno alunoAtivo;
+    private Aluno alunoExpirado;
+    private Aluno alunoSemMatricula;
+
+    @BeforeEach
+    void setUp() {
+        hoje = LocalDate.now();
+        Plano plano = planoRepository.save(new Plano("Plano Lote", "Plano do teste", new BigDecimal("90.00"), 1));
+
+        alunoAtivo = alunoRepository.save(new Aluno("Aluno Ativo", "111.222.333-01", hoje));
+        alunoExpirado = alunoRepository.save(new Aluno("Aluno Expirado", "111.222.333-02", hoje));
+        alunoSemMatricula = alunoRepository.save(new Aluno("Aluno Sem Matrícula", "111.222.333-03", hoje));
+
+        matriculaRepository.save(new Matricula(alunoAtivo, plano, hoje.minusDays(10), hoje.plusDays(20), MatriculaStatus.ATIVA));
+        matriculaRepository.save(new Matricula(alunoExpirado, plano, hoje.minusMonths(2), hoje.minusMonths(1), MatriculaStatus.ATIVA));
+    }
+
+    @Test
+    public void registrarPresencasEmLote_DeveRegistrarValidasERejeitarAsDemais() {
+        System.out.println("=== TESTE: Registro de frequências em lote ===");
+
+        frequenciaRepository.save(new Frequencia(alunoAtivo, hoje.minusDays(2), true));
+
+        List<ResultadoFrequenciaLoteDTO> resultados = frequenciaService.registrarPresencasEmLote(List.of(
+            new FrequenciaRequestDTO(alunoAtivo.getIdAluno(), hoje, true),
+            new FrequenciaRequestDTO(alunoAtivo.getIdAluno(), hoje.minusDays(1), false),
+            new FrequenciaRequestDTO(alunoAtivo.getIdAluno(), hoje, true),
+            new FrequenciaRequestDTO(alunoAtivo.getIdAluno(), hoje.minusDays(2), true),
+            new FrequenciaRequestDTO(alunoExpirado.getIdAluno(), hoje, true),
+            new FrequenciaRequestDTO(alunoSemMatricula.getIdAluno(), hoje, true),
+            new FrequenciaRequestDTO(-1L, hoje, true),
+            new FrequenciaRequestDTO(alunoAtivo.getIdAluno(), hoje.plusDays(1), true)));
+
+        assertEquals(8, resultados.size());
+        assertTrue(resultados.get(0).isRegistrada());
+        assertTrue(resultados.get(1).isRegistrada());
+        for (int i = 2; i < resultados.size(); i++) {
+            assertFalse(resultados.get(i).isRegistrada(), "Entrada " + i + " deveria ser rejeitada");
+            assertEquals(i, resultados.get(i).getIndice());
+        }
+        assertTrue(resultados.get(2).getMensagem().startsWith("Já existe registro"), "Repetição dentro do lote");
+        assertTrue(resultados.get(3).getMensagem().startsWith("Já existe registro"), "Registro já gravado");
+        assertTrue(resultados.get(4).getMensagem().startsWith("A matrícula do aluno está expirada"));
+        assertTrue(resultados.get(5).getMensagem().contains("não possui matrícula ativa"));
+        assertTrue(resultados.get(6).getMensagem().startsWith("Aluno não encontrado"));
+        assertEquals("Data do registro não pode ser futura", resultados.get(7).getMensagem());
+
+        List<Frequencia> gravadas = frequenciaRepository.findByAlunoOrderByDataDesc(alunoAtivo);
+        assertEquals(3, gravadas.size());
+        assertEquals(hoje, gravadas.get(0).getData());
+        assertFalse(gravadas.get(1).getPresenca());
+
+        System.out.println("✅ 2 de 8 entradas registradas, demais rejeitadas com motivo");
+        System.out.println("=== TESTE CONCLUÍDO ===\n");
+    }
+
+    @Test
+    public void registrarPresencasEmLote_QuandoVazio_DeveLancarExcecao() {
+        assertThrows(FrequenciaException.FrequenciaInvalidaException.class,
+            () -> frequenciaService.registrarPresencasEmLote(List.of()));
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.demo.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.config.HistoricoProperties;
+import com.example.demo.dto.HistoricoAlunoDTO;
+import com.example.demo.entity.Aluno;
+import com.example.demo.entity.AvaliacaoFisica;
+import com.example.demo.entity.Exercicio;
+import com.example.demo.entity.Frequencia;
+import com.example.demo.entity.Instrutor;
+import com.example.demo.entity.ItemTreino;
+import com.example.demo.entity.Matricula;
+import com.example.demo.entity.Pagamento;
+import com.example.demo.entity.Plano;
+import com.example.demo.entity.PlanoTreino;
+import com.example.demo.enums.MatriculaStatus;
+import com.example.demo.repository.AlunoRepository;
+import com.example.demo.repository.AvaliacaoFisicaRepository;
+import com.example.demo.repository.ExercicioRepository;
+import com.example.demo.repository.FrequenciaRepository;
+import com.example.demo.repository.InstrutorRepository;
+import com.example.demo.repository.ItemTreinoRepository;
+import com.example.demo.repository.MatriculaRepository;
+import com.example.demo.repository.PagamentoRepository;
+import com.example.demo.repository.PlanoRepository;
+import com.example.demo.repository.PlanoTreinoRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Testes de integração do HistoricoAlunoService
+ * Verifica que o número de consultas do histórico não cresce com o volume de dados do aluno
+ */
+@SpringBootTest(properties = {
+    "historico.cache.habilitado=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Transactional
+public class HistoricoAlunoServiceTest {
+
+    @Autowired
+    private HistoricoAlunoService historicoAlunoService;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private PlanoRepository planoRepository;
+
+    @Autowired
+    private InstrutorRepository instrutorRepository;
+
+    @Autowired
+    private ExercicioRepository exercicioRepository;
+
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+
+    @Autowired
+    private PagamentoRepository pagamentoRepository;
+
+    @Autowired
+    private PlanoTreinoRepository planoTreinoRepository;
+
+    @Autowired
+    private ItemTreinoRepository itemTreinoRepository;
+
+    @Autowired
+    private AvaliacaoFisicaRepository avaliacaoFisicaRepository;
+
+    @Autowired
+    private FrequenciaRepository frequenciaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private HistoricoProperties historicoProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Aluno aluno;
+    private Plano plano;
+    private Instrutor instrutor;
+    private Exercicio supino;
+    private Exercicio agachamento;
+
+    @BeforeEach
+    public void setUp() {
+        aluno = alunoRepository.save(new Aluno("Aluno Histórico", "741.852.963-00", LocalDate.now().minusYears(2)));
+        plano = planoRepository.save(new Plano("Plano Histórico", "Plano para teste de histórico", new BigDecimal("100.00"), 1));
+        instrutor = instrutorRepository.save(new Instrutor("Instrutor Histórico", "Musculação"));
+        supino = exercicioRepository.save(new Exercicio("Supino Histórico", "Peito"));
+        agachamento = exercicioRepository.save(new Exercicio("Agachamento Histórico", "Pernas"));
+    }
+
+    @Test
+    public void buscarHistoricoCompleto_QuandoVolumeDeDadosCresce_DeveManterNumeroDeConsultas() {
+        System.out.println("=== TESTE: Número constante de consultas no histórico ===");
+
+        semearDados(0, 2);
+        long consultasComPoucosDados = contarConsultasDoHistorico();
+
+        semearDados(2, 20);
+        long consultasComMaisDados = contarConsultasDoHistorico();
+
+        System.out.println("Consultas com poucos dados: " + consultasComPoucosDados);
+        System.out.println("Consultas com mais dados: " + consultasComMaisDados);
+        assertEquals(consultasComPoucosDados, consultasComMaisDados,
+            "O número de consultas do histórico não deve depender do volume de dados do aluno");
+
+        System.out.println("=== TESTE CONCLUÍDO ===\n");
+    }
+
+    @Test
+    public void buscarHistoricoCompleto_DeveAgregarTodasAsSecoes() {
+        System.out.println("=== TESTE: Agregação das seções do histórico ===");
+
+        semearDados(0, 3);
+        entityManager.flush();
+        entityManager.clear();
+
+        HistoricoAlunoDTO historico = historicoAlunoService.buscarHistoricoCompleto(aluno.getIdAluno());
+
+        assertEquals(3, historico.getMatriculas().size());
+        assertEquals(6, historico.getPagamentos().size());
+        assertEquals(3, historico.getPlanosTreino().size());
+        assertEquals(2, historico.getPlanosTreino().get(0).getTotalExercicios());
+        assertEquals(3, historico.getAvaliacoesFisicas().size());
+        assertNotNull(historico.getMatriculaAtual());
+        assertEquals(new BigDecimal("100.00"), historico.getMatriculaAtual().getTotalPago());
+        assertEquals(true, historico.getMatriculaAtual().getEmDia());
+        assertNotNull(historico.getUltimoPagamento());
+        assertNotNull(historico.getUltimaAvaliacaoFisica());
+        assertEquals(6L, historico.getEstatisticas().getTotalPresencas());
+        assertEquals(50.0, historico.getEstatisticas().getTaxaPresencaGeral());
+
+        System.out.println("=== TESTE CONCLUÍDO ===\n");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void buscarHistoricoCompleto_EmModoParalelo_DeveRetornarMesmoResultadoDoSequencial() throws Exception {
+        System.out.println("=== TESTE: Histórico em modo paralelo ===");
+
+        // As seções paralelas usam transações próprias, então os dados precisam estar confirmados
+        semearDados(0, 3);
+        try {
+            HistoricoAlunoDTO sequencial = historicoAlunoService.buscarHistoricoCompleto(aluno.getIdAluno());
+
+            historicoProperties.setParalelo(true);
+            HistoricoAlunoDTO paralelo = historicoAlunoService.buscarHistoricoCompleto(aluno.getIdAluno());
+
+            assertEquals(objectMapper.writeValueAsString(sequencial), objectMapper.writeValueAsString(paralelo));
+            assertEquals(3, paralelo.getMatriculas().size());
+            assertEquals(6, paralelo.getPagamentos().size());
+        } finally {
+            historicoProperties.setParalelo(false);
+            removerDados();
+        }
+
+        System.out.println("=== TESTE CONCLUÍDO ===\n");
+    }
+
+    /**
+     * Executa o histórico completo com o contexto de persistência limpo e retorna o número de comandos SQL
+     */
+    private long contarConsultasDoHistorico() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.clear();
+
+        historicoAlunoService.buscarHistoricoCompleto(aluno.getIdAluno());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Cria, para cada índice do intervalo, uma matrícula com dois pagamentos, um plano de treino com
+     * dois exercícios, uma avaliação física e quatro registros de frequência no mês correspondente
+     */
+    private void semearDados(int inicio, int fim) {
+        LocalDate hoje = LocalDate.now();
+
+        for (int i = inicio; i < fim; i++) {
+            LocalDate dataInicio = hoje.minusMonths(i);
+            MatriculaStatus status = i == 0 ? MatriculaStatus.ATIVA : MatriculaStatus.INATIVA;
+            Matricula matricula = matriculaRepository.save(
+                new Matricula(aluno, plano, dataInicio, dataInicio.plusMonths(1), status));
+
+            pagamentoRepository.save(new Pagamento(matricula, dataInicio, new BigDecimal("50.00"), "PIX"));
+            pagamentoRepository.save(new Pagamento(matricula, dataInicio.plusDays(1), new BigDecimal("50.00"), "CARTAO"));
+
+            PlanoTreino planoTreino = planoTreinoRepository.save(
+                new PlanoTreino(aluno, instrutor, dataInicio, "Plano " + i, 4));
+            itemTreinoRepository.save(new ItemTreino(planoTreino, supino, 3, 12, new BigDecimal("40.00")));
+            itemTreinoRepository.save(new ItemTreino(planoTreino, agachamento, 4, 10, new BigDecimal("60.00")));
+
+            avaliacaoFisicaRepository.save(new AvaliacaoFisica(aluno, instrutor, dataInicio));
+
+            frequenciaRepository.save(new Frequencia(aluno, dataInicio.withDayOfMonth(1), true));
+            frequenciaRepository.save(new Frequencia(aluno, dataInicio.withDayOfMonth(2), false));
+            frequenciaRepository.save(new Frequencia(aluno, dataInicio.withDayOfMonth(3), true));
+            frequenciaRepository.save(new Frequencia(aluno, dataInicio.withDayOfMonth(4), false));
+        }
+    }
+
+    /**
+     * Remove os dados confirmados pelos testes que rodam fora da transação de teste
+     */
+    private void removerDados() {
+        frequenciaRepository.deleteAll(frequenciaRepository.findByAluno(aluno));
+        avaliacaoFisicaRepository.deleteAll(avaliacaoFisicaRepository.findByAluno(aluno));
+        planoTreinoRepository.deleteAll(planoTreinoRepository.findByAluno(aluno));
+        for (Matricula matricula : matriculaRepository.findByAluno(aluno)) {
+            pagamentoRepository.deleteAll(pagamentoRepository.findByMatricula(matricula));
+            matriculaRepository.delete(matricula);
+        }
+        exercicioRepository.deleteAll(List.of(supino, agachamento));
+        instrutorRepository.delete(instrutor);
+        planoRepository.delete(plano);
+        alunoRepository.delete(aluno);
+    }
+}
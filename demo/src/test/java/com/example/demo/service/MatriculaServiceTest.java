@@ -20,11 +20,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import com.example.demo.cache.ContasReceberCache;
+import com.example.demo.cache.HistoricoAlunoCache;
 import com.example.demo.entity.Aluno;
 import com.example.demo.entity.Matricula;
 import com.example.demo.entity.Plano;
 import com.example.demo.enums.MatriculaStatus;
 import com.example.demo.exception.MatriculaException;
+import com.example.demo.index.IndiceMatriculasAtivas;
 import com.example.demo.repository.MatriculaRepository;
 import com.example.demo.repository.PlanoRepository;
 
@@ -37,6 +40,18 @@ public class MatriculaServiceTest {
     @Mock
     private PlanoRepository planoRepository;
 
+    @Mock
+    private HistoricoAlunoCache historicoAlunoCache;
+
+    @Mock
+    private ContasReceberCache contasReceberCache;
+
+    @Mock
+    private ResumoDiarioService resumoDiarioService;
+
+    @Mock
+    private IndiceMatriculasAtivas indiceMatriculasAtivas;
+
     @InjectMocks
     private MatriculaService matriculaService;
 
@@ -74,6 +89,7 @@ public class MatriculaServiceTest {
         assertNotNull(saved);
         assertEquals(MatriculaStatus.ATIVA, saved.getStatus());
         verify(matriculaRepository).save(any(Matricula.class));
+        verify(resumoDiarioService).registrarMatricula(matricula);
     }
 
     @Test
@@ -18,8 +18,11 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import com.example.demo.cache.ContasReceberCache;
+import com.example.demo.cache.HistoricoAlunoCache;
 import com.example.demo.entity.Plano;
 import com.example.demo.exception.PlanoException;
+import com.example.demo.index.IndiceTextual;
 import com.example.demo.repository.PlanoRepository;
 
 @SpringBootTest
@@ -28,6 +31,15 @@ public class PlanoServiceTest {
     @Mock
     private PlanoRepository planoRepository;
 
+    @Mock
+    private HistoricoAlunoCache historicoAlunoCache;
+
+    @Mock
+    private ContasReceberCache contasReceberCache;
+
+    @Mock
+    private IndiceTextual indiceTextual;
+
     @InjectMocks
     private PlanoService planoService;
 
@@ -0,0 +1,167 @@
+package com.example.demo.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.dto.ResumoDiarioDTO;
+import com.example.demo.entity.Aluno;
+import com.example.demo.entity.Frequencia;
+import com.example.demo.entity.Matricula;
+import com.example.demo.entity.Pagamento;
+import com.example.demo.entity.Plano;
+import com.example.demo.exception.ValidacaoException;
+import com.example.demo.repository.AlunoRepository;
+import com.example.demo.repository.PlanoRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Testes de integração dos totais diários
+ * As escritas passam pelos services de origem, que devem manter os totais na mesma transação
+ */
+@SpringBootTest
+@Transactional
+public class ResumoDiarioServiceTest {
+
+    @Autowired
+    private ResumoDiarioService resumoDiarioService;
+
+    @Autowired
+    private MatriculaService matriculaService;
+
+    @Autowired
+    private FrequenciaService frequenciaService;
+
+    @Autowired
+    private PagamentoService pagamentoService;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private PlanoRepository planoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private LocalDate hoje;
+    private Aluno aluno;
+    private Matricula matricula;
+
+    @BeforeEach
+    void setUp() {
+        hoje = LocalDate.now();
+        aluno = alunoRepository.save(new Aluno("Aluno Resumo", "963.852.741-00", hoje));
+        Plano plano = planoRepository.save(new Plano("Plano Resumo", "Plano do teste", new BigDecimal("120.00"), 1));
+        matricula = matriculaService.criarMatricula(new Matricula(aluno, plano, hoje, null, null));
+    }
+
+    @Test
+    public void escritasNosServices_DevemAtualizarTotaisDoDia() {
+        System.out.println("=== TESTE: Totais diários mantidos pelos services ===");
+
+        Frequencia presenca = frequenciaService.registrarPresenca(new Frequencia(aluno, hoje, true));
+        Frequencia ausencia = frequenciaService.registrarPresenca(new Frequencia(aluno, hoje.minusDays(1), false));
+        pagamentoService.registrarPagamento(new Pagamento(matricula, hoje, new BigDecimal("120.00"), "PIX"));
+        Pagamento cartao = pagamentoService.registrarPagamento(
+            new Pagamento(matricula, hoje, new BigDecimal("30.00"), "Cartão"));
+
+        ResumoDiarioDTO dia = buscarDia(hoje);
+        assertEquals(1, dia.getPresencas());
+        assertEquals(0, dia.getAusencias());
+        assertEquals(1, dia.getNovasMatriculas());
+        assertEquals(0, new BigDecimal("150.00").compareTo(dia.getReceitaTotal()));
+        assertEquals(1, buscarDia(hoje.minusDays(1)).getAusencias());
+
+        // Atualização retira os valores antigos e soma os novos
+        pagamentoService.atualizarPagamento(cartao.getIdPagamento(),
+            new Pagamento(matricula, hoje, new BigDecimal("45.00"), "PIX"));
+        frequenciaService.atualizarFrequencia(ausencia.getIdFrequencia(),
+            new Frequencia(aluno, hoje.minusDays(1), true));
+        frequenciaService.deletarFrequencia(presenca.getIdFrequencia());
+
+        dia = buscarDia(hoje);
+        assertEquals(0, dia.getPresencas());
+        assertEquals(0, new BigDecimal("165.00").compareTo(dia.getReceitaPorFormaPagamento().get("PIX")));
+        assertEquals(0, BigDecimal.ZERO.compareTo(dia.getReceitaPorFormaPagamento().get("Cartão")));
+        assertEquals(1, buscarDia(hoje.minusDays(1)).getPresencas());
+        assertEquals(0, buscarDia(hoje.minusDays(1)).getAusencias());
+
+        System.out.println("✅ Totais acompanharam inclusões, alterações e exclusões");
+        System.out.println("=== TESTE CONCLUÍDO ===\n");
+    }
+
+    @Test
+    public void reconstruir_DeveReproduzirOsTotaisIncrementais() {
+        System.out.println("=== TESTE: Reconstrução dos totais diários ===");
+
+        frequenciaService.registrarPresenca(new Frequencia(aluno, hoje, true));
+        pagamentoService.registrarPagamento(new Pagamento(matricula, hoje, new BigDecimal("120.00"), null));
+
+        ResumoDiarioDTO incremental = buscarDia(hoje);
+
+        int dias = resumoDiarioService.reconstruir(hoje.minusDays(1), hoje);
+        ResumoDiarioDTO reconstruido = buscarDia(hoje);
+
+        assertEquals(1, dias);
+        assertEquals(incremental.getPresencas(), reconstruido.getPresencas());
+        assertEquals(incremental.getAusencias(), reconstruido.getAusencias());
+        assertEquals(incremental.getNovasMatriculas(), reconstruido.getNovasMatriculas());
+        assertEquals(0, incremental.getReceitaTotal().compareTo(reconstruido.getReceitaTotal()));
+        assertEquals(incremental.getReceitaPorFormaPagamento().keySet(),
+            reconstruido.getReceitaPorFormaPagamento().keySet());
+
+        System.out.println("✅ Reconstrução igual aos totais incrementais");
+        System.out.println("=== TESTE CONCLUÍDO ===\n");
+    }
+
+    @Test
+    public void carregarTotaisSeVazios_DeveReconstruirSomenteComTabelasVazias() {
+        System.out.println("=== TESTE: Carga inicial dos totais diários ===");
+
+        frequenciaService.registrarPresenca(new Frequencia(aluno, hoje, true));
+        pagamentoService.registrarPagamento(new Pagamento(matricula, hoje, new BigDecimal("120.00"), "PIX"));
+        // Banco anterior às tabelas de totais: movimento nas tabelas de origem, totais vazios
+        entityManager.flush();
+        entityManager.createQuery("DELETE FROM ResumoDiario").executeUpdate();
+        entityManager.createQuery("DELETE FROM ReceitaDiaria").executeUpdate();
+
+        assertTrue(resumoDiarioService.carregarTotaisSeVazios() >= 1);
+        ResumoDiarioDTO dia = buscarDia(hoje);
+        assertEquals(1, dia.getPresencas());
+        assertEquals(1, dia.getNovasMatriculas());
+        assertEquals(0, new BigDecimal("120.00").compareTo(dia.getReceitaTotal()));
+
+        assertEquals(0, resumoDiarioService.carregarTotaisSeVazios());
+
+        System.out.println("✅ Totais carregados a partir das tabelas de origem");
+        System.out.println("=== TESTE CONCLUÍDO ===\n");
+    }
+
+    @Test
+    public void listarPorPeriodo_ComPeriodoInvalido_DeveLancarExcecao() {
+        assertThrows(ValidacaoException.class,
+            () -> resumoDiarioService.listarPorPeriodo(hoje, hoje.minusDays(1)));
+    }
+
+    private ResumoDiarioDTO buscarDia(LocalDate data) {
+        // Os totais são gravados por SQL nativo; limpa o contexto para ler o valor do banco
+        entityManager.flush();
+        entityManager.clear();
+        aluno = alunoRepository.findById(aluno.getIdAluno()).orElseThrow();
+        matricula = matriculaService.buscarMatriculaPorId(matricula.getIdMatricula());
+        List<ResumoDiarioDTO> dias = resumoDiarioService.listarPorPeriodo(data, data);
+        assertEquals(1, dias.size());
+        return dias.get(0);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.demo.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.demo.dto.AlunoDTO;
+import com.example.demo.dto.MatriculaResponseDTO;
+import com.example.demo.dto.SincronizacaoDTO;
+import com.example.demo.entity.Aluno;
+import com.example.demo.entity.Matricula;
+import com.example.demo.entity.Plano;
+import com.example.demo.enums.MatriculaStatus;
+import com.example.demo.exception.ValidacaoException;
+import com.example.demo.repository.AlunoRepository;
+import com.example.demo.repository.MatriculaRepository;
+import com.example.demo.repository.PlanoRepository;
+import com.example.demo.sincronizacao.RelogioSincronizacao;
+
+/**
+ * Testes de integração do SincronizacaoService
+ * Sem @Transactional: as alterações precisam ser confirmadas para entrar na sincronização.
+ * Cada teste parte do token atual, então os dados gravados por outros testes não aparecem.
+ */
+@SpringBootTest
+public class SincronizacaoServiceTest {
+
+    @Autowired
+    private SincronizacaoService sincronizacaoService;
+
+    @Autowired
+    private TransicaoMatriculaService transicaoMatriculaService;
+
+    @Autowired
+    private RelogioSincronizacao relogioSincronizacao;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private PlanoRepository planoRepository;
+
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+
+    private String token;
+    private Aluno aluno;
+    private Plano plano;
+
+    @BeforeEach
+    void setUp() {
+        token = Long.toString(relogioSincronizacao.limiteConfirmado());
+        aluno = alunoRepository.save(new Aluno("Aluno Sincronização", "741.852.963-11", LocalDate.now()));
+        plano = planoRepository.save(new Plano("Plano Sincronização", null, new BigDecimal("80.00"), 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        matriculaRepository.deleteAll(matriculaRepository.findByAluno(aluno));
+        alunoRepository.findById(aluno.getIdAluno()).ifPresent(alunoRepository::delete);
+        planoRepository.deleteById(plano.getIdPlanoAssinatura());
+    }
+
+    @Test
+    public void buscarAlteracoes_DeveTrazerSomenteOQueMudouDesdeOToken() {
+        aluno.setNome("Aluno Sincronização Alterado");
+        alunoRepository.save(aluno);
+
+        SincronizacaoDTO resposta = sincronizacaoService.buscarAlteracoes(token);
+
+        assertTrue(resposta.isCompleto());
+        assertEquals(List.of("alunos", "planos"), List.copyOf(resposta.getAlterados().keySet()));
+        AlunoDTO alterado = (AlunoDTO) resposta.getAlterados().get("alunos").get(0);
+        assertEquals(aluno.getIdAluno(), alterado.getIdAluno());
+        assertEquals("Aluno Sincronização Alterado", alterado.getNome());
+        assertTrue(resposta.getExcluidos().isEmpty());
+
+        // Sem novas alterações, a próxima chamada vem vazia e com o mesmo token
+        SincronizacaoDTO seguinte = sincronizacaoService.buscarAlteracoes(resposta.getToken());
+        assertTrue(seguinte.getAlterados().isEmpty());
+        assertEquals(resposta.getToken(), seguinte.getToken());
+    }
+
+    @Test
+    public void buscarAlteracoes_DeveTrazerExclusoes() {
+        String depoisDaCriacao = sincronizacaoService.buscarAlteracoes(token).getToken();
+
+        alunoRepository.delete(aluno);
+
+        SincronizacaoDTO resposta = sincronizacaoService.buscarAlteracoes(depoisDaCriacao);
+        assertFalse(resposta.getAlterados().containsKey("alunos"));
+        assertEquals(List.of(aluno.getIdAluno()), resposta.getExcluidos().get("alunos"));
+    }
+
+    @Test
+    public void buscarAlteracoes_DeveTrazerMatriculasAlteradasEmLote() {
+        LocalDate hoje = LocalDate.now();
+        Matricula matricula = matriculaRepository.save(
+            new Matricula(aluno, plano, hoje, hoje.plusMonths(1), MatriculaStatus.ATIVA));
+        String depoisDaCriacao = sincronizacaoService.buscarAlteracoes(token).getToken();
+
+        transicaoMatriculaService.alterarStatus(List.of(matricula.getIdMatricula()), MatriculaStatus.CANCELADA);
+
+        SincronizacaoDTO resposta = sincronizacaoService.buscarAlteracoes(depoisDaCriacao);
+        List<?> matriculas = resposta.getAlterados().get("matriculas");
+        assertEquals(1, matriculas.size());
+        assertEquals(MatriculaStatus.CANCELADA, ((MatriculaResponseDTO) matriculas.get(0)).getStatus());
+    }
+
+    @Test
+    public void buscarAlteracoes_ComTokenInvalido_DeveLancarExcecao() {
+        assertThrows(ValidacaoException.class, () -> sincronizacaoService.buscarAlteracoes("abc"));
+        assertThrows(ValidacaoException.class,
+            () -> sincronizacaoService.buscarAlteracoes(Long.toString(relogioSincronizacao.ultima() + 1)));
+    }
+}
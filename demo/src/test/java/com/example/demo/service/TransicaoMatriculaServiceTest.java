@@ -0,0 +1,131 @@
+package com.example.demo.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.config.TransicaoMatriculaProperties;
+import com.example.demo.dto.ResultadoTransicaoDTO;
+import com.example.demo.entity.Aluno;
+import com.example.demo.entity.Matricula;
+import com.example.demo.entity.Plano;
+import com.example.demo.enums.MatriculaStatus;
+import com.example.demo.exception.MatriculaException;
+import com.example.demo.repository.AlunoRepository;
+import com.example.demo.repository.MatriculaRepository;
+import com.example.demo.repository.PlanoRepository;
+
+/**
+ * Testes de integração do TransicaoMatriculaService
+ * As matrículas vencidas usam datas de 1900 para não se misturar com outros dados do banco
+ */
+@SpringBootTest
+@Transactional
+public class TransicaoMatriculaServiceTest {
+
+    private static final LocalDate REFERENCIA = LocalDate.of(1901, 1, 1);
+
+    @Autowired
+    private TransicaoMatriculaService transicaoMatriculaService;
+
+    @Autowired
+    private TransicaoMatriculaProperties transicaoMatriculaProperties;
+
+    @Autowired
+    private AlunoRepository alunoRepository;
+
+    @Autowired
+    private PlanoRepository planoRepository;
+
+    @Autowired
+    private MatriculaRepository matriculaRepository;
+
+    private int tamanhoLoteOriginal;
+    private Aluno aluno;
+    private Plano plano;
+
+    @BeforeEach
+    void setUp() {
+        tamanhoLoteOriginal = transicaoMatriculaProperties.getTamanhoLote();
+        transicaoMatriculaProperties.setTamanhoLote(2);
+
+        aluno = alunoRepository.save(new Aluno("Aluno Transição", "963.852.741-00", LocalDate.now()));
+        plano = planoRepository.save(new Plano("Plano Transição", "Plano do teste", new BigDecimal("50.00"), 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transicaoMatriculaProperties.setTamanhoLote(tamanhoLoteOriginal);
+    }
+
+    @Test
+    public void expirarVencidas_DeveInativarEmLotesApenasAtivasVencidas() {
+        System.out.println("=== TESTE: Expiração de matrículas vencidas ===");
+
+        Long vencida1 = salvar(LocalDate.of(1900, 1, 1), MatriculaStatus.ATIVA);
+        Long vencida2 = salvar(LocalDate.of(1900, 2, 1), MatriculaStatus.ATIVA);
+        Long vencida3 = salvar(LocalDate.of(1900, 3, 1), MatriculaStatus.ATIVA);
+        Long cancelada = salvar(LocalDate.of(1900, 4, 1), MatriculaStatus.CANCELADA);
+        Long vigente = salvar(REFERENCIA, MatriculaStatus.ATIVA);
+
+        ResultadoTransicaoDTO resultado = transicaoMatriculaService.expirarVencidas(REFERENCIA);
+
+        assertEquals(3, resultado.getEncontradas());
+        assertEquals(3, resultado.getAtualizadas());
+        assertEquals(2, resultado.getLotes());
+        for (Long id : List.of(vencida1, vencida2, vencida3)) {
+            assertEquals(MatriculaStatus.INATIVA, status(id));
+        }
+        assertEquals(MatriculaStatus.CANCELADA, status(cancelada));
+        assertEquals(MatriculaStatus.ATIVA, status(vigente));
+
+        // Executar de novo não encontra mais nada
+        assertEquals(0, transicaoMatriculaService.expirarVencidas(REFERENCIA).getEncontradas());
+
+        System.out.println("✅ Matrículas vencidas inativadas");
+    }
+
+    @Test
+    public void alterarStatus_DeveCancelarIgnorandoInexistentesEJaCanceladas() {
+        System.out.println("=== TESTE: Cancelamento em lote ===");
+
+        LocalDate fim = LocalDate.now().plusMonths(1);
+        Long ativa1 = salvar(fim, MatriculaStatus.ATIVA);
+        Long ativa2 = salvar(fim, MatriculaStatus.INATIVA);
+        Long jaCancelada = salvar(fim, MatriculaStatus.CANCELADA);
+
+        ResultadoTransicaoDTO resultado = transicaoMatriculaService.alterarStatus(
+            List.of(ativa1, ativa2, jaCancelada, ativa1, Long.MAX_VALUE), MatriculaStatus.CANCELADA);
+
+        assertEquals(2, resultado.getEncontradas());
+        assertEquals(2, resultado.getAtualizadas());
+        assertEquals(2, resultado.getLotes());
+        assertEquals(MatriculaStatus.CANCELADA, status(ativa1));
+        assertEquals(MatriculaStatus.CANCELADA, status(ativa2));
+
+        System.out.println("✅ Matrículas canceladas em lote");
+    }
+
+    @Test
+    public void alterarStatus_QuandoStatusAtiva_DeveLancarExcecao() {
+        assertThrows(MatriculaException.StatusInvalidoException.class,
+            () -> transicaoMatriculaService.alterarStatus(List.of(1L), MatriculaStatus.ATIVA));
+    }
+
+    private Long salvar(LocalDate dataFim, MatriculaStatus status) {
+        return matriculaRepository.save(new Matricula(aluno, plano, dataFim.minusMonths(1), dataFim, status)).getIdMatricula();
+    }
+
+    private MatriculaStatus status(Long id) {
+        return matriculaRepository.findById(id).orElseThrow().getStatus();
+    }
+}
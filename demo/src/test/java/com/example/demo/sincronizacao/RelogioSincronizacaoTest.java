@@ -0,0 +1,74 @@
+package com.example.demo.sincronizacao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Testes unitários do RelogioSincronizacao
+ */
+public class RelogioSincronizacaoTest {
+
+    private RelogioSincronizacao relogio;
+
+    @BeforeEach
+    void setUp() {
+        relogio = new RelogioSincronizacao();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(relogio);
+    }
+
+    @Test
+    void proxima_DeveGerarVersoesCrescentesAcimaDoInicio() {
+        long inicio = System.currentTimeMillis() * 1000;
+
+        long primeira = relogio.proxima();
+        long segunda = relogio.proxima();
+
+        assertTrue(primeira > inicio - 1_000_000);
+        assertEquals(primeira + 1, segunda);
+        assertEquals(segunda, relogio.limiteConfirmado());
+    }
+
+    @Test
+    void limiteConfirmado_DevePararAntesDaTransacaoEmAndamento() {
+        long anterior = relogio.proxima();
+        TransactionSynchronizationManager.initSynchronization();
+        long emAndamento = relogio.proxima();
+        relogio.proxima();
+
+        assertEquals(anterior, relogio.limiteConfirmado());
+        assertEquals(emAndamento - 1, relogio.limiteConfirmado());
+
+        concluir(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(relogio.ultima(), relogio.limiteConfirmado());
+    }
+
+    @Test
+    void limiteConfirmado_DeveAvancarTambemQuandoATransacaoEDesfeita() {
+        TransactionSynchronizationManager.initSynchronization();
+        relogio.proxima();
+
+        concluir(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(relogio.ultima(), relogio.limiteConfirmado());
+    }
+
+    private void concluir(int status) {
+        for (TransactionSynchronization sincronizacao : TransactionSynchronizationManager.getSynchronizations()) {
+            sincronizacao.afterCompletion(status);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.demo.ui.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Testes da leitura em lotes do ApiClient, contra um servidor HTTP local
+ */
+public class ApiClientLotesTest {
+
+    private HttpServer servidor;
+    private ApiClient apiClient;
+    private final List<String> etagsRecebidos = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        servidor.createContext("/api/itens", troca -> responder(troca, 200, lista(250), false));
+        servidor.createContext("/api/itens-gzip", troca -> responder(troca, 200, lista(3), true));
+        servidor.createContext("/api/objeto", troca -> responder(troca, 200, "{\"id\":1}", false));
+        servidor.createContext("/api/ausente", troca -> responder(troca, 404, "{\"message\":\"Não encontrado\"}", false));
+        servidor.createContext("/api/versionada", this::responderVersionada);
+        servidor.createContext("/api/grande", troca -> {
+            etagsRecebidos.add(troca.getRequestHeaders().getFirst("If-None-Match"));
+            troca.getResponseHeaders().add("ETag", "\"g1\"");
+            responder(troca, 200, lista(30000), false);
+        });
+        servidor.createContext("/api/escrita", troca -> responder(troca, 200, "{}", false));
+        servidor.start();
+        apiClient = new ApiClient("http://127.0.0.1:" + servidor.getAddress().getPort() + "/api");
+    }
+
+    @AfterEach
+    void tearDown() {
+        servidor.stop(0);
+    }
+
+    @Test
+    void getEmLotes_DeveEntregarOsElementosEmLotes() throws ApiException {
+        List<Integer> tamanhos = new ArrayList<>();
+        List<Object> ids = new ArrayList<>();
+
+        int total = apiClient.getEmLotes("/itens", Map.class, 100, lote -> {
+            tamanhos.add(lote.size());
+            lote.forEach(item -> ids.add(item.get("id")));
+        });
+
+        assertEquals(250, total);
+        assertEquals(List.of(100, 100, 50), tamanhos);
+        assertEquals(1, ids.get(0));
+        assertEquals(250, ids.get(249));
+    }
+
+    @Test
+    void getEmLotes_DeveLerRespostaCompactada() throws ApiException {
+        List<Integer> tamanhos = new ArrayList<>();
+
+        int total = apiClient.getEmLotes("/itens-gzip", Map.class, 2, lote -> tamanhos.add(lote.size()));
+
+        assertEquals(3, total);
+        assertEquals(List.of(2, 1), tamanhos);
+    }
+
+    @Test
+    void getEmLotes_ComErro_DeveLancarApiException() {
+        ApiException naoEncontrado = assertThrows(ApiException.class,
+            () -> apiClient.getEmLotes("/ausente", Map.class, 10, lote -> { }));
+        assertEquals(404, naoEncontrado.getStatusCode());
+
+        ApiException naoLista = assertThrows(ApiException.class,
+            () -> apiClient.getEmLotes("/objeto", Map.class, 10, lote -> { }));
+        assertEquals(0, naoLista.getStatusCode());
+    }
+
+    @Test
+    void getEmLotes_Vencida_DeveRevalidarELerDoCache() throws ApiException {
+        assertEquals(3, apiClient.getEmLotes("/versionada", Map.class, 2, lote -> { }));
+        // Uma escrita vence as respostas guardadas, que passam a ser revalidadas
+        apiClient.post("/escrita", Map.of());
+
+        List<Object> ids = new ArrayList<>();
+        int total = apiClient.getEmLotes("/versionada", Map.class, 2, lote -> lote.forEach(item -> ids.add(item.get("id"))));
+
+        assertEquals(3, total);
+        assertEquals(List.of(1, 2, 3), ids);
+        assertEquals(Arrays.asList(null, "\"v1\""), etagsRecebidos);
+    }
+
+    @Test
+    void getEmLotes_CorpoGrande_NaoDeveFicarNoCache() throws ApiException {
+        assertEquals(30000, apiClient.getEmLotes("/grande", Map.class, 1000, lote -> { }));
+        // Dentro da validade uma resposta guardada seria usada sem ir ao backend
+        assertEquals(30000, apiClient.getEmLotes("/grande", Map.class, 1000, lote -> { }));
+
+        assertEquals(Arrays.asList(null, null), etagsRecebidos);
+    }
+
+    /**
+     * Lista com ETag fixo: responde 304 ao If-None-Match com o mesmo ETag
+     */
+    private void responderVersionada(HttpExchange troca) throws IOException {
+        String etag = troca.getRequestHeaders().getFirst("If-None-Match");
+        etagsRecebidos.add(etag);
+        troca.getResponseHeaders().add("ETag", "\"v1\"");
+        if ("\"v1\"".equals(etag)) {
+            troca.sendResponseHeaders(304, -1);
+            troca.close();
+            return;
+        }
+        responder(troca, 200, lista(3), false);
+    }
+
+    private static String lista(int tamanho) {
+        StringJoiner json = new StringJoiner(",", "[", "]");
+        for (int id = 1; id <= tamanho; id++) {
+            json.add("{\"id\":" + id + ",\"nome\":\"Item " + id + "\"}");
+        }
+        return json.toString();
+    }
+
+    private static void responder(HttpExchange troca, int status, String corpo, boolean gzip) throws IOException {
+        byte[] bytes = corpo.getBytes(StandardCharsets.UTF_8);
+        troca.getResponseHeaders().add("Content-Type", "application/json");
+        if (gzip) {
+            troca.getResponseHeaders().add("Content-Encoding", "gzip");
+            troca.sendResponseHeaders(status, 0);
+            try (OutputStream saida = new GZIPOutputStream(troca.getResponseBody())) {
+                saida.write(bytes);
+            }
+        } else {
+            troca.sendResponseHeaders(status, bytes.length);
+            try (OutputStream saida = troca.getResponseBody()) {
+                saida.write(bytes);
+            }
+        }
+    }
+}
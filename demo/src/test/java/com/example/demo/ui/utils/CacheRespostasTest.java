@@ -0,0 +1,157 @@
+package com.example.demo.ui.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários do CacheRespostas
+ */
+public class CacheRespostasTest {
+
+    private static final String URL_ALUNOS = "http://localhost/api/alunos";
+    private static final String URL_MATRICULAS = "http://localhost/api/matriculas";
+
+    private AtomicLong agora;
+    private CacheRespostas cache;
+
+    @BeforeEach
+    void setUp() {
+        agora = new AtomicLong(1000);
+        cache = new CacheRespostas(100, 12, 8, agora::get);
+    }
+
+    @Test
+    void buscar_DentroDaValidade_NaoDeveIrAoBackend() {
+        AtomicInteger chamadas = new AtomicInteger();
+
+        cache.buscar(URL_ALUNOS, "/alunos", etag -> resposta("[1]", chamadas));
+        String corpo = cache.buscar(URL_ALUNOS, "/alunos", etag -> resposta("[2]", chamadas)).join();
+
+        assertEquals("[1]", corpo);
+        assertEquals(1, chamadas.get());
+    }
+
+    @Test
+    void buscar_Vencida_DeveRevalidarComEtag() {
+        cache.buscar(URL_ALUNOS, "/alunos", etag -> recebida("[1]", "\"v1\""));
+        agora.addAndGet(200);
+
+        List<String> enviados = new ArrayList<>();
+        String corpo = cache.buscar(URL_ALUNOS, "/alunos", etag -> {
+            enviados.add(etag);
+            return naoModificada(etag);
+        }).join();
+
+        assertEquals("[1]", corpo);
+        assertEquals(List.of("\"v1\""), enviados);
+    }
+
+    @Test
+    void invalidar_DeveDescartarOMesmoRecursoEVencerOsDemais() {
+        cache.buscar(URL_ALUNOS, "/alunos", etag -> recebida("[1]", "\"a\""));
+        cache.buscar(URL_MATRICULAS, "/matriculas", etag -> recebida("[2]", "\"m\""));
+
+        cache.invalidar("/alunos/5");
+
+        List<String> enviados = new ArrayList<>();
+        cache.buscar(URL_ALUNOS, "/alunos", etag -> {
+            enviados.add(etag);
+            return recebida("[3]", null);
+        });
+        cache.buscar(URL_MATRICULAS, "/matriculas", etag -> {
+            enviados.add(etag);
+            return naoModificada(etag);
+        });
+
+        assertNull(enviados.get(0));
+        assertEquals("\"m\"", enviados.get(1));
+    }
+
+    @Test
+    void buscar_Simultaneos_DeveFazerUmaSoRequisicao() {
+        AtomicInteger chamadas = new AtomicInteger();
+        CompletableFuture<CacheRespostas.Resposta> emAndamento = new CompletableFuture<>();
+
+        List<CompletableFuture<String>> resultados = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            resultados.add(cache.buscar(URL_ALUNOS, "/alunos", etag -> {
+                chamadas.incrementAndGet();
+                return emAndamento;
+            }));
+        }
+        assertFalse(resultados.get(3).isDone());
+
+        emAndamento.complete(new CacheRespostas.Resposta(false, "[1]", null));
+
+        for (CompletableFuture<String> resultado : resultados) {
+            assertEquals("[1]", resultado.join());
+        }
+        assertEquals(1, chamadas.get());
+    }
+
+    @Test
+    void invalidar_DuranteRequisicao_NaoDeveGuardarARespostaAntiga() {
+        CompletableFuture<CacheRespostas.Resposta> emAndamento = new CompletableFuture<>();
+        CompletableFuture<String> antiga = cache.buscar(URL_ALUNOS, "/alunos", etag -> emAndamento);
+
+        cache.invalidar("/alunos");
+        emAndamento.complete(new CacheRespostas.Resposta(false, "[1]", null));
+
+        assertEquals("[1]", antiga.join());
+        assertEquals("[2]", cache.buscar(URL_ALUNOS, "/alunos", etag -> recebida("[2]", null)).join());
+    }
+
+    @Test
+    void buscar_AcimaDoLimiteTotal_DeveRemoverAsUsadasHaMaisTempo() {
+        String urlPlanos = "http://localhost/api/planos";
+        cache.buscar(URL_ALUNOS, "/alunos", etag -> recebida("[1,2]", null));
+        cache.buscar(URL_MATRICULAS, "/matriculas", etag -> recebida("[3,4]", null));
+        // Acessar alunos deixa matriculas como a usada há mais tempo
+        cache.buscar(URL_ALUNOS, "/alunos", etag -> recebida("[0]", null));
+        cache.buscar(urlPlanos, "/planos", etag -> recebida("[5,6]", null));
+
+        AtomicInteger chamadas = new AtomicInteger();
+        assertEquals("[1,2]", cache.buscar(URL_ALUNOS, "/alunos", etag -> resposta("[7]", chamadas)).join());
+        assertEquals("[5,6]", cache.buscar(urlPlanos, "/planos", etag -> resposta("[7]", chamadas)).join());
+        assertEquals("[7]", cache.buscar(URL_MATRICULAS, "/matriculas", etag -> resposta("[7]", chamadas)).join());
+        assertEquals(1, chamadas.get());
+    }
+
+    @Test
+    void buscar_CorpoAcimaDoLimitePorResposta_NaoDeveGuardar() {
+        cache.buscar(URL_ALUNOS, "/alunos", etag -> recebida("[1,2,3,4,5]", "\"v1\""));
+
+        assertNull(cache.consultar(URL_ALUNOS));
+        AtomicInteger chamadas = new AtomicInteger();
+        assertEquals("[1]", cache.buscar(URL_ALUNOS, "/alunos", etag -> resposta("[1]", chamadas)).join());
+        assertEquals(1, chamadas.get());
+    }
+
+    @Test
+    void recurso_DeveSerOPrimeiroSegmento() {
+        assertEquals("alunos", CacheRespostas.recurso("/alunos/5?x=1"));
+        assertEquals("planos", CacheRespostas.recurso("/planos?ativos=true"));
+    }
+
+    private static CompletableFuture<CacheRespostas.Resposta> recebida(String corpo, String etag) {
+        return CompletableFuture.completedFuture(new CacheRespostas.Resposta(false, corpo, etag));
+    }
+
+    private static CompletableFuture<CacheRespostas.Resposta> naoModificada(String etag) {
+        return CompletableFuture.completedFuture(new CacheRespostas.Resposta(true, null, etag));
+    }
+
+    private static CompletableFuture<CacheRespostas.Resposta> resposta(String corpo, AtomicInteger chamadas) {
+        chamadas.incrementAndGet();
+        return recebida(corpo, null);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários do ValidadorCPF
+ */
+public class ValidadorCPFTest {
+
+    @Test
+    void isValid_DeveConferirDigitosVerificadores() {
+        assertTrue(ValidadorCPF.isValid("529.982.247-25"));
+        assertTrue(ValidadorCPF.isValid("52998224725"));
+        assertTrue(ValidadorCPF.isValid("111.444.777-35"));
+        assertFalse(ValidadorCPF.isValid("529.982.247-24"));
+        assertFalse(ValidadorCPF.isValid("111.111.111-11"));
+        assertFalse(ValidadorCPF.isValid("000.000.000-00"));
+        assertFalse(ValidadorCPF.isValid("5299822472"));
+        assertFalse(ValidadorCPF.isValid((String) null));
+    }
+
+    @Test
+    void chave_DeveIgnorarPontuacaoEExigirOnzeDigitos() {
+        assertEquals(52998224725L, ValidadorCPF.chave("529.982.247-25"));
+        assertEquals(52998224725L, ValidadorCPF.chave(" 52998224725 "));
+        assertEquals(1234567890L, ValidadorCPF.chave("012.345.678-90"));
+        assertEquals(ValidadorCPF.CHAVE_INVALIDA, ValidadorCPF.chave("529.982.247-255"));
+        assertEquals(ValidadorCPF.CHAVE_INVALIDA, ValidadorCPF.chave("abc"));
+    }
+
+    @Test
+    void format_DeveFormatarOuDevolverSomenteDigitos() {
+        assertEquals("529.982.247-25", ValidadorCPF.format("52998224725"));
+        assertEquals("012.345.678-90", ValidadorCPF.formatar(1234567890L));
+        assertEquals("12345", ValidadorCPF.format("123.45"));
+        assertNull(ValidadorCPF.format(null));
+    }
+}